@@ -6,10 +6,8 @@
 package org.JMathStudio.DataStructure.Cell;
 
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import org.JMathStudio.DataStructure.Complex;
@@ -21,6 +19,7 @@ import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.DimensionMismatchException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
 import org.JMathStudio.Exceptions.IllegalCellFormatException;
+import org.JMathStudio.Interface.FileInterface.BinaryFileInterface;
 
 /**
  * This class define a 2D data structure 'CCell' which stores complex elements in 2D.
@@ -453,6 +452,8 @@ public final class CCell implements Serializable {
 	 * extension. Further an extension '.ccell' will be added to the saved state
 	 * file by this method.
 	 * <p>
+	 * The state is saved in the raw binary format of the {@link BinaryFileInterface}.
+	 * <p>
 	 * The current state of this {@link CCell} object stored in the external
 	 * file can be loaded into the framework at later stage using the
 	 * {@link #retrieveState(String)} method.
@@ -471,13 +472,7 @@ public final class CCell implements Serializable {
 	public void saveState(String dirPath, String filename) throws IOException {
 		String filePath = dirPath + filename + ".ccell";
 
-		FileOutputStream fs = new FileOutputStream(filePath);
-		ObjectOutputStream os = new ObjectOutputStream(fs);
-
-		os.writeObject(this);
-		os.close();
-		fs.close();
-
+		BinaryFileInterface.writeCCell(filePath, this);
 	}
 
 	/**
@@ -511,6 +506,11 @@ public final class CCell implements Serializable {
 		if (!format.equalsIgnoreCase("ccell"))
 			throw new IllegalArgumentException();
 
+		//Files saved in the binary format are read directly, else in the legacy
+		//serialised format.
+		if (BinaryFileInterface.isBinaryFile(filePath))
+			return BinaryFileInterface.readCCell(filePath);
+
 		FileInputStream fs = new FileInputStream(filePath);
 		ObjectInputStream os = new ObjectInputStream(fs);
 
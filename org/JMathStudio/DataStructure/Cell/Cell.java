@@ -1,18 +1,16 @@
 package org.JMathStudio.DataStructure.Cell;
 
 import java.awt.image.BufferedImage;
-import java.awt.image.DataBuffer;
-import java.awt.image.DataBufferUShort;
+import java.awt.image.Raster;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import org.JMathStudio.DataStructure.Generic.Index2D;
 import org.JMathStudio.DataStructure.Generic.Index2DList;
+import org.JMathStudio.DataStructure.Generic.PackedIndex2DList;
 import org.JMathStudio.DataStructure.Iterator.Iterator2D.CellIterator;
 import org.JMathStudio.DataStructure.Iterator.Iterator2D.Iterator2DBound;
 import org.JMathStudio.DataStructure.Vector.Vector;
@@ -21,10 +19,13 @@ import org.JMathStudio.Exceptions.DimensionMismatchException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
 import org.JMathStudio.Exceptions.IllegalCellFormatException;
 import org.JMathStudio.Exceptions.UnSupportedImageFormatException;
+import org.JMathStudio.Interface.FileInterface.BinaryFileInterface;
+import org.JMathStudio.PixelImageToolkit.BatchImageImporter;
 import org.JMathStudio.PixelImageToolkit.PixelImage;
 import org.JMathStudio.PixelImageToolkit.ColorPixelImage.RGBMapper;
 import org.JMathStudio.PixelImageToolkit.UIntPixelImage.UInt16PixelImage;
 import org.JMathStudio.PixelImageToolkit.UIntPixelImage.UInt8PixelImage;
+import org.JMathStudio.Utilities.ParallelExecutor;
 import org.JMathStudio.VisualToolkit.Viewer.ImageViewer;
 
 /**
@@ -340,6 +341,26 @@ public final class Cell implements Serializable {
 		}
 	}
 	
+	/**
+	 * This method will replace all the elements of the Cell located at the index positions as
+	 * specified by {@link PackedIndex2DList} 'indexes' with element specified by argument 'element'.
+	 * <p>If any of the index position within the PackedIndex2DList is outside the valid index
+	 * bounds of the Cell, an ArrayIndexOutOfBound Exception will be thrown.
+	 *
+	 * @param float element
+	 * @param PackedIndex2DList indexes
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void setAllElements(float element, PackedIndex2DList indexes)
+	{
+		int[] buffer = indexes.accessIndexBuffer();
+		
+		for(int i=0;i<indexes.size();i++)
+		{
+			this.i4[buffer[2*i]][buffer[2*i+1]] = element;
+		}
+	}
+	
 	/**
 	 * This method will replace all the elements of the Cell equal to the argument 'element' with 
 	 * element specified by the argument 'replace'.
@@ -550,67 +571,54 @@ public final class Cell implements Serializable {
 		int width = image.getWidth();
 		Cell result = new Cell(height, width);
 
+		float[][] buffer = result.accessCellBuffer();
+		//Pixels are copied from the Raster a row at a time in bulk.
+		Raster raster = image.getRaster();
+
 		if (imageType == BufferedImage.TYPE_BYTE_GRAY) {
-			DataBuffer buff = image.getData().getDataBuffer();
+			byte[] row = new byte[width];
 
 			for (int y = 0; y < height; y++) {
+				raster.getDataElements(0, y, width, 1, row);
+
 				for (int x = 0; x < width; x++) {
-					result.setElement(buff.getElem(y * width + x), y, x);
+					buffer[y][x] = row[x] & 0xff;
 				}
 			}
 
 		} else if (imageType == BufferedImage.TYPE_USHORT_GRAY) {
-			DataBufferUShort buff = (DataBufferUShort) image.getData()
-			.getDataBuffer();
-			int correction = UInt16PixelImage.MAX + 1;
+			short[] row = new short[width];
 
 			for (int y = 0; y < height; y++) {
-				for (int x = 0; x < width; x++) {
-					int tmp = buff.getElem(y * width + x);
-					// Add correction to wrap up data in range of [-32768 32767]
-					// to UInt16 range of [0 65535]
+				raster.getDataElements(0, y, width, 1, row);
 
-					if (tmp < 0) {
-						tmp += correction;
-					}
-
-					result.setElement(tmp, y, x);
-				}
-			}
-		} else if (imageType == BufferedImage.TYPE_INT_RGB) {
-			float value;
-
-			for (int y = 0; y < height; y++) {
 				for (int x = 0; x < width; x++) {
-					int argb = image.getRGB(x, y);
-
-					@SuppressWarnings("unused")
-					int alpha = (argb >> 24) & 0xff;
-					int red = (argb >> 16) & 0xff;
-					int green = (argb >> 8) & 0xff;
-					int blue = argb & 0xff;
-
-					value = (float) (0.3f * red + 0.59f * green + 0.11 * blue);
-					result.setElement(value, y, x);
+					// Mask to wrap up data in range of [-32768 32767]
+					// to UInt16 range of [0 65535]
+					buffer[y][x] = row[x] & 0xffff;
 				}
 			}
 		} else {
-			// By default create ARGB. getRGB() method does color model conversion
-			//if default is not ARGB.
-			float value;
+			// INT_RGB and INT_ARGB pixels are copied as such. By default getRGB()
+			// method does color model conversion to ARGB.
+			boolean packed = imageType == BufferedImage.TYPE_INT_RGB
+					|| imageType == BufferedImage.TYPE_INT_ARGB;
+			int[] row = new int[width];
 
 			for (int y = 0; y < height; y++) {
+				if (packed)
+					raster.getDataElements(0, y, width, 1, row);
+				else
+					image.getRGB(0, y, width, 1, row, 0, width);
+
 				for (int x = 0; x < width; x++) {
-					int argb = image.getRGB(x, y);
+					int argb = row[x];
 
-					@SuppressWarnings("unused")
-					int alpha = (argb >> 24) & 0xff;
 					int red = (argb >> 16) & 0xff;
 					int green = (argb >> 8) & 0xff;
 					int blue = argb & 0xff;
 
-					value = (float) (0.3f * red + 0.59f * green + 0.11 * blue);
-					result.setElement(value, y, x);
+					buffer[y][x] = (float) (0.3f * red + 0.59f * green + 0.11 * blue);
 				}
 			}
 		}
@@ -627,7 +635,8 @@ public final class Cell implements Serializable {
 	 * read.
 	 * <p>
 	 * If the argument 'directory' does not point to a directory path this
-	 * method will throw an IllegalArgument Exception.
+	 * method will throw an IllegalArgument Exception. If the directory has no
+	 * files an empty CellStack will be returned.
 	 * <p>
 	 * If this method encounter any IO error during image loading an IO
 	 * Exception will be thrown.
@@ -690,6 +699,55 @@ public final class Cell implements Serializable {
 		}
 	}
 
+	/**
+	 * This method will read multiple images located in the directory as
+	 * specified by the argument 'directory' and will return the pixel data
+	 * for all the read images as a CellStack.
+	 * <p>
+	 * This method is similar to {@link #importMultipleImagesAsCell(String)},
+	 * except that if the argument 'parallel' is 'true' the images are read
+	 * and decoded concurrently by a {@link BatchImageImporter}. The Cells of
+	 * the return CellStack are in the ascending order of the file names.
+	 * <p>
+	 * The exceptions are as for the method
+	 * {@link #importMultipleImagesAsCell(String)}. For either value of the
+	 * argument 'parallel', if the directory has no files an empty CellStack
+	 * will be returned.
+	 * 
+	 * @param String
+	 *            directory
+	 * @param boolean parallel
+	 * @return CellStack
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @throws UnSupportedImageFormatException
+	 * @see BatchImageImporter
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static CellStack importMultipleImagesAsCell(String directory,
+			boolean parallel) throws IOException, IllegalArgumentException,
+			UnSupportedImageFormatException {
+		if (!parallel)
+			return importMultipleImagesAsCell(directory);
+
+		//Reading the images is bound by the IO latency, thus more workers
+		//than the processors are used.
+		int workers = 2 * ParallelExecutor.getParallelism();
+		BatchImageImporter importer = new BatchImageImporter(directory,
+				workers, 2 * workers);
+
+		CellStack stack = new CellStack();
+
+		try {
+			while (importer.hasNext())
+				stack.addCell(importer.nextCell());
+		} finally {
+			importer.close();
+		}
+
+		return stack;
+	}
+
 	/**
 	 * This method will convert the given Cell to an UInt8PixelImage and export
 	 * the same as an Image to external path as specified by the argument 'path'
@@ -808,6 +866,8 @@ public final class Cell implements Serializable {
 	 * extension. Further an extension '.cell' will be added to the saved state
 	 * file by this method.
 	 * <p>
+	 * The state is saved in the raw binary format of the {@link BinaryFileInterface}.
+	 * <p>
 	 * The current state of this {@link Cell} object stored in the external file
 	 * can be loaded into the framework at later stage using the
 	 * {@link #retrieveState(String)} method.
@@ -826,13 +886,7 @@ public final class Cell implements Serializable {
 	public void saveState(String dirPath, String filename) throws IOException {
 		String filePath = dirPath + filename + ".cell";
 
-		FileOutputStream fs = new FileOutputStream(filePath);
-		ObjectOutputStream os = new ObjectOutputStream(fs);
-
-		os.writeObject(this);
-		os.close();
-		fs.close();
-
+		BinaryFileInterface.writeCell(filePath, this);
 	}
 
 	/**
@@ -865,6 +919,11 @@ public final class Cell implements Serializable {
 		if (!format.equalsIgnoreCase("cell"))
 			throw new IllegalArgumentException();
 
+		//Files saved in the binary format are read directly, else in the legacy
+		//serialised format.
+		if (BinaryFileInterface.isBinaryFile(filePath))
+			return BinaryFileInterface.readCell(filePath);
+
 		FileInputStream fs = new FileInputStream(filePath);
 		ObjectInputStream os = new ObjectInputStream(fs);
 
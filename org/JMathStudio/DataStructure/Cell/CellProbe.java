@@ -2,6 +2,7 @@ package org.JMathStudio.DataStructure.Cell;
 
 import org.JMathStudio.DataStructure.Generic.Index2D;
 import org.JMathStudio.DataStructure.Generic.Index2DList;
+import org.JMathStudio.DataStructure.Generic.PackedIndex2DList;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
 import org.JMathStudio.MathToolkit.StatisticalTools.CellStatistics.CellStatistics;
@@ -10,6 +11,8 @@ import org.JMathStudio.MathToolkit.StatisticalTools.CellStatistics.CellStatistic
  * This class define some of the useful operations for finding the elements within a {@link Cell} with specific
  * traits or values.
  * <p>The location of all the matching elements within the Cell shall be return as an {@link Index2DList}.
+ * <p>Each operation is also available in a packed form which return the locations as a {@link PackedIndex2DList},
+ * without creating an {@link Index2D} object for each matching element.
  * <pre>Usage:
  * Cell img = Cell.importImageAsCell("path");//Import external image as Cell.
  *		
@@ -32,6 +35,20 @@ public final class CellProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public Index2DList findAllMaxElementIndexes(Cell cell)
+	{
+		return findAllMaxElementPackedIndexes(cell).toIndex2DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Cell} 'cell' which has global maximum value
+	 * within the Cell and return the indexes as a {@link PackedIndex2DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Cell 'cell' having the global maximum value within the Cell.
+	 * @param Cell cell
+	 * @return PackedIndex2DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex2DList findAllMaxElementPackedIndexes(Cell cell)
 	{
 		try{
 			float max = new CellStatistics().maximum(cell);
@@ -40,14 +57,14 @@ public final class CellProbe {
 			final int cc = cell.getColCount();
 
 			float[][] buffer = cell.accessCellBuffer();
-			Index2DList list = new Index2DList();
+			PackedIndex2DList list = new PackedIndex2DList();
 
 			for(int i=0;i<rc;i++)
 			{
 				for(int j=0;j<cc;j++)
 				{
 					if(buffer[i][j] == max){
-						list.add(new Index2D(i, j));
+						list.add(i, j);
 					}
 				}
 			}
@@ -68,6 +85,20 @@ public final class CellProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public Index2DList findAllMinElementIndexes(Cell cell)
+	{
+		return findAllMinElementPackedIndexes(cell).toIndex2DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Cell} 'cell' which has global minimum value
+	 * within the Cell and return the indexes as a {@link PackedIndex2DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Cell 'cell' having the global minimum value within the Cell.
+	 * @param Cell cell
+	 * @return PackedIndex2DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex2DList findAllMinElementPackedIndexes(Cell cell)
 	{
 		try{
 			float min = new CellStatistics().minimum(cell);
@@ -76,14 +107,14 @@ public final class CellProbe {
 			final int cc = cell.getColCount();
 
 			float[][] buffer = cell.accessCellBuffer();
-			Index2DList list = new Index2DList();
+			PackedIndex2DList list = new PackedIndex2DList();
 
 			for(int i=0;i<rc;i++)
 			{
 				for(int j=0;j<cc;j++)
 				{
 					if(buffer[i][j] == min){
-						list.add(new Index2D(i, j));
+						list.add(i, j);
 					}
 				}
 			}
@@ -105,20 +136,35 @@ public final class CellProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public Index2DList findAllElementIndexes(Cell cell,float element)
+	{
+		return findAllElementPackedIndexes(cell, element).toIndex2DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Cell} 'cell' which has value equal to 
+	 * the argument 'element' and return the indexes as a {@link PackedIndex2DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Cell 'cell' having value equal to the argument 'element'.
+	 * @param Cell cell
+	 * @param float element
+	 * @return PackedIndex2DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex2DList findAllElementPackedIndexes(Cell cell,float element)
 	{
 		try{
 			final int rc = cell.getRowCount();
 			final int cc = cell.getColCount();
 
 			float[][] buffer = cell.accessCellBuffer();
-			Index2DList list = new Index2DList();
+			PackedIndex2DList list = new PackedIndex2DList();
 
 			for(int i=0;i<rc;i++)
 			{
 				for(int j=0;j<cc;j++)
 				{
 					if(buffer[i][j] == element){
-						list.add(new Index2D(i, j));
+						list.add(i, j);
 					}
 				}
 			}
@@ -145,6 +191,26 @@ public final class CellProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
 	 */
 	public Index2DList findAllElementIndexesInRange(Cell cell,float min,float max) throws IllegalArgumentException
+	{
+		return findAllElementPackedIndexesInRange(cell, min, max).toIndex2DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Cell} 'cell' which has value 
+	 * more than or equal to argument 'min' but less than or equal to argument 'max' respectively and return 
+	 * the indexes as a {@link PackedIndex2DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Cell 'cell' having value in the range of [min max].
+	 * <p>If argument 'min' is more than argument 'max' this method will throw an {@link IllegalArgumentException}.
+	 * 
+	 * @param Cell cell
+	 * @param float min
+	 * @param float max
+	 * @return PackedIndex2DList
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
+	 */
+	public PackedIndex2DList findAllElementPackedIndexesInRange(Cell cell,float min,float max) throws IllegalArgumentException
 	{
 		if(min > max)
 			throw new IllegalArgumentException();
@@ -155,7 +221,7 @@ public final class CellProbe {
 			final int cc = cell.getColCount();
 
 			float[][] buffer = cell.accessCellBuffer();
-			Index2DList list = new Index2DList();
+			PackedIndex2DList list = new PackedIndex2DList();
 
 			for(int i=0;i<rc;i++)
 			{
@@ -163,7 +229,7 @@ public final class CellProbe {
 				{
 					float check = buffer[i][j];
 					if(check >= min && check <= max){
-						list.add(new Index2D(i, j));
+						list.add(i, j);
 					}
 				}
 			}
@@ -186,6 +252,22 @@ public final class CellProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
 	 */
 	public Index2DList findAllLargerElementIndexes(Cell cell,float threshold) 
+	{
+		return findAllLargerElementPackedIndexes(cell, threshold).toIndex2DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Cell} 'cell' which has value 
+	 * greater than or equal to argument 'threshold' and return the indexes as a {@link PackedIndex2DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Cell 'cell' having value greater than or equal to 'threshold'.
+	 * 
+	 * @param Cell cell
+	 * @param float threshold
+	 * @return PackedIndex2DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
+	 */
+	public PackedIndex2DList findAllLargerElementPackedIndexes(Cell cell,float threshold) 
 	{
 		try{					
 			
@@ -193,7 +275,7 @@ public final class CellProbe {
 			final int cc = cell.getColCount();
 
 			float[][] buffer = cell.accessCellBuffer();
-			Index2DList list = new Index2DList();
+			PackedIndex2DList list = new PackedIndex2DList();
 
 			for(int i=0;i<rc;i++)
 			{
@@ -201,7 +283,7 @@ public final class CellProbe {
 				{
 					float check = buffer[i][j];
 					if(check >= threshold){
-						list.add(new Index2D(i, j));
+						list.add(i, j);
 					}
 				}
 			}
@@ -224,6 +306,22 @@ public final class CellProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
 	 */
 	public Index2DList findAllSmallerElementIndexes(Cell cell,float threshold) 
+	{
+		return findAllSmallerElementPackedIndexes(cell, threshold).toIndex2DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Cell} 'cell' which has value 
+	 * less than or equal to argument 'threshold' and return the indexes as a {@link PackedIndex2DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Cell 'cell' having value less than or equal to 'threshold'.
+	 * 
+	 * @param Cell cell
+	 * @param float threshold
+	 * @return PackedIndex2DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
+	 */
+	public PackedIndex2DList findAllSmallerElementPackedIndexes(Cell cell,float threshold) 
 	{
 		try{
 					
@@ -231,7 +329,7 @@ public final class CellProbe {
 			final int cc = cell.getColCount();
 
 			float[][] buffer = cell.accessCellBuffer();
-			Index2DList list = new Index2DList();
+			PackedIndex2DList list = new PackedIndex2DList();
 
 			for(int i=0;i<rc;i++)
 			{
@@ -239,7 +337,7 @@ public final class CellProbe {
 				{
 					float check = buffer[i][j];
 					if(check <= threshold){
-						list.add(new Index2D(i, j));
+						list.add(i, j);
 					}
 				}
 			}
@@ -0,0 +1,287 @@
+package org.JMathStudio.DataStructure.Cell;
+
+import org.JMathStudio.DataStructure.Vector.DirectVector;
+import org.JMathStudio.DataStructure.Vector.Vector;
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+
+/**
+ * This class define a 2D data structure which stores scalar (float) elements outside the Java
+ * heap, in direct memory.
+ * <p>Unlike a {@link Cell}, a DirectCell is not bounded by the maximum length of a Java array
+ * and can hold more than 2^31 elements, such as a whole slide or a satellite mosaic of
+ * 100000 x 100000 pixels. The elements are held in the row major order in a
+ * {@link DirectVector}, which is not moved or scanned by the garbage collector.
+ * <p>The element access contract is as that of a {@link Cell}. As the operations of the toolkit
+ * are defined over a Cell, a DirectCell is processed in tiles, where each tile is copied to a
+ * Cell with the method {@link #subCell(int, int, int, int)} and the result is copied back with
+ * the method {@link #insert(Cell, int, int)}. See
+ * {@link org.JMathStudio.PlugIn.AbstractCellTileOperator} which apply any Cell operation over a
+ * DirectCell in such tiles.
+ * <p>The direct memory held by a DirectCell is released with the method {@link #release()}, after
+ * which the DirectCell should not be used. The memory is freed by this call itself, see
+ * {@link DirectVector#release()}.
+ * <pre>Usage:
+ * DirectCell mosaic = new DirectCell(100000, 100000);//Create a DirectCell of 10^10 elements.
+ *
+ * mosaic.insert(tile, 50000, 50000);//Copy a Cell in to the DirectCell.
+ * Cell part = mosaic.subCell(0, 512, 0, 512);//Copy a part of the DirectCell to a Cell.
+ *
+ * mosaic.release();//Release the direct memory.
+ * </pre>
+ * @see Cell
+ * @see DirectVector
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class DirectCell {
+
+	private DirectVector i0;
+	private int i1;
+	private int i2;
+
+	/**
+	 * This will create a DirectCell with given number of Rows and Columns as specified by the
+	 * argument 'rowCount' and 'colCount' respectively. Each element will have default value of 0.
+	 * <p>The argument 'rowCount' and 'colCount' should be more than 0 else this method will throw
+	 * an IllegalArgument Exception.
+	 * <p>If enough direct memory is not available this method will throw an OutOfMemory Error.
+	 * @param int rowCount
+	 * @param int colCount
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public DirectCell(int rowCount, int colCount) throws IllegalArgumentException {
+		if (rowCount < 1 || colCount < 1)
+			throw new IllegalArgumentException();
+
+		this.i0 = new DirectVector((long) rowCount * colCount);
+		this.i1 = rowCount;
+		this.i2 = colCount;
+	}
+
+	/**
+	 * This will create a DirectCell with the elements of the {@link Cell} 'cell'.
+	 * <p>A deep copy of the elements of the Cell 'cell' is made.
+	 * @param Cell cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public DirectCell(Cell cell) {
+		try {
+			this.i0 = new DirectVector((long) cell.getRowCount()
+					* cell.getColCount());
+			this.i1 = cell.getRowCount();
+			this.i2 = cell.getColCount();
+
+			insert(cell, 0, 0);
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will return the number of rows of the given DirectCell.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getRowCount() {
+		return this.i1;
+	}
+
+	/**
+	 * This method will return the number of columns of the given DirectCell.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getColCount() {
+		return this.i2;
+	}
+
+	/**
+	 * This method will return the number of elements of the given DirectCell, that is row count
+	 * * column count.
+	 * @return long
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public long getElementCount() {
+		return (long) i1 * i2;
+	}
+
+	/**
+	 * This method will return the {@link DirectVector} holding the elements of the given
+	 * DirectCell in the row major order by reference.
+	 * <p>The element at row index 'i' and column index 'j' is located at the long index
+	 * i*column count + j of the DirectVector.
+	 * @return DirectVector
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public DirectVector accessDirectVector() {
+		return this.i0;
+	}
+
+	/**
+	 * This method will return the element present at the given row and column index position as
+	 * specified by the arguments 'row' and 'column' respectively.
+	 * <p>If the arguments 'row' and 'column' over shoot valid range of indexing, an
+	 * ArrayIndexOutOfBound Exception will be thrown.
+	 * @param int row
+	 * @param int column
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float getElement(int row, int column) {
+		f0(row, column);
+		return i0.getElement((long) row * i2 + column);
+	}
+
+	/**
+	 * This method will replace the element present at the given row and column position as
+	 * specified by the arguments 'row' and 'column' respectively by the element specified by
+	 * argument 'element'.
+	 * <p>If the arguments 'row' and 'column' over shoot valid range of indexing, an
+	 * ArrayIndexOutOfBound Exception will be thrown.
+	 * @param float element
+	 * @param int row
+	 * @param int column
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void setElement(float element, int row, int column) {
+		f0(row, column);
+		i0.setElement(element, (long) row * i2 + column);
+	}
+
+	/**
+	 * This method will return a copy of the row of the given DirectCell at the row index as
+	 * specified by the argument 'index' as a {@link Vector}.
+	 * <p>If the argument 'index' is out of the valid range of the row index, an
+	 * ArrayIndexOutOfBound Exception will be thrown.
+	 * @param int index
+	 * @return Vector
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Vector accessRow(int index) {
+		f0(index, 0);
+
+		float[] row = new float[i2];
+		i0.getElements((long) index * i2, row, 0, i2);
+
+		return new Vector(row);
+	}
+
+	/**
+	 * This method will replace the row of the given DirectCell at the row index as specified by
+	 * the argument 'row' by the elements of the {@link Vector} 'vector'.
+	 * <p>The length of the Vector 'vector' should be equal to the column count of the given
+	 * DirectCell else this method will throw a DimensionMismatch Exception.
+	 * @param Vector vector
+	 * @param int row
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void assignRow(Vector vector, int row) throws DimensionMismatchException {
+		if (vector.length() != i2)
+			throw new DimensionMismatchException();
+
+		f0(row, 0);
+		i0.setElements(vector.accessVectorBuffer(), 0, i2, (long) row * i2);
+	}
+
+	/**
+	 * This method will copy the part of the given DirectCell, with its extreme top-left position
+	 * starting from the row and column element given by arguments 'row' and 'col' respectively
+	 * and extending 'rowCount' rows and 'colCount' columns, in to a new {@link Cell} and return
+	 * the same.
+	 * <p>If any of the argument 'row','col','rowCount' and 'colCount' is such that the part
+	 * extends beyond the given DirectCell or is empty, this method will throw an IllegalArgument
+	 * Exception.
+	 * @param int row
+	 * @param int rowCount
+	 * @param int col
+	 * @param int colCount
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell subCell(int row, int rowCount, int col, int colCount)
+			throws IllegalArgumentException {
+		if (row < 0 || col < 0 || rowCount < 1 || colCount < 1
+				|| row + rowCount > i1 || col + colCount > i2)
+			throw new IllegalArgumentException();
+
+		Cell result = new Cell(rowCount, colCount);
+		float[][] buffer = result.accessCellBuffer();
+
+		for (int i = 0; i < rowCount; i++)
+			i0.getElements((long) (row + i) * i2 + col, buffer[i], 0, colCount);
+
+		return result;
+	}
+
+	/**
+	 * This method will copy the elements of the {@link Cell} 'cell' in to the given DirectCell,
+	 * with the element (0,0) of the Cell 'cell' placed at the row and column index as given by the
+	 * arguments 'row' and 'col' respectively.
+	 * <p>If the Cell 'cell' extends beyond the given DirectCell, this method will throw an
+	 * IllegalArgument Exception.
+	 * @param Cell cell
+	 * @param int row
+	 * @param int col
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void insert(Cell cell, int row, int col) throws IllegalArgumentException {
+		int rowCount = cell.getRowCount();
+		int colCount = cell.getColCount();
+
+		if (row < 0 || col < 0 || row + rowCount > i1 || col + colCount > i2)
+			throw new IllegalArgumentException();
+
+		float[][] buffer = cell.accessCellBuffer();
+
+		for (int i = 0; i < rowCount; i++)
+			i0.setElements(buffer[i], 0, colCount, (long) (row + i) * i2 + col);
+	}
+
+	/**
+	 * This method will copy all the elements of the given DirectCell in to a new {@link Cell} and
+	 * return the same.
+	 * <p>The number of elements of the given DirectCell should be within the limit of a Cell.
+	 * @return Cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell toCell() {
+		try {
+			return subCell(0, i1, 0, i2);
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will release the direct memory held by the given DirectCell.
+	 * <p>The memory is freed before this method return as described for the method
+	 * {@link DirectVector#release()}.
+	 * <p>The given DirectCell should not be used after this method return, any further access
+	 * to its elements will throw a NullPointer Exception. This method should not be called while
+	 * an other thread is accessing the elements of the given DirectCell.
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void release() {
+		this.i0.release();
+	}
+
+	/**
+	 * This method will return 'true' if the given DirectCell has been released, else will return
+	 * 'false'.
+	 * @return boolean
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public boolean isReleased() {
+		return this.i0.isReleased();
+	}
+
+	private void f0(int row, int column) {
+		if (row < 0 || row >= i1 || column < 0 || column >= i2)
+			throw new ArrayIndexOutOfBoundsException();
+	}
+}
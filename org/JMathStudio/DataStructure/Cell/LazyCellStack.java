@@ -0,0 +1,443 @@
+package org.JMathStudio.DataStructure.Cell;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Exceptions.UnSupportedImageFormatException;
+import org.JMathStudio.Interface.FileInterface.BinaryFileInterface;
+import org.JMathStudio.Utilities.LazyLoader;
+import org.JMathStudio.VisualToolkit.Viewer.SeriesViewer;
+
+/**
+ * This class define a read only stack of {@link Cell}'s stored on the disk, whose Cell's are
+ * loaded on demand.
+ * <p>Unlike a {@link CellStack}, which holds all its Cell's in memory, a LazyCellStack holds
+ * only a bounded working set of the recently accessed Cell's, thus a stack with more Cell's
+ * than fit in memory, such as a long time-lapse series, can be processed.
+ * <p>The stack can be backed by either of the following:
+ * <p><i>1. A directory of images, where each image file of the directory, in the order of the
+ * file names, is a Cell of the stack. Each image is imported as by the method
+ * {@link Cell#importImageAsCell(String)} when required.
+ * <p>2. A binary file storing a {@link CellStack} or a Cell as written by the
+ * {@link BinaryFileInterface}. Only the elements of the required Cell are read from the mapped
+ * file.</i>
+ * <p>The Cell's are held in a least recently used cache of the given capacity. On each access
+ * the next few Cell's of the stack are loaded in the background, such that a sequential pass
+ * over the stack does not wait for the disk. The number of Cell's so pre-fetched can be set
+ * with the method {@link #setPrefetchCount(int)}. The Cell's are loaded by a {@link LazyLoader}.
+ * <p>A pass over the stack in bands of rows, with the rows of a band of all the Cell's in memory
+ * together, is made with the method {@link #accessBand(int, int)}. For a stack backed by a
+ * directory of images, the images are decoded once and written to a temporary binary file on
+ * the first such access, from which the bands and the Cell's are read thereafter.
+ * <p>All the Cell's of the stack should have similar dimensions. The Cell's returned are shared
+ * with the cache and should not be modified.
+ * <p>A LazyCellStack is accepted by
+ * {@link org.JMathStudio.PlugIn.AbstractMultiCellOperator#evaluateOverMultiCells(LazyCellStack, boolean)},
+ * {@link org.JMathStudio.ImageToolkit.TransformTools.EigenTransform#decompose(LazyCellStack, int)}
+ * and {@link SeriesViewer#displaySeries(LazyCellStack)}. A part of the stack can be loaded as a
+ * CellStack with the method {@link #toCellStack(int, int)} for the other operations.
+ * <pre>Usage:
+ * LazyCellStack frames = new LazyCellStack("path", 64);//Open a directory of images with
+ * a working set of 64 Cell's.
+ *
+ * Cell frame = frames.accessCell(10);//Load a Cell; the next Cell's are pre-fetched.
+ *
+ * frames.showAsUInt8ImageSeries("Title");//Display the stack, loading Cell's as navigated.
+ * </pre>
+ * @see CellStack
+ * @see BinaryFileInterface
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class LazyCellStack {
+
+	private String i0;
+	private String[] i1;
+	private int i2;
+	private int i3;
+	private int i4;
+	private LazyLoader<Cell> i5;
+	private volatile String i6;
+	private final Object i7 = new Object();
+
+	/**
+	 * This will open a LazyCellStack backed by the directory of images or the binary file as
+	 * given by the argument 'path'.
+	 * <p>If the argument 'path' is a directory, each non hidden file of the directory, in the
+	 * ascending order of the file names, is a Cell of the stack. Else the argument 'path' should
+	 * be a binary file storing a {@link CellStack} or a {@link Cell} as written by the
+	 * {@link BinaryFileInterface}.
+	 * <p>The argument 'capacity' specify the maximum number of Cell's held in memory and should
+	 * be more than '0'.
+	 * <p>If the argument 'capacity' is not valid, if the directory has no files or if the file
+	 * is not a binary file storing a CellStack or a Cell, this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>The first Cell of the stack is loaded to obtain the dimensions of the Cell's. If the
+	 * first image is not of a supported format this method will throw an UnSupportedImageFormat
+	 * Exception. This method will throw an IO Exception if the directory or the file can not be
+	 * read.
+	 * @param String path
+	 * @param int capacity
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @throws UnSupportedImageFormatException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public LazyCellStack(String path, int capacity) throws IOException,
+			IllegalArgumentException, UnSupportedImageFormatException {
+		if (capacity < 1)
+			throw new IllegalArgumentException();
+
+		File dir = new File(path);
+
+		if (dir.isDirectory()) {
+			String[] files = dir.list();
+
+			if (files == null)
+				throw new IOException();
+
+			Arrays.sort(files);
+			ArrayList<String> list = new ArrayList<String>();
+
+			for (int i = 0; i < files.length; i++) {
+				File file = new File(dir, files[i]);
+
+				if (file.isFile() && !file.isHidden())
+					list.add(file.getAbsolutePath());
+			}
+
+			if (list.size() == 0)
+				throw new IllegalArgumentException();
+
+			this.i1 = list.toArray(new String[list.size()]);
+			this.i2 = i1.length;
+
+			Cell first = Cell.importImageAsCell(i1[0]);
+			this.i3 = first.getRowCount();
+			this.i4 = first.getColCount();
+
+			this.i5 = f1(capacity);
+			i5.put(0, first);
+		} else {
+			// Throws an IllegalArgument Exception if the file does not
+			// store a Cell or a CellStack.
+			BinaryFileInterface.readCellRows(path, 0, 0, 1);
+
+			int[] shape = BinaryFileInterface.readShape(path);
+
+			this.i0 = path;
+			this.i2 = shape[0];
+			this.i3 = shape[1];
+			this.i4 = shape[2];
+
+			this.i5 = f1(capacity);
+		}
+	}
+
+	/**
+	 * This method will return the number of {@link Cell}'s in the given LazyCellStack.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int size() {
+		return this.i2;
+	}
+
+	/**
+	 * This method will return the row count of the {@link Cell}'s of the given LazyCellStack.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getRowCount() {
+		return this.i3;
+	}
+
+	/**
+	 * This method will return the column count of the {@link Cell}'s of the given LazyCellStack.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getColCount() {
+		return this.i4;
+	}
+
+	/**
+	 * This method will return the maximum number of {@link Cell}'s held in memory by the given
+	 * LazyCellStack.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getCapacity() {
+		return i5.getCapacity();
+	}
+
+	/**
+	 * This method will return the number of {@link Cell}'s following an accessed Cell which are
+	 * loaded in the background.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getPrefetchCount() {
+		return i5.getPrefetchCount();
+	}
+
+	/**
+	 * This method will set the number of {@link Cell}'s following an accessed Cell which are
+	 * loaded in the background to the value as given by the argument 'count'. The default value
+	 * is '4', or one less than the capacity for a smaller capacity.
+	 * <p>A value of '0' disable the background loading. The argument 'count' should be less than
+	 * the capacity of the given LazyCellStack, else the pre-fetched Cell's would evict each
+	 * other. If the argument 'count' is negative or not less than the capacity this method will
+	 * throw an IllegalArgument Exception.
+	 * @param int count
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void setPrefetchCount(int count) throws IllegalArgumentException {
+		i5.setPrefetchCount(count);
+	}
+
+	/**
+	 * This method will return the {@link Cell} at the index position as specified by the
+	 * argument 'index' of the given LazyCellStack.
+	 * <p>The Cell is returned from the memory if present, else is loaded from the disk and
+	 * retained in memory in place of the least recently used Cell. The next Cell's of the stack
+	 * are loaded in the background. The return Cell is shared and should not be modified.
+	 * <p>If the argument 'index' is out of the valid range of indexing this method will throw an
+	 * ArrayIndexOutOfBound Exception.
+	 * <p>If the image file is not of a supported format this method will throw an
+	 * UnSupportedImageFormat Exception, and if its dimensions are not similar to that of the
+	 * first Cell of the stack this method will throw a DimensionMismatch Exception. This method
+	 * will throw an IO Exception if the Cell can not be read.
+	 * @param int index
+	 * @return Cell
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell accessCell(int index) throws IOException, UnSupportedImageFormatException,
+			DimensionMismatchException {
+		return i5.access(index);
+	}
+
+	/**
+	 * This method will return 'rowCount' number of rows, starting from the row index as given by
+	 * the argument 'row', of the {@link Cell} at the index position as specified by the argument
+	 * 'index' of the given LazyCellStack as a new Cell.
+	 * <p>For a stack backed by a binary file only the elements of the required rows are read
+	 * from the file if the Cell is not present in memory, and the Cell is not retained in memory.
+	 * For a stack backed by a directory of images the Cell is accessed as by the method
+	 * {@link #accessCell(int)}, unless the images have been written to a temporary binary file
+	 * by the method {@link #accessBand(int, int)}.
+	 * <p>For a pass over the rows of all the Cell's the method {@link #accessBand(int, int)}
+	 * should be used, which does not access each Cell separately.
+	 * <p>If the required rows are not within the Cell this method will throw an IllegalArgument
+	 * Exception. The other exceptions are as for the method {@link #accessCell(int)}.
+	 * @param int index
+	 * @param int row
+	 * @param int rowCount
+	 * @return Cell
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell accessRows(int index, int row, int rowCount) throws IOException,
+			UnSupportedImageFormatException, DimensionMismatchException,
+			IllegalArgumentException {
+		if (index < 0 || index >= i2)
+			throw new ArrayIndexOutOfBoundsException();
+		if (row < 0 || rowCount < 1 || row + rowCount > i3)
+			throw new IllegalArgumentException();
+
+		Cell cell = i5.peek(index);
+
+		if (cell == null) {
+			String file = i0 != null ? i0 : i6;
+
+			if (file != null)
+				return BinaryFileInterface.readCellRows(file, index, row, rowCount);
+			else
+				cell = accessCell(index);
+		}
+
+		Cell result = new Cell(rowCount, i4);
+		float[][] src = cell.accessCellBuffer();
+		float[][] dst = result.accessCellBuffer();
+
+		for (int i = 0; i < rowCount; i++)
+			System.arraycopy(src[row + i], 0, dst[i], 0, i4);
+
+		return result;
+	}
+
+	/**
+	 * This method will return 'rowCount' number of rows, starting from the row index as given by
+	 * the argument 'row', of all the {@link Cell}'s of the given LazyCellStack as a
+	 * {@link CellStack}, with a Cell of the required rows for each Cell of the stack in the same
+	 * order.
+	 * <p>The rows are read with the method {@link BinaryFileInterface#readCellStackRows(String, int, int)},
+	 * which open and map the file once for all the Cell's. For a stack backed by a directory of
+	 * images, on the first call each image is decoded once and written to a temporary binary file
+	 * with the method {@link BinaryFileInterface#writeCellStack(String, LazyCellStack)}. The
+	 * temporary file is used by the further calls and to load the Cell's, and is deleted by the
+	 * method {@link #release()} or on the exit of the virtual machine.
+	 * <p>The Cell's of the return CellStack are not retained in memory.
+	 * <p>If the required rows are not within the Cell's this method will throw an IllegalArgument
+	 * Exception. The other exceptions are as for the method {@link #accessCell(int)}.
+	 * @param int row
+	 * @param int rowCount
+	 * @return CellStack
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public CellStack accessBand(int row, int rowCount) throws IOException,
+			UnSupportedImageFormatException, DimensionMismatchException,
+			IllegalArgumentException {
+		if (row < 0 || rowCount < 1 || row + rowCount > i3)
+			throw new IllegalArgumentException();
+
+		return BinaryFileInterface.readCellStackRows(f2(), row, rowCount);
+	}
+
+	/**
+	 * This method will load 'count' number of {@link Cell}'s of the given LazyCellStack,
+	 * starting from the index position as specified by the argument 'index', in to a new
+	 * {@link CellStack} and return the same.
+	 * <p>The Cell's of the return CellStack are shared with the given LazyCellStack and should
+	 * not be modified.
+	 * <p>If the argument 'count' is less than '1' or the Cell's to be loaded are not within the
+	 * given LazyCellStack this method will throw an IllegalArgument Exception. The other
+	 * exceptions are as for the method {@link #accessCell(int)}.
+	 * @param int index
+	 * @param int count
+	 * @return CellStack
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public CellStack toCellStack(int index, int count) throws IOException,
+			UnSupportedImageFormatException, DimensionMismatchException,
+			IllegalArgumentException {
+		if (index < 0 || count < 1 || index + count > i2)
+			throw new IllegalArgumentException();
+
+		CellStack stack = new CellStack(count);
+
+		for (int i = 0; i < count; i++)
+			stack.addCell(accessCell(index + i));
+
+		return stack;
+	}
+
+	/**
+	 * This method will display the {@link Cell}'s of the given LazyCellStack as a series on a
+	 * {@link SeriesViewer}, loading each Cell as navigated to.
+	 * <p>Each Cell is converted to an UInt8 pixel image by mapping linearly the elements of the
+	 * Cell to an UInt8 pixel range of [0 255].
+	 * <p>The argument 'title' specify the Title for the SeriesViewer.
+	 * <p>The exceptions are as for the method {@link #accessCell(int)}, for the first Cell.
+	 * @param String title
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @see SeriesViewer#displaySeries(LazyCellStack)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void showAsUInt8ImageSeries(String title) throws IOException,
+			UnSupportedImageFormatException, DimensionMismatchException {
+		SeriesViewer viewer = new SeriesViewer();
+		viewer.setTitle(title);
+
+		viewer.displaySeries(this);
+	}
+
+	/**
+	 * This method will remove all the {@link Cell}'s held in memory by the given LazyCellStack
+	 * and stop the background loading thread.
+	 * <p>The temporary binary file written by the method {@link #accessBand(int, int)}, if any, is
+	 * deleted.
+	 * <p>The given LazyCellStack can still be accessed after this call, the Cell's being loaded
+	 * again as required.
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void release() {
+		i5.release();
+
+		synchronized (i7) {
+			if (i6 != null) {
+				new File(i6).delete();
+				i6 = null;
+			}
+		}
+	}
+
+	private Cell f0(int index) throws IOException, UnSupportedImageFormatException,
+			DimensionMismatchException {
+		String file = i0 != null ? i0 : i6;
+
+		if (file != null) {
+			try {
+				return BinaryFileInterface.readCellRows(file, index, 0, i3);
+			} catch (IllegalArgumentException e) {
+				throw new BugEncounterException();
+			}
+		}
+
+		Cell cell = Cell.importImageAsCell(i1[index]);
+
+		if (cell.getRowCount() != i3 || cell.getColCount() != i4)
+			throw new DimensionMismatchException();
+
+		return cell;
+	}
+
+	private LazyLoader<Cell> f1(int capacity) throws IllegalArgumentException {
+		return new LazyLoader<Cell>(i2, capacity) {
+			protected Cell load(int index) throws IOException,
+					UnSupportedImageFormatException, DimensionMismatchException {
+				return f0(index);
+			}
+		};
+	}
+
+	// Return the binary file backing the stack, writing the images of a
+	// directory to a temporary binary file on the first call.
+	private String f2() throws IOException, UnSupportedImageFormatException,
+			DimensionMismatchException {
+		if (i0 != null)
+			return i0;
+
+		synchronized (i7) {
+			if (i6 == null) {
+				File temp = File.createTempFile("LazyCellStack", ".bin");
+				temp.deleteOnExit();
+
+				boolean written = false;
+
+				try {
+					BinaryFileInterface.writeCellStack(temp.getPath(), this);
+					written = true;
+				} finally {
+					if (!written)
+						temp.delete();
+				}
+
+				i6 = temp.getPath();
+			}
+
+			return i6;
+		}
+	}
+}
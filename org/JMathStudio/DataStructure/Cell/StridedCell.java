@@ -0,0 +1,391 @@
+package org.JMathStudio.DataStructure.Cell;
+
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+
+/**
+ * This class define a 2D data structure which stores scalar (float) elements in a single
+ * contiguous 1D float array, along with the offset and the strides which locate each element
+ * in that array.
+ * <p>The element at row index 'i' and column index 'j' is located at the index,
+ * <p><i>offset + i*rowStride + j*colStride</i>
+ * <p>of the backing array. A newly created StridedCell is stored in the row major order, with
+ * 'rowStride' equal to the column count and 'colStride' equal to '1'.
+ * <p>Unlike a {@link Cell}, which is represented by a 2D array, the elements of all the rows
+ * are adjacent in memory and a region of interest, a row, a column or the transpose of a
+ * StridedCell can be obtained as a view which share the backing array, without copying any
+ * element. A modification of an element through a view is visible in all the views which
+ * share the same backing array.
+ * <p>A StridedCell can be converted to and from a {@link Cell} for use with the existing
+ * operations on Cell with the constructor {@link #StridedCell(Cell)} and the method
+ * {@link #toCell()}. Operations which read a StridedCell in place through its strides, such as
+ * {@link org.JMathStudio.ImageToolkit.FilterTools.Separable2DFilter#filter(StridedCell)}, accept
+ * any view without copying it.
+ * <pre>Usage:
+ * Cell image = Cell.importImageAsCell("path");//Import external image as Cell.
+ *
+ * StridedCell flat = new StridedCell(image);//Copy the Cell in to a contiguous StridedCell.
+ *
+ * StridedCell roi = flat.subCell(10, 64, 20, 64);//View of a region of interest, no copy is made.
+ * StridedCell transpose = roi.transpose();//Transposed view of the region.
+ * StridedCell row = flat.row(5);//View of a single row.
+ *
+ * float[] data = flat.accessBuffer();//Access the backing array.
+ *
+ * Cell result = roi.toCell();//Copy the region to a Cell.
+ * </pre>
+ * @see Cell
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class StridedCell {
+
+	private float[] i0;
+	private int i1;
+	private int i2;
+	private int i3;
+	private int i4;
+	private int i5;
+
+	/**
+	 * This will create a StridedCell with given number of Rows and Columns as specified by the
+	 * argument 'rowCount' and 'colCount' respectively, stored in the row major order in a new
+	 * backing array. Each element will have default value of 0.
+	 * <p>The argument 'rowCount' and 'colCount' should be more than 0 else this method will
+	 * throw an IllegalArgument Exception. If the number of elements exceed the maximum length of
+	 * a Java array this method will throw an IllegalArgument Exception.
+	 * @param int rowCount
+	 * @param int colCount
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public StridedCell(int rowCount, int colCount) throws IllegalArgumentException {
+		if (rowCount < 1 || colCount < 1)
+			throw new IllegalArgumentException();
+
+		f0(new float[f5(rowCount, colCount)], 0, rowCount, colCount, colCount, 1);
+	}
+
+	/**
+	 * This will create a StridedCell with the elements of the {@link Cell} 'cell', stored in the
+	 * row major order in a new backing array.
+	 * <p>A deep copy of the elements of the Cell 'cell' is made.
+	 * <p>If the number of elements of the Cell 'cell' exceed the maximum length of a Java array
+	 * this method will throw an IllegalArgument Exception.
+	 * @param Cell cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public StridedCell(Cell cell) throws IllegalArgumentException {
+		int h = cell.getRowCount();
+		int w = cell.getColCount();
+		float[][] src = cell.accessCellBuffer();
+		float[] buffer = new float[f5(h, w)];
+
+		for (int i = 0; i < h; i++)
+			System.arraycopy(src[i], 0, buffer, i * w, w);
+
+		f0(buffer, 0, h, w, w, 1);
+	}
+
+	/**
+	 * This will create a StridedCell which is a view of the elements of the 1D float array
+	 * 'buffer', with the given offset, dimensions and strides.
+	 * <p>The element at row index 'i' and column index 'j' of the StridedCell is located at the
+	 * index 'offset + i*rowStride + j*colStride' of the array 'buffer'.
+	 * <p>The argument 'rowCount' and 'colCount' should be more than 0 and all the elements of the
+	 * StridedCell should be located within the array 'buffer' else this method will throw an
+	 * IllegalArgument Exception. The strides may be negative or zero.
+	 * <p>The argument 'buffer' is passed as reference and no deep copy of the array is made.
+	 * @param float[] buffer
+	 * @param int offset
+	 * @param int rowCount
+	 * @param int colCount
+	 * @param int rowStride
+	 * @param int colStride
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public StridedCell(float[] buffer, int offset, int rowCount, int colCount,
+			int rowStride, int colStride) throws IllegalArgumentException {
+		if (rowCount < 1 || colCount < 1)
+			throw new IllegalArgumentException();
+
+		// Extreme indexes of the backing array spanned by the elements.
+		long first = offset + Math.min(0L, (long) (rowCount - 1) * rowStride)
+				+ Math.min(0L, (long) (colCount - 1) * colStride);
+		long last = offset + Math.max(0L, (long) (rowCount - 1) * rowStride)
+				+ Math.max(0L, (long) (colCount - 1) * colStride);
+
+		if (first < 0 || last >= buffer.length)
+			throw new IllegalArgumentException();
+
+		f0(buffer, offset, rowCount, colCount, rowStride, colStride);
+	}
+
+	/**
+	 * This method will return the number of rows of the given StridedCell.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getRowCount() {
+		return this.i2;
+	}
+
+	/**
+	 * This method will return the number of columns of the given StridedCell.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getColCount() {
+		return this.i3;
+	}
+
+	/**
+	 * This method will return the index of the backing array at which the element at row and
+	 * column index '0' of the given StridedCell is located.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getOffset() {
+		return this.i1;
+	}
+
+	/**
+	 * This method will return the distance in the backing array between the elements of two
+	 * consecutive rows of the given StridedCell.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getRowStride() {
+		return this.i4;
+	}
+
+	/**
+	 * This method will return the distance in the backing array between the elements of two
+	 * consecutive columns of the given StridedCell.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getColStride() {
+		return this.i5;
+	}
+
+	/**
+	 * This method will return the backing array of the given StridedCell by reference.
+	 * <p>The backing array may be shared with other views and may hold elements which do not
+	 * belong to the given StridedCell. Use the methods {@link #getOffset()},
+	 * {@link #getRowStride()} and {@link #getColStride()} to locate the elements.
+	 * @return float[]
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float[] accessBuffer() {
+		return this.i0;
+	}
+
+	/**
+	 * This method will return 'true' if the elements of the given StridedCell occupy a
+	 * contiguous range of the backing array in the row major order, else will return 'false'.
+	 * <p>The stride along a dimension with a single element is not significant, thus a single
+	 * row or a single column view is contiguous if its elements are adjacent.
+	 * <p>For such a StridedCell the elements are located at the indexes from
+	 * {@link #getOffset()} to one less than {@link #getOffset()} + row count * column count of
+	 * the backing array.
+	 * @return boolean
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public boolean isContiguous() {
+		return (i3 == 1 || i5 == 1) && (i2 == 1 || i4 == i3);
+	}
+
+	/**
+	 * This method will return the element present at the given row and column index position as
+	 * specified by the arguments 'row' and 'column' respectively.
+	 * <p>If the arguments 'row' and 'column' over shoot valid range of indexing, an
+	 * ArrayIndexOutOfBound Exception will be thrown.
+	 * @param int row
+	 * @param int column
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float getElement(int row, int column) {
+		f1(row, column);
+		return i0[i1 + row * i4 + column * i5];
+	}
+
+	/**
+	 * This method will replace the element present at the given row and column position as
+	 * specified by the arguments 'row' and 'column' respectively by the element specified by
+	 * argument 'element'.
+	 * <p>If the arguments 'row' and 'column' over shoot valid range of indexing, an
+	 * ArrayIndexOutOfBound Exception will be thrown.
+	 * @param float element
+	 * @param int row
+	 * @param int column
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void setElement(float element, int row, int column) {
+		f1(row, column);
+		i0[i1 + row * i4 + column * i5] = element;
+	}
+
+	/**
+	 * This method will return a view of the part of the given StridedCell with its extreme
+	 * top-left position starting from the row and column element given by arguments 'row' and
+	 * 'col' respectively. The view will extend 'rowCount' rows and 'colCount' columns from the
+	 * starting position.
+	 * <p>The returned view share the backing array of the given StridedCell and no element is
+	 * copied.
+	 * <p>If any of the argument 'row','col','rowCount' and 'colCount' is such that the view
+	 * extends beyond the given StridedCell or is empty, this method will throw an
+	 * IllegalArgument Exception.
+	 * @param int row
+	 * @param int rowCount
+	 * @param int col
+	 * @param int colCount
+	 * @return StridedCell
+	 * @throws IllegalArgumentException
+	 * @see CellTools#subCell(Cell, int, int, int, int)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public StridedCell subCell(int row, int rowCount, int col, int colCount)
+			throws IllegalArgumentException {
+		if (row < 0 || col < 0 || rowCount < 1 || colCount < 1
+				|| row + rowCount > i2 || col + colCount > i3)
+			throw new IllegalArgumentException();
+
+		return f2(i1 + row * i4 + col * i5, rowCount, colCount, i4, i5);
+	}
+
+	/**
+	 * This method will return a view of the row of the given StridedCell at the row index as
+	 * specified by the argument 'row', as a StridedCell with a single row.
+	 * <p>The returned view share the backing array of the given StridedCell and no element is
+	 * copied.
+	 * <p>If the argument 'row' is out of the valid range of the row index, this method will
+	 * throw an IllegalArgument Exception.
+	 * @param int row
+	 * @return StridedCell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public StridedCell row(int row) throws IllegalArgumentException {
+		return subCell(row, 1, 0, i3);
+	}
+
+	/**
+	 * This method will return a view of the column of the given StridedCell at the column index
+	 * as specified by the argument 'col', as a StridedCell with a single column.
+	 * <p>The returned view share the backing array of the given StridedCell and no element is
+	 * copied.
+	 * <p>If the argument 'col' is out of the valid range of the column index, this method will
+	 * throw an IllegalArgument Exception.
+	 * @param int col
+	 * @return StridedCell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public StridedCell column(int col) throws IllegalArgumentException {
+		return subCell(0, i2, col, 1);
+	}
+
+	/**
+	 * This method will return a transposed view of the given StridedCell, in which the rows
+	 * and the columns are interchanged.
+	 * <p>The returned view share the backing array of the given StridedCell and no element is
+	 * copied.
+	 * @return StridedCell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public StridedCell transpose() {
+		return f2(i1, i3, i2, i5, i4);
+	}
+
+	/**
+	 * This method will return a copy of the given StridedCell stored in the row major order in a
+	 * new backing array.
+	 * <p>If the number of elements of the given StridedCell, which may be a view with a zero
+	 * stride, exceed the maximum length of a Java array this method will throw an IllegalArgument
+	 * Exception.
+	 * @return StridedCell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public StridedCell compact() throws IllegalArgumentException {
+		float[] buffer = new float[f5(i2, i3)];
+
+		for (int i = 0; i < i2; i++)
+			f3(i, buffer, i * i3);
+
+		return f4(buffer, 0, i2, i3, i3, 1);
+	}
+
+	/**
+	 * This method will copy the elements of the given StridedCell in to a new {@link Cell} and
+	 * return the same.
+	 * <p>This is the compatibility path for the operations defined over a Cell.
+	 * @return Cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell toCell() {
+		Cell cell = new Cell(i2, i3);
+		float[][] dst = cell.accessCellBuffer();
+
+		for (int i = 0; i < i2; i++)
+			f3(i, dst[i], 0);
+
+		return cell;
+	}
+
+	private void f0(float[] buffer, int offset, int rowCount, int colCount,
+			int rowStride, int colStride) {
+		this.i0 = buffer;
+		this.i1 = offset;
+		this.i2 = rowCount;
+		this.i3 = colCount;
+		this.i4 = rowStride;
+		this.i5 = colStride;
+	}
+
+	private void f1(int row, int column) {
+		if (row < 0 || row >= i2 || column < 0 || column >= i3)
+			throw new ArrayIndexOutOfBoundsException();
+	}
+
+	private StridedCell f2(int offset, int rowCount, int colCount,
+			int rowStride, int colStride) {
+		return f4(i0, offset, rowCount, colCount, rowStride, colStride);
+	}
+
+	private void f3(int row, float[] dst, int index) {
+		// Copy a row of the given StridedCell in to the array.
+		int start = i1 + row * i4;
+
+		if (i5 == 1)
+			System.arraycopy(i0, start, dst, index, i3);
+		else {
+			for (int j = 0, k = start; j < i3; j++, k += i5)
+				dst[index + j] = i0[k];
+		}
+	}
+
+	private static StridedCell f4(float[] buffer, int offset, int rowCount,
+			int colCount, int rowStride, int colStride) {
+		// Create a view without validation, the arguments are known to be
+		// valid.
+		StridedCell view = new StridedCell();
+		view.f0(buffer, offset, rowCount, colCount, rowStride, colStride);
+		return view;
+	}
+
+	private static int f5(int rowCount, int colCount) throws IllegalArgumentException {
+		// Length of a row major backing array, checked against the maximum length of an array.
+		long length = (long) rowCount * colCount;
+
+		if (length > Integer.MAX_VALUE)
+			throw new IllegalArgumentException();
+
+		return (int) length;
+	}
+
+	private StridedCell() {
+	}
+}
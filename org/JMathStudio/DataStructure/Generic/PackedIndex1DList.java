@@ -0,0 +1,304 @@
+package org.JMathStudio.DataStructure.Generic;
+
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+
+/**
+ * This class define a mutable container for storing a set of element indexes within a 1D data structure
+ * as {@link Index1DList}, with the indexes packed in a primitive int array. New indexes can be appended
+ * to the existing list dynamically.
+ * <p>
+ * Internally this class represent the indexes as an int array. Unlike an {@link Index1DList}, appending
+ * an index neither create an {@link Index1D} object nor acquire a lock, thus a PackedIndex1DList is
+ * suitable for holding the indexes of the elements of a large data structure.
+ * <p>
+ * Size - This indicates the number of indexes contained in the list.
+ * <p>
+ * Each index within the list can be accessed by its index position which start
+ * from 0 to one less than the size of this list.
+ * <pre>Usage:
+ * PackedIndex1DList list = new PackedIndex1DList();//Create an empty list.
+ * list.add(3);//Append an index 3.
+ *
+ * int[] buffer = list.accessIndexBuffer();//Iterate over the indexes in bulk.
+ * for(int i=0;i<list.size();i++)
+ * {
+ * 	int x = buffer[i];
+ * }
+ *
+ * Index1DList indexes = list.toIndex1DList();//Convert to an equivalent Index1DList.
+ * </pre>
+ * @see Index1DList
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class PackedIndex1DList {
+
+	private int[] i0;
+	private int i1;
+
+	/**
+	 * This will initiate a new empty PackedIndex1D list to which indexes can be appended later
+	 * on.
+	 *
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex1DList() {
+		i0 = new int[10];
+	}
+
+	/**
+	 * This will initiate a new PackedIndex1D list with specified initial capacity 'n'.
+	 * <p>If argument 'n' is less than '0' this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>Argument 'n' here specify the initial capacity for the list, which increases
+	 * as more indexes are added to the list later on.
+	 * @param int n
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex1DList(int n) throws IllegalArgumentException {
+		if (n < 0)
+			throw new IllegalArgumentException();
+		else
+			i0 = new int[n];
+	}
+
+	/**
+	 * This will initiate a new PackedIndex1D list and populate the same with the {@link Index1D}'s
+	 * of the {@link Index1DList} 'list' in the same order.
+	 *
+	 * @param Index1DList list
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex1DList(Index1DList list) {
+		int size = list.size();
+		i0 = new int[size];
+
+		for (int i = 0; i < size; i++)
+			i0[i] = list.access(i).getX();
+
+		i1 = size;
+	}
+
+	/**
+	 * This method will append the index as given by the argument 'x' at the end of the given list.
+	 * <p>
+	 * This increases the size of the given list by 1.
+	 * <p>
+	 * If the argument 'x' is less than 0 this method will throw an IllegalArgument Exception.
+	 *
+	 * @param int x
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(int x) throws IllegalArgumentException {
+		if (x < 0)
+			throw new IllegalArgumentException();
+
+		f0(i1 + 1);
+		i0[i1++] = x;
+	}
+
+	/**
+	 * This method will append the index as given by the {@link Index1D} 'index' at the end of the
+	 * given list.
+	 * <p>
+	 * This increases the size of the given list by 1.
+	 * <p>
+	 * If the Index1D 'index' is null this method will throw a NullPointer Exception.
+	 *
+	 * @param Index1D index
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(Index1D index) {
+		if (index == null)
+			throw new NullPointerException();
+
+		try {
+			add(index.getX());
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will append all the indexes of the PackedIndex1D list 'list' at the end of the
+	 * given list in the same order.
+	 * <p>
+	 * This increases the size of the given list by the size of the list 'list'.
+	 *
+	 * @param PackedIndex1DList list
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(PackedIndex1DList list) {
+		int size = list.i1;
+		f0(i1 + size);
+
+		System.arraycopy(list.i0, 0, i0, i1, size);
+		i1 += size;
+	}
+
+	/**
+	 * This method will append 'count' number of indexes from the int array 'indexes', starting
+	 * from the position 'offset', at the end of the given list.
+	 * <p>
+	 * This increases the size of the given list by 'count'.
+	 * <p>
+	 * If the argument 'offset' or 'count' is negative or if the array 'indexes' does not have
+	 * 'count' number of elements from the position 'offset', this method will throw an
+	 * IllegalArgument Exception. If any of the index is less than 0 this method will throw an
+	 * IllegalArgument Exception and no index is appended.
+	 *
+	 * @param int[] indexes
+	 * @param int offset
+	 * @param int count
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(int[] indexes, int offset, int count) throws IllegalArgumentException {
+		if (offset < 0 || count < 0 || offset + (long) count > indexes.length)
+			throw new IllegalArgumentException();
+
+		for (int i = offset; i < offset + count; i++) {
+			if (indexes[i] < 0)
+				throw new IllegalArgumentException();
+		}
+
+		f0(i1 + count);
+
+		System.arraycopy(indexes, offset, i0, i1, count);
+		i1 += count;
+	}
+
+	/**
+	 * This method will return the current size of the given list.
+	 * <p>
+	 * This indicate the number of indexes contained within the given list.
+	 *
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int size() {
+		return i1;
+	}
+
+	/**
+	 * This method will return the index 'x' located at the index position as given by the argument
+	 * 'index' within the given list.
+	 * <p>
+	 * The value of argument 'index' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param int index
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getX(int index) {
+		f1(index);
+		return i0[index];
+	}
+
+	/**
+	 * This method will return the index located at the index position as given by the argument
+	 * 'index' within the given list as a new {@link Index1D} object.
+	 * <p>
+	 * The value of argument 'index' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param int index
+	 * @return Index1D
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Index1D access(int index) {
+		f1(index);
+
+		try {
+			return new Index1D(i0[index]);
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will replace the index located at the index position given by the argument 'i'
+	 * in the given list with the index as given by the argument 'x'.
+	 * <p>
+	 * The value of the argument 'i' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 * <p>
+	 * If the argument 'x' is less than 0 this method will throw an IllegalArgument Exception.
+	 *
+	 * @param int x
+	 * @param int i
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void replace(int x, int i) throws IllegalArgumentException {
+		if (x < 0)
+			throw new IllegalArgumentException();
+
+		f1(i);
+		i0[i] = x;
+	}
+
+	/**
+	 * This method will return the int array holding the indexes of the given list by reference.
+	 * <p>
+	 * Only the first 'size' elements of the return array are valid, the array may be longer.
+	 * <p>
+	 * The return array is valid only until the next index is appended to the given list, which may
+	 * reallocate the array.
+	 *
+	 * @return int[]
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int[] accessIndexBuffer() {
+		return i0;
+	}
+
+	/**
+	 * This method will convert the given list to an equivalent {@link Index1DList} and return
+	 * the same.
+	 * <p>The order of the indexes in the return list will be same as that in the given list.
+	 *
+	 * @return Index1DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Index1DList toIndex1DList() {
+		try {
+			Index1DList list = new Index1DList(i1);
+
+			for (int i = 0; i < i1; i++)
+				list.add(new Index1D(i0[i]));
+
+			return list;
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will remove all the indexes from the current list and empty the list.
+	 * <p>The size of the list will be '0' after this call, the capacity of the list is retained.
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void clear() {
+		this.i1 = 0;
+	}
+
+	// Grow the array to hold 'n' indexes, at least doubling the capacity.
+	private void f0(int n) {
+		if (n > i0.length) {
+			int capacity = Math.max(n, 2 * i0.length);
+
+			int[] tmp = new int[capacity];
+			System.arraycopy(i0, 0, tmp, 0, i1);
+			i0 = tmp;
+		}
+	}
+
+	private void f1(int index) {
+		if (index < 0 || index >= i1)
+			throw new ArrayIndexOutOfBoundsException(index);
+	}
+}
@@ -0,0 +1,339 @@
+package org.JMathStudio.DataStructure.Generic;
+
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+
+/**
+ * This class define a mutable container for storing a set of element indexes within a 2D data structure
+ * as {@link Index2DList}, with the indexes packed in a primitive int array. New indexes can be appended
+ * to the existing list dynamically.
+ * <p>
+ * Internally this class represent each index as a pair of consecutive int's, the row index 'y' followed
+ * by the column index 'x', within a single int array. Unlike an {@link Index2DList}, appending an index
+ * neither create an {@link Index2D} object nor acquire a lock, thus a PackedIndex2DList is suitable for
+ * holding the indexes of the elements of a large data structure, such as all the foreground pixels of a
+ * large mask.
+ * <p>
+ * Size - This indicates the number of indexes contained in the list.
+ * <p>
+ * Each index within the list can be accessed by its index position which start
+ * from 0 to one less than the size of this list.
+ * <pre>Usage:
+ * PackedIndex2DList list = new PackedIndex2DList();//Create an empty list.
+ * list.add(2, 3);//Append an index with row index 2 and column index 3.
+ *
+ * int[] buffer = list.accessIndexBuffer();//Iterate over the indexes in bulk.
+ * for(int i=0;i<list.size();i++)
+ * {
+ * 	int y = buffer[2*i];
+ * 	int x = buffer[2*i+1];
+ * }
+ *
+ * Index2DList indexes = list.toIndex2DList();//Convert to an equivalent Index2DList.
+ * </pre>
+ * @see Index2DList
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class PackedIndex2DList {
+
+	private int[] i0;
+	private int i1;
+
+	/**
+	 * This will initiate a new empty PackedIndex2D list to which indexes can be appended later
+	 * on.
+	 *
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex2DList() {
+		i0 = new int[20];
+	}
+
+	/**
+	 * This will initiate a new PackedIndex2D list with specified initial capacity 'n'.
+	 * <p>If argument 'n' is less than '0' this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>Argument 'n' here specify the initial capacity for the list, which increases
+	 * as more indexes are added to the list later on.
+	 * @param int n
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex2DList(int n) throws IllegalArgumentException {
+		if (n < 0)
+			throw new IllegalArgumentException();
+		else
+			i0 = new int[2 * n];
+	}
+
+	/**
+	 * This will initiate a new PackedIndex2D list and populate the same with the {@link Index2D}'s
+	 * of the {@link Index2DList} 'list' in the same order.
+	 *
+	 * @param Index2DList list
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex2DList(Index2DList list) {
+		int size = list.size();
+		i0 = new int[2 * size];
+
+		for (int i = 0; i < size; i++) {
+			Index2D index = list.access(i);
+			i0[2 * i] = index.getY();
+			i0[2 * i + 1] = index.getX();
+		}
+
+		i1 = size;
+	}
+
+	/**
+	 * This method will append the index with the row and column index as given by the arguments
+	 * 'y' and 'x' respectively at the end of the given list.
+	 * <p>
+	 * This increases the size of the given list by 1.
+	 * <p>
+	 * If any of the argument 'y' or 'x' is less than 0 this method will throw an IllegalArgument
+	 * Exception.
+	 *
+	 * @param int y
+	 * @param int x
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(int y, int x) throws IllegalArgumentException {
+		if (y < 0 || x < 0)
+			throw new IllegalArgumentException();
+
+		f0(i1 + 1);
+
+		i0[2 * i1] = y;
+		i0[2 * i1 + 1] = x;
+		i1++;
+	}
+
+	/**
+	 * This method will append the index as given by the {@link Index2D} 'index' at the end of the
+	 * given list.
+	 * <p>
+	 * This increases the size of the given list by 1.
+	 * <p>
+	 * If the Index2D 'index' is null this method will throw a NullPointer Exception.
+	 *
+	 * @param Index2D index
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(Index2D index) {
+		if (index == null)
+			throw new NullPointerException();
+
+		try {
+			add(index.getY(), index.getX());
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will append all the indexes of the PackedIndex2D list 'list' at the end of the
+	 * given list in the same order.
+	 * <p>
+	 * This increases the size of the given list by the size of the list 'list'.
+	 *
+	 * @param PackedIndex2DList list
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(PackedIndex2DList list) {
+		int size = list.i1;
+		f0(i1 + size);
+
+		System.arraycopy(list.i0, 0, i0, 2 * i1, 2 * size);
+		i1 += size;
+	}
+
+	/**
+	 * This method will append 'count' number of indexes from the int array 'indexes' at the end of
+	 * the given list, where the indexes are packed in the array 'indexes' as the consecutive pairs
+	 * of the row and column index starting from the position 'offset'.
+	 * <p>
+	 * This increases the size of the given list by 'count'.
+	 * <p>
+	 * If the argument 'offset' or 'count' is negative or if the array 'indexes' does not have
+	 * 'count' number of pairs from the position 'offset', this method will throw an
+	 * IllegalArgument Exception. If any of the row or column index is less than 0 this method will
+	 * throw an IllegalArgument Exception and no index is appended.
+	 *
+	 * @param int[] indexes
+	 * @param int offset
+	 * @param int count
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(int[] indexes, int offset, int count) throws IllegalArgumentException {
+		if (offset < 0 || count < 0 || offset + 2L * count > indexes.length)
+			throw new IllegalArgumentException();
+
+		for (int i = offset; i < offset + 2 * count; i++) {
+			if (indexes[i] < 0)
+				throw new IllegalArgumentException();
+		}
+
+		f0(i1 + count);
+
+		System.arraycopy(indexes, offset, i0, 2 * i1, 2 * count);
+		i1 += count;
+	}
+
+	/**
+	 * This method will return the current size of the given list.
+	 * <p>
+	 * This indicate the number of indexes contained within the given list.
+	 *
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int size() {
+		return i1;
+	}
+
+	/**
+	 * This method will return the row index 'y' of the index located at the index position as given
+	 * by the argument 'index' within the given list.
+	 * <p>
+	 * The value of argument 'index' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param int index
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getY(int index) {
+		f1(index);
+		return i0[2 * index];
+	}
+
+	/**
+	 * This method will return the column index 'x' of the index located at the index position as
+	 * given by the argument 'index' within the given list.
+	 * <p>
+	 * The value of argument 'index' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param int index
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getX(int index) {
+		f1(index);
+		return i0[2 * index + 1];
+	}
+
+	/**
+	 * This method will return the index located at the index position as given by the argument
+	 * 'index' within the given list as a new {@link Index2D} object.
+	 * <p>
+	 * The value of argument 'index' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param int index
+	 * @return Index2D
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Index2D access(int index) {
+		f1(index);
+
+		try {
+			return new Index2D(i0[2 * index], i0[2 * index + 1]);
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will replace the index located at the index position given by the argument 'i'
+	 * in the given list with the index with the row and column index as given by the arguments 'y'
+	 * and 'x' respectively.
+	 * <p>
+	 * The value of the argument 'i' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 * <p>
+	 * If any of the argument 'y' or 'x' is less than 0 this method will throw an IllegalArgument
+	 * Exception.
+	 *
+	 * @param int y
+	 * @param int x
+	 * @param int i
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void replace(int y, int x, int i) throws IllegalArgumentException {
+		if (y < 0 || x < 0)
+			throw new IllegalArgumentException();
+
+		f1(i);
+		i0[2 * i] = y;
+		i0[2 * i + 1] = x;
+	}
+
+	/**
+	 * This method will return the int array holding the indexes of the given list by reference.
+	 * <p>
+	 * The index at the index position 'i' within the list has its row index at the position 2*i and
+	 * its column index at the position 2*i+1 of the return array. Only the first 2*size elements of
+	 * the return array are valid, the array may be longer.
+	 * <p>
+	 * The return array is valid only until the next index is appended to the given list, which may
+	 * reallocate the array.
+	 *
+	 * @return int[]
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int[] accessIndexBuffer() {
+		return i0;
+	}
+
+	/**
+	 * This method will convert the given list to an equivalent {@link Index2DList} and return
+	 * the same.
+	 * <p>The order of the indexes in the return list will be same as that in the given list.
+	 *
+	 * @return Index2DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Index2DList toIndex2DList() {
+		try {
+			Index2DList list = new Index2DList(i1);
+
+			for (int i = 0; i < i1; i++)
+				list.add(new Index2D(i0[2 * i], i0[2 * i + 1]));
+
+			return list;
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will remove all the indexes from the current list and empty the list.
+	 * <p>The size of the list will be '0' after this call, the capacity of the list is retained.
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void clear() {
+		this.i1 = 0;
+	}
+
+	// Grow the array to hold 'n' indexes, at least doubling the capacity.
+	private void f0(int n) {
+		if (2 * n > i0.length) {
+			int capacity = Math.max(2 * n, 2 * i0.length);
+
+			int[] tmp = new int[capacity];
+			System.arraycopy(i0, 0, tmp, 0, 2 * i1);
+			i0 = tmp;
+		}
+	}
+
+	private void f1(int index) {
+		if (index < 0 || index >= i1)
+			throw new ArrayIndexOutOfBoundsException(index);
+	}
+}
@@ -0,0 +1,368 @@
+package org.JMathStudio.DataStructure.Generic;
+
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+
+/**
+ * This class define a mutable container for storing a set of pixels as {@link PixelList}, with the
+ * pixels packed in primitive arrays. New pixels can be appended to the existing list dynamically.
+ * <p>
+ * Internally this class represent the spatial coordinates (y,x) of each pixel as a pair of consecutive
+ * int's within a single int array and the pixel values as a float array. Unlike a {@link PixelList},
+ * appending a pixel neither create a {@link Pixel} object nor acquire a lock.
+ * <p>
+ * Size - This indicates the number of pixels contained in the list.
+ * <p>
+ * Each pixel in the list can be accessed by its index position which start
+ * from 0 to one less than the size of this list.
+ * <pre>Usage:
+ * PackedPixelList list = new PackedPixelList();//Create an empty list.
+ * list.add(0.5f, 2, 3);//Append a pixel of value 0.5 with coordinates (2,3).
+ *
+ * int[] offsets = list.accessOffsetBuffer();//Iterate over the pixels in bulk.
+ * float[] values = list.accessValueBuffer();
+ * for(int i=0;i<list.size();i++)
+ * {
+ * 	int y = offsets[2*i];
+ * 	int x = offsets[2*i+1];
+ * 	float value = values[i];
+ * }
+ *
+ * PixelList pixels = list.toPixelList();//Convert to an equivalent PixelList.
+ * </pre>
+ * @see PixelList
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class PackedPixelList {
+
+	private int[] i0;
+	private float[] i1;
+	private int i2;
+
+	/**
+	 * This will initiate a new empty PackedPixel list to which pixels can be appended later
+	 * on.
+	 *
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedPixelList() {
+		i0 = new int[20];
+		i1 = new float[10];
+	}
+
+	/**
+	 * This will initiate a new PackedPixel list with specified initial capacity 'n'.
+	 * <p>If argument 'n' is less than '0' this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>Argument 'n' here specify the initial capacity for the list, which increases
+	 * as more pixels are added to the list later on.
+	 * @param int n
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedPixelList(int n) throws IllegalArgumentException {
+		if (n < 0)
+			throw new IllegalArgumentException();
+		else {
+			i0 = new int[2 * n];
+			i1 = new float[n];
+		}
+	}
+
+	/**
+	 * This will initiate a new PackedPixel list and populate the same with the {@link Pixel}'s
+	 * of the {@link PixelList} 'list' in the same order.
+	 *
+	 * @param PixelList list
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedPixelList(PixelList list) {
+		int size = list.size();
+		i0 = new int[2 * size];
+		i1 = new float[size];
+
+		for (int i = 0; i < size; i++) {
+			Pixel pixel = list.access(i);
+			i0[2 * i] = pixel.getYOffset();
+			i0[2 * i + 1] = pixel.getXOffset();
+			i1[i] = pixel.getValue();
+		}
+
+		i2 = size;
+	}
+
+	/**
+	 * This method will append the pixel with value as given by the argument 'value' and spatial
+	 * coordinates (y,x) as given by the arguments 'y' and 'x' at the end of the given list.
+	 * <p>
+	 * This increases the size of the given list by 1.
+	 *
+	 * @param float value
+	 * @param int y
+	 * @param int x
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(float value, int y, int x) {
+		f0(i2 + 1);
+
+		i0[2 * i2] = y;
+		i0[2 * i2 + 1] = x;
+		i1[i2] = value;
+		i2++;
+	}
+
+	/**
+	 * This method will append the {@link Pixel} 'pixel' at the end of the given list.
+	 * <p>
+	 * This increases the size of the given list by 1.
+	 * <p>
+	 * If the Pixel 'pixel' is null this method will throw a NullPointer Exception.
+	 *
+	 * @param Pixel pixel
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(Pixel pixel) {
+		if (pixel == null)
+			throw new NullPointerException();
+		else
+			add(pixel.getValue(), pixel.getYOffset(), pixel.getXOffset());
+	}
+
+	/**
+	 * This method will append all the pixels of the PackedPixel list 'list' at the end of the
+	 * given list in the same order.
+	 * <p>
+	 * This increases the size of the given list by the size of the list 'list'.
+	 *
+	 * @param PackedPixelList list
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(PackedPixelList list) {
+		int size = list.i2;
+		f0(i2 + size);
+
+		System.arraycopy(list.i0, 0, i0, 2 * i2, 2 * size);
+		System.arraycopy(list.i1, 0, i1, i2, size);
+		i2 += size;
+	}
+
+	/**
+	 * This method will append 'count' number of pixels at the end of the given list, where the
+	 * spatial coordinates of the pixels are packed in the int array 'offsets' as the consecutive
+	 * pairs of the 'y' and 'x' coordinate and the values of the pixels are in the float array
+	 * 'values', starting from the pixel at the position 'offset'.
+	 * <p>
+	 * The pixel at the position 'i' has its coordinates at the positions 2*i and 2*i+1 of the
+	 * array 'offsets' and its value at the position 'i' of the array 'values', as with the arrays
+	 * returned by the methods {@link #accessOffsetBuffer()} and {@link #accessValueBuffer()}.
+	 * <p>
+	 * This increases the size of the given list by 'count'.
+	 * <p>
+	 * If the argument 'offset' or 'count' is negative or if the arrays 'offsets' and 'values' do
+	 * not have 'count' number of pixels from the position 'offset', this method will throw an
+	 * IllegalArgument Exception and no pixel is appended.
+	 *
+	 * @param int[] offsets
+	 * @param float[] values
+	 * @param int offset
+	 * @param int count
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void add(int[] offsets, float[] values, int offset, int count)
+			throws IllegalArgumentException {
+		if (offset < 0 || count < 0 || 2L * (offset + (long) count) > offsets.length
+				|| offset + (long) count > values.length)
+			throw new IllegalArgumentException();
+
+		f0(i2 + count);
+
+		System.arraycopy(offsets, 2 * offset, i0, 2 * i2, 2 * count);
+		System.arraycopy(values, offset, i1, i2, count);
+		i2 += count;
+	}
+
+	/**
+	 * This method will return the current size of the given list.
+	 * <p>
+	 * This indicate the number of pixels contained within the given list.
+	 *
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int size() {
+		return i2;
+	}
+
+	/**
+	 * This method will return the value of the pixel located at the index position as given by
+	 * the argument 'index' within the given list.
+	 * <p>
+	 * The value of argument 'index' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param int index
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float getValue(int index) {
+		f1(index);
+		return i1[index];
+	}
+
+	/**
+	 * This method will return the 'y' coordinate of the pixel located at the index position as
+	 * given by the argument 'index' within the given list.
+	 * <p>
+	 * The value of argument 'index' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param int index
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getYOffset(int index) {
+		f1(index);
+		return i0[2 * index];
+	}
+
+	/**
+	 * This method will return the 'x' coordinate of the pixel located at the index position as
+	 * given by the argument 'index' within the given list.
+	 * <p>
+	 * The value of argument 'index' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param int index
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getXOffset(int index) {
+		f1(index);
+		return i0[2 * index + 1];
+	}
+
+	/**
+	 * This method will return the pixel located at the index position as given by the argument
+	 * 'index' within the given list as a new {@link Pixel} object.
+	 * <p>
+	 * The value of argument 'index' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param int index
+	 * @return Pixel
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Pixel access(int index) {
+		f1(index);
+		return new Pixel(i1[index], i0[2 * index], i0[2 * index + 1]);
+	}
+
+	/**
+	 * This method will replace the pixel located at the index position given by the argument
+	 * 'index' in the given list with the pixel with value as given by the argument 'value' and
+	 * spatial coordinates (y,x) as given by the arguments 'y' and 'x'.
+	 * <p>
+	 * The value of the argument 'index' should be in the range of 0 to one less
+	 * than the size of this list else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param float value
+	 * @param int y
+	 * @param int x
+	 * @param int index
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void replace(float value, int y, int x, int index) {
+		f1(index);
+
+		i0[2 * index] = y;
+		i0[2 * index + 1] = x;
+		i1[index] = value;
+	}
+
+	/**
+	 * This method will return the int array holding the spatial coordinates of the pixels of the
+	 * given list by reference.
+	 * <p>
+	 * The pixel at the index position 'i' within the list has its 'y' coordinate at the position 2*i
+	 * and its 'x' coordinate at the position 2*i+1 of the return array. Only the first 2*size
+	 * elements of the return array are valid, the array may be longer.
+	 * <p>
+	 * The return array is valid only until the next pixel is appended to the given list, which may
+	 * reallocate the array.
+	 *
+	 * @return int[]
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int[] accessOffsetBuffer() {
+		return i0;
+	}
+
+	/**
+	 * This method will return the float array holding the values of the pixels of the given list
+	 * by reference.
+	 * <p>
+	 * The pixel at the index position 'i' within the list has its value at the position 'i' of the
+	 * return array. Only the first 'size' elements of the return array are valid, the array may be
+	 * longer.
+	 * <p>
+	 * The return array is valid only until the next pixel is appended to the given list, which may
+	 * reallocate the array.
+	 *
+	 * @return float[]
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float[] accessValueBuffer() {
+		return i1;
+	}
+
+	/**
+	 * This method will convert the given list to an equivalent {@link PixelList} and return
+	 * the same.
+	 * <p>The order of the pixels in the return list will be same as that in the given list.
+	 *
+	 * @return PixelList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PixelList toPixelList() {
+		try {
+			PixelList list = new PixelList(i2);
+
+			for (int i = 0; i < i2; i++)
+				list.add(new Pixel(i1[i], i0[2 * i], i0[2 * i + 1]));
+
+			return list;
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will remove all the pixels from the current list and empty the list.
+	 * <p>The size of the list will be '0' after this call, the capacity of the list is retained.
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void clear() {
+		this.i2 = 0;
+	}
+
+	// Grow the arrays to hold 'n' pixels, at least doubling the capacity.
+	private void f0(int n) {
+		if (n > i1.length) {
+			int capacity = Math.max(n, 2 * i1.length);
+
+			int[] offsets = new int[2 * capacity];
+			System.arraycopy(i0, 0, offsets, 0, 2 * i2);
+			i0 = offsets;
+
+			float[] values = new float[capacity];
+			System.arraycopy(i1, 0, values, 0, i2);
+			i1 = values;
+		}
+	}
+
+	private void f1(int index) {
+		if (index < 0 || index >= i2)
+			throw new ArrayIndexOutOfBoundsException(index);
+	}
+}
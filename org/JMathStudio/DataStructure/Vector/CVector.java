@@ -1,10 +1,8 @@
 package org.JMathStudio.DataStructure.Vector;
 
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import org.JMathStudio.DataStructure.Complex;
@@ -14,6 +12,7 @@ import org.JMathStudio.DataStructure.Iterator.Iterator1D.Iterator1DBound;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.DimensionMismatchException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Interface.FileInterface.BinaryFileInterface;
 import org.JMathStudio.VisualToolkit.Graph.VectorGraph;
 
 /**
@@ -408,6 +407,8 @@ public final class CVector implements Serializable {
 	 * extension. Further an extension '.cvector' will be added to the saved
 	 * state file by this method.
 	 * <p>
+	 * The state is saved in the raw binary format of the {@link BinaryFileInterface}.
+	 * <p>
 	 * The current state of this {@link CVector} object stored in the external
 	 * file can be loaded into the framework at later stage using the
 	 * {@link #retrieveState(String)} method.
@@ -426,13 +427,7 @@ public final class CVector implements Serializable {
 	public void saveState(String dirPath, String filename) throws IOException {
 		String filePath = dirPath + filename + ".cvector";
 
-		FileOutputStream fs = new FileOutputStream(filePath);
-		ObjectOutputStream os = new ObjectOutputStream(fs);
-
-		os.writeObject(this);
-		os.close();
-		fs.close();
-
+		BinaryFileInterface.writeCVector(filePath, this);
 	}
 
 	/**
@@ -466,6 +461,11 @@ public final class CVector implements Serializable {
 		if (!format.equalsIgnoreCase("cvector"))
 			throw new IllegalArgumentException();
 
+		//Files saved in the binary format are read directly, else in the legacy
+		//serialised format.
+		if (BinaryFileInterface.isBinaryFile(filePath))
+			return BinaryFileInterface.readCVector(filePath);
+
 		FileInputStream fs = new FileInputStream(filePath);
 		ObjectInputStream os = new ObjectInputStream(fs);
 
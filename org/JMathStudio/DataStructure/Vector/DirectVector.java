@@ -0,0 +1,305 @@
+package org.JMathStudio.DataStructure.Vector;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+
+/**
+ * This class define a 1D data structure which stores scalar (float) elements outside the Java
+ * heap, in direct memory.
+ * <p>Unlike a {@link Vector}, whose length is bounded by the maximum length of a Java array,
+ * a DirectVector is indexed by a long index and can hold more than 2^31 elements. The elements
+ * are held in a set of direct buffers which are not moved or scanned by the garbage collector,
+ * thus a very large DirectVector does not add to the garbage collection pauses.
+ * <p>The element access contract is as that of a {@link Vector}, with the index of an element
+ * in the range of 0 to one less than the length of the DirectVector. The elements can also be
+ * copied in bulk to and from a float array or a Vector.
+ * <p>The direct memory held by a DirectVector is released with the method {@link #release()},
+ * after which the DirectVector should not be used. The memory is freed by this call itself and
+ * not when the garbage collector collect the buffers.
+ * <p>Elements at different index positions can be read and written concurrently by different
+ * threads.
+ * <pre>Usage:
+ * DirectVector v = new DirectVector(3000000000L);//Create a DirectVector of 3 billion elements.
+ *
+ * v.setElement(1.5f, 2999999999L);//Set an element.
+ * Vector part = v.subVector(1000000000L, 4096);//Copy a part of the DirectVector to a Vector.
+ * v.insert(part, 0);//Copy a Vector in to the DirectVector.
+ *
+ * v.release();//Release the direct memory.
+ * </pre>
+ * @see Vector
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class DirectVector {
+
+	// Each buffer hold 2^i0 elements.
+	private final static int i0 = 28;
+	private final static int i1 = (1 << i0) - 1;
+
+	private FloatBuffer[] i2;
+	private long i3;
+	private ByteBuffer[] i4;
+
+	// Cleaner access for freeing a direct buffer, sun.misc.Unsafe.invokeCleaner on Java 9 and
+	// later. If not available, the cleaner of the buffer is invoked directly.
+	private final static Method i5;
+	private final static Object i6;
+
+	static {
+		Method method = null;
+		Object unsafe = null;
+
+		try {
+			Class<?> c = Class.forName("sun.misc.Unsafe");
+			method = c.getMethod("invokeCleaner", ByteBuffer.class);
+			Field field = c.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = field.get(null);
+		} catch (Exception e) {
+			method = null;
+			unsafe = null;
+		}
+
+		i5 = method;
+		i6 = unsafe;
+	}
+
+	/**
+	 * This will create a DirectVector of the length as specified by the argument 'length'. Each
+	 * element will have default value of 0.
+	 * <p>The argument 'length' should be more than 0 else this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>If enough direct memory is not available this method will throw an OutOfMemory Error.
+	 * @param long length
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public DirectVector(long length) throws IllegalArgumentException {
+		if (length < 1)
+			throw new IllegalArgumentException();
+
+		int count = (int) ((length + i1) >>> i0);
+		this.i2 = new FloatBuffer[count];
+		this.i3 = length;
+		this.i4 = new ByteBuffer[count];
+
+		for (int s = 0; s < count; s++) {
+			long size = Math.min(1L << i0, length - ((long) s << i0));
+			i4[s] = ByteBuffer.allocateDirect((int) size * 4).order(
+					ByteOrder.nativeOrder());
+			i2[s] = i4[s].asFloatBuffer();
+		}
+	}
+
+	/**
+	 * This method will return the length of the given DirectVector.
+	 * @return long
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public long length() {
+		return this.i3;
+	}
+
+	/**
+	 * This method will return the element present at the index position as specified by the
+	 * argument 'index'.
+	 * <p>If the argument 'index' is out of the valid range of indexing, an ArrayIndexOutOfBound
+	 * Exception will be thrown. If the given DirectVector has been released, a NullPointer
+	 * Exception will be thrown.
+	 * @param long index
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float getElement(long index) {
+		f0(index, 1);
+		return i2[(int) (index >>> i0)].get((int) (index & i1));
+	}
+
+	/**
+	 * This method will replace the element present at the index position as specified by the
+	 * argument 'index' by the element specified by the argument 'element'.
+	 * <p>If the argument 'index' is out of the valid range of indexing, an ArrayIndexOutOfBound
+	 * Exception will be thrown. If the given DirectVector has been released, a NullPointer
+	 * Exception will be thrown.
+	 * @param float element
+	 * @param long index
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void setElement(float element, long index) {
+		f0(index, 1);
+		i2[(int) (index >>> i0)].put((int) (index & i1), element);
+	}
+
+	/**
+	 * This method will copy 'count' number of elements of the given DirectVector, starting from
+	 * the index position as specified by the argument 'index', in to the float array 'dst'
+	 * starting from the index position as specified by the argument 'offset'.
+	 * <p>If the elements to be copied fall outside the given DirectVector or the array 'dst', an
+	 * ArrayIndexOutOfBound Exception will be thrown.
+	 * @param long index
+	 * @param float[] dst
+	 * @param int offset
+	 * @param int count
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void getElements(long index, float[] dst, int offset, int count) {
+		f0(index, count);
+
+		if (offset < 0 || count < 0 || offset + count > dst.length)
+			throw new ArrayIndexOutOfBoundsException();
+
+		while (count > 0) {
+			int position = (int) (index & i1);
+			int length = Math.min(count, (1 << i0) - position);
+
+			// A duplicate has its own position, thus bulk copies from the
+			// different threads do not interfere.
+			FloatBuffer buffer = i2[(int) (index >>> i0)].duplicate();
+			buffer.position(position);
+			buffer.get(dst, offset, length);
+
+			index += length;
+			offset += length;
+			count -= length;
+		}
+	}
+
+	/**
+	 * This method will copy 'count' number of elements of the float array 'src', starting from
+	 * the index position as specified by the argument 'offset', in to the given DirectVector
+	 * starting from the index position as specified by the argument 'index'.
+	 * <p>If the elements to be copied fall outside the given DirectVector or the array 'src', an
+	 * ArrayIndexOutOfBound Exception will be thrown.
+	 * @param float[] src
+	 * @param int offset
+	 * @param int count
+	 * @param long index
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void setElements(float[] src, int offset, int count, long index) {
+		f0(index, count);
+
+		if (offset < 0 || count < 0 || offset + count > src.length)
+			throw new ArrayIndexOutOfBoundsException();
+
+		while (count > 0) {
+			int position = (int) (index & i1);
+			int length = Math.min(count, (1 << i0) - position);
+
+			FloatBuffer buffer = i2[(int) (index >>> i0)].duplicate();
+			buffer.position(position);
+			buffer.put(src, offset, length);
+
+			index += length;
+			offset += length;
+			count -= length;
+		}
+	}
+
+	/**
+	 * This method will copy 'length' number of elements of the given DirectVector, starting from
+	 * the index position as specified by the argument 'index', in to a new {@link Vector} and
+	 * return the same.
+	 * <p>The argument 'length' should be more than 0 and the elements to be copied should be
+	 * within the given DirectVector else this method will throw an IllegalArgument Exception.
+	 * @param long index
+	 * @param int length
+	 * @return Vector
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Vector subVector(long index, int length) throws IllegalArgumentException {
+		if (length < 1 || index < 0 || index + length > i3)
+			throw new IllegalArgumentException();
+
+		float[] buffer = new float[length];
+		getElements(index, buffer, 0, length);
+
+		return new Vector(buffer);
+	}
+
+	/**
+	 * This method will copy the elements of the {@link Vector} 'vector' in to the given
+	 * DirectVector starting from the index position as specified by the argument 'index'.
+	 * <p>If the Vector 'vector' extends beyond the given DirectVector, this method will throw a
+	 * DimensionMismatch Exception.
+	 * @param Vector vector
+	 * @param long index
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void insert(Vector vector, long index) throws DimensionMismatchException {
+		int length = vector.length();
+
+		if (index < 0 || index + length > i3)
+			throw new DimensionMismatchException();
+
+		setElements(vector.accessVectorBuffer(), 0, length, index);
+	}
+
+	/**
+	 * This method will release the direct memory held by the given DirectVector.
+	 * <p>The direct buffers are freed by this call through their cleaner, thus the memory is
+	 * returned to the system before this method return. On a Java runtime which does not expose
+	 * the cleaner of a direct buffer, the memory is returned when the garbage collector collect the
+	 * released buffers.
+	 * <p>The given DirectVector should not be used after this method return, any further access
+	 * to its elements will throw a NullPointer Exception. This method should not be called while
+	 * an other thread is accessing the elements of the given DirectVector. Calling this method on
+	 * a released DirectVector has no effect.
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void release() {
+		ByteBuffer[] buffers = this.i4;
+
+		this.i2 = null;
+		this.i4 = null;
+
+		if (buffers != null) {
+			for (int s = 0; s < buffers.length; s++)
+				f1(buffers[s]);
+		}
+	}
+
+	/**
+	 * This method will return 'true' if the given DirectVector has been released, else will
+	 * return 'false'.
+	 * @return boolean
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public boolean isReleased() {
+		return this.i2 == null;
+	}
+
+	private void f0(long index, int count) {
+		if (i2 == null)
+			throw new NullPointerException();
+
+		if (index < 0 || index + count > i3)
+			throw new ArrayIndexOutOfBoundsException();
+	}
+
+	// Free the direct buffer 'buffer' through its cleaner, if the cleaner is accessible.
+	private static void f1(ByteBuffer buffer) {
+		try {
+			if (i5 != null)
+				i5.invoke(i6, buffer);
+			else {
+				Method cleaner = buffer.getClass().getMethod("cleaner");
+				cleaner.setAccessible(true);
+				Object c = cleaner.invoke(buffer);
+
+				if (c != null)
+					c.getClass().getMethod("clean").invoke(c);
+			}
+		} catch (Exception e) {
+			// The buffer is freed when collected.
+		}
+	}
+}
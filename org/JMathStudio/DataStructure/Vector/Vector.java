@@ -1,20 +1,20 @@
 package org.JMathStudio.DataStructure.Vector;
 
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.DataStructure.Generic.Index1D;
 import org.JMathStudio.DataStructure.Generic.Index1DList;
+import org.JMathStudio.DataStructure.Generic.PackedIndex1DList;
 import org.JMathStudio.DataStructure.Iterator.Iterator1D.Iterator1DBound;
 import org.JMathStudio.DataStructure.Iterator.Iterator1D.VectorIterator;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.DimensionMismatchException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Interface.FileInterface.BinaryFileInterface;
 import org.JMathStudio.VisualToolkit.Graph.VectorGraph;
 
 /**
@@ -178,6 +178,26 @@ public final class Vector implements Serializable
 		}
 	}
 	
+	/**
+	 * This method will replace all the elements of the Vector located at the index positions as
+	 * specified by {@link PackedIndex1DList} 'indexes' with element specified by argument 'element'.
+	 * <p>If any of the index position within the PackedIndex1DList is outside the valid index
+	 * bounds of the Vector, an ArrayIndexOutOfBound Exception will be thrown.
+	 *
+	 * @param float element
+	 * @param PackedIndex1DList indexes
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void setAllElements(float element,PackedIndex1DList indexes)
+	{
+		int[] buffer = indexes.accessIndexBuffer();
+		
+		for(int i=0;i<indexes.size();i++)
+		{
+			this.i0[buffer[i]] = element;
+		}
+	}
+	
 	/**
 	 * This method will replace all the elements of the Vector equal to the argument 'element' with 
 	 * element specified by the argument 'replace'.
@@ -301,6 +321,7 @@ public final class Vector implements Serializable
 	 * argument 'dirPath'.
 	 * <p>The argument 'filename' should not contain '.' charactor and any extension.
 	 * Further an extension '.vector' will be added to the saved state file by this method.
+	 * <p>The state is saved in the raw binary format of the {@link BinaryFileInterface}.
 	 * <p>The current state of this {@link Vector} object stored in the external
 	 * file can be loaded into the framework at later stage using the {@link #retrieveState(String)}
 	 * method.
@@ -317,13 +338,7 @@ public final class Vector implements Serializable
 	{
 		String filePath = dirPath+filename+".vector";
 
-		FileOutputStream fs = new FileOutputStream(filePath);
-		ObjectOutputStream os = new ObjectOutputStream(fs);
-
-		os.writeObject(this);
-		os.close();
-		fs.close();
-
+		BinaryFileInterface.writeVector(filePath, this);
 	}
 
 	/**
@@ -350,6 +365,11 @@ public final class Vector implements Serializable
 		if(!format.equalsIgnoreCase("vector"))
 			throw new IllegalArgumentException();
 
+		//Files saved in the binary format are read directly, else in the legacy
+		//serialised format.
+		if(BinaryFileInterface.isBinaryFile(filePath))
+			return BinaryFileInterface.readVector(filePath);
+
 		FileInputStream fs = new FileInputStream(filePath);
 		ObjectInputStream os = new ObjectInputStream(fs);
 
@@ -567,4 +587,33 @@ public final class Vector implements Serializable
 		
 		return new Vector(res);
 	}
+	
+	/**
+	 * This method will get all the elements of the Vector located at the index positions as
+	 * specified by {@link PackedIndex1DList} 'indexes' and return the same as {@link Vector}.
+	 * <p>Thus each element in return Vector shall be the element present in this Vector at the
+	 * corresponding index location of the PackedIndex1DList 'indexes'.
+	 * <p>If any of the index position within the PackedIndex1DList is outside the valid index
+	 * bounds of this Vector, an ArrayIndexOutOfBound Exception will be thrown.
+	 * <p>If size of {@link PackedIndex1DList} 'indexes' is zero than this method will return null.
+	 * 
+	 * @param PackedIndex1DList indexes
+	 * @return Vector
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Vector getAllElements(PackedIndex1DList indexes)
+	{
+		if(indexes.size() <= 0)
+			return null;
+		
+		int[] buffer = indexes.accessIndexBuffer();
+		float res[] = new float[indexes.size()];
+		
+		for(int i=0;i<res.length;i++)
+		{
+			res[i] = this.i0[buffer[i]];
+		}
+		
+		return new Vector(res);
+	}
 }
@@ -2,6 +2,7 @@ package org.JMathStudio.DataStructure.Vector;
 
 import org.JMathStudio.DataStructure.Generic.Index1D;
 import org.JMathStudio.DataStructure.Generic.Index1DList;
+import org.JMathStudio.DataStructure.Generic.PackedIndex1DList;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
 import org.JMathStudio.MathToolkit.StatisticalTools.VectorStatistics.VectorStatistics;
@@ -10,6 +11,8 @@ import org.JMathStudio.MathToolkit.StatisticalTools.VectorStatistics.VectorStati
  * This class define some of the useful operations for finding the elements within a {@link Vector} with specific
  * traits or values.
  * <p>The location of all the matching elements within the Vector shall be return as an {@link Index1DList}.
+ * <p>Each operation is also available in a packed form which return the locations as a {@link PackedIndex1DList},
+ * without creating an {@link Index1D} object for each matching element.
  * <pre>Usage:
  * Vector vector = SignalGenerator.squarePulses(0.1f, 127);//Input Vector of interest.
  *		
@@ -32,6 +35,20 @@ public final class VectorProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public Index1DList findAllMaxElementIndexes(Vector vector)
+	{
+		return findAllMaxElementPackedIndexes(vector).toIndex1DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Vector} 'vector' which has global maximum value
+	 * within the Vector and return the indexes as a {@link PackedIndex1DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Vector 'vector' having the global maximum value within the Vector.
+	 * @param Vector vector
+	 * @return PackedIndex1DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex1DList findAllMaxElementPackedIndexes(Vector vector)
 	{
 		try{
 			float max = new VectorStatistics().maximum(vector);
@@ -39,12 +56,12 @@ public final class VectorProbe {
 			final int L = vector.length();
 
 			float[] buffer = vector.accessVectorBuffer();
-			Index1DList list = new Index1DList();
+			PackedIndex1DList list = new PackedIndex1DList();
 
 			for(int i=0;i<L;i++)
 			{
 				if(buffer[i] == max){
-					list.add(new Index1D(i));
+					list.add(i);
 				}
 			}
 
@@ -64,6 +81,20 @@ public final class VectorProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public Index1DList findAllMinElementIndexes(Vector vector)
+	{
+		return findAllMinElementPackedIndexes(vector).toIndex1DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Vector} 'vector' which has global minimum value
+	 * within the Vector and return the indexes as a {@link PackedIndex1DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Vector 'vector' having the global minimum value within the Vector.
+	 * @param Vector vector
+	 * @return PackedIndex1DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex1DList findAllMinElementPackedIndexes(Vector vector)
 	{
 		try{
 			float min = new VectorStatistics().minimum(vector);
@@ -71,12 +102,12 @@ public final class VectorProbe {
 			final int L = vector.length();
 
 			float[] buffer = vector.accessVectorBuffer();
-			Index1DList list = new Index1DList();
+			PackedIndex1DList list = new PackedIndex1DList();
 
 			for(int i=0;i<L;i++)
 			{
 				if(buffer[i] == min){
-					list.add(new Index1D(i));
+					list.add(i);
 				}
 			}
 
@@ -97,18 +128,33 @@ public final class VectorProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public Index1DList findAllElementIndexes(Vector vector,float element)
+	{
+		return findAllElementPackedIndexes(vector, element).toIndex1DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Vector} 'vector' which has value equal to 
+	 * the argument 'element' and return the indexes as a {@link PackedIndex1DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Vector 'vector' having value equal to the argument 'element'.
+	 * @param Vector vector
+	 * @param float element
+	 * @return PackedIndex1DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PackedIndex1DList findAllElementPackedIndexes(Vector vector,float element)
 	{
 		try{
 			
 			final int L = vector.length();
 
 			float[] buffer = vector.accessVectorBuffer();
-			Index1DList list = new Index1DList();
+			PackedIndex1DList list = new PackedIndex1DList();
 
 			for(int i=0;i<L;i++)
 			{
 				if(buffer[i] == element){
-					list.add(new Index1D(i));
+					list.add(i);
 				}
 			}
 
@@ -134,6 +180,26 @@ public final class VectorProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
 	 */
 	public Index1DList findAllElementIndexesInRange(Vector vector,float min,float max) throws IllegalArgumentException
+	{
+		return findAllElementPackedIndexesInRange(vector, min, max).toIndex1DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Vector} 'vector' which has value 
+	 * more than or equal to argument 'min' but less than or equal to argument 'max' respectively and return 
+	 * the indexes as a {@link PackedIndex1DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Vector 'vector' having value in the range of [min max].
+	 * <p>If argument 'min' is more than argument 'max' this method will throw an {@link IllegalArgumentException}.
+	 * 
+	 * @param Vector vector
+	 * @param float min
+	 * @param float max
+	 * @return PackedIndex1DList
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
+	 */
+	public PackedIndex1DList findAllElementPackedIndexesInRange(Vector vector,float min,float max) throws IllegalArgumentException
 	{
 		if(min > max)
 			throw new IllegalArgumentException();
@@ -143,13 +209,13 @@ public final class VectorProbe {
 			final int L = vector.length();
 
 			float[] buffer = vector.accessVectorBuffer();
-			Index1DList list = new Index1DList();
+			PackedIndex1DList list = new PackedIndex1DList();
 
 			for(int i=0;i<L;i++)
 			{
 				float check = buffer[i];
 				if(check >= min && check <= max){
-					list.add(new Index1D(i));
+					list.add(i);
 				}
 			}
 
@@ -171,19 +237,35 @@ public final class VectorProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
 	 */
 	public Index1DList findAllLargerElementIndexes(Vector vector,float threshold) 
+	{
+		return findAllLargerElementPackedIndexes(vector, threshold).toIndex1DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Vector} 'vector' which has value 
+	 * greater than or equal to argument 'threshold' and return the indexes as a {@link PackedIndex1DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Vector 'vector' having value greater than or equal to 'threshold'.
+	 * 
+	 * @param Vector vector
+	 * @param float threshold
+	 * @return PackedIndex1DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
+	 */
+	public PackedIndex1DList findAllLargerElementPackedIndexes(Vector vector,float threshold) 
 	{
 		try{
 					
 			final int L = vector.length();
 
 			float[] buffer = vector.accessVectorBuffer();
-			Index1DList list = new Index1DList();
+			PackedIndex1DList list = new PackedIndex1DList();
 
 			for(int i=0;i<L;i++)
 			{
 				float check = buffer[i];
 				if(check >= threshold){
-					list.add(new Index1D(i));
+					list.add(i);
 				}
 			}
 
@@ -205,19 +287,35 @@ public final class VectorProbe {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
 	 */
 	public Index1DList findAllSmallerElementIndexes(Vector vector,float threshold) 
+	{
+		return findAllSmallerElementPackedIndexes(vector, threshold).toIndex1DList();
+	}
+	
+	/**
+	 * This method will find index location for all the elements of {@link Vector} 'vector' which has value 
+	 * less than or equal to argument 'threshold' and return the indexes as a {@link PackedIndex1DList}.
+	 * <p>Thus all the indexes within the return list specify location of all those elements 
+	 * within the Vector 'vector' having value less than or equal to 'threshold'.
+	 * 
+	 * @param Vector vector
+	 * @param float threshold
+	 * @return PackedIndex1DList
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
+	 */
+	public PackedIndex1DList findAllSmallerElementPackedIndexes(Vector vector,float threshold) 
 	{
 		try{
 					
 			final int L = vector.length();
 
 			float[] buffer = vector.accessVectorBuffer();
-			Index1DList list = new Index1DList();
+			PackedIndex1DList list = new PackedIndex1DList();
 
 			for(int i=0;i<L;i++)
 			{
 				float check = buffer[i];
 				if(check <= threshold){
-					list.add(new Index1D(i));
+					list.add(i);
 				}
 			}
 
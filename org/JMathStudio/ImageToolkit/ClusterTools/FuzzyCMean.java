@@ -2,6 +2,10 @@ package org.JMathStudio.ImageToolkit.ClusterTools;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.DataStructure.Vector.Vector;
+import org.JMathStudio.MathToolkit.StatisticalTools.Histogram;
+import org.JMathStudio.PixelImageToolkit.UIntPixelImage.AbstractUIntPixelImage;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define a Fuzzy C Mean algorithm for clustering a discrete real
@@ -32,6 +36,12 @@ import org.JMathStudio.DataStructure.Vector.Vector;
  * int iteration = 4;//Select number of iterations.
  * Cell result = fuzzy.clusterAsIntensity(img, centroids, iteration);//Classify input image
  * pixels into one of the class, here assign class centroids as label to the pixel.
+ * 
+ * AbstractUIntPixelImage uimg = UInt16PixelImage.importImage("path");//Import input image as
+ * UIntPixelImage type.
+ * 
+ * Cell labels = fuzzy.clusterAsClass(uimg, centroids, 100, 0.01f);//Cluster on the histogram
+ * of the input image till the centroids move less than the tolerance.
  * </pre> 
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  */
@@ -109,6 +119,158 @@ public final class FuzzyCMean {
 		return f2(image, false);
 	}
 
+	/**
+	 * This method define the Fuzzy C Mean clustering operation for clustering
+	 * the pixel intensities of an UInt PixelImage as represented by an
+	 * {@link AbstractUIntPixelImage} 'image' and return the clustered image as a
+	 * {@link Cell}.
+	 * <p>
+	 * As the memberships of a pixel depend only upon its intensity, the clustering
+	 * is carried out on the histogram of the image. Thus each iteration cost is
+	 * proportional to the number of intensity levels times the number of classes
+	 * and does not depend upon the size of the image.
+	 * <p>
+	 * The 1d float array 'centroids' specify initial set of seed/centroid points.
+	 * The number of seed points in the array 'centroids' also specify the number
+	 * of class partition for clustering.
+	 * <p>
+	 * The clustering stop after the number of iterations as given by the argument
+	 * 'N' or as soon as no centroid move by more than the argument 'tolerance' in
+	 * an iteration. The argument 'N' should not be less than 1 and the argument
+	 * 'tolerance' should not be less than 0 else this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>
+	 * The result of clustering is return as a Cell such that,<b><i> each pixel
+	 * position has an integer value representing the class to which that pixel
+	 * belongs</i></b>, being the class with the highest membership for the final
+	 * centroids.
+	 * 
+	 * @param AbstractUIntPixelImage
+	 *            image
+	 * @param float[] centroids
+	 * @param int N
+	 * @param float tolerance
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell clusterAsClass(AbstractUIntPixelImage image, float[] centroids,
+			int N, float tolerance) throws IllegalArgumentException {
+		int[] lut = f3(image, centroids, N, tolerance);
+
+		float[] values = new float[lut.length];
+		for (int v = 0; v < lut.length; v++)
+			values[v] = lut[v];
+
+		return f4(image, values);
+	}
+
+	/**
+	 * This method define the Fuzzy C Mean clustering operation for clustering
+	 * the pixel intensities of an UInt PixelImage as represented by an
+	 * {@link AbstractUIntPixelImage} 'image' and return the clustered image as a
+	 * {@link Cell}.
+	 * <p>
+	 * The clustering is carried out on the histogram of the image as described in
+	 * {@link #clusterAsClass(AbstractUIntPixelImage, float[], int, float)}.
+	 * <p>
+	 * The argument 'N' should not be less than 1 and the argument 'tolerance'
+	 * should not be less than 0 else this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>
+	 * The result of clustering is return as a Cell such that, <b><i>each pixel
+	 * position has the centroid value of the class to which that pixel belongs
+	 * </i></b>, being the class with the highest membership for the final
+	 * centroids.
+	 * 
+	 * @param AbstractUIntPixelImage
+	 *            image
+	 * @param float[] centroids
+	 * @param int N
+	 * @param float tolerance
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell clusterAsIntensity(AbstractUIntPixelImage image,
+			float[] centroids, int N, float tolerance)
+			throws IllegalArgumentException {
+		int[] lut = f3(image, centroids, N, tolerance);
+
+		float[] values = new float[lut.length];
+		for (int v = 0; v < lut.length; v++)
+			values[v] = C[lut[v]];
+
+		return f4(image, values);
+	}
+
+	/**
+	 * This method define the Fuzzy C Mean clustering operation for clustering
+	 * the pixel intensities of a discrete real image as represented by a
+	 * {@link Cell} 'image' and return the clustered image as a Cell.
+	 * <p>
+	 * Unlike {@link #clusterAsClass(Cell, float[], int)}, the memberships are not
+	 * stored but evaluated as required, and each iteration visit the pixels
+	 * concurrently over the strips of rows of the image, with each strip
+	 * accumulating its own partial sums which are combined at the end of the
+	 * iteration.
+	 * <p>
+	 * The clustering stop after the number of iterations as given by the argument
+	 * 'N' or as soon as no centroid move by more than the argument 'tolerance' in
+	 * an iteration. The argument 'N' should not be less than 1 and the argument
+	 * 'tolerance' should not be less than 0 else this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>
+	 * The result of clustering is return as a Cell such that,<b><i> each pixel
+	 * position has an integer value representing the class to which that pixel
+	 * belongs</i></b>, being the class with the highest membership for the final
+	 * centroids.
+	 * 
+	 * @param Cell
+	 *            image
+	 * @param float[] centroids
+	 * @param int N
+	 * @param float tolerance
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell clusterAsClass(Cell image, float[] centroids, int N,
+			float tolerance) throws IllegalArgumentException {
+		return f7(image, centroids, N, tolerance, true);
+	}
+
+	/**
+	 * This method define the Fuzzy C Mean clustering operation for clustering
+	 * the pixel intensities of a discrete real image as represented by a
+	 * {@link Cell} 'image' and return the clustered image as a Cell.
+	 * <p>
+	 * The clustering is carried out concurrently as described in
+	 * {@link #clusterAsClass(Cell, float[], int, float)}.
+	 * <p>
+	 * The argument 'N' should not be less than 1 and the argument 'tolerance'
+	 * should not be less than 0 else this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>
+	 * The result of clustering is return as a Cell such that, <b><i>each pixel
+	 * position has the centroid value of the class to which that pixel belongs
+	 * </i></b>, being the class with the highest membership for the final
+	 * centroids.
+	 * 
+	 * @param Cell
+	 *            image
+	 * @param float[] centroids
+	 * @param int N
+	 * @param float tolerance
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell clusterAsIntensity(Cell image, float[] centroids, int N,
+			float tolerance) throws IllegalArgumentException {
+		return f7(image, centroids, N, tolerance, false);
+	}
+
 	/**
 	 * This method will return a {@link Vector} of class centroids computed for
 	 * the last Fuzzy C Mean clustering operation.
@@ -266,4 +428,203 @@ public final class FuzzyCMean {
 
 	}
 
+	private int[] f3(AbstractUIntPixelImage image, float[] centroids, int N,
+			float tolerance) throws IllegalArgumentException {
+		if (N < 1 || tolerance < 0 || centroids.length < 1)
+			throw new IllegalArgumentException();
+
+		int cL = centroids.length;
+		C = new float[cL];
+		for (int k = 0; k < cL; k++)
+			C[k] = centroids[k];
+		U = null;
+
+		float[] hist = new Histogram().histogram(image).accessVectorBuffer();
+		float[] weight = new float[cL];
+		double[] sum = new double[cL];
+		double[] norm = new double[cL];
+
+		for (int l = 0; l < N; l++) {
+			for (int k = 0; k < cL; k++) {
+				sum[k] = 0;
+				norm[k] = 0;
+			}
+
+			for (int v = 0; v < hist.length; v++) {
+				if (hist[v] == 0)
+					continue;
+
+				f9(v, weight);
+
+				for (int k = 0; k < cL; k++) {
+					double u = weight[k] * (double) hist[v];
+					sum[k] += u * v;
+					norm[k] += u;
+				}
+			}
+
+			if (f10(sum, norm) <= tolerance)
+				break;
+		}
+
+		int[] lut = new int[hist.length];
+		for (int v = 0; v < hist.length; v++) {
+			f9(v, weight);
+			lut[v] = f8(weight);
+		}
+
+		return lut;
+	}
+
+	private Cell f4(final AbstractUIntPixelImage image, final float[] values) {
+		final int height = image.getHeight();
+		final int width = image.getWidth();
+
+		Cell res = new Cell(height, width);
+		final float[][] buffer = res.accessCellBuffer();
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int i = start; i < end; i++) {
+					for (int j = 0; j < width; j++)
+						buffer[i][j] = values[image.getPixel(i, j)];
+				}
+			}
+		});
+
+		return res;
+	}
+
+	private void f9(float pixel, float[] weight) {
+		// Membership of the pixel to each class with the membership function
+		// of the stored weights, normalised to a unit sum.
+		float sum = 0;
+
+		for (int k = 0; k < weight.length; k++) {
+			float D = Math.abs(pixel - C[k]);
+
+			if (D <= 1)
+				weight[k] = 1;
+			else {
+				float power = 1 / D;
+				for (int p = 1; p < sensitivity; p++) {
+					power *= 1 / D;
+				}
+				weight[k] = power;
+			}
+
+			sum += weight[k];
+		}
+
+		for (int k = 0; k < weight.length; k++)
+			weight[k] = weight[k] / sum;
+	}
+
+	private float f10(double[] sum, double[] norm) {
+		// Update the centroids and return the largest centroid movement.
+		float change = 0;
+
+		for (int k = 0; k < C.length; k++) {
+			if (norm[k] != 0) {
+				float update = (float) (sum[k] / norm[k]);
+				change = Math.max(change, Math.abs(update - C[k]));
+				C[k] = update;
+			}
+		}
+
+		return change;
+	}
+
+	private Cell f7(Cell image, float[] centroids, int N, float tolerance,
+			final boolean asClass) throws IllegalArgumentException {
+		if (N < 1 || tolerance < 0 || centroids.length < 1)
+			throw new IllegalArgumentException();
+
+		final int cL = centroids.length;
+		C = new float[cL];
+		for (int k = 0; k < cL; k++)
+			C[k] = centroids[k];
+		U = null;
+
+		final float[][] img = image.accessCellBuffer();
+		final int height = image.getRowCount();
+		final int width = image.getColCount();
+
+		final int chunks = ParallelExecutor.getChunkCount(height, 16);
+		final double[][] sums = new double[chunks][cL];
+		final double[][] norms = new double[chunks][cL];
+
+		double[] sum = new double[cL];
+		double[] norm = new double[cL];
+
+		for (int l = 0; l < N; l++) {
+			ParallelExecutor.execute(height, 16, new ParallelTask() {
+				public void run(int chunk, int start, int end) {
+					double[] s = sums[chunk];
+					double[] n = norms[chunk];
+					float[] weight = new float[cL];
+
+					for (int k = 0; k < cL; k++) {
+						s[k] = 0;
+						n[k] = 0;
+					}
+
+					for (int i = start; i < end; i++) {
+						for (int j = 0; j < width; j++) {
+							float pixel = img[i][j];
+							f9(pixel, weight);
+
+							for (int k = 0; k < cL; k++) {
+								s[k] += weight[k] * pixel;
+								n[k] += weight[k];
+							}
+						}
+					}
+				}
+			});
+
+			for (int k = 0; k < cL; k++) {
+				sum[k] = 0;
+				norm[k] = 0;
+
+				for (int c = 0; c < chunks; c++) {
+					sum[k] += sums[c][k];
+					norm[k] += norms[c][k];
+				}
+			}
+
+			if (f10(sum, norm) <= tolerance)
+				break;
+		}
+
+		Cell res = new Cell(height, width);
+		final float[][] buffer = res.accessCellBuffer();
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				float[] weight = new float[cL];
+
+				for (int i = start; i < end; i++) {
+					for (int j = 0; j < width; j++) {
+						f9(img[i][j], weight);
+						int k = f8(weight);
+						buffer[i][j] = asClass ? k : C[k];
+					}
+				}
+			}
+		});
+
+		return res;
+	}
+
+	private int f8(float[] weight) {
+		// Class with the highest membership, first one on tie.
+		int index = 0;
+		for (int k = 1; k < weight.length; k++) {
+			if (weight[index] < weight[k])
+				index = k;
+		}
+		return index;
+	}
+
 }
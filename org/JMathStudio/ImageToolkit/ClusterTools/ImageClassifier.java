@@ -2,6 +2,8 @@ package org.JMathStudio.ImageToolkit.ClusterTools;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.ImageToolkit.IntensityTools.ImageBinarization;
 import org.JMathStudio.MathToolkit.StatisticalTools.Histogram;
 import org.JMathStudio.PixelImageToolkit.BinaryPixelImage.BinaryPixelImage;
 import org.JMathStudio.PixelImageToolkit.UIntPixelImage.AbstractUIntPixelImage;
@@ -85,6 +87,8 @@ public final class ImageClassifier {
 	 * The result of this image classification operation is return as a {@link BinaryPixelImage} which
 	 * contains 'true' and 'false' for corresponding pixel position in the original image, representing
 	 * either of the two class to which given pixel is assign.
+	 * <p>The threshold separating the two class is estimated with
+	 * {@link ImageBinarization#fisher(org.JMathStudio.DataStructure.Vector.Vector)}.
 	 * @param AbstractUIntPixelImage img
 	 * @return BinaryPixelImage
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
@@ -92,86 +96,15 @@ public final class ImageClassifier {
 	
 	public BinaryPixelImage fisherBinaryClassification(AbstractUIntPixelImage img) {
 		
-		
-		float[] hist = new Histogram().histogram(img).accessVectorBuffer();
-
-		int max = Integer.MIN_VALUE;
-		int min = Integer.MAX_VALUE;
-
-		for (int i = 0; i < img.getHeight(); i++) 
-		{
-			for (int j = 0; j < img.getWidth(); j++) 
-			{
-				int ele = img.getPixel(i, j);
-
-				max = ele > max ? ele : max;
-				min = ele < min ? ele : min;
-			}
-		}
-		
-		float[] cdf3 = new float[hist.length];
-		float[] cdf2 = new float[hist.length];
-		float[] cdf = new float[hist.length];
-				
-		cdf3[min] = hist[min]*min*min;
-		cdf2[min] = hist[min]*min;
-		cdf[min] = hist[min];
-		
-		for(int i= min + 1;i<=max;i++)
-		{
-			cdf3[i] = cdf3[i-1] + hist[i]*i*i;
-			cdf2[i] = cdf2[i-1] + hist[i]*i;
-			cdf[i] = cdf[i-1] + hist[i];
+		try {
+			//Fisher threshold depends only upon the histogram, which may be cached by
+			//the image.
+			int threshold = new ImageBinarization().fisher(new Histogram().histogram(img));
 			
-		}
-		
-		float[] mean1 = new float[hist.length];
-		float[] mean2 = new float[hist.length];
-		float[] std1 = new float[hist.length];
-		float[] std2 = new float[hist.length];
-		
-		float[] fisher = new float[hist.length];
-		
-		int maxIndex = -1;
-		float maxFisher = -Float.MAX_VALUE;
-		
-		for (int i = min; i <= max; i++) 
-		{
-			float upperCDF3 = cdf3[max] - cdf3[i];
-			float upperCDF2 = cdf2[max] - cdf2[i];
-			float upperCDF = cdf[max] - cdf[i];
-			
-			mean1[i] = cdf2[i]/cdf[i];
-			
-			if(i==max)
-				mean2[i]=max;
-			else
-				mean2[i] = (upperCDF2)/(upperCDF);
-			
-			std1[i] = (cdf3[i] - 2*mean1[i]*cdf2[i] + mean1[i]*mean1[i]*cdf[i])/cdf[i];
-
-			if(i==max)
-				std2[i]=min;
-			else
-				std2[i]= (upperCDF3 - 2*mean2[i]*upperCDF2 + mean2[i]*mean2[i]*upperCDF)
-				 / (upperCDF);
-			
-			float deltaMean = (mean1[i]-mean2[i]);
-			
-			fisher[i] = (deltaMean*deltaMean)/(std1[i]+std2[i]);
-			
-			if(fisher[i]>maxFisher)
-			{
-				maxIndex=i;
-				maxFisher=fisher[i];
-			}
-				
-		}
-
-		if(maxIndex <0)
+			return BinaryPixelImage.toBinaryPixelImage(img.toCell(), threshold);
+		} catch (IllegalArgumentException e) {
 			throw new BugEncounterException();
-		else
-			return BinaryPixelImage.toBinaryPixelImage(img.toCell(), maxIndex);
+		}
 
 	}
 	
@@ -2,6 +2,10 @@ package org.JMathStudio.ImageToolkit.ClusterTools;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.MathToolkit.StatisticalTools.Histogram;
+import org.JMathStudio.PixelImageToolkit.UIntPixelImage.AbstractUIntPixelImage;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define a K Mean algorithm for clustering a discrete real image intensities.
@@ -23,6 +27,12 @@ import org.JMathStudio.Exceptions.BugEncounterException;
  * 
  * Cell result = kmean.clusterAsClass(img, seed, iteration);//Classify pixels of input image into
  * one of the class, here assign class index as label to each resultant pixel.
+ * 
+ * AbstractUIntPixelImage uimg = UInt16PixelImage.importImage("path");//Import input image as
+ * UIntPixelImage type.
+ * 
+ * Cell labels = kmean.clusterAsClass(uimg, seed, 100, 0.01f);//Cluster on the histogram of the
+ * input image till the centroids move less than the tolerance.
  * </pre>
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  */
@@ -206,6 +216,326 @@ public final class KMean {
 	}
 
 
+	/**
+	 * This method define the K Mean clustering operation for clustering the pixel
+	 * intensities of an UInt PixelImage as represented by an {@link AbstractUIntPixelImage}
+	 * 'img' and return the clustered image as a {@link Cell}.
+	 * <p>
+	 * As all the pixels with the same intensity always belong to the same class, the
+	 * clustering is carried out on the histogram of the image. Thus each iteration cost is
+	 * proportional to the number of intensity levels times the number of classes and does
+	 * not depend upon the size of the image.
+	 * <p>
+	 * The 1d float array 'seed' specify initial set of seed/centroid points. The number
+	 * of seed points in the array 'seed' also specify the number of class partition for
+	 * clustering. On return, the array 'seed' contains the final centroids.
+	 * <p>
+	 * The clustering stop after the number of iterations as given by the argument 'N' or as soon
+	 * as no centroid move by more than the argument 'tolerance' in an iteration. The argument 'N'
+	 * should not be less than 1 and the argument 'tolerance' should not be less than 0 else
+	 * this method will throw an IllegalArgument Exception.
+	 * <p>
+	 * The result of clustering is return as a Cell such that, <b><i>each pixel position has the
+	 * centroid value of the class to which that pixel belongs</i></b>, each pixel being
+	 * assigned to the nearest final centroid.
+	 * 
+	 * @param AbstractUIntPixelImage
+	 *            img
+	 * @param float[] seed
+	 * @param int N
+	 * @param float tolerance
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell clusterAsIntensity(AbstractUIntPixelImage img, float[] seed, int N,
+			float tolerance) throws IllegalArgumentException
+	{
+		int[] lut = f0(img, seed, N, tolerance);
+
+		float[] values = new float[lut.length];
+		for (int v = 0; v < lut.length; v++)
+			values[v] = seed[lut[v]];
+
+		return f1(img, values);
+	}
+
+	/**
+	 * This method define the K Mean clustering operation for clustering the pixel
+	 * intensities of an UInt PixelImage as represented by an {@link AbstractUIntPixelImage}
+	 * 'img' and return the clustered image as a {@link Cell}.
+	 * <p>
+	 * The clustering is carried out on the histogram of the image as described in
+	 * {@link #clusterAsIntensity(AbstractUIntPixelImage, float[], int, float)}. On return,
+	 * the array 'seed' contains the final centroids.
+	 * <p>
+	 * The argument 'N' should not be less than 1 and the argument 'tolerance' should not be
+	 * less than 0 else this method will throw an IllegalArgument Exception.
+	 * <p>
+	 * The result of clustering is return as a Cell such that,<b><i> each pixel position has an
+	 * integer value representing the class to which that pixel belongs</i></b>, each pixel
+	 * being assigned to the nearest final centroid.
+	 * 
+	 * @param AbstractUIntPixelImage
+	 *            img
+	 * @param float[] seed
+	 * @param int N
+	 * @param float tolerance
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell clusterAsClass(AbstractUIntPixelImage img, float[] seed, int N,
+			float tolerance) throws IllegalArgumentException
+	{
+		int[] lut = f0(img, seed, N, tolerance);
+
+		float[] values = new float[lut.length];
+		for (int v = 0; v < lut.length; v++)
+			values[v] = lut[v];
+
+		return f1(img, values);
+	}
+
+	/**
+	 * This method define the K Mean clustering operation for clustering the pixel
+	 * intensities of a discrete real image as represented by a {@link Cell} 'cell'
+	 * and return the clustered image as a Cell.
+	 * <p>
+	 * Each iteration visit the pixels concurrently over the strips of rows of the image,
+	 * with each strip accumulating its own partial class sums which are combined at the end
+	 * of the iteration.
+	 * <p>
+	 * The 1d float array 'seed' specify initial set of seed/centroid points. The number
+	 * of seed points in the array 'seed' also specify the number of class partition for
+	 * clustering. On return, the array 'seed' contains the final centroids.
+	 * <p>
+	 * The clustering stop after the number of iterations as given by the argument 'N' or as soon
+	 * as no centroid move by more than the argument 'tolerance' in an iteration. The argument 'N'
+	 * should not be less than 1 and the argument 'tolerance' should not be less than 0 else
+	 * this method will throw an IllegalArgument Exception.
+	 * <p>
+	 * The result of clustering is return as a Cell such that, <b><i>each pixel position has the
+	 * centroid value of the class to which that pixel belongs</i></b>, each pixel being
+	 * assigned to the nearest final centroid.
+	 * 
+	 * @param Cell
+	 *            cell
+	 * @param float[] seed
+	 * @param int N
+	 * @param float tolerance
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell clusterAsIntensity(Cell cell, float[] seed, int N, float tolerance)
+			throws IllegalArgumentException
+	{
+		return f2(cell, seed, N, tolerance, false);
+	}
+
+	/**
+	 * This method define the K Mean clustering operation for clustering the pixel
+	 * intensities of a discrete real image as represented by a {@link Cell} 'cell'
+	 * and return the clustered image as a Cell.
+	 * <p>
+	 * The clustering is carried out concurrently as described in
+	 * {@link #clusterAsIntensity(Cell, float[], int, float)}. On return, the array 'seed'
+	 * contains the final centroids.
+	 * <p>
+	 * The argument 'N' should not be less than 1 and the argument 'tolerance' should not be
+	 * less than 0 else this method will throw an IllegalArgument Exception.
+	 * <p>
+	 * The result of clustering is return as a Cell such that,<b><i> each pixel position has an
+	 * integer value representing the class to which that pixel belongs</i></b>, each pixel
+	 * being assigned to the nearest final centroid.
+	 * 
+	 * @param Cell
+	 *            cell
+	 * @param float[] seed
+	 * @param int N
+	 * @param float tolerance
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell clusterAsClass(Cell cell, float[] seed, int N, float tolerance)
+			throws IllegalArgumentException
+	{
+		return f2(cell, seed, N, tolerance, true);
+	}
+
+	private int[] f0(AbstractUIntPixelImage img, float[] seed, int N, float tolerance)
+	{
+		if (N < 1 || tolerance < 0 || seed.length < 1)
+			throw new IllegalArgumentException();
+
+		float[] hist = new Histogram().histogram(img).accessVectorBuffer();
+		int[] lut = new int[hist.length];
+		float[] distance = new float[seed.length];
+
+		double[] sum = new double[seed.length];
+		double[] count = new double[seed.length];
+
+		for (int l = 0; l < N; l++)
+		{
+			for (int s = 0; s < seed.length; s++)
+			{
+				sum[s] = 0;
+				count[s] = 0;
+			}
+
+			for (int v = 0; v < hist.length; v++)
+			{
+				if (hist[v] == 0)
+					continue;
+
+				for (int k = 0; k < distance.length; k++)
+					distance[k] = Math.abs(v - seed[k]);
+
+				int index = f3(distance);
+				sum[index] += (double) v * hist[v];
+				count[index] += hist[v];
+			}
+
+			if (f4(seed, sum, count) <= tolerance)
+				break;
+		}
+
+		// Assign each intensity level to the nearest final centroid.
+		for (int v = 0; v < hist.length; v++)
+		{
+			for (int k = 0; k < distance.length; k++)
+				distance[k] = Math.abs(v - seed[k]);
+
+			lut[v] = f3(distance);
+		}
+
+		return lut;
+	}
+
+	private Cell f1(final AbstractUIntPixelImage img, final float[] values)
+	{
+		final int height = img.getHeight();
+		final int width = img.getWidth();
+
+		Cell result = new Cell(height, width);
+		final float[][] res = result.accessCellBuffer();
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int i = start; i < end; i++) {
+					for (int j = 0; j < width; j++)
+						res[i][j] = values[img.getPixel(i, j)];
+				}
+			}
+		});
+
+		return result;
+	}
+
+	private Cell f2(Cell cell, final float[] seed, int N, float tolerance,
+			final boolean asClass)
+	{
+		if (N < 1 || tolerance < 0 || seed.length < 1)
+			throw new IllegalArgumentException();
+
+		final float[][] img = cell.accessCellBuffer();
+		final int height = cell.getRowCount();
+		final int width = cell.getColCount();
+		final int k = seed.length;
+
+		final int chunks = ParallelExecutor.getChunkCount(height, 16);
+		final double[][] sums = new double[chunks][k];
+		final double[][] counts = new double[chunks][k];
+
+		double[] sum = new double[k];
+		double[] count = new double[k];
+
+		for (int l = 0; l < N; l++)
+		{
+			ParallelExecutor.execute(height, 16, new ParallelTask() {
+				public void run(int chunk, int start, int end) {
+					double[] s = sums[chunk];
+					double[] c = counts[chunk];
+					float[] distance = new float[k];
+
+					for (int q = 0; q < k; q++) {
+						s[q] = 0;
+						c[q] = 0;
+					}
+
+					for (int i = start; i < end; i++) {
+						for (int j = 0; j < width; j++) {
+							float pixel = img[i][j];
+
+							for (int q = 0; q < k; q++)
+								distance[q] = Math.abs(pixel - seed[q]);
+
+							int index = f3(distance);
+							s[index] += pixel;
+							c[index]++;
+						}
+					}
+				}
+			});
+
+			for (int q = 0; q < k; q++)
+			{
+				sum[q] = 0;
+				count[q] = 0;
+
+				for (int c = 0; c < chunks; c++)
+				{
+					sum[q] += sums[c][q];
+					count[q] += counts[c][q];
+				}
+			}
+
+			if (f4(seed, sum, count) <= tolerance)
+				break;
+		}
+
+		Cell cluster = new Cell(height, width);
+		final float[][] res = cluster.accessCellBuffer();
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				float[] distance = new float[k];
+
+				for (int i = start; i < end; i++) {
+					for (int j = 0; j < width; j++) {
+						for (int q = 0; q < k; q++)
+							distance[q] = Math.abs(img[i][j] - seed[q]);
+
+						int index = f3(distance);
+						res[i][j] = asClass ? index : seed[index];
+					}
+				}
+			}
+		});
+
+		return cluster;
+	}
+
+	private float f4(float[] seed, double[] sum, double[] count)
+	{
+		// Update the centroids and return the largest centroid movement.
+		float change = 0;
+
+		for (int s = 0; s < seed.length; s++)
+		{
+			if (count[s] != 0)
+			{
+				float update = (float) (sum[s] / count[s]);
+				change = Math.max(change, Math.abs(update - seed[s]));
+				seed[s] = update;
+			}
+		}
+
+		return change;
+	}
+
 	private int f3(float[] array)
 	{
 		float min = Float.MAX_VALUE;
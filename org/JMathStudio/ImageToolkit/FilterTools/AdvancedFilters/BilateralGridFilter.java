@@ -0,0 +1,327 @@
+package org.JMathStudio.ImageToolkit.FilterTools.AdvancedFilters;
+
+import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Exceptions.IllegalCellFormatException;
+import org.JMathStudio.PixelImageToolkit.UIntPixelImage.AbstractUIntPixelImage;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
+
+/**
+ * This class define a fast approximation of the Bilateral filter based on the bilateral grid.
+ * <p>A bilateral filter replace each pixel by the weighted average of its neighbourhood
+ * pixels, where the weight depends both upon the spatial distance (closeness function) and the
+ * intensity difference (similarity function) from the centre pixel. See {@link BilateralFilter}.
+ * <p>The bilateral grid is a down sampled 3D representation of the image with two spatial
+ * axis and one intensity axis. The grid spacing along the spatial axis is equal to the standard
+ * deviation of the closeness function and along the intensity axis is equal to the standard
+ * deviation of the similarity function. The algorithm is as follows,
+ * <p><i>Each pixel accumulate its intensity and a unit weight in to the nearest grid cell.
+ * <p>The grid is smoothed with a separable gaussian kernel along all its three axis.
+ * <p>The filtered pixel is obtained by the tri-linear interpolation of the smoothed grid at
+ * the pixel position and intensity, normalised by the interpolated weight.</i>
+ * <p>As the grid is smoothed at the grid resolution, the cost of this filter does not depend
+ * upon the standard deviation of the closeness function; larger closeness function in fact
+ * leads to a smaller grid. The memory required by the grid is proportional to the number of
+ * pixels divided by the square of the closeness deviation times the intensity range divided
+ * by the similarity deviation.
+ * <p>The splat, smoothing and slice steps are computed concurrently over the slices of the grid.
+ * This filter does not maintain any state other than its parameters, thus a single instance can be
+ * shared across threads.
+ * <pre>Usage:
+ * AbstractUIntPixelImage img = UInt16PixelImage.importImage("path");//Import input image
+ * as UIntPixelImage type.
+ *
+ * float sigmaC = 16;//Parameters of required Bilateral filter.
+ * float sigmaS = 400;
+ *
+ * BilateralGridFilter bf = new BilateralGridFilter(sigmaC,sigmaS);//Create an instance of
+ * BilateralGridFilter with given parameters.
+ *
+ * AbstractUIntPixelImage result = bf.filter(img);//Apply approximate Bilateral filtering on the
+ * input image.
+ *
+ * Cell res = bf.filter(img.toCell());//Apply approximate Bilateral filtering on the Cell.
+ * </pre>
+ * @see BilateralFilter
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class BilateralGridFilter {
+
+	private final float sigmaC;
+	private final float sigmaS;
+
+	// Padding of the grid along each axis, equal to the radius of the
+	// smoothing kernel.
+	private final static int i2 = 2;
+
+	/**
+	 * This will create an approximate bilateral filter with a gaussian closeness and similarity
+	 * function.
+	 * <p>The argument 'sigmaC' specify the standard deviation of the closeness function in
+	 * pixels. The argument 'sigmaS' specify the standard deviation of the similarity function in
+	 * the unit of intensity.
+	 * <p>The arguments 'sigmaC' and 'sigmaS' should be more than '0' else this method will throw
+	 * an IllegalArgument Exception. A value of 'sigmaC' less than '1' would be taken as '1'.
+	 *
+	 * @param float sigmaC
+	 * @param float sigmaS
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public BilateralGridFilter(float sigmaC, float sigmaS)
+			throws IllegalArgumentException {
+		if (sigmaC <= 0 || sigmaS <= 0)
+			throw new IllegalArgumentException();
+
+		this.sigmaC = Math.max(1, sigmaC);
+		this.sigmaS = sigmaS;
+	}
+
+	/**
+	 * This method will apply the given approximate bilateral filter on the
+	 * {@link AbstractUIntPixelImage} 'img' and return the resultant filtered image as an
+	 * {@link AbstractUIntPixelImage} of the same type.
+	 * <p>The intensity axis of the grid span the range between the minimum and the maximum pixel
+	 * value of the given image. The filtered pixels are clipped to the valid pixel range of the image.
+	 *
+	 * @param AbstractUIntPixelImage img
+	 * @return AbstractUIntPixelImage
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public AbstractUIntPixelImage filter(final AbstractUIntPixelImage img) {
+		final int height = img.getHeight();
+		final int width = img.getWidth();
+		final float[][] data = new float[height][width];
+
+		int min = img.getMaxValidPixel();
+		int max = img.getMinValidPixel();
+
+		for (int i = 0; i < height; i++) {
+			for (int j = 0; j < width; j++) {
+				int pixel = img.getPixel(i, j);
+				data[i][j] = pixel;
+
+				if (pixel < min)
+					min = pixel;
+				if (pixel > max)
+					max = pixel;
+			}
+		}
+
+		final float[][] res = f0(data, min, max);
+		final AbstractUIntPixelImage result = (AbstractUIntPixelImage) img
+				.getEquivalentBlankImage();
+		final int maxPixel = img.getMaxValidPixel();
+
+		try {
+			for (int i = 0; i < height; i++) {
+				for (int j = 0; j < width; j++) {
+					int pixel = Math.round(res[i][j]);
+
+					if (pixel < 0)
+						pixel = 0;
+					else if (pixel > maxPixel)
+						pixel = maxPixel;
+
+					result.setPixel(pixel, i, j);
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+
+		return result;
+	}
+
+	/**
+	 * This method will apply the given approximate bilateral filter on the discrete real image
+	 * as represented by the {@link Cell} 'cell' and return the resultant filtered image as a
+	 * {@link Cell}.
+	 * <p>The intensity axis of the grid span the range between the minimum and the maximum
+	 * element of the given Cell.
+	 *
+	 * @param Cell cell
+	 * @return Cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell filter(Cell cell) {
+		float[][] data = cell.accessCellBuffer();
+
+		float min = data[0][0];
+		float max = data[0][0];
+
+		for (int i = 0; i < data.length; i++) {
+			for (int j = 0; j < data[0].length; j++) {
+				if (data[i][j] < min)
+					min = data[i][j];
+				if (data[i][j] > max)
+					max = data[i][j];
+			}
+		}
+
+		try {
+			return new Cell(f0(data, min, max));
+		} catch (IllegalCellFormatException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will return the standard deviation of the gaussian similarity function
+	 * associated with this bilateral filter.
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float getSimilarityFunctionSigma() {
+		return this.sigmaS;
+	}
+
+	/**
+	 * This method will return the standard deviation of the gaussian closeness function
+	 * associated with this bilateral filter.
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float getClosenessFunctionSigma() {
+		return this.sigmaC;
+	}
+
+	private float[][] f0(final float[][] data, final float min, float max) {
+		final int height = data.length;
+		final int width = data[0].length;
+
+		final float ss = this.sigmaC;
+		final float sr = this.sigmaS;
+
+		// Grid dimensions along y, x and intensity axis with padding on both
+		// the sides.
+		final int gh = (int) ((height - 1) / ss + 0.5f) + 1 + 2 * i2;
+		final int gw = (int) ((width - 1) / ss + 0.5f) + 1 + 2 * i2;
+		final int gd = (int) ((max - min) / sr + 0.5f) + 1 + 2 * i2;
+
+		final int plane = gw * gd;
+		final float[] wv1 = new float[gh * plane];
+		final float[] w1 = new float[gh * plane];
+		final float[] wv2 = new float[gh * plane];
+		final float[] w2 = new float[gh * plane];
+
+		// Splat: each chunk own a set of grid rows and thus a disjoint set of
+		// image rows.
+		ParallelExecutor.execute(gh, 1, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int i = 0; i < height; i++) {
+					int gy = (int) (i / ss + 0.5f) + i2;
+
+					if (gy < start || gy >= end)
+						continue;
+
+					float[] row = data[i];
+
+					for (int j = 0; j < width; j++) {
+						int gx = (int) (j / ss + 0.5f) + i2;
+						int gz = (int) ((row[j] - min) / sr + 0.5f) + i2;
+						int index = gy * plane + gx * gd + gz;
+
+						wv1[index] += row[j];
+						w1[index] += 1;
+					}
+				}
+			}
+		});
+
+		// Separable [1 4 6 4 1]/16 smoothing along intensity, x and y axis.
+		f1(wv1, w1, wv2, w2, gh, plane, 1, gd);
+		f1(wv2, w2, wv1, w1, gh, plane, gd, gw);
+		f1(wv1, w1, wv2, w2, gh, plane, plane, gh);
+
+		// Slice: tri-linear interpolation of the smoothed grid.
+		final float[][] result = new float[height][width];
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int i = start; i < end; i++) {
+					float fy = i / ss + i2;
+					int y0 = (int) fy;
+					float dy = fy - y0;
+
+					for (int j = 0; j < width; j++) {
+						float fx = j / ss + i2;
+						int x0 = (int) fx;
+						float dx = fx - x0;
+
+						float fz = (data[i][j] - min) / sr + i2;
+						int z0 = (int) fz;
+						float dz = fz - z0;
+
+						float sv = 0;
+						float sw = 0;
+
+						for (int a = 0; a <= 1; a++) {
+							float wy = a == 0 ? 1 - dy : dy;
+							int iy = (y0 + a) * plane;
+
+							for (int b = 0; b <= 1; b++) {
+								float wyx = wy * (b == 0 ? 1 - dx : dx);
+								int ix = iy + (x0 + b) * gd + z0;
+
+								sv += wyx * ((1 - dz) * wv2[ix] + dz * wv2[ix + 1]);
+								sw += wyx * ((1 - dz) * w2[ix] + dz * w2[ix + 1]);
+							}
+						}
+
+						result[i][j] = sw > 0 ? sv / sw : data[i][j];
+					}
+				}
+			}
+		});
+
+		return result;
+	}
+
+	private void f1(final float[] wvSrc, final float[] wSrc,
+			final float[] wvDst, final float[] wDst, final int gh,
+			final int plane, final int stride, final int length) {
+		// Smooth every line of the grid along the axis with given element stride
+		// and line length. Each chunk process a disjoint set of destination grid
+		// rows.
+		ParallelExecutor.execute(gh, 1, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int gy = start; gy < end; gy++) {
+					int base = gy * plane;
+
+					for (int p = 0; p < plane; p++) {
+						int index = base + p;
+
+						// Position of the element along the smoothing axis.
+						int pos = stride == plane ? gy : (p / stride) % length;
+
+						float sv = 6 * wvSrc[index];
+						float sw = 6 * wSrc[index];
+
+						if (pos >= 1) {
+							sv += 4 * wvSrc[index - stride];
+							sw += 4 * wSrc[index - stride];
+						}
+						if (pos >= 2) {
+							sv += wvSrc[index - 2 * stride];
+							sw += wSrc[index - 2 * stride];
+						}
+						if (pos < length - 1) {
+							sv += 4 * wvSrc[index + stride];
+							sw += 4 * wSrc[index + stride];
+						}
+						if (pos < length - 2) {
+							sv += wvSrc[index + 2 * stride];
+							sw += wSrc[index + 2 * stride];
+						}
+
+						wvDst[index] = sv / 16;
+						wDst[index] = sw / 16;
+					}
+				}
+			}
+		});
+	}
+}
@@ -4,6 +4,8 @@ import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.DataStructure.Structure.Neighbor;
 import org.JMathStudio.DataStructure.Structure.Neighborhood;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define a De-speckle filter to remove speckle noise from an image.
@@ -67,48 +69,90 @@ public final class DeSpeckleFilter {
 	/**
 	 * This method will apply the given De-speckle filter on the discrete real image as represented
 	 * by {@link Cell} 'img' and return the resultant de-speckled image as Cell.
+	 * <p>All the iterations of this filter are applied. See {@link #filter(Cell, float)} for
+	 * stopping the iterations once the filter has converged.
 	 * @param Cell img
 	 * @return Cell
+	 * @see #filter(Cell, float)
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public Cell filter(Cell img){
+		return filter(img, 0);
+	}
+
+	/**
+	 * This method will apply the given De-speckle filter on the discrete real image as represented
+	 * by {@link Cell} 'img' and return the resultant de-speckled image as Cell.
+	 * <p>Each iteration estimate the neighbourhood statistics and limit the pixel intensities in
+	 * a single pass, reading the image of the previous iteration and writing a new image
+	 * alternating between two internal buffers. The rows of the image are partitioned into stripes
+	 * which are processed concurrently.
+	 * <p>The argument 'tolerance' specify the convergence criteria. If the mean absolute change in
+	 * the pixel intensities over an iteration falls below 'tolerance', the iterations are stopped
+	 * and the current image is returned. A 'tolerance' of '0' or less will apply all the
+	 * iterations.
+	 * @param Cell img
+	 * @param float tolerance
+	 * @return Cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell filter(Cell img, float tolerance){
 
-		int rc = img.getRowCount();
-		int cc = img.getColCount();
+		final int rc = img.getRowCount();
+		final int cc = img.getColCount();
 
-		Cell res = img.clone();
-		
-		Cell[] stat;
-		
-		float pixel;
-		float mean;
-		float std;
-		float deviation;
-		float ut,lt;
+		float[] src = new float[rc*cc];
+		float[] dst = new float[rc*cc];
+
+		float[][] buffer = img.accessCellBuffer();
+		for(int i=0;i<rc;i++)
+			System.arraycopy(buffer[i], 0, src, i*cc, cc);
+
+		Neighbor[] kele = nbr.accessAllNeighbors();
+		int kd = kele == null ? 0 : kele.length;
+
+		final int[] dy = new int[kd];
+		final int[] dx = new int[kd];
+
+		for(int k=0;k<kd;k++)
+		{
+			dy[k] = kele[k].getY();
+			dx[k] = kele[k].getX();
+		}
+
+		final int chunks = ParallelExecutor.getChunkCount(rc, 8);
+		final double[] change = new double[chunks];
 
 		for(int k=0;k<iteration;k++)
 		{
-			stat = f4(res, nbr); 
-			
-			for(int i=0;i<rc;i++)
-			{
-				for(int j=0;j<cc;j++)
-				{
-					pixel = res.getElement(i, j);
-					mean = stat[0].getElement(i, j);
-					std = stat[1].getElement(i, j);
-					deviation = cutoff*std;
-					ut = mean + deviation;
-					lt = mean - deviation;
-
-					if(pixel > ut)
-						res.setElement(ut, i, j);
-					else if(pixel < lt)
-						res.setElement(lt, i, j);
+			final float[] in = src;
+			final float[] out = dst;
+
+			ParallelExecutor.execute(rc, 8, new ParallelTask() {
+				public void run(int chunk, int start, int end) {
+					change[chunk] = f0(in, out, rc, cc, start, end, dy, dx);
 				}
+			});
+
+			src = out;
+			dst = in;
+
+			if(tolerance > 0)
+			{
+				double total = 0;
+				for(int c=0;c<chunks;c++)
+					total += change[c];
+
+				if(total/(rc*cc) < tolerance)
+					break;
 			}
 		}
 
+		Cell res = new Cell(rc,cc);
+		buffer = res.accessCellBuffer();
+		for(int i=0;i<rc;i++)
+			System.arraycopy(src, i*cc, buffer[i], 0, cc);
+
 		return res;
 	}
 	
@@ -180,61 +224,68 @@ public final class DeSpeckleFilter {
 		return !(cutoff <0 || cutoff >2);
 	}
 	
-	private Cell[] f4(Cell cell, Neighborhood neighborhood) {
-
-		Cell[] result = new Cell[2];
-		int h = cell.getRowCount();
-		int w = cell.getColCount();
-		
-		result[0] = new Cell(h,w);
-		result[1] = new Cell(h,w);
-
-		Neighbor[] kele = neighborhood.accessAllNeighbors();
-
-		//If Neighborhood is empty i.e all the elements are false do nothing.
-		if(kele == null)
-			return result;
+	private double f0(float[] in, float[] out, int h, int w, int start, int end, int[] dy, int[] dx) {
+		// Limit the pixels of rows [start end) of image 'in' within the
+		// neighbourhood statistics computed from 'in' and write the same to
+		// 'out'. Return the sum of absolute change in pixel intensities.
+		int kd = dy.length;
+		double change = 0;
 
-		//Number of Neighborhood elements in the Neighborhood.
-		int kd = kele.length;
-
-		int Y,X;
-		float mean;
-		for(int i = 0; i < h; i++)
+		for(int i = start; i < end; i++)
 		{
 			for(int j = 0; j < w; j++) 
 			{
-				float[] elements = new float[kd];
+				int Y,X;
 				int index=0;
-				mean=0;
+				float sum=0, sumSq=0;
 
 				for(int k=0;k<kd;k++)
 				{
-					Y = i + kele[k].getY();
-					X = j + kele[k].getX();
+					Y = i + dy[k];
+					X = j + dx[k];
 
 					if(Y >= 0 && Y < h && X >= 0 && X < w) {
-						elements[index++] = cell.getElement(Y, X);
-						mean+=cell.getElement(Y,X);
+						float ele = in[Y*w + X];
+						sum += ele;
+						index++;
 					}
 				}
 
+				float mean = 0, std = 0;
+
 				if(index != 0){
-					mean = mean/index;
-					float std = 0;
-					float tmp;
+					mean = sum/index;
 
-					for (int l = 0; l < index; l++) {
-						tmp = (elements[l] - mean);
-						std += tmp * tmp;
+					for(int k=0;k<kd;k++)
+					{
+						Y = i + dy[k];
+						X = j + dx[k];
+
+						if(Y >= 0 && Y < h && X >= 0 && X < w) {
+							float tmp = in[Y*w + X] - mean;
+							sumSq += tmp*tmp;
+						}
 					}
-					result[0].setElement(mean, i, j);
-					result[1].setElement((float) Math.sqrt(std / index), i, j);
+
+					std = (float) Math.sqrt(sumSq / index);
 				}
+
+				float pixel = in[i*w + j];
+				float deviation = cutoff*std;
+				float ut = mean + deviation;
+				float lt = mean - deviation;
+				float result = pixel;
+
+				if(pixel > ut)
+					result = ut;
+				else if(pixel < lt)
+					result = lt;
+
+				out[i*w + j] = result;
+				change += Math.abs(result - pixel);
 			}
 		}
 
-		return result;
-
+		return change;
 	}
 }
@@ -1,17 +1,21 @@
 package org.JMathStudio.ImageToolkit.FilterTools.AdvancedFilters;
 
+import java.util.Arrays;
+
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.DataStructure.Cell.CellStack;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
-import org.JMathStudio.MathToolkit.MatrixTools.JAMA.EigenvalueDecompositionAdapter;
-import org.JMathStudio.MathToolkit.MatrixTools.JAMA.MatrixAdapter;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define an Eigen of Hessian filter. This filter estimates 2nd order hessian matrix at each pixel
  * position within the image (considered as 2D real function f(y,x)) and computes principal eigen values of 
  * this hessian matrix.
  * <p>This filter is useful in estimating the vessel like or blob like structures within the image.
+ * <p>The eigen values are computed in the closed form and the rows of the image are processed
+ * concurrently.
  * <p>The discrete real image will be represented by {@link Cell} object.
  * <pre>Usage:
  * Cell img = Cell.importImageAsCell("image_path");//Import external image as Cell.
@@ -24,6 +28,10 @@ import org.JMathStudio.MathToolkit.MatrixTools.JAMA.MatrixAdapter;
  * eigen_maps.accessCell(0).showAsUInt8Image("Eigen 0 Map");
  * eigen_maps.accessCell(1).showAsUInt8Image("Eigen 1 Map");//Display computed eigen of hessian
  * maps.
+ * 
+ * float[] sigmas = {1, 2, 4};//Scales for bright vessels of varying width.
+ * Cell vessels = ehf.vesselness(img, sigmas, 0.5f, 15, true);//Compute multi scale Frangi
+ * vesselness of the input image.
  * </pre>
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  */
@@ -81,70 +89,8 @@ public class EigenOfHessianFilter {
 			Cell eigen1 = new Cell(height,width);
 			Cell eigen2 = new Cell(height,width);
 
-			for(int i=0;i<height;i++)
-			{
-				for(int j=0;j<width;j++)
-				{
-					float c = image.getElement(i, j);
-					float n,s,e,w,ne,nw,se,sw;
-
-					int y1 = i - 1;
-					int y2 = i + 1;
-					int x1 = j - 1;
-					int x2 = j + 1;
-
-					if (y1 >= 0){
-						n = image.getElement(y1, j);
-					}
-					else{
-						n = image.getElementWithPadding(y1, j);
-					}
-					if (y2 < height){
-						s = image.getElement(y2, j);
-					}
-					else{
-						s = image.getElementWithPadding(y2, j);
-					}
-					if (x1 >= 0){
-						w = image.getElement(i, x1);
-					}
-					else{
-						w = image.getElementWithPadding(i, x1);
-					}
-					if (x2 < width){
-						e = image.getElement(i, x2);
-					}
-					else{
-						e = image.getElementWithPadding(i, x2);
-					}
+			f4(image.accessCellBuffer(), eigen1.accessCellBuffer(), eigen2.accessCellBuffer(), 1);
 
-					if (y1 >= 0 && x1 >= 0)
-						nw = image.getElement(y1, x1);
-					else
-						nw = image.getElementWithPadding(y1, x1);
-
-					if (y1 >= 0 && x2 < width)
-						ne = image.getElement(y1, x2);
-					else
-						ne = image.getElementWithPadding(y1, x2);
-
-					if (y2 < height && x1 >= 0)
-						sw = image.getElement(y2, x1);
-					else
-						sw = image.getElementWithPadding(y2, x1);
-
-					if (y2 < height && x2 < width)
-						se = image.getElement(y2, x2);
-					else
-						se = image.getElementWithPadding(y2, x2);
-
-					double[][] hessian = f1(nw, n, ne, w, c, e, sw, s, se);
-					float[][] D = f3(hessian).accessCellBuffer();
-					
-					eigen1.setElement(D[0][0], i, j);
-					eigen2.setElement(D[1][1], i, j);
-				}
-			}
 			CellStack eigen = new CellStack(2);
 			eigen.addCell(eigen1);
 			eigen.addCell(eigen2);
@@ -155,6 +101,97 @@ public class EigenOfHessianFilter {
 		}
 	}
 	
+	/**
+	 * This method will compute the multi scale Frangi vesselness of the discrete real image as
+	 * represented by {@link Cell} 'image' and return the vesselness map as a Cell.
+	 * <p>At each scale the image is smoothed with a gaussian of standard deviation as given by the
+	 * corresponding element of the argument 'sigmas' and the scale normalised (by the square of the
+	 * standard deviation) eigen values of the hessian matrix are computed at each pixel position. If
+	 * 'L1' & 'L2' are the eigen values with |L1| <= |L2|, the vesselness at the given scale is,
+	 * <p><i>V = exp(-Rb^2/(2*beta^2))*(1 - exp(-S^2/(2*c^2)))</i>
+	 * <p>where 'Rb = L1/L2' measure the deviation from a blob like structure and
+	 * 'S = sqrt(L1^2 + L2^2)' measure the second order structureness. The vesselness is '0' if 'L2'
+	 * is positive while detecting bright vessels on a dark background, or if 'L2' is negative while
+	 * detecting dark vessels on a bright background, as specified by the argument 'bright'.
+	 * <p>The vesselness at each pixel position is the maximum over all the given scales.
+	 * <p>All the elements of the argument 'sigmas' should be more than 0 and the arguments
+	 * 'beta' & 'c' should be more than 0 else this method will throw an IllegalArgument Exception.
+	 * Typical value for 'beta' is 0.5, while 'c' should be about half of the maximum
+	 * structureness 'S' in the image.
+	 * <p>The smoothing and hessian computation at each scale are carried out concurrently over the
+	 * rows of the image. The hessian is computed with the 'y' & 'x' image spacing of this filter.
+	 * The image border is extended by replicating the border pixels for smoothing.
+	 * @param Cell image
+	 * @param float[] sigmas
+	 * @param float beta
+	 * @param float c
+	 * @param boolean bright
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell vesselness(Cell image, float[] sigmas, float beta, float c, boolean bright)
+			throws IllegalArgumentException {
+		if (sigmas.length < 1 || beta <= 0 || c <= 0)
+			throw new IllegalArgumentException();
+		for (int k = 0; k < sigmas.length; k++) {
+			if (sigmas[k] <= 0)
+				throw new IllegalArgumentException();
+		}
+
+		final int height = image.getRowCount();
+		final int width = image.getColCount();
+
+		final float[][] src = image.accessCellBuffer();
+		final float[][] tmp = new float[height][width];
+		final float[][] smooth = new float[height][width];
+		final float[][] lo = new float[height][width];
+		final float[][] hi = new float[height][width];
+
+		Cell result = new Cell(height, width);
+		final float[][] res = result.accessCellBuffer();
+
+		final float b2 = 2 * beta * beta;
+		final float c2 = 2 * c * c;
+		final boolean isBright = bright;
+
+		for (int k = 0; k < sigmas.length; k++) {
+			float sigma = sigmas[k];
+
+			f5(src, tmp, smooth, sigma);
+			f4(smooth, lo, hi, sigma * sigma);
+
+			ParallelExecutor.execute(height, 16, new ParallelTask() {
+				public void run(int chunk, int start, int end) {
+					for (int i = start; i < end; i++) {
+						for (int j = 0; j < width; j++) {
+							float l1 = lo[i][j];
+							float l2 = hi[i][j];
+
+							if (Math.abs(l1) > Math.abs(l2)) {
+								l1 = hi[i][j];
+								l2 = lo[i][j];
+							}
+
+							if (l2 == 0 || (isBright ? l2 > 0 : l2 < 0))
+								continue;
+
+							float rb = l1 / l2;
+							float ss = l1 * l1 + l2 * l2;
+							float v = (float) (Math.exp(-rb * rb / b2) * (1 - Math
+									.exp(-ss / c2)));
+
+							if (v > res[i][j])
+								res[i][j] = v;
+						}
+					}
+				}
+			});
+		}
+
+		return result;
+	}
+	
 	/**
 	 * This method will reset the horizontal 'x' spacing for computation to value as given by 
 	 * the argument 's'.
@@ -191,28 +228,115 @@ public class EigenOfHessianFilter {
 		}
 	}
 
-	private Cell f3(double[][] matrix){
-		MatrixAdapter adapter = new MatrixAdapter(matrix);
-		EigenvalueDecompositionAdapter eigen = new EigenvalueDecompositionAdapter(adapter);
+	private void f4(final float[][] src, final float[][] lo, final float[][] hi, final float scale){
+		final int height = src.length;
+		final int width = src[0].length;
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int i = start; i < end; i++) {
+					// Periodic extension of the image beyond its border.
+					float[] N = src[(i - 1 + height) % height];
+					float[] C = src[i];
+					float[] S = src[(i + 1) % height];
+					float[] L = lo[i];
+					float[] H = hi[i];
 
-		return eigen.getDAdapter();
+					// Interior columns without any bound checks.
+					for (int j = 1; j < width - 1; j++) {
+						f1(N[j - 1], N[j], N[j + 1], C[j - 1], C[j], C[j + 1],
+								S[j - 1], S[j], S[j + 1], L, H, j, scale);
+					}
+
+					// Border columns.
+					int x1 = (width - 1) % width;
+					int x2 = 1 % width;
+					f1(N[x1], N[0], N[x2], C[x1], C[0], C[x2], S[x1], S[0], S[x2], L, H, 0, scale);
+
+					if (width > 1) {
+						int j = width - 1;
+						x1 = j - 1;
+						x2 = 0;
+						f1(N[x1], N[j], N[x2], C[x1], C[j], C[x2], S[x1], S[j], S[x2], L, H, j, scale);
+					}
+				}
+			}
+		});
 	}
 
-	private double[][] f1(float nw,float n,float ne,float w,float c,float e,float sw,float s,float se){
-		double[][] hessian = new double[2][2];
-		
+	private void f1(float nw,float n,float ne,float w,float c,float e,float sw,float s,float se,
+			float[] lo, float[] hi, int j, float scale){
 		//TBD: Should remove 4 from denominator ?.
 		//Redo numerical partial derivative research.
 		//FXX
-		hessian[0][0] = (e-2*c+w)/i3;
-		//FYX
-		hessian[0][1] = (ne-nw-se+sw)/i8;
-		//FXY
-		hessian[1][0] = hessian[0][1];//d2f/dxdy = d2f/dydx		
+		double fxx = (e-2*c+w)/i3;
+		//FYX = FXY as d2f/dxdy = d2f/dydx
+		double fxy = (ne-nw-se+sw)/i8;
 		//FYY
-		hessian[1][1] = (n-2*c+s)/i0;
+		double fyy = (n-2*c+s)/i0;
+
+		//Closed form eigen values of the symmetric 2x2 hessian matrix in the
+		//ascending order.
+		double m = (fxx + fyy) / 2;
+		double d = (fxx - fyy) / 2;
+		double r = Math.sqrt(d * d + fxy * fxy);
 
-		return hessian;
+		lo[j] = (float) ((m - r) * scale);
+		hi[j] = (float) ((m + r) * scale);
+	}
+
+	private void f5(final float[][] src, final float[][] tmp, final float[][] dst, float sigma){
+		final int height = src.length;
+		final int width = src[0].length;
+
+		// Normalised 1D gaussian extending to 3 sigma.
+		final int r = Math.max(1, (int) Math.ceil(3 * sigma));
+		final float[] g = new float[2 * r + 1];
+		float sum = 0;
+		for (int k = -r; k <= r; k++) {
+			g[k + r] = (float) Math.exp(-k * k / (2.0 * sigma * sigma));
+			sum += g[k + r];
+		}
+		for (int k = 0; k < g.length; k++)
+			g[k] /= sum;
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int i = start; i < end; i++) {
+					float[] row = src[i];
+					float[] out = tmp[i];
+
+					for (int j = 0; j < width; j++) {
+						float v = 0;
+						for (int k = -r; k <= r; k++) {
+							int x = j + k;
+							x = x < 0 ? 0 : (x >= width ? width - 1 : x);
+							v += g[k + r] * row[x];
+						}
+						out[j] = v;
+					}
+				}
+			}
+		});
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int i = start; i < end; i++) {
+					float[] out = dst[i];
+					Arrays.fill(out, 0);
+
+					for (int k = -r; k <= r; k++) {
+						int y = i + k;
+						y = y < 0 ? 0 : (y >= height ? height - 1 : y);
+						float[] row = tmp[y];
+						float gk = g[k + r];
+
+						for (int j = 0; j < width; j++)
+							out[j] += gk * row[j];
+					}
+				}
+			}
+		});
 	}
 
 	private void f0(){
@@ -0,0 +1,328 @@
+package org.JMathStudio.ImageToolkit.FilterTools.AdvancedFilters;
+
+import org.JMathStudio.DataStructure.Cell.CCell;
+import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.DataStructure.Cell.CellStack;
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.ImageToolkit.TransformTools.FourierSet.FFT2D;
+import org.JMathStudio.ImageToolkit.Utilities.KernelFactory;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
+
+/**
+ * This class define a bank of spatial Gabor filters over a set of scales and orientations.
+ * <p>Each scale of the bank is described by the spatial wavelength of the cosine waveform and the
+ * standard deviation of the gaussian waveform, and each such scale is combined with every
+ * orientation of the bank. Thus a bank with 'S' scales and 'O' orientations has 'S*O' Gabor
+ * filters, ordered scale by scale and within a scale orientation by orientation. The Gabor
+ * filter masks are build with {@link KernelFactory#gaborKernel(int, int, int, int, int, float)}.
+ * <p>The bank filter an image in the frequency domain. The image is transformed only once,
+ * multiplied with the cached spectrum of each of the Gabor filter mask and transformed back,
+ * the inverse transforms being computed concurrently. The spectra of the filter masks are cached
+ * for the last image dimension and are reused for successive images of the same dimension.
+ * <p>The response of each Gabor filter is identical to the response of the equivalent
+ * {@link GaborFilter}.
+ * <p>The bank also compute the magnitude of the complex (quadrature) Gabor response, where
+ * the odd part of the filter is obtained by suppressing the half of the filter spectrum
+ * opposite to the orientation of the filter. This is the local energy of the texture at a given
+ * scale and orientation and is the usual input to the texture features.
+ * <pre>Usage:
+ * Cell img = Cell.importImageAsCell("path");//Import input image as Cell.
+ *
+ * int M = 21;//Parameters for Gabor filter bank.
+ * int[] lamadas = {4, 8, 16};
+ * int[] stds = {2, 4, 8};
+ * int[] thetas = {0, 30, 60, 90, 120, 150};
+ * float gamma = 1;
+ *
+ * GaborFilterBank bank = new GaborFilterBank(M,lamadas,stds,thetas,gamma);//Create an instance
+ * of GaborFilterBank with given parameters.
+ *
+ * CellStack responses = bank.filter(img);//Apply all the Gabor filters on the input image.
+ * CellStack energy = bank.filterMagnitude(img);//Compute the magnitude of the complex
+ * Gabor responses.
+ * </pre>
+ * @see GaborFilter
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class GaborFilterBank {
+
+	private int i0;
+	private int[] i1;
+	private int[] i2;
+	private int[] i3;
+	private float i4;
+	private Cell[] i5;
+
+	// Cache of filter mask spectra for the last padded dimension.
+	private int i6 = 0;
+	private int i7 = 0;
+	private CCell[] i8 = null;
+
+	/**
+	 * This will create a bank of Gabor filters based on the parameters as provided.
+	 * <p>The argument 'M' specify the dimension of the square gabor filter masks. The argument
+	 * 'M' should be a positive odd integer greater than 0 else this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>The arguments 'lamadas' and 'stds' together specify the scales of the bank. For each
+	 * scale, 'lamadas' specify the spatial wavelength of the cosine waveform and 'stds' specify the
+	 * standard deviation of the gaussian waveform. Both the arrays should be of the same length
+	 * and all its elements should be more than 0 else this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>The argument 'thetas' specify the orientations of the bank in degrees and all its
+	 * elements should be in the range of [0 180] else this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>The argument 'gamma' specify the spatial aspect ratio or ellipticity for all the gabor
+	 * filter masks. Default value for ellipticity should be '1'.
+	 *
+	 * @param int M
+	 * @param int[] lamadas
+	 * @param int[] stds
+	 * @param int[] thetas
+	 * @param float gamma
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public GaborFilterBank(int M, int[] lamadas, int[] stds, int[] thetas,
+			float gamma) throws IllegalArgumentException {
+		if (M < 1 || M % 2 == 0 || lamadas.length < 1
+				|| lamadas.length != stds.length || thetas.length < 1)
+			throw new IllegalArgumentException();
+
+		this.i0 = M;
+		this.i1 = lamadas.clone();
+		this.i2 = stds.clone();
+		this.i3 = thetas.clone();
+		this.i4 = gamma;
+
+		this.i5 = new Cell[i1.length * i3.length];
+
+		for (int s = 0; s < i1.length; s++) {
+			for (int o = 0; o < i3.length; o++) {
+				// Gabor kernel validate the parameters.
+				i5[s * i3.length + o] = KernelFactory.gaborKernel(M, M, i1[s],
+						i3[o], i2[s], gamma);
+			}
+		}
+	}
+
+	/**
+	 * This method will apply all the Gabor filters of the given bank on the discrete image as
+	 * represented by the {@link Cell} 'image' and return the resultant filtered images as a
+	 * {@link CellStack}.
+	 * <p>The filtered image for the scale 's' and orientation 'o' is located at the index
+	 * position 's*O + o' in the return CellStack, where 'O' is the number of orientations of
+	 * the bank. Each filtered image has the dimension similar to that of the given image.
+	 *
+	 * @param Cell image
+	 * @return CellStack
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public CellStack filter(Cell image) {
+		return new CellStack(f0(image, false));
+	}
+
+	/**
+	 * This method will apply all the complex Gabor filters of the given bank on the discrete
+	 * image as represented by the {@link Cell} 'image' and return the magnitude of the complex
+	 * responses as a {@link CellStack}.
+	 * <p>The real part of a complex Gabor response is the response of the Gabor filter while its
+	 * imaginary part is the response of the odd, quadrature Gabor filter. The magnitude thus gives
+	 * the local energy of the image at the given scale and orientation and is insensitive to the
+	 * phase of the texture.
+	 * <p>The magnitude image for the scale 's' and orientation 'o' is located at the index
+	 * position 's*O + o' in the return CellStack, where 'O' is the number of orientations of
+	 * the bank. Each magnitude image has the dimension similar to that of the given image.
+	 *
+	 * @param Cell image
+	 * @return CellStack
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public CellStack filterMagnitude(Cell image) {
+		return new CellStack(f0(image, true));
+	}
+
+	/**
+	 * This method will return the number of Gabor filters in the given bank. This is equal to
+	 * the number of scales times the number of orientations.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getFilterCount() {
+		return this.i5.length;
+	}
+
+	/**
+	 * This method will return the dimension of the square gabor filter masks.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getMaskDimension() {
+		return this.i0;
+	}
+
+	/**
+	 * This method will return the Gabor filter mask located at the index position as given by
+	 * the argument 'index' as a {@link Cell}.
+	 * <p>The argument 'index' should be in the range of 0 to one less than the number of filters
+	 * in the bank else this method will throw an ArrayIndexOutOfBound Exception.
+	 * @param int index
+	 * @return Cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell accessConvolutionMask(int index) {
+		return this.i5[index];
+	}
+
+	private Cell[] f0(Cell image, final boolean magnitude) {
+		final int h = image.getRowCount();
+		final int w = image.getColCount();
+		final int shift = (i0 - 1) / 2;
+
+		// Padded dimension free of circular wrap around for linear
+		// convolution, with small factors for a fast mixed radix FFT.
+		final int H = f3(h + i0 - 1);
+		final int W = f3(w + i0 - 1);
+
+		final CCell[] spectra = f1(H, W);
+
+		Cell padded = new Cell(H, W);
+		float[][] src = image.accessCellBuffer();
+		float[][] dst = padded.accessCellBuffer();
+		for (int i = 0; i < h; i++)
+			System.arraycopy(src[i], 0, dst[i], 0, w);
+
+		CCell fft = new FFT2D().fft2D(padded);
+		final float[][] fr = fft.accessRealPart().accessCellBuffer();
+		final float[][] fi = fft.accessImaginaryPart().accessCellBuffer();
+
+		final Cell[] result = new Cell[i5.length];
+
+		ParallelExecutor.execute(i5.length, 1, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				FFT2D transform = new FFT2D();
+
+				for (int k = start; k < end; k++) {
+					float[][] kr = spectra[k].accessRealPart().accessCellBuffer();
+					float[][] ki = spectra[k].accessImaginaryPart().accessCellBuffer();
+
+					Cell re = new Cell(H, W);
+					Cell im = new Cell(H, W);
+					float[][] pr = re.accessCellBuffer();
+					float[][] pi = im.accessCellBuffer();
+
+					double angle = Math.PI * i3[k % i3.length] / 180.0;
+					float cy = (float) Math.cos(angle);
+					float cx = (float) Math.sin(angle);
+
+					for (int u = 0; u < H; u++) {
+						float fu = (u <= H / 2 ? u : u - H) / (float) H;
+
+						for (int v = 0; v < W; v++) {
+							float a = fr[u][v] * kr[u][v] - fi[u][v] * ki[u][v];
+							float b = fr[u][v] * ki[u][v] + fi[u][v] * kr[u][v];
+
+							if (magnitude) {
+								// Analytic spectrum along the orientation of the
+								// filter.
+								float fv = (v <= W / 2 ? v : v - W) / (float) W;
+								float side = fu * cy + fv * cx;
+
+								if (side > 0) {
+									a *= 2;
+									b *= 2;
+								} else if (side < 0) {
+									a = 0;
+									b = 0;
+								}
+							}
+
+							pr[u][v] = a;
+							pi[u][v] = b;
+						}
+					}
+
+					Cell out = new Cell(h, w);
+					float[][] o = out.accessCellBuffer();
+
+					try {
+						CCell product = new CCell(re, im);
+
+						if (magnitude) {
+							CCell response = transform.ifft2DComplex(product);
+							float[][] rr = response.accessRealPart().accessCellBuffer();
+							float[][] ri = response.accessImaginaryPart().accessCellBuffer();
+
+							for (int i = 0; i < h; i++) {
+								for (int j = 0; j < w; j++) {
+									float x = rr[i + shift][j + shift];
+									float y = ri[i + shift][j + shift];
+									o[i][j] = (float) Math.sqrt(x * x + y * y);
+								}
+							}
+						} else {
+							float[][] rr = transform.ifft2D(product).accessCellBuffer();
+
+							for (int i = 0; i < h; i++)
+								System.arraycopy(rr[i + shift], shift, o[i], 0, w);
+						}
+					} catch (DimensionMismatchException e) {
+						throw new BugEncounterException();
+					}
+
+					result[k] = out;
+				}
+			}
+		});
+
+		return result;
+	}
+
+	private synchronized CCell[] f1(final int H, final int W) {
+		if (i8 != null && i6 == H && i7 == W)
+			return i8;
+
+		final CCell[] spectra = new CCell[i5.length];
+
+		ParallelExecutor.execute(i5.length, 1, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				FFT2D transform = new FFT2D();
+
+				for (int k = start; k < end; k++) {
+					Cell padded = new Cell(H, W);
+					float[][] src = i5[k].accessCellBuffer();
+					float[][] dst = padded.accessCellBuffer();
+
+					for (int i = 0; i < src.length; i++)
+						System.arraycopy(src[i], 0, dst[i], 0, src[i].length);
+
+					spectra[k] = transform.fft2D(padded);
+				}
+			}
+		});
+
+		i6 = H;
+		i7 = W;
+		i8 = spectra;
+
+		return spectra;
+	}
+
+	private int f3(int n) {
+		// Smallest integer not less than 'n' with only 2, 3 and 5 as factors.
+		for (int m = n;; m++) {
+			int r = m;
+			while (r % 2 == 0)
+				r /= 2;
+			while (r % 3 == 0)
+				r /= 3;
+			while (r % 5 == 0)
+				r /= 5;
+
+			if (r == 1)
+				return m;
+		}
+	}
+}
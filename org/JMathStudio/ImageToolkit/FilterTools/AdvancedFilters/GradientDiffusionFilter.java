@@ -1,6 +1,8 @@
 package org.JMathStudio.ImageToolkit.FilterTools.AdvancedFilters;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define a Gradient diffusion filter. This filter is based on the 
@@ -37,6 +39,9 @@ public final class GradientDiffusionFilter {
 	private int i5;
 	private float i3;
 
+	// Look up table resolution.
+	private final static int i1 = 4096;
+
 	/**
 	 * This will create an gradient diffusion filter based
 	 * on the parameters as provided.
@@ -85,100 +90,90 @@ public final class GradientDiffusionFilter {
 	 * This method will apply the given gradient  diffusion filter on the discrete 
 	 * image as represented by the {@link Cell} 'image' and return the resultant filtered image
 	 * as a Cell.
+	 * <p>All the iterations of this filter are applied. See {@link #filter(Cell, float, boolean)}
+	 * for stopping the diffusion once it has converged.
 	 * 
 	 * @param Cell
 	 *            image
 	 * @return Cell
+	 * @see #filter(Cell, float, boolean)
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public Cell filter(Cell image) {
-		// Current image produced for given iteration N. Initially new blank
-		// image.
-		Cell current = new Cell(image.getRowCount(), image.getColCount());
-		// Image from iteration N-1. Initially original image.
-		Cell initial = image;
+		return filter(image, 0, false);
+	}
 
-		// Scale to scale the diagonal length for diagonal flow parameters.
-		float scale = (float) Math.sqrt(2);
+	/**
+	 * This method will apply the given gradient  diffusion filter on the discrete 
+	 * image as represented by the {@link Cell} 'image' and return the resultant filtered image
+	 * as a Cell.
+	 * <p>Each iteration read the image produced by the previous iteration and write a new
+	 * image, alternating between two internal buffers. The rows of the image are partitioned
+	 * into stripes which are diffused concurrently; the rows bordering a stripe are read from
+	 * the previous iteration buffer and thus no synchronisation is required within an iteration.
+	 * <p>The argument 'tolerance' specify the convergence criteria. If the mean absolute
+	 * change in the pixel intensities over an iteration falls below 'tolerance', the
+	 * diffusion is stopped and the current image is returned even if all the iterations of this
+	 * filter have not been applied. A 'tolerance' of '0' or less will apply all the iterations.
+	 * <p>If the argument 'useLUT' is true, the flow for a given gradient is read from a pre
+	 * computed look up table with linear interpolation instead of evaluating the diffusion
+	 * control function for each of the 8 gradients of each pixel. The look up table span
+	 * gradient magnitude up to 4 times the flow constant, beyond which the flow is taken as '0'.
+	 * This is a close approximation of the exact flow.
+	 * 
+	 * @param Cell
+	 *            image
+	 * @param float tolerance
+	 * @param boolean useLUT
+	 * @return Cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell filter(Cell image, float tolerance, boolean useLUT) {
+		final int h = image.getRowCount();
+		final int w = image.getColCount();
 
-		int h = image.getRowCount();
-		int w = image.getColCount();
+		float[] src = new float[h * w];
+		float[] dst = new float[h * w];
+
+		float[][] buffer = image.accessCellBuffer();
+		for (int i = 0; i < h; i++)
+			System.arraycopy(buffer[i], 0, src, i * w, w);
+
+		final float[] lut = useLUT ? f0() : null;
+		final int chunks = ParallelExecutor.getChunkCount(h, 8);
+		final double[] change = new double[chunks];
 
-		// For each iteration do....
 		for (int k = 0; k < i5; k++) {
-			// For all pixel locations in the image....
-			for (int i = 0; i < current.getRowCount(); i++) {
-				for (int j = 0; j < current.getColCount(); j++) {
-					// Eight diffusion flow coming to the given pixel from 8
-					// nearest pixels.
-					// Note: Flow can be negative or positive based on the
-					// gradient magnitude
-					// sign. ie. outward or inward.
-					float Fn = 0, Fs = 0, Fe = 0, Fw = 0, Fne = 0, Fnw = 0, Fse = 0, Fsw = 0;
-
-					// Current pixel in question for which diffusion
-					// contribution from nearest
-					// neighbour is to be computed.
-					float pixel = initial.getElement(i, j);
-
-					// Compute 8 gradient with each 8 nearest pixel.
-					// Critical: difference should be, Neighbour - pixel, only.
-					int y1 = i - 1;
-					int y2 = i + 1;
-					int x1 = j - 1;
-					int x2 = j + 1;
-
-					if (y1 >= 0)
-						Fs = initial.getElement(y1, j) - pixel;
-					if (y2 < h)
-						Fn = initial.getElement(y2, j) - pixel;
-					if (x1 >= 0)
-						Fw = initial.getElement(i, x1) - pixel;
-					if (x2 < w)
-						Fe = initial.getElement(i, x2) - pixel;
-
-					if (y1 >= 0 && x1 >= 0)
-						Fsw = initial.getElement(y1, x1) - pixel;
-					if (y1 >= 0 && x2 < w)
-						Fse = initial.getElement(y1, x2) - pixel;
-					if (y2 < h && x1 >= 0)
-						Fnw = initial.getElement(y2, x1) - pixel;
-					if (y2 < h && x2 < w)
-						Fne = initial.getElement(y2, x2) - pixel;
-
-					// Calculate Flow = gradient * Flow or Diffusion control function.
-					// Flow or Diffusion function in turn depends upon the absolute
-					// gradient magnitude.
-					Fs = Fs * f5(Fs);
-					Fn = Fn * f5(Fn);
-					Fw = Fw * f5(Fw);
-					Fe = Fe * f5(Fe);
-
-					// Flow is scaled down by root(2) for 4 diagonal components
-					// as length is larger.
-					Fsw = Fsw * f5(Fsw) / scale;
-					Fse = Fse * f5(Fse) / scale;
-					Fnw = Fnw * f5(Fnw) / scale;
-					Fne = Fne * f5(Fne) / scale;
-
-					// Add the flow contributed (negative and positive) for a
-					// given time interval or
-					// time step by multiplying the total Flow by time step.
-					// Add the resultant total flow to the current pixel value.
-					float res = pixel + i3
-							* (Fn + Fs + Fe + Fw + Fnw + Fne + Fsw + Fse);
-
-					// populate intermediate image, to be used by next
-					// iteration.
-					current.setElement(res, i, j);
+			final float[] in = src;
+			final float[] out = dst;
 
+			ParallelExecutor.execute(h, 8, new ParallelTask() {
+				public void run(int chunk, int start, int end) {
+					change[chunk] = f1(in, out, h, w, start, end, lut);
 				}
+			});
+
+			// Swap buffers, this iteration to be N-1 iteration for next
+			// iteration.
+			src = out;
+			dst = in;
+
+			if (tolerance > 0) {
+				double total = 0;
+				for (int c = 0; c < chunks; c++)
+					total += change[c];
+
+				if (total / (h * w) < tolerance)
+					break;
 			}
-			// This iteration to be N-1 iteration for next iteration.
-			initial = current;
 		}
 
-		return current;
+		Cell result = new Cell(h, w);
+		buffer = result.accessCellBuffer();
+		for (int i = 0; i < h; i++)
+			System.arraycopy(src, i * w, buffer[i], 0, w);
+
+		return result;
 	}
 
 	/**
@@ -272,6 +267,90 @@ public final class GradientDiffusionFilter {
 			this.i3 = timestep;
 	}
 
+	private double f1(float[] in, float[] out, int h, int w, int start,
+			int end, float[] lut) {
+		// Diffuse the rows [start end) of image 'in' in to 'out' and return the
+		// sum of absolute change in the pixel intensities.
+		// Scale to scale the diagonal length for diagonal flow parameters.
+		float scale = (float) Math.sqrt(2);
+		float step = i3;
+		float lutScale = i1 / (4 * i0);
+		double change = 0;
+
+		for (int i = start; i < end; i++) {
+			boolean hasS = i > 0;
+			boolean hasN = i < h - 1;
+			int row = i * w;
+
+			for (int j = 0; j < w; j++) {
+				boolean hasW = j > 0;
+				boolean hasE = j < w - 1;
+				int index = row + j;
+
+				// Critical: difference should be, Neighbour - pixel, only.
+				float pixel = in[index];
+				float flow = 0, diagonal = 0;
+
+				if (hasS)
+					flow += f2(lutScale, in[index - w] - pixel, lut);
+				if (hasN)
+					flow += f2(lutScale, in[index + w] - pixel, lut);
+				if (hasW)
+					flow += f2(lutScale, in[index - 1] - pixel, lut);
+				if (hasE)
+					flow += f2(lutScale, in[index + 1] - pixel, lut);
+
+				if (hasS && hasW)
+					diagonal += f2(lutScale, in[index - w - 1] - pixel, lut);
+				if (hasS && hasE)
+					diagonal += f2(lutScale, in[index - w + 1] - pixel, lut);
+				if (hasN && hasW)
+					diagonal += f2(lutScale, in[index + w - 1] - pixel, lut);
+				if (hasN && hasE)
+					diagonal += f2(lutScale, in[index + w + 1] - pixel, lut);
+
+				// Flow is scaled down by root(2) for 4 diagonal components
+				// as length is larger.
+				float update = step * (flow + diagonal / scale);
+
+				out[index] = pixel + update;
+				change += Math.abs(update);
+			}
+		}
+
+		return change;
+	}
+
+	private float f2(float lutScale, float gradient, float[] lut) {
+		// Flow = gradient * Flow or Diffusion control function.
+		if (lut == null)
+			return gradient * f5(gradient);
+
+		// Flow is an odd function of gradient.
+		float x = (gradient < 0 ? -gradient : gradient) * lutScale;
+
+		if (x >= i1)
+			return 0;
+
+		int index = (int) x;
+		float frac = x - index;
+		float flow = lut[index] + frac * (lut[index + 1] - lut[index]);
+
+		return gradient < 0 ? -flow : flow;
+	}
+
+	private float[] f0() {
+		// Flow for the absolute gradient in the range [0 4*flowconstant] sampled
+		// at 'i1' equal intervals.
+		float[] lut = new float[i1 + 1];
+		float delta = 4 * i0 / i1;
+
+		for (int i = 0; i <= i1; i++)
+			lut[i] = i * delta * f5(i * delta);
+
+		return lut;
+	}
+
 	private float f5(float gradient) {
 		// Function depends only upon the absolute of gradient.
 		// As square is done, no absolute is applied on 'gradient' here.
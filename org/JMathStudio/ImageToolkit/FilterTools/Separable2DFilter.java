@@ -1,7 +1,9 @@
 package org.JMathStudio.ImageToolkit.FilterTools;
 
+import org.JMathStudio.DataStructure.Cell.CCell;
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.DataStructure.Cell.CellStack;
+import org.JMathStudio.DataStructure.Cell.StridedCell;
 import org.JMathStudio.DataStructure.Vector.Vector;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.DimensionMismatchException;
@@ -102,6 +104,84 @@ public final class Separable2DFilter {
 
 	}
 
+	/**
+	 * This will filter the discrete real image as represented by the
+	 * {@link StridedCell} 'image' and return the resultant filtered image as a
+	 * new StridedCell stored in the row major order.
+	 * <p>
+	 * The filtering is as by the method {@link #filter(Cell)}, with the 1D
+	 * convolutions computed in the spatial domain. The columns and the rows of
+	 * the 'image' are read in place through its strides, thus the 'image' may be
+	 * any view such as a region of interest or a transposed view, and no
+	 * transposed copy of the image is made.
+	 * <p>
+	 * If the number of elements of the 'image' exceed the maximum length of a
+	 * Java array this method will throw an IllegalArgument Exception.
+	 * 
+	 * @param StridedCell
+	 *            image
+	 * @return StridedCell
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public StridedCell filter(StridedCell image) throws IllegalArgumentException {
+		final int h = image.getRowCount();
+		final int w = image.getColCount();
+
+		StridedCell result = new StridedCell(h, w);
+
+		float[] src = image.accessBuffer();
+		float[] dst = result.accessBuffer();
+		float[] v = i3.accessVectorBuffer();
+		float[] hm = i0.accessVectorBuffer();
+
+		int offset = image.getOffset();
+		int rs = image.getRowStride();
+		int cs = image.getColStride();
+
+		// Columns of the image convolved with the vertical mask.
+		for (int j = 0; j < w; j++)
+			f0(src, offset + j * cs, rs, h, v, dst, j, w);
+
+		// Rows of the result convolved with the horizontal mask, each row is
+		// copied first as the result is updated in place.
+		float[] row = new float[w];
+
+		for (int i = 0; i < h; i++) {
+			System.arraycopy(dst, i * w, row, 0, w);
+			f0(row, 0, 1, w, hm, dst, i * w, 1);
+		}
+
+		return result;
+	}
+
+	/**
+	 * This will filter the discrete complex image as represented by the
+	 * {@link CCell} 'image' and return the resultant filtered image as a new
+	 * CCell.
+	 * <p>
+	 * As the convolution masks are real, the real and the imaginary part of the
+	 * 'image' are filtered independently as by the method
+	 * {@link #filter(StridedCell)}, with the 1D convolutions computed in the
+	 * spatial domain. Both the parts are read in place and no transposed copy of
+	 * either part is made.
+	 * 
+	 * @param CCell
+	 *            image
+	 * @return CCell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public CCell filter(CCell image) {
+		Cell real = image.accessRealPart();
+		Cell imag = image.accessImaginaryPart();
+
+		try {
+			return new CCell(f1(real), f1(imag));
+		} catch (DimensionMismatchException e) {
+			throw new BugEncounterException();
+		}
+	}
+
 	/**
 	 * This will return the horizontal convolution mask associated with the
 	 * given 2D separable filter as a Vector.
@@ -205,4 +285,64 @@ public final class Separable2DFilter {
 		}
 
 	}
+
+	// Central part of the linear convolution of 'n' elements of 'src', from the index 'so' at the
+	// stride 'ss', with the 'mask', written to 'dst' from the index 'd0' at the stride 'ds'. The
+	// arithmetic is as that of Conv1DTools.linearConvSameWithoutFFT.
+	private void f0(float[] src, int so, int ss, int n, float[] mask, float[] dst,
+			int d0, int ds) {
+		int l2 = mask.length;
+		int shift = (l2 - 1) / 2;
+
+		for (int x = shift; x < n + shift; x++) {
+			float tmp = 0;
+			int k1 = x;
+			int k2 = 0;
+
+			while (k1 >= 0 & k2 < l2) {
+				if (k1 < n)
+					tmp += src[so + k1 * ss] * mask[k2];
+				k1--;
+				k2++;
+			}
+
+			dst[d0 + (x - shift) * ds] = tmp;
+		}
+	}
+
+	// Filter the part of a complex image, reading its rows in place. Each column
+	// is gathered once for the vertical mask and each row of the result is
+	// copied first as it is updated in place.
+	private Cell f1(Cell part) {
+		int h = part.getRowCount();
+		int w = part.getColCount();
+
+		float[][] src = part.accessCellBuffer();
+		Cell result = new Cell(h, w);
+		float[][] dst = result.accessCellBuffer();
+		float[] v = i3.accessVectorBuffer();
+		float[] hm = i0.accessVectorBuffer();
+
+		float[] column = new float[h];
+		float[] filtered = new float[h];
+
+		for (int j = 0; j < w; j++) {
+			for (int i = 0; i < h; i++)
+				column[i] = src[i][j];
+
+			f0(column, 0, 1, h, v, filtered, 0, 1);
+
+			for (int i = 0; i < h; i++)
+				dst[i][j] = filtered[i];
+		}
+
+		float[] row = new float[w];
+
+		for (int i = 0; i < h; i++) {
+			System.arraycopy(dst[i], 0, row, 0, w);
+			f0(row, 0, 1, w, hm, dst[i], 0, 1);
+		}
+
+		return result;
+	}
 }
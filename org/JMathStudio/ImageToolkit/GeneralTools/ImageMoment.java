@@ -1,10 +1,13 @@
 package org.JMathStudio.ImageToolkit.GeneralTools;
 
+import java.util.Arrays;
+
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.DimensionMismatchException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
-import org.JMathStudio.MathToolkit.StatisticalTools.CellStatistics.CellStatistics;
-import org.JMathStudio.MathToolkit.Utilities.MathUtils;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class support methods for calculating various higher order real moments and 
@@ -21,6 +24,9 @@ import org.JMathStudio.MathToolkit.Utilities.MathUtils;
  * 
  * double moment =  im.centralMoment(img, p, q);//Generate central moment of given order
  * 'p & 'q' for input image.
+ * 
+ * MomentSet set = im.momentSet(img, 3);//Accumulate all the raw moments up to order 3 in a
+ * single pass and derive the other moments from it.
  * </pre>
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  * 
@@ -125,6 +131,11 @@ public final class ImageMoment {
 	 * The Hu set of moments associated with the given Image will be return as
 	 * an array of doubles containing 7 different Hu moments (I1 to I7) located
 	 * at the corresponding increasing index positions (0 to 6).
+	 * <p>
+	 * The central moments U(p,q) are normalised by U(0,0)^(1 + (p+q)/2) with an
+	 * integer division of (p+q) by 2. This differ for the third order moments
+	 * from the method {@link MomentSet#HUMomentSet()}, which use the exact
+	 * exponent, thus the two methods return different Hu moments.
 	 * 
 	 * @param Cell
 	 *            cell
@@ -133,62 +144,222 @@ public final class ImageMoment {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public double[] HUMomentSet(Cell cell) throws IllegalArgumentException {
-		CellStatistics stat = new CellStatistics();
-		float sum = stat.sum(cell);
+		//All the central moments from a single pass over the image.
+		MomentSet set = momentSet(cell, 3);
+		double sum = set.centralMoment(0, 0);
 
 		if (sum == 0) {
 			throw new IllegalArgumentException();
 		}
-		try {
-
-			double n20 = stat.centralMoment(cell, 2, 0)
-					/ Math.pow(sum, 1 + (2 + 0) / 2);
-			double n02 = stat.centralMoment(cell, 0, 2)
-					/ Math.pow(sum, 1 + (0 + 2) / 2);
-			double n11 = stat.centralMoment(cell, 1, 1)
-					/ Math.pow(sum, 1 + (1 + 1) / 2);
-			double n30 = stat.centralMoment(cell, 3, 0)
-					/ Math.pow(sum, 1 + (3 + 0) / 2);
-			double n12 = stat.centralMoment(cell, 1, 2)
-					/ Math.pow(sum, 1 + (1 + 2) / 2);
-			double n21 = stat.centralMoment(cell, 2, 1)
-					/ Math.pow(sum, 1 + (2 + 1) / 2);
-			double n03 = stat.centralMoment(cell, 0, 3)
-					/ Math.pow(sum, 1 + (0 + 3) / 2);
-
-			double[] result = new double[7];
-
-			result[0] = n20 + n02;
-			result[1] = (n20 - n02) * (n20 - n02) + 4 * n11 * n11;
-			result[2] = (n30 - 3 * n12) * (n30 - 3 * n12) + (3 * n21 - n03)
-					* (3 * n21 - n03);
-			result[3] = (n30 + n12) * (n30 + n12) + (n21 + n03) * (n21 + n03);
-			result[4] = (n30 - 3 * n12)
-					* (n30 + n12)
-					* ((n30 + n12) * (n30 + n12) - 3 * (n21 + n03)
-							* (n21 + n03))
-					+ (3 * n21 - n03)
-					* (n21 + n03)
-					* (3 * (n30 + n12) * (n30 + n12) - (n21 + n03)
-							* (n21 + n03));
-			result[5] = (n20 - n02)
-					* ((n30 + n12) * (n30 + n12) - (n21 + n03) * (n21 + n03))
-					+ 4 * n11 * (n30 + n12) * (n21 + n03);
-			result[6] = (3 * n21 - n03)
-					* (n30 + n12)
-					* ((n30 + n12) * (n30 + n12) - 3 * (n21 + n03)
-							* (n21 + n03))
-					- (n30 - 3 * n12)
-					* (n21 + n03)
-					* (3 * (n30 + n12) * (n30 + n12) - (n21 + n03)
-							* (n21 + n03));
-
-			return result;
-
-		} catch (IllegalArgumentException e) {
-			throw new BugEncounterException();
+		
+		double n20 = set.centralMoment(2, 0) / Math.pow(sum, 1 + (2 + 0) / 2);
+		double n02 = set.centralMoment(0, 2) / Math.pow(sum, 1 + (0 + 2) / 2);
+		double n11 = set.centralMoment(1, 1) / Math.pow(sum, 1 + (1 + 1) / 2);
+		double n30 = set.centralMoment(3, 0) / Math.pow(sum, 1 + (3 + 0) / 2);
+		double n12 = set.centralMoment(1, 2) / Math.pow(sum, 1 + (1 + 2) / 2);
+		double n21 = set.centralMoment(2, 1) / Math.pow(sum, 1 + (2 + 1) / 2);
+		double n03 = set.centralMoment(0, 3) / Math.pow(sum, 1 + (0 + 3) / 2);
+
+		return f0(n20, n02, n11, n30, n12, n21, n03);
+	}
+
+	/**
+	 * This method will compute all the raw moments up to the order as given by the argument
+	 * 'order' for the discrete real image as represented by the {@link Cell} 'cell' and return
+	 * the same as a {@link MomentSet}.
+	 * <p>All the raw moments are accumulated in a single pass over the image, with the powers
+	 * of the coordinates computed once for each row and column. The rows are processed
+	 * concurrently. The centroid, central, normalised central, Hu and Legendre moments are then
+	 * derived from the return MomentSet without any further pass over the image.
+	 * <p>The argument 'order' should not be negative else this method will throw an
+	 * IllegalArgument Exception.
+	 * @param Cell cell
+	 * @param int order
+	 * @return MomentSet
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public MomentSet momentSet(Cell cell, final int order) throws IllegalArgumentException {
+		if (order < 0) {
+			throw new IllegalArgumentException();
 		}
 
+		final int height = cell.getRowCount();
+		final int width = cell.getColCount();
+		final int stride = order + 1;
+		final float[][] data = cell.accessCellBuffer();
+
+		final double[][] px = f1(width, order);
+		final double[][] py = f1(height, order);
+
+		final double[][] partial = new double[ParallelExecutor.getChunkCount(height, 16)][];
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				double[] moments = new double[stride * stride];
+				double[] row = new double[stride];
+
+				for (int i = start; i < end; i++) {
+					//Sum of x^a * cell(i,j) along the row for each power 'a'.
+					for (int a = 0; a <= order; a++) {
+						double[] xa = px[a];
+						double sum = 0;
+
+						for (int j = 0; j < width; j++)
+							sum += xa[j] * data[i][j];
+
+						row[a] = sum;
+					}
+
+					for (int a = 0; a <= order; a++) {
+						for (int b = 0; a + b <= order; b++)
+							moments[a * stride + b] += row[a] * py[b][i];
+					}
+				}
+
+				partial[chunk] = moments;
+			}
+		});
+
+		return new MomentSet(f2(partial), order, height, width);
+	}
+
+	/**
+	 * This method will compute all the raw moments up to the order as given by the argument
+	 * 'order' for each of the labelled region of the discrete real image as represented by the
+	 * {@link Cell} 'cell' and return the same as an array of {@link MomentSet}.
+	 * <p>The Cell 'labels' specify the label of each pixel of the image. The labels should be
+	 * non negative integers, with label '0' representing the background, else this method will
+	 * throw an IllegalArgument Exception. The dimension of the Cell 'labels' should be same as
+	 * that of the Cell 'cell' else this method will throw a DimensionMismatch Exception.
+	 * <p>The moments of all the regions are accumulated in a single pass over the image and the
+	 * rows are processed concurrently. The MomentSet for a region with label 'L' is located at
+	 * the index position 'L' of the return array. The length of the return array is one more than
+	 * the largest label and the element for the background and for the labels with no pixel
+	 * will be null.
+	 * <p>The moments of each region are accumulated about the corner of the bounding box of the
+	 * region, such that the central moments of a small region far from the centre of the image
+	 * keep their precision.
+	 * <p>For the shape moments of the regions, the Cell 'cell' can be a Cell with all the
+	 * elements as '1'.
+	 * <p>The argument 'order' should not be negative else this method will throw an
+	 * IllegalArgument Exception.
+	 * @param Cell cell
+	 * @param Cell labels
+	 * @param int order
+	 * @return MomentSet[]
+	 * @throws IllegalArgumentException
+	 * @throws DimensionMismatchException
+	 * @see #momentSet(Cell, int)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public MomentSet[] momentSets(Cell cell, Cell labels, final int order)
+			throws IllegalArgumentException, DimensionMismatchException {
+		if (order < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		final int height = cell.getRowCount();
+		final int width = cell.getColCount();
+
+		if (labels.getRowCount() != height || labels.getColCount() != width) {
+			throw new DimensionMismatchException();
+		}
+
+		final float[][] data = cell.accessCellBuffer();
+		final float[][] label = labels.accessCellBuffer();
+
+		int max = 0;
+		for (int i = 0; i < height; i++) {
+			for (int j = 0; j < width; j++) {
+				float l = label[i][j];
+				if (l < 0 || l != (int) l)
+					throw new IllegalArgumentException();
+				if (l > max)
+					max = (int) l;
+			}
+		}
+
+		final int count = max + 1;
+		final int stride = order + 1;
+		final int size = stride * stride;
+
+		//Corner of the bounding box of each region, the origin of its sums.
+		final int[] oy = new int[count];
+		final int[] ox = new int[count];
+		Arrays.fill(oy, height);
+		Arrays.fill(ox, width);
+
+		for (int i = 0; i < height; i++) {
+			for (int j = 0; j < width; j++) {
+				int l = (int) label[i][j];
+				if (i < oy[l])
+					oy[l] = i;
+				if (j < ox[l])
+					ox[l] = j;
+			}
+		}
+
+		final double sx = width > 1 ? 2.0 / (width - 1) : 1;
+		final double sy = height > 1 ? 2.0 / (height - 1) : 1;
+
+		final double[][] partial = new double[ParallelExecutor.getChunkCount(height, 16)][];
+		final int[][] pixels = new int[partial.length][];
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				double[] moments = new double[count * size];
+				int[] n = new int[count];
+
+				for (int i = start; i < end; i++) {
+					for (int j = 0; j < width; j++) {
+						int l = (int) label[i][j];
+						if (l == 0)
+							continue;
+
+						n[l]++;
+						int base = l * size;
+						double x = (j - ox[l]) * sx;
+						double y = (i - oy[l]) * sy;
+						double xa = data[i][j];
+
+						for (int a = 0; a <= order; a++) {
+							double term = xa;
+							int index = base + a * stride;
+
+							for (int b = 0; a + b <= order; b++) {
+								moments[index + b] += term;
+								term *= y;
+							}
+
+							xa *= x;
+						}
+					}
+				}
+
+				partial[chunk] = moments;
+				pixels[chunk] = n;
+			}
+		});
+
+		double[] moments = f2(partial);
+		int[] n = pixels[0];
+		for (int c = 1; c < pixels.length; c++) {
+			for (int l = 0; l < count; l++)
+				n[l] += pixels[c][l];
+		}
+
+		MomentSet[] result = new MomentSet[count];
+
+		for (int l = 1; l < count; l++) {
+			if (n[l] > 0) {
+				double[] set = new double[size];
+				System.arraycopy(moments, l * size, set, 0, size);
+				result[l] = new MomentSet(set, order, height, width, oy[l], ox[l]);
+			}
+		}
+
+		return result;
 	}
 
 	/**
@@ -230,14 +401,14 @@ public final class ImageMoment {
 		for (int i = 0; i < cell.getRowCount(); i++) {
 			//y from [-1 1]
 			float y = i * slopeY - 1;
-			legPolyY[i] = MathUtils.legPoly(n, y);
+			legPolyY[i] = f3(n, y);
 		}
 
 		float slopeX = (float) (2.0 / (cell.getColCount() - 1));
 		for (int j = 0; j < cell.getColCount(); j++) {
 			//x from [-1 1] 
 			float x = j * slopeX - 1;
-			legPolyX[j] = MathUtils.legPoly(m, x);
+			legPolyX[j] = f3(m, x);
 		}
 
 		float moment = 0;
@@ -253,4 +424,87 @@ public final class ImageMoment {
 		return moment * (2 * m + 1) * (2 * n + 1) / 4.0f;
 	}
 
+	static double[] f0(double n20, double n02, double n11, double n30,
+			double n12, double n21, double n03) {
+		//Hu set of invariant moments from the normalised central moments.
+		double[] result = new double[7];
+
+		result[0] = n20 + n02;
+		result[1] = (n20 - n02) * (n20 - n02) + 4 * n11 * n11;
+		result[2] = (n30 - 3 * n12) * (n30 - 3 * n12) + (3 * n21 - n03)
+				* (3 * n21 - n03);
+		result[3] = (n30 + n12) * (n30 + n12) + (n21 + n03) * (n21 + n03);
+		result[4] = (n30 - 3 * n12)
+				* (n30 + n12)
+				* ((n30 + n12) * (n30 + n12) - 3 * (n21 + n03)
+						* (n21 + n03))
+				+ (3 * n21 - n03)
+				* (n21 + n03)
+				* (3 * (n30 + n12) * (n30 + n12) - (n21 + n03)
+						* (n21 + n03));
+		result[5] = (n20 - n02)
+				* ((n30 + n12) * (n30 + n12) - (n21 + n03) * (n21 + n03))
+				+ 4 * n11 * (n30 + n12) * (n21 + n03);
+		result[6] = (3 * n21 - n03)
+				* (n30 + n12)
+				* ((n30 + n12) * (n30 + n12) - 3 * (n21 + n03)
+						* (n21 + n03))
+				- (n30 - 3 * n12)
+				* (n21 + n03)
+				* (3 * (n30 + n12) * (n30 + n12) - (n21 + n03)
+						* (n21 + n03));
+
+		return result;
+	}
+
+	private double[][] f1(int length, int order) {
+		//Powers of the coordinates normalised to [-1 1], as accumulated by
+		//MomentSet.
+		double centre = (length - 1) / 2.0;
+		double scale = length > 1 ? 2.0 / (length - 1) : 1;
+
+		double[][] powers = new double[order + 1][length];
+
+		for (int k = 0; k < length; k++) {
+			double x = (k - centre) * scale;
+			double power = 1;
+
+			for (int a = 0; a <= order; a++) {
+				powers[a][k] = power;
+				power *= x;
+			}
+		}
+
+		return powers;
+	}
+
+	private double[] f2(double[][] partial) {
+		//Merge the partial sums of all the chunks in order.
+		double[] sum = partial[0];
+
+		for (int c = 1; c < partial.length; c++) {
+			for (int k = 0; k < sum.length; k++)
+				sum[k] += partial[c][k];
+		}
+
+		return sum;
+	}
+
+	private float f3(int n, float x) {
+		//Legendre polynomial of order 'n' with the same recurrence as
+		//MathUtils.legPoly, evaluated iteratively.
+		if (n == 0)
+			return 1.0f;
+
+		float p0 = 1.0f;
+		float p1 = x;
+
+		for (int k = 2; k <= n; k++) {
+			float p2 = ((2 * k - 1) * x * p1 - (k - 1) * p0) / k;
+			p0 = p1;
+			p1 = p2;
+		}
+
+		return p1;
+	}
 }
@@ -0,0 +1,302 @@
+package org.JMathStudio.ImageToolkit.GeneralTools;
+
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+
+/**
+ * This class define the set of all the raw moments, up to a given order, of a discrete real
+ * image or of a labelled region of a discrete real image.
+ * <p>A MomentSet is computed in a single pass over the image with the methods
+ * {@link ImageMoment#momentSet(org.JMathStudio.DataStructure.Cell.Cell, int)} and
+ * {@link ImageMoment#momentSets(org.JMathStudio.DataStructure.Cell.Cell, org.JMathStudio.DataStructure.Cell.Cell, int)}.
+ * The centroid, raw, central, normalised central, Hu and Legendre moments are all derived from
+ * the accumulated sums without any further pass over the image.
+ * <p>The moments are accumulated with the image coordinates normalised to the range of [-1 1]
+ * along each axis, as for the Legendre moments, which keep the sums well conditioned for the
+ * higher orders. The moments in the pixel coordinates are recovered through the binomial
+ * expansion of the sums. The moments of a labelled region are accumulated with the same scale
+ * but about the corner of the bounding box of the region, such that the central moments of a
+ * small region far from the centre of the image do not lose their precision in the expansion.
+ * <p>Here the order 'p' refer to the 'X' (column) axis and the order 'q' refer to the 'Y' (row)
+ * axis, as for the {@link ImageMoment} class.
+ * <pre>Usage:
+ * Cell img = Cell.importImageAsCell("path");//Import input image as Cell.
+ *
+ * ImageMoment im = new ImageMoment();//Create an instance of ImageMoment.
+ *
+ * MomentSet set = im.momentSet(img, 3);//Accumulate all the raw moments up to order 3.
+ *
+ * double[] hu = set.HUMomentSet();//Derive Hu set of invariant moments.
+ * double u21 = set.centralMoment(2, 1);//Derive central moment.
+ *
+ * MomentSet[] particles = im.momentSets(img, labels, 3);//Accumulate moments for each of the
+ * labelled region.
+ * </pre>
+ * @see ImageMoment
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class MomentSet {
+
+	private double[] i0;
+	private int i1;
+	private int i2;
+	private int i3;
+
+	// Accumulated coordinate is (index - origin)*scale along each axis,
+	// with the scale mapping the image to [-1 1].
+	private double i4;
+	private double i5;
+	private double i6;
+	private double i7;
+
+	// Shift from the accumulated to the normalised image coordinate.
+	private double i8;
+	private double i9;
+
+	MomentSet(double[] moments, int order, int height, int width) {
+		this(moments, order, height, width, (height - 1) / 2.0, (width - 1) / 2.0);
+	}
+
+	MomentSet(double[] moments, int order, int height, int width,
+			double originY, double originX) {
+		this.i0 = moments;
+		this.i1 = order;
+		this.i2 = height;
+		this.i3 = width;
+
+		this.i4 = originX;
+		this.i5 = originY;
+		this.i6 = width > 1 ? 2.0 / (width - 1) : 1;
+		this.i7 = height > 1 ? 2.0 / (height - 1) : 1;
+
+		this.i8 = (originX - (width - 1) / 2.0) * i6;
+		this.i9 = (originY - (height - 1) / 2.0) * i7;
+	}
+
+	/**
+	 * This method will return the maximum order (p+q) of the moments held by the given
+	 * MomentSet.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getOrder() {
+		return this.i1;
+	}
+
+	/**
+	 * This method will return the (p+q)th order raw moment M(p,q) as held by the given
+	 * MomentSet.
+	 * <p>The raw moment M(p,q) is given by,
+	 * <p>M(p,q) = sum( i^q * j^p * cell(i,j)).
+	 * <p>The arguments 'p' and 'q' should not be negative and their sum should not be more than
+	 * the order of the given MomentSet else this method will throw an IllegalArgument Exception.
+	 * @param int p
+	 * @param int q
+	 * @return double
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public double rawMoment(int p, int q) throws IllegalArgumentException {
+		f0(p, q);
+
+		return f1(p, q, i4 * i6, i5 * i7) / (Math.pow(i6, p) * Math.pow(i7, q));
+	}
+
+	/**
+	 * This method will return the centroid (YC,XC) point as given by the given MomentSet.
+	 * <p>The centroid will be returned as a 1D float array, where first element will be the
+	 * centroid location along X axis (along the column) and the second element will be the
+	 * centroid location along Y axis (along the row).
+	 * <p>If the sum of all the pixel intensities, M(0,0), is zero or the order of the given
+	 * MomentSet is less than 1 this method will throw an IllegalArgument Exception.
+	 * @return float[]
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float[] centroid() throws IllegalArgumentException {
+		double[] c = f2();
+
+		return new float[] { (float) (c[0] / i6 + i4), (float) (c[1] / i7 + i5) };
+	}
+
+	/**
+	 * This method will return the (p+q)th order central moment U(p,q) as given by the given
+	 * MomentSet.
+	 * <p>The central moment U(p,q) is given by,
+	 * <p>U(p,q) = sum( (i-yc)^q * (j-xc)^p * cell(i,j)),
+	 * <p>where 'xc' and 'yc' is the centroid position.
+	 * <p>The arguments 'p' and 'q' should not be negative and their sum should not be more than
+	 * the order of the given MomentSet else this method will throw an IllegalArgument Exception.
+	 * <p>If the sum of all the pixel intensities, M(0,0), is zero this method will throw an
+	 * IllegalArgument Exception.
+	 * @param int p
+	 * @param int q
+	 * @return double
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public double centralMoment(int p, int q) throws IllegalArgumentException {
+		f0(p, q);
+
+		if (p + q == 0)
+			return i0[0];
+
+		double[] c = f2();
+
+		return f1(p, q, -c[0], -c[1]) / (Math.pow(i6, p) * Math.pow(i7, q));
+	}
+
+	/**
+	 * This method will return the (p+q)th order normalised central moment N(p,q) as given by
+	 * the given MomentSet.
+	 * <p>The normalised central moment N(p,q) is given by,
+	 * <p>N(p,q) = U(p,q)/U(0,0)^(1 + (p+q)/2),
+	 * <p>where U(p,q) is the central moment. The normalised central moments are invariant
+	 * under translation and scaling of the image.
+	 * <p>The arguments 'p' and 'q' should not be negative and their sum should not be more than
+	 * the order of the given MomentSet else this method will throw an IllegalArgument Exception.
+	 * <p>If the sum of all the pixel intensities, M(0,0), is zero this method will throw an
+	 * IllegalArgument Exception.
+	 * @param int p
+	 * @param int q
+	 * @return double
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public double normalisedCentralMoment(int p, int q)
+			throws IllegalArgumentException {
+		double u = centralMoment(p, q);
+
+		return u / Math.pow(i0[0], 1 + (p + q) / 2.0);
+	}
+
+	/**
+	 * This method return the Hu set of 7 invariant moments as given by the given MomentSet.
+	 * <p>The Hu moments are computed from the normalised central moments, see
+	 * {@link #normalisedCentralMoment(int, int)}, and are invariant under translation, scaling
+	 * and rotation of the image.
+	 * <p>Note: The method {@link ImageMoment#HUMomentSet(org.JMathStudio.DataStructure.Cell.Cell)}
+	 * normalise the central moments U(p,q) by U(0,0)^(1 + (p+q)/2) with an integer division of
+	 * (p+q) by 2, thus for the third order moments the Hu moments returned by that method differ
+	 * from the Hu moments returned by this method, which use the exact exponent.
+	 * <p>The order of the given MomentSet should be at least 3 else this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>If the sum of all the pixel intensities, M(0,0), is zero this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>The Hu moments are returned as an array of doubles containing 7 different Hu moments
+	 * (I1 to I7) located at the corresponding increasing index positions (0 to 6).
+	 * @return double[]
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public double[] HUMomentSet() throws IllegalArgumentException {
+		if (i1 < 3)
+			throw new IllegalArgumentException();
+
+		return ImageMoment.f0(normalisedCentralMoment(2, 0),
+				normalisedCentralMoment(0, 2), normalisedCentralMoment(1, 1),
+				normalisedCentralMoment(3, 0), normalisedCentralMoment(1, 2),
+				normalisedCentralMoment(2, 1), normalisedCentralMoment(0, 3));
+	}
+
+	/**
+	 * This method return the Legendre Moment as given by the given MomentSet.
+	 * <p>The arguments 'm' and 'n' specify respectively the Legendre polynomial order for the
+	 * (Horizontal) X axis and (Vertical) Y axis, with the image coordinates mapped to the range
+	 * of [-1 1] along each axis. See
+	 * {@link ImageMoment#legendreMoment(org.JMathStudio.DataStructure.Cell.Cell, int, int)}.
+	 * <p>The arguments 'm' and 'n' should not be negative and their sum should not be more than
+	 * the order of the given MomentSet else this method will throw an IllegalArgument Exception.
+	 * <p>The dimensions of the image should be more than 1 else this method will throw an
+	 * IllegalArgument Exception.
+	 * @param int m
+	 * @param int n
+	 * @return double
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public double legendreMoment(int m, int n) throws IllegalArgumentException {
+		f0(m, n);
+
+		if (i2 == 1 || i3 == 1)
+			throw new IllegalArgumentException();
+
+		double[] cx = f3(m);
+		double[] cy = f3(n);
+
+		double moment = 0;
+
+		for (int a = 0; a <= m; a++) {
+			if (cx[a] == 0)
+				continue;
+
+			for (int b = 0; b <= n; b++)
+				moment += cx[a] * cy[b] * f1(a, b, i8, i9);
+		}
+
+		return moment * (2 * m + 1) * (2 * n + 1) / 4.0;
+	}
+
+	private void f0(int p, int q) throws IllegalArgumentException {
+		if (p < 0 || q < 0 || p + q > i1)
+			throw new IllegalArgumentException();
+	}
+
+	private double f1(int p, int q, double sx, double sy) {
+		// Sum of (x+sx)^p * (y+sy)^q * cell over the accumulated coordinates,
+		// through the binomial expansion of the accumulated sums.
+		int stride = i1 + 1;
+		double moment = 0;
+
+		double cr = 1;
+		for (int r = 0; r <= p; r++) {
+			double wx = cr * Math.pow(sx, p - r);
+
+			double cs = 1;
+			for (int s = 0; s <= q; s++) {
+				moment += wx * cs * Math.pow(sy, q - s) * i0[r * stride + s];
+				cs = cs * (q - s) / (s + 1);
+			}
+
+			cr = cr * (p - r) / (r + 1);
+		}
+
+		return moment;
+	}
+
+	private double[] f2() throws IllegalArgumentException {
+		// Centroid in the accumulated coordinates.
+		if (i1 < 1 || i0[0] == 0)
+			throw new IllegalArgumentException();
+
+		int stride = i1 + 1;
+
+		return new double[] { i0[stride] / i0[0], i0[1] / i0[0] };
+	}
+
+	private double[] f3(int n) {
+		// Coefficients of the Legendre polynomial of order 'n' in the powers
+		// of 'x', with (k+1)P(k+1) = (2k+1)xP(k) - kP(k-1).
+		double[] p0 = new double[n + 1];
+		double[] p1 = new double[n + 1];
+		p0[0] = 1;
+
+		if (n == 0)
+			return p0;
+
+		p1[1] = 1;
+
+		for (int k = 1; k < n; k++) {
+			double[] p2 = new double[n + 1];
+
+			for (int a = 0; a <= k; a++)
+				p2[a + 1] += (2 * k + 1) * p1[a] / (k + 1);
+			for (int a = 0; a < k; a++)
+				p2[a] -= k * p0[a] / (k + 1);
+
+			p0 = p1;
+			p1 = p2;
+		}
+
+		return p1;
+	}
+}
@@ -1,9 +1,17 @@
 package org.JMathStudio.ImageToolkit.IntensityTools;
 
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
 import org.JMathStudio.PixelImageToolkit.BinaryPixelImage.BinaryPixelImage;
 import org.JMathStudio.PixelImageToolkit.UIntPixelImage.AbstractUIntPixelImage;
 import org.JMathStudio.PixelImageToolkit.UIntPixelImage.CustomUIntPixelImage;
+import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define a Dither transform for dithering a gray scale image to an
@@ -19,21 +27,52 @@ import org.JMathStudio.Exceptions.IllegalArgumentException;
  * shades of gray) is is represented by a gray scale image of lower depth (less
  * shades of gray) by exploiting the spatial integration by human eye.
  * <p>
+ * The error diffusion keep only a rolling buffer of few rows of diffused error
+ * rather than an error buffer for the whole image. The error diffusion can
+ * also be computed as a wavefront, where each row is processed concurrently
+ * with the row above while staying a fixed number of pixels behind it. The
+ * wavefront give the same result as the serial raster scan.
+ * <p>
+ * Ordered (Bayer) and Blue noise dithering are also provided. These compare
+ * each pixel with a tiled threshold mask and thus are free of any dependency
+ * between the pixels.
+ * <p>
  * A gray scale images will be represented by an {@link AbstractUIntPixelImage}
  * with a given depth.
  * <pre>Usage:
  * AbstractUIntPixelImage img = UInt8PixelImage.importImage("path");//Import external image
  * as UInt PixelImage type.
- * 
+ *
  * DitherTransform dt = new DitherTransform();//Create an instance of DitherTransform.
- * 
+ *
  * AbstractUIntPixelImage result = dt.dither(img, k);//Apply dithering on input image for
  * low depth/gray-scale 'k'.
+ *
+ * AbstractUIntPixelImage result1 = dt.dither(img, k, true);//Apply dithering with wavefront
+ * parallel error diffusion.
+ *
+ * AbstractUIntPixelImage result2 = dt.blueNoiseDither(img, k);//Apply Blue noise dithering.
  * </pre>
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  */
 public final class DitherTransform {
 
+	// Number of columns processed by a row between two synchronisation of the
+	// wavefront.
+	private final static int i0 = 64;
+
+	// Dimension of the Blue noise threshold mask.
+	private final static int i1 = 64;
+
+	// Standard 8x8 Bayer index matrix.
+	private final static int[] i2 = { 0, 32, 8, 40, 2, 34, 10, 42, 48, 16, 56,
+			24, 50, 18, 58, 26, 12, 44, 4, 36, 14, 46, 6, 38, 60, 28, 52, 20, 62,
+			30, 54, 22, 3, 35, 11, 43, 1, 33, 9, 41, 51, 19, 59, 27, 49, 17, 57,
+			25, 15, 47, 7, 39, 13, 45, 5, 37, 63, 31, 55, 23, 61, 29, 53, 21 };
+
+	// Blue noise rank matrix, generated once when first required.
+	private static int[] i3 = null;
+
 	/**
 	 * This method will dither the given gray scale image as represented by the
 	 * {@link AbstractUIntPixelImage} 'img' to a gray scale image with lower
@@ -49,7 +88,7 @@ public final class DitherTransform {
 	 * <p>
 	 * The resultant dithered image will be returned as a
 	 * {@link AbstractUIntPixelImage}.
-	 * 
+	 *
 	 * @param AbstractUIntPixel
 	 *            img
 	 * @param int depth
@@ -59,78 +98,45 @@ public final class DitherTransform {
 	 */
 	public AbstractUIntPixelImage dither(AbstractUIntPixelImage img, int depth)
 			throws IllegalArgumentException {
+		return dither(img, depth, false);
+	}
+
+	/**
+	 * This method will dither the given gray scale image as represented by the
+	 * {@link AbstractUIntPixelImage} 'img' to a gray scale image with lower
+	 * depth as defined by the argument 'depth' and return the dithered image as
+	 * {@link AbstractUIntPixelImage}.
+	 * <p>
+	 * The argument 'depth' here specify the depth or bits per pixel for the
+	 * resultant dithered image. The argument 'depth' should be less than the
+	 * depth of the 'img' and should be more than '0' else this method will
+	 * throw an IllegalArgument Exception.
+	 * <p>
+	 * If the argument 'parallel' is 'true' the error diffusion is computed as a
+	 * wavefront over all the available processors, else it is computed with a
+	 * serial raster scan. Both give the same dithered image.
+	 * <p>
+	 * The resultant dithered image will be returned as a
+	 * {@link AbstractUIntPixelImage}.
+	 *
+	 * @param AbstractUIntPixel
+	 *            img
+	 * @param int depth
+	 * @param boolean parallel
+	 * @return AbstractUIntPixelImage
+	 * @throws IllegalArgumentException
+	 * @see #dither(AbstractUIntPixelImage, int)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public AbstractUIntPixelImage dither(AbstractUIntPixelImage img, int depth,
+			boolean parallel) throws IllegalArgumentException {
 		if (depth < 1 || depth >= img.getDepth())
 			throw new IllegalArgumentException();
 		else {
-			int height = img.getHeight();
-			int width = img.getWidth();
-
-			AbstractUIntPixelImage res = new CustomUIntPixelImage(depth,
-					height, width);
-
-			float oldMax = img.getMaxValidPixel();
-			float newMax = res.getMaxValidPixel();
-
-			// Buffer to store Error diffused to each pixel.
-			float[][] errorBuffer = new float[height][width];// img.toCell().
-																// getCellBuffer
-																// ();
-
-			// Scale to map image intensities to lower depth intensities.
-			float fwd_scale = newMax / oldMax;
-			// Scale to map lower depth intensities back to original image
-			// depth.
-			float bk_scale = oldMax / newMax;
-			int temp1,temp2;
-			
-			for (int i = 0; i < height; i++) {
-				for (int j = 0; j < width; j++) {
-					// Add diffused error for that pixel to its intensity.
-					float pixel = img.getPixel(i, j) + errorBuffer[i][j];
-
-					// Maintain the range for intensity.
-					// Prevent over and under shoot of intensities by the
-					// addition
-					// of cumulative error.
-					if (pixel > oldMax)
-						pixel = oldMax;
-					else if (pixel < 0)
-						pixel = 0;
-
-					// Map current intensity to the equivalent lower depth
-					// intensity.
-					int newPixel = Math.round(pixel * fwd_scale);
-
-					// set the mapped intensity for that pixel.
-					res.setPixel(newPixel, i, j);
-
-					// Re scale the equivalent lower depth intensity to original
-					// depth/range. The resultant intensity will not be equal to
-					// the original due to quantisation loss introduced when
-					// mapping
-					// the same to lower depth. Measure this quantisation error
-					// by
-					// subtraction of re scaled intensity from original
-					// intensity.
-					float error = pixel - newPixel * bk_scale;
-
-					// Propagate the error generated at current pixel to the
-					// neighbouring pixels with weight
-					// as set by the Floyd-Steinberg error diffusion matrix.
-					temp1 = j+1;
-					if (temp1 < width)
-						errorBuffer[i][temp1] += error * 0.4375f;
-					temp1 = i+1;
-					temp2 = j-1;
-					if (temp1< height && temp2 > 0)
-						errorBuffer[temp1][temp2] += error * 0.1875f;
-					if (temp1 < height)
-						errorBuffer[temp1][j] += error * 0.3125f;
-					temp2 = j+1;
-					if (temp1 < height && temp2 < width)
-						errorBuffer[temp1][temp2] += error * 0.0625;
-				}
-			}
+			CustomUIntPixelImage res = new CustomUIntPixelImage(depth, img
+					.getHeight(), img.getWidth());
+
+			f0(img, res, null, 0, parallel);
 
 			return res;
 		}
@@ -151,7 +157,7 @@ public final class DitherTransform {
 	 * the full gray scale intensity range of the given UInt PixelImage.
 	 * <p>
 	 * The resultant binary image will be returned as a {@link BinaryPixelImage}.
-	 * 
+	 *
 	 * @param AbstractUIntPixel
 	 *            img
 	 * @param float T
@@ -161,6 +167,35 @@ public final class DitherTransform {
 	 */
 	public BinaryPixelImage halftone(AbstractUIntPixelImage img, float T)
 			throws IllegalArgumentException {
+		return halftone(img, T, false);
+	}
+
+	/**
+	 * This method will halftone the given gray scale image as represented by
+	 * the {@link AbstractUIntPixelImage} 'img' to a binary image and return the
+	 * same as {@link BinaryPixelImage}.
+	 * <p>
+	 * The argument 'T' here specify the normalised threshold for halftoning and
+	 * should be in the range of [0 1] else this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>
+	 * If the argument 'parallel' is 'true' the error diffusion is computed as a
+	 * wavefront over all the available processors, else it is computed with a
+	 * serial raster scan. Both give the same binary image.
+	 * <p>
+	 * The resultant binary image will be returned as a {@link BinaryPixelImage}.
+	 *
+	 * @param AbstractUIntPixel
+	 *            img
+	 * @param float T
+	 * @param boolean parallel
+	 * @return BinaryPixelImage
+	 * @throws IllegalArgumentException
+	 * @see #halftone(AbstractUIntPixelImage, float)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public BinaryPixelImage halftone(AbstractUIntPixelImage img, float T,
+			boolean parallel) throws IllegalArgumentException {
 		// 'T' is the threshold for half toning should be within the range [0 1]
 		// corresponding to the minimum and maximum gray scale range of the
 		// given
@@ -169,63 +204,379 @@ public final class DitherTransform {
 		if (T < 0 || T > 1)
 			throw new IllegalArgumentException();
 		else {
-			int height = img.getHeight();
-			int width = img.getWidth();
+			BinaryPixelImage res = new BinaryPixelImage(img.getHeight(), img
+					.getWidth());
+
+			f0(img, null, res, T, parallel);
+
+			return res;
+		}
+	}
+
+	/**
+	 * This method will dither the given gray scale image as represented by the
+	 * {@link AbstractUIntPixelImage} 'img' to a gray scale image with lower
+	 * depth as defined by the argument 'depth' using the Ordered dithering with
+	 * an 8x8 Bayer threshold matrix and return the dithered image as
+	 * {@link AbstractUIntPixelImage}.
+	 * <p>
+	 * Each pixel is mapped to the lower depth intensity just below it and is
+	 * rounded up if the fractional part exceed the threshold of the Bayer
+	 * matrix tiled over the image at that pixel. The pixels are independent and
+	 * the rows are processed concurrently. The result show the regular cross
+	 * hatch pattern of the Bayer matrix.
+	 * <p>
+	 * The argument 'depth' here specify the depth or bits per pixel for the
+	 * resultant dithered image. The argument 'depth' should be less than the
+	 * depth of the 'img' and should be more than '0' else this method will
+	 * throw an IllegalArgument Exception.
+	 *
+	 * @param AbstractUIntPixel
+	 *            img
+	 * @param int depth
+	 * @return AbstractUIntPixelImage
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public AbstractUIntPixelImage orderedDither(AbstractUIntPixelImage img,
+			int depth) throws IllegalArgumentException {
+		return f1(img, depth, i2, 8);
+	}
+
+	/**
+	 * This method will dither the given gray scale image as represented by the
+	 * {@link AbstractUIntPixelImage} 'img' to a gray scale image with lower
+	 * depth as defined by the argument 'depth' using the Blue noise dithering
+	 * and return the dithered image as {@link AbstractUIntPixelImage}.
+	 * <p>
+	 * This is similar to the Ordered dithering, but the threshold matrix is a
+	 * 64x64 Blue noise mask generated with the Void and Cluster algorithm. The
+	 * resultant pattern is free of the regular structure of the Bayer matrix
+	 * and is close to that of the error diffusion, while the pixels remain
+	 * independent and the rows are processed concurrently.
+	 * <p>
+	 * The argument 'depth' here specify the depth or bits per pixel for the
+	 * resultant dithered image. The argument 'depth' should be less than the
+	 * depth of the 'img' and should be more than '0' else this method will
+	 * throw an IllegalArgument Exception.
+	 *
+	 * @param AbstractUIntPixel
+	 *            img
+	 * @param int depth
+	 * @return AbstractUIntPixelImage
+	 * @throws IllegalArgumentException
+	 * @see #orderedDither(AbstractUIntPixelImage, int)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public AbstractUIntPixelImage blueNoiseDither(AbstractUIntPixelImage img,
+			int depth) throws IllegalArgumentException {
+		return f1(img, depth, f2(), i1);
+	}
+
+	private void f0(final AbstractUIntPixelImage img,
+			final CustomUIntPixelImage dither, final BinaryPixelImage halftone,
+			final float T, boolean parallel) {
+		// Floyd-Steinberg error diffusion over a ring of 'workers+1' error rows.
+		// Row 'i' read the diffused error from slot 'i%R' and diffuse its own
+		// error to the slot of the next row. A row wait for the row above to be
+		// at least one column ahead so that all the error diffused to a pixel is
+		// available before it is read, which give the same result as the serial
+		// raster scan. Rows are claimed in order, so at most 'workers' rows are
+		// in flight and a slot is reused only after its row has been completed.
+		final int height = img.getHeight();
+		final int width = img.getWidth();
+
+		final int workers = parallel ? ParallelExecutor.getChunkCount(height,
+				16) : 1;
+		final int R = workers + 1;
+		final float[][] ring = new float[R][width];
+
+		final float oldMax = img.getMaxValidPixel();
+		final float newMax = dither != null ? dither.getMaxValidPixel() : 1;
+
+		// Scale to map image intensities to lower depth intensities.
+		final float fwd_scale = newMax / oldMax;
+		// Scale to map lower depth intensities back to original image
+		// depth.
+		final float bk_scale = oldMax / newMax;
+
+		// Halftoning diffuse the error over the normalised pixel values.
+		if (halftone != null)
+			f3(img, 0, ring[0], oldMax);
+
+		final AtomicInteger next = new AtomicInteger(0);
+		final AtomicIntegerArray done = new AtomicIntegerArray(height);
+		final AtomicBoolean abort = new AtomicBoolean(false);
+
+		ParallelExecutor.execute(workers, 1, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				boolean completed = false;
+
+				try {
+					int i;
+
+					while ((i = next.getAndIncrement()) < height) {
+						float[] cur = ring[i % R];
+						float[] nxt = null;
 
-			float maxPixel = img.getMaxValidPixel();
+						if (i + 1 < height) {
+							// Slot was last read by row 'i+1-R' which has
+							// already been completed.
+							if (i + 1 - R >= 0 && !f4(done, abort, i + 1 - R, width))
+								return;
 
-			float[][] buffer = new float[height][width];
-			BinaryPixelImage res = new BinaryPixelImage(height, width);
+							nxt = ring[(i + 1) % R];
 
-			for (int i = 0; i < height; i++) {
-				for (int j = 0; j < width; j++) { // Initialised by normalise
-													// pixel values in the range
-													// of [0 1].
-					buffer[i][j] = img.getPixel(i, j) / maxPixel;
+							if (halftone != null)
+								f3(img, i + 1, nxt, oldMax);
+							else {
+								for (int j = 0; j < width; j++)
+									nxt[j] = 0;
+							}
+						}
+
+						float carry = 0;
+
+						for (int j0 = 0; j0 < width; j0 += i0) {
+							int j1 = Math.min(width, j0 + i0);
+
+							if (i > 0 && !f4(done, abort, i - 1, Math.min(width, j1 + 1)))
+								return;
+
+							for (int j = j0; j < j1; j++) {
+								float error;
+
+								if (dither != null) {
+									// Add diffused error for that pixel to its
+									// intensity.
+									float pixel = img.getPixel(i, j) + (cur[j] + carry);
+
+									// Prevent over and under shoot of
+									// intensities by the addition of cumulative
+									// error.
+									if (pixel > oldMax)
+										pixel = oldMax;
+									else if (pixel < 0)
+										pixel = 0;
+
+									// Map current intensity to the equivalent
+									// lower depth intensity.
+									int newPixel = Math.round(pixel * fwd_scale);
+									dither.setPixel(newPixel, i, j);
+
+									// Quantisation error with respect to the re
+									// scaled lower depth intensity.
+									error = pixel - newPixel * bk_scale;
+								} else {
+									// Normalised pixel and sum of all the
+									// diffused error to that pixel.
+									float pix = cur[j] + carry;
+
+									if (pix >= T) {
+										halftone.setPixel(true, i, j);
+										error = pix - 1;
+									} else {
+										halftone.setPixel(false, i, j);
+										error = pix;
+									}
+								}
+
+								// Propagate the error generated at current pixel
+								// to the neighbouring pixels with weight as set
+								// by the Floyd-Steinberg error diffusion matrix.
+								carry = error * 0.4375f;
+
+								if (nxt != null) {
+									if (j - 1 > 0)
+										nxt[j - 1] += error * 0.1875f;
+									nxt[j] += error * 0.3125f;
+									if (j + 1 < width)
+										nxt[j + 1] += error * 0.0625;
+								}
+							}
+
+							done.set(i, j1);
+						}
+					}
+
+					completed = true;
+				} catch (IllegalArgumentException e) {
+					throw new BugEncounterException();
+				} finally {
+					// Release the rows waiting on this chunk on failure.
+					if (!completed)
+						abort.set(true);
 				}
 			}
-			
-			int temp1,temp2;
-			
-			for (int i = 0; i < height; i++) {
-				for (int j = 0; j < width; j++) {
-					// Pixel value is equal to original pixel and sum of all the
-					// diffused error to that pixel due to prior assignments.
-					float pix = buffer[i][j];
-					// Error for current pixel location.
-					float error;
-
-					if (pix >= T) {
-						// Set to '1'
-						res.setPixel(true, i, j);
-						error = pix - 1;
-					} else {
-						// Set to '0'
-						res.setPixel(false, i, j);
-						error = pix;
-					}
+		});
+	}
+
+	private AbstractUIntPixelImage f1(final AbstractUIntPixelImage img,
+			int depth, final int[] ranks, final int N)
+			throws IllegalArgumentException {
+		if (depth < 1 || depth >= img.getDepth())
+			throw new IllegalArgumentException();
+
+		final int width = img.getWidth();
+		final CustomUIntPixelImage res = new CustomUIntPixelImage(depth, img
+				.getHeight(), width);
 
-					// Propagate the error generated at current pixel to the
-					// neighbouring pixels with weight
-					// as set by the Floyd-Steinberg error diffusion matrix.
-					temp1 = j+1;
-					if (temp1 < width)
-						buffer[i][temp1] += error * 0.4375f;
-					temp1 = i+1;
-					temp2 = j-1;
-					if (temp1 < height && temp2 > 0)
-						buffer[temp1][temp2] += error * 0.1875f;
-					if (temp1 < height)
-						buffer[temp1][j] += error * 0.3125f;
-					temp2 = j+1;
-					if (temp1 < height && temp2 < width)
-						buffer[temp1][temp2] += error * 0.0625;
+		final int newMax = res.getMaxValidPixel();
+		final double scale = (double) newMax / img.getMaxValidPixel();
 
+		// Thresholds at the centre of each of the N*N rank intervals.
+		final float[] thresholds = new float[ranks.length];
+		for (int k = 0; k < ranks.length; k++)
+			thresholds[k] = (ranks[k] + 0.5f) / ranks.length;
+
+		ParallelExecutor.execute(img.getHeight(), 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				try {
+					for (int i = start; i < end; i++) {
+						int row = (i % N) * N;
+
+						for (int j = 0; j < width; j++) {
+							double scaled = img.getPixel(i, j) * scale;
+							int base = (int) scaled;
+
+							if (scaled - base > thresholds[row + j % N] && base < newMax)
+								base++;
+
+							res.setPixel(base, i, j);
+						}
+					}
+				} catch (IllegalArgumentException e) {
+					throw new BugEncounterException();
 				}
 			}
+		});
 
-			return res;
+		return res;
+	}
+
+	private synchronized static int[] f2() {
+		if (i3 != null)
+			return i3;
+
+		// Void and Cluster algorithm with a toroidal gaussian energy filter.
+		final int N = i1;
+		final int S = N * N;
+		final double sigma = 1.5;
+
+		double[] kernel = new double[S];
+		for (int y = 0; y < N; y++) {
+			int dy = Math.min(y, N - y);
+			for (int x = 0; x < N; x++) {
+				int dx = Math.min(x, N - x);
+				kernel[y * N + x] = Math.exp(-(dx * dx + dy * dy)
+						/ (2 * sigma * sigma));
+			}
 		}
+
+		boolean[] pattern = new boolean[S];
+		double[] energy = new double[S];
+
+		// Initial binary pattern with 10% minority pixels at random.
+		Random random = new Random(0);
+		int ones = 0;
+		while (ones < S / 10) {
+			int p = random.nextInt(S);
+			if (!pattern[p]) {
+				pattern[p] = true;
+				f5(energy, kernel, p, 1, N);
+				ones++;
+			}
+		}
+
+		// Move minority pixels from the tightest cluster to the largest void
+		// till the pattern is homogeneous.
+		for (int k = 0; k < S; k++) {
+			int cluster = f6(energy, pattern, true);
+			pattern[cluster] = false;
+			f5(energy, kernel, cluster, -1, N);
+
+			int hole = f6(energy, pattern, false);
+			pattern[hole] = true;
+			f5(energy, kernel, hole, 1, N);
+
+			if (hole == cluster)
+				break;
+		}
+
+		int[] rank = new int[S];
+
+		// Rank the minority pixels by removing the tightest cluster one by one.
+		boolean[] work = pattern.clone();
+		double[] workEnergy = energy.clone();
+		for (int r = ones - 1; r >= 0; r--) {
+			int cluster = f6(workEnergy, work, true);
+			work[cluster] = false;
+			f5(workEnergy, kernel, cluster, -1, N);
+			rank[cluster] = r;
+		}
+
+		// Rank the rest by filling the largest void one by one. Past half the
+		// pixels this is the same as removing the tightest cluster of the
+		// majority pixels as the two energies add to a constant.
+		for (int r = ones; r < S; r++) {
+			int hole = f6(energy, pattern, false);
+			pattern[hole] = true;
+			f5(energy, kernel, hole, 1, N);
+			rank[hole] = r;
+		}
+
+		i3 = rank;
+		return i3;
+	}
+
+	private void f3(AbstractUIntPixelImage img, int row, float[] buffer,
+			float maxPixel) {
+		// Initialised by normalise pixel values in the range of [0 1].
+		for (int j = 0; j < buffer.length; j++)
+			buffer[j] = img.getPixel(row, j) / maxPixel;
+	}
+
+	private boolean f4(AtomicIntegerArray done, AtomicBoolean abort, int row,
+			int columns) {
+		// Wait till the given row has completed the given number of columns.
+		// Return false if the operation has been aborted.
+		while (done.get(row) < columns) {
+			if (abort.get())
+				return false;
+			Thread.yield();
+		}
+
+		return true;
 	}
 
-}
\ No newline at end of file
+	private static void f5(double[] energy, double[] kernel, int p, int sign,
+			int N) {
+		int py = p / N;
+		int px = p % N;
+
+		for (int y = 0; y < N; y++) {
+			int ky = ((y - py + N) % N) * N;
+			int ey = y * N;
+
+			for (int x = 0; x < N; x++)
+				energy[ey + x] += sign * kernel[ky + (x - px + N) % N];
+		}
+	}
+
+	private static int f6(double[] energy, boolean[] pattern, boolean cluster) {
+		// Tightest cluster is the minority pixel with largest energy, largest
+		// void is the majority pixel with smallest energy.
+		int index = -1;
+
+		for (int p = 0; p < energy.length; p++) {
+			if (pattern[p] != cluster)
+				continue;
+
+			if (index < 0 || (cluster ? energy[p] > energy[index]
+					: energy[p] < energy[index]))
+				index = p;
+		}
+
+		return index;
+	}
+}
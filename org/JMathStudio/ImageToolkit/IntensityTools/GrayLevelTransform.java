@@ -24,6 +24,12 @@ import org.JMathStudio.PixelImageToolkit.UIntPixelImage.AbstractUIntPixelImage;
  * 
  * AbstractUIntPixelImage result2 = glt.autoContrast(img);//Apply auto-contrast operation on
  * input image.
+ * 
+ * IntensityLUT lut = glt.histEqualizationLUT(img).compose(glt.solarisationLUT(img, t, true));
+ * //Compose histogram equalization and solarisation in to a single Lookup table.
+ * 
+ * AbstractUIntPixelImage result3 = lut.apply(img);//Apply the composed operations on input
+ * image in a single pass.
  * </pre>
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  * 
@@ -124,20 +130,35 @@ public final class GrayLevelTransform {
 	public AbstractUIntPixelImage histEqualization(AbstractUIntPixelImage img) {
 
 		try {
-			int Max = img.getMaxValidPixel();
+			return histEqualizationLUT(img).apply(img);
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
 
-			float[] hist = new float[Max + 1];
+	}
 
-			for (int i = 0; i < img.getHeight(); i++) {
-				for (int j = 0; j < img.getWidth(); j++) {
-					hist[img.getPixel(i, j)]++;
-				}
-			}
+	/**
+	 * This method will return the intensity Lookup table for the Histogram equalisation
+	 * operation on the UInt PixelImage as represented by an {@link AbstractUIntPixelImage}
+	 * 'img', as an {@link IntensityLUT}.
+	 * <p>The mapping is derived from the histogram of the image 'img' as in
+	 * {@link #histEqualization(AbstractUIntPixelImage)}. Pixel intensities which are below
+	 * the minimum pixel intensity of the image are mapped to '0'.
+	 * 
+	 * @param AbstractUIntPixelImage
+	 *            img
+	 * @return IntensityLUT
+	 * @see IntensityLUT
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public IntensityLUT histEqualizationLUT(AbstractUIntPixelImage img) {
 
-			Vector cdf = new VectorStatistics().cdf(new Vector(hist));
+		try {
+			int Max = img.getMaxValidPixel();
+
+			float[] hist = new Histogram().histogram(img).accessVectorBuffer();
 
-			AbstractUIntPixelImage result = (AbstractUIntPixelImage) img
-					.getEquivalentBlankImage();
+			Vector cdf = new VectorStatistics().cdf(new Vector(hist));
 
 			float minCdf = 0;
 
@@ -151,19 +172,15 @@ public final class GrayLevelTransform {
 			float area = img.getHeight() * img.getWidth();
 			float norm = Max/(area - minCdf);
 			
-			for (int i = 0; i < result.getHeight(); i++) 
-			{
-				for (int j = 0; j < result.getWidth(); j++) 
-				{
-					float tmp = (cdf.getElement(img.getPixel(i, j)) - minCdf);
-							
-					result.setPixel((int) Math.floor(tmp * norm), i, j);
-				}
+			int[] table = new int[Max + 1];
+
+			for (int v = 0; v < table.length; v++) {
+				float tmp = (cdf.getElement(v) - minCdf);
+
+				table[v] = Math.max(0, (int) Math.floor(tmp * norm));
 			}
 
-			return result;
-		} catch (ArrayIndexOutOfBoundsException e) {
-			throw new BugEncounterException();
+			return new IntensityLUT(table);
 		} catch (IllegalArgumentException e) {
 			throw new BugEncounterException();
 		}
@@ -242,6 +259,35 @@ public final class GrayLevelTransform {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public AbstractUIntPixelImage histoStretching(AbstractUIntPixelImage img, int lt, int ut) throws IllegalArgumentException
+	{
+		IntensityLUT lut = histoStretchingLUT(img, lt, ut);
+
+		try {
+			return lut.apply(img);
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will return the intensity Lookup table for the Histogram stretching operation
+	 * with lower and upper intensity threshold as given by the arguments 'lt' & 'ut' respectively,
+	 * for the UInt PixelImages of the type as that of the {@link AbstractUIntPixelImage} 'img', as
+	 * an {@link IntensityLUT}.
+	 * <p>The mapping is as described in {@link #histoStretching(AbstractUIntPixelImage, int, int)}.
+	 * The pixel intensities of the image 'img' are not accessed.
+	 * <p>The lower threshold 'lt' should be less than upper threshold 'ut' and both 'lt' & 'ut'
+	 * should be within the valid intensity range of the {@link AbstractUIntPixelImage} 'img' else
+	 * this method will throw an IllegalArgument Exception.
+	 * @param AbstractUIntPixelImage img
+	 * @param int lt
+	 * @param int ut
+	 * @return IntensityLUT
+	 * @throws IllegalArgumentException
+	 * @see IntensityLUT
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public IntensityLUT histoStretchingLUT(AbstractUIntPixelImage img, int lt, int ut) throws IllegalArgumentException
 	{
 		int maxPix = img.getMaxValidPixel();
 		int minPix = img.getMinValidPixel();
@@ -252,32 +298,23 @@ public final class GrayLevelTransform {
 		}
 		else
 		{
-			int h = img.getHeight();
-			int w = img.getWidth();
-			
-			AbstractUIntPixelImage res = (AbstractUIntPixelImage) img.getEquivalentBlankImage();
-			
 			float scale = (maxPix-minPix)/((float)(ut-lt));
-			int in;
 			int op;
+			int[] table = new int[maxPix + 1];
 			
-			for(int i=0;i<h;i++)
+			for(int in=0;in<table.length;in++)
 			{
-				for(int j=0;j<w;j++)
-				{
-					in = img.getPixel(i, j);
-					op = Math.round((in - lt)*scale);//+ minPix -> 0
-					
-					if(op>maxPix)
-						op = maxPix;
-					else if(op < minPix)
-						op = minPix;
-					
-					res.setPixel(op, i, j);					
-				}
+				op = Math.round((in - lt)*scale);//+ minPix -> 0
+				
+				if(op>maxPix)
+					op = maxPix;
+				else if(op < minPix)
+					op = minPix;
+				
+				table[in] = op;
 			}
 			
-			return res;
+			return new IntensityLUT(table);
 		}
 	}
 	
@@ -300,44 +337,44 @@ public final class GrayLevelTransform {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public AbstractUIntPixelImage solarisation(AbstractUIntPixelImage img, int t, boolean forward) throws IllegalArgumentException
+	{
+		return solarisationLUT(img, t, forward).apply(img);
+	}
+
+	/**
+	 * This method will return the intensity Lookup table for the Solarisation operation with
+	 * intensity threshold as given by the argument 't', for the UInt PixelImages of the type as
+	 * that of the {@link AbstractUIntPixelImage} 'img', as an {@link IntensityLUT}.
+	 * <p>The mapping is as described in {@link #solarisation(AbstractUIntPixelImage, int, boolean)}.
+	 * The pixel intensities of the image 'img' are not accessed.
+	 * <p>The threshold 't' should be within the valid intensity range of the {@link AbstractUIntPixelImage} 'img' else
+	 * this method will throw an IllegalArgument Exception.
+	 *  
+	 * @param AbstractUIntPixelImage img
+	 * @param int t
+	 * @param boolean forward
+	 * @return IntensityLUT
+	 * @throws IllegalArgumentException
+	 * @see IntensityLUT
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public IntensityLUT solarisationLUT(AbstractUIntPixelImage img, int t, boolean forward) throws IllegalArgumentException
 	{
 		if(!img.validatePixel(t))
 			throw new IllegalArgumentException();
 		
 		final int maxPix = img.getMaxValidPixel();
-		final int h = img.getHeight();
-		final int w = img.getWidth();
+		int[] table = new int[maxPix + 1];
 		
-		AbstractUIntPixelImage result = (AbstractUIntPixelImage) img.getEquivalentBlankImage();
-		int pixel;
-		
-		if(forward){
-			
-			for(int i=0;i<h;i++)
-			{
-				for(int j=0;j<w;j++)
-				{
-					pixel = img.getPixel(i, j);
-					if(pixel >= t)
-						pixel = maxPix - pixel;
-					result.setPixel(pixel, i, j);
-				}
-			}
-		}
-		else{
-			for(int i=0;i<h;i++)
-			{
-				for(int j=0;j<w;j++)
-				{
-					pixel = img.getPixel(i, j);
-					if(pixel <= t)
-						pixel = maxPix - pixel;
-					result.setPixel(pixel, i, j);
-				}
-			}
+		for(int pixel=0;pixel<table.length;pixel++)
+		{
+			if(forward ? pixel >= t : pixel <= t)
+				table[pixel] = maxPix - pixel;
+			else
+				table[pixel] = pixel;
 		}
 		
-		return result;
+		return new IntensityLUT(table);
 	}
 	
 	// /**
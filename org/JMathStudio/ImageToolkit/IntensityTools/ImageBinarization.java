@@ -12,6 +12,9 @@ import org.JMathStudio.PixelImageToolkit.UIntPixelImage.AbstractUIntPixelImage;
  * This class define various algorithms to estimate threshold value for binarization of a
  * gray scale image.
  * <p>A gray scale image will be represented by an {@link AbstractUIntPixelImage}.
+ * <p>All the algorithms depend only upon the histogram of the image and can also be applied
+ * directly on a histogram, so that several thresholds can be estimated from a single
+ * histogram.
  * <pre>
  * AbstractUIntPixelImage img = UInt8PixelImage.importImage("path");//Import external image
  * as UInt PixelImage type.
@@ -23,6 +26,11 @@ import org.JMathStudio.PixelImageToolkit.UIntPixelImage.AbstractUIntPixelImage;
  * 
  * BinaryPixelImage binary2 = ib.otsu(img);//Convert input image to binary image using Otsu's
  * algorithm.
+ * 
+ * Vector hist = new Histogram().histogram(img);//Compute histogram of input image once.
+ * int[] thresholds = ib.thresholds(hist);//Estimate thresholds with all the algorithms
+ * from the same histogram.
+ * int t = ib.isoData(hist);//Estimate threshold with a single algorithm from the histogram.
  * </pre>
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  */
@@ -49,23 +57,38 @@ public final class ImageBinarization {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public int otsu(AbstractUIntPixelImage img){
+		try{
+			//Compute histogram for the given UInt PixelImage.
+			return otsu(histogram.histogram(img));
+		}catch(IllegalArgumentException e){
+			throw new BugEncounterException();
+		}
+	}
 
-		//Compute histogram for the given UInt PixelImage.
-		Vector hist = histogram.histogram(img);
-		int height = img.getHeight();
-		int width = img.getWidth();
+	/**
+	 * This method estimate the threshold value for binarization of the gray scale image with
+	 * histogram as given by the {@link Vector} 'hist' based upon the Otsu algorithm and return
+	 * the same.
+	 * <p>Each index element of the Vector 'hist' should give the count of the pixels with that
+	 * pixel intensity, see {@link Histogram#histogram(AbstractUIntPixelImage)}. The counts should
+	 * not be negative and the histogram should have at least one pixel else this method will
+	 * throw an IllegalArgument Exception.
+	 * @param Vector hist
+	 * @return int
+	 * @throws IllegalArgumentException
+	 * @see #otsu(AbstractUIntPixelImage)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int otsu(Vector hist) throws IllegalArgumentException{
 
 		//This many pixels in the image.
-		int totalPixels = height*width;
+		int totalPixels = f0(hist);
 		//Sum of all the pixel intensities in the image.
 		double totalSum=0;
 
-		for(int i=0;i<height;i++)
+		for(int a=0;a<hist.length();a++)
 		{
-			for(int j=0;j<width;j++)
-			{
-				totalSum+=img.getPixel(i, j);
-			}
+			totalSum+=a*(double)hist.getElement(a);
 		}
 		//This many different intensity levels in the image.
 		int intensityLevel = hist.length();
@@ -151,13 +174,31 @@ public final class ImageBinarization {
 	public int maximumEntropy(AbstractUIntPixelImage img){
 		try{
 			//Compute histogram for the given UInt PixelImage.
-			Vector hist = histogram.histogram(img);
+			return maximumEntropy(histogram.histogram(img));
+		}catch(IllegalArgumentException e){
+			throw new BugEncounterException();
+		}
+	}
 
-			int height = img.getHeight();
-			int width = img.getWidth();
+	/**
+	 * This method estimate the threshold value for binarization of the gray scale image with
+	 * histogram as given by the {@link Vector} 'hist' based upon the Maximum entropy algorithm
+	 * and return the same.
+	 * <p>Each index element of the Vector 'hist' should give the count of the pixels with that
+	 * pixel intensity, see {@link Histogram#histogram(AbstractUIntPixelImage)}. The counts should
+	 * not be negative and the histogram should have at least one pixel else this method will
+	 * throw an IllegalArgument Exception.
+	 * @param Vector hist
+	 * @return int
+	 * @throws IllegalArgumentException
+	 * @see #maximumEntropy(AbstractUIntPixelImage)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int maximumEntropy(Vector hist) throws IllegalArgumentException{
+		//This many pixels in the image.
+		int totalPixels = f0(hist);
 
-			//This many pixels in the image.
-			int totalPixels = height*width;
+		try{
 			//This many different intensity levels in the image.
 			int intensityLevel = hist.length();
 
@@ -243,8 +284,30 @@ public final class ImageBinarization {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public int isoData(AbstractUIntPixelImage img){
-		// Histogram of the given UInt PixelImage.
-		Vector hist = histogram.histogram(img);
+		try{
+			// Histogram of the given UInt PixelImage.
+			return isoData(histogram.histogram(img));
+		}catch(IllegalArgumentException e){
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method estimate the threshold value for binarization of the gray scale image with
+	 * histogram as given by the {@link Vector} 'hist' based upon the Iso-data algorithm and
+	 * return the same.
+	 * <p>Each index element of the Vector 'hist' should give the count of the pixels with that
+	 * pixel intensity, see {@link Histogram#histogram(AbstractUIntPixelImage)}. The counts should
+	 * not be negative and the histogram should have at least one pixel else this method will
+	 * throw an IllegalArgument Exception.
+	 * @param Vector hist
+	 * @return int
+	 * @throws IllegalArgumentException
+	 * @see #isoData(AbstractUIntPixelImage)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int isoData(Vector hist) throws IllegalArgumentException{
+		f0(hist);
 
 		int sum = 0;
 		int count = 0;
@@ -360,19 +423,194 @@ public final class ImageBinarization {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public int mean(AbstractUIntPixelImage img){
+		try{
+			return mean(histogram.histogram(img));
+		}catch(IllegalArgumentException e){
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method estimate the threshold value for binarization of the gray scale image with
+	 * histogram as given by the {@link Vector} 'hist' which is the mean value of the pixels and
+	 * return the same.
+	 * <p>Each index element of the Vector 'hist' should give the count of the pixels with that
+	 * pixel intensity, see {@link Histogram#histogram(AbstractUIntPixelImage)}. The counts should
+	 * not be negative and the histogram should have at least one pixel else this method will
+	 * throw an IllegalArgument Exception.
+	 * @param Vector hist
+	 * @return int
+	 * @throws IllegalArgumentException
+	 * @see #mean(AbstractUIntPixelImage)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int mean(Vector hist) throws IllegalArgumentException{
 		
-		int h = img.getHeight();
-		int w = img.getWidth();
+		int totalPixels = f0(hist);
 		
 		double sum = 0;
-		for(int i=0;i<h;i++)
+		for(int a=0;a<hist.length();a++)
+		{
+			sum+=a*(double)hist.getElement(a);
+		}
+		
+		return (int) Math.round(sum/totalPixels);
+	}
+
+	/**
+	 * This method estimate the threshold value for binarization of the gray scale image with
+	 * histogram as given by the {@link Vector} 'hist' based upon the Fisher criterion and return
+	 * the same.
+	 * <p>The Fisher threshold maximise the ratio of the squared difference of the class means to
+	 * the sum of the class variances, where the first class consist of the pixels with intensity
+	 * equal to or less than the threshold and the second class consist of the rest of the pixels.
+	 * <p>Each index element of the Vector 'hist' should give the count of the pixels with that
+	 * pixel intensity, see {@link Histogram#histogram(AbstractUIntPixelImage)}. The counts should
+	 * not be negative and the histogram should have at least one pixel else this method will
+	 * throw an IllegalArgument Exception.
+	 * @param Vector hist
+	 * @return int
+	 * @throws IllegalArgumentException
+	 * @see org.JMathStudio.ImageToolkit.ClusterTools.ImageClassifier#fisherBinaryClassification(AbstractUIntPixelImage)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int fisher(Vector hist) throws IllegalArgumentException{
+		f0(hist);
+		
+		float[] buffer = hist.accessVectorBuffer();
+		
+		//Minimum and maximum pixel intensity present in the image.
+		int min = 0;
+		while(buffer[min] == 0)
+			min++;
+		
+		int max = buffer.length-1;
+		while(buffer[max] == 0)
+			max--;
+		
+		return f1(buffer, min, max);
+	}
+
+	/**
+	 * This method estimate the threshold values for binarization of the gray scale image with
+	 * histogram as given by the {@link Vector} 'hist' based upon all the algorithms of this
+	 * class and return the same as an integer array.
+	 * <p>The return array contains the threshold estimated with the Otsu, Maximum entropy,
+	 * Iso-data, Mean and Fisher algorithms, in that order. All the thresholds are estimated from
+	 * the same histogram thus the image is scanned only once to compute the histogram.
+	 * <p>Each index element of the Vector 'hist' should give the count of the pixels with that
+	 * pixel intensity, see {@link Histogram#histogram(AbstractUIntPixelImage)}. The counts should
+	 * not be negative and the histogram should have at least one pixel else this method will
+	 * throw an IllegalArgument Exception.
+	 * @param Vector hist
+	 * @return int[]
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int[] thresholds(Vector hist) throws IllegalArgumentException{
+		return new int[]{otsu(hist), maximumEntropy(hist), isoData(hist), mean(hist), fisher(hist)};
+	}
+
+	/**
+	 * This method estimate the threshold values for binarization of the gray scale image 'img'
+	 * based upon all the algorithms of this class and return the same as an integer array.
+	 * <p>The histogram of the image is computed only once and all the thresholds are estimated
+	 * from it. See {@link #thresholds(Vector)} for the order of the return thresholds.
+	 * @param AbstractUIntPixelImage img
+	 * @return int[]
+	 * @see BinaryPixelImage#toBinaryPixelImage(AbstractUIntPixelImage, int)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int[] thresholds(AbstractUIntPixelImage img){
+		try{
+			return thresholds(histogram.histogram(img));
+		}catch(IllegalArgumentException e){
+			throw new BugEncounterException();
+		}
+	}
+
+	private int f0(Vector hist) throws IllegalArgumentException{
+		//Validate the histogram and return the number of pixels.
+		float[] buffer = hist.accessVectorBuffer();
+		double count = 0;
+		
+		for(int i=0;i<buffer.length;i++)
 		{
-			for(int j=0;j<w;j++)
+			if(buffer[i] < 0)
+				throw new IllegalArgumentException();
+			count+=buffer[i];
+		}
+		
+		if(count < 1 || count > Integer.MAX_VALUE)
+			throw new IllegalArgumentException();
+		
+		return (int) count;
+	}
+
+	private int f1(float[] hist, int min, int max){
+		
+		float[] cdf3 = new float[hist.length];
+		float[] cdf2 = new float[hist.length];
+		float[] cdf = new float[hist.length];
+				
+		cdf3[min] = hist[min]*min*min;
+		cdf2[min] = hist[min]*min;
+		cdf[min] = hist[min];
+		
+		for(int i= min + 1;i<=max;i++)
+		{
+			cdf3[i] = cdf3[i-1] + hist[i]*i*i;
+			cdf2[i] = cdf2[i-1] + hist[i]*i;
+			cdf[i] = cdf[i-1] + hist[i];
+			
+		}
+		
+		float[] mean1 = new float[hist.length];
+		float[] mean2 = new float[hist.length];
+		float[] std1 = new float[hist.length];
+		float[] std2 = new float[hist.length];
+		
+		float[] fisher = new float[hist.length];
+		
+		int maxIndex = -1;
+		float maxFisher = -Float.MAX_VALUE;
+		
+		for (int i = min; i <= max; i++) 
+		{
+			float upperCDF3 = cdf3[max] - cdf3[i];
+			float upperCDF2 = cdf2[max] - cdf2[i];
+			float upperCDF = cdf[max] - cdf[i];
+			
+			mean1[i] = cdf2[i]/cdf[i];
+			
+			if(i==max)
+				mean2[i]=max;
+			else
+				mean2[i] = (upperCDF2)/(upperCDF);
+			
+			std1[i] = (cdf3[i] - 2*mean1[i]*cdf2[i] + mean1[i]*mean1[i]*cdf[i])/cdf[i];
+
+			if(i==max)
+				std2[i]=min;
+			else
+				std2[i]= (upperCDF3 - 2*mean2[i]*upperCDF2 + mean2[i]*mean2[i]*upperCDF)
+				 / (upperCDF);
+			
+			float deltaMean = (mean1[i]-mean2[i]);
+			
+			fisher[i] = (deltaMean*deltaMean)/(std1[i]+std2[i]);
+			
+			if(fisher[i]>maxFisher)
 			{
-				sum+=img.getPixel(i, j);
+				maxIndex=i;
+				maxFisher=fisher[i];
 			}
+				
 		}
-		
-		return (int) Math.round(sum/(h*w));
+
+		if(maxIndex <0)
+			throw new BugEncounterException();
+		else
+			return maxIndex;
 	}
 }
@@ -0,0 +1,178 @@
+package org.JMathStudio.ImageToolkit.IntensityTools;
+
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.PixelImageToolkit.UIntPixelImage.AbstractUIntPixelImage;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
+
+/**
+ * This class define an intensity Lookup table (LUT) which map each pixel intensity of an
+ * UInt PixelImage to a new pixel intensity.
+ * <p>A point operator on an UInt PixelImage depends only upon the pixel intensity, thus it
+ * can be evaluated once for each of the valid pixel intensities, 256 for an UInt8 PixelImage
+ * and 65536 for an UInt16 PixelImage, and stored in a table. Applying the operator on an
+ * image then reduces to a table lookup per pixel.
+ * <p>The table entry at index 'I' gives the mapped pixel intensity for the input pixel
+ * intensity 'I'. The length of the table should be one more than the maximum valid pixel
+ * intensity of the UInt PixelImage on which it is applied.
+ * <p>A chain of point operators can be composed in to a single lookup table with the method
+ * {@link #compose(IntensityLUT)}, so that the whole chain cost a single pass over the image.
+ * <p>The lookup tables for the built in point operators can be obtained from the
+ * {@link PointOperator} and {@link GrayLevelTransform} classes.
+ * <pre>Usage:
+ * AbstractUIntPixelImage img = UInt16PixelImage.importImage("path");//Import input image
+ * as UInt PixelImage.
+ *
+ * PointOperator po = new PointOperator();//Create an instance of PointOperator.
+ * GrayLevelTransform glt = new GrayLevelTransform();//Create an instance of GrayLevelTransform.
+ *
+ * IntensityLUT lut = po.powerLawLUT(img, 0.5f).compose(glt.histoStretchingLUT(img, lt, ut))
+ * .compose(po.negativeLUT(img));//Compose a chain of point operators.
+ *
+ * AbstractUIntPixelImage result = lut.apply(img);//Apply the chain on the input image in a
+ * single pass.
+ * </pre>
+ * @see PointOperator
+ * @see GrayLevelTransform
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class IntensityLUT {
+
+	private int[] i0;
+
+	/**
+	 * This will create an intensity Lookup table from the integer array 'table', where the
+	 * element at index 'I' specify the mapped pixel intensity for the input pixel intensity 'I'.
+	 * <p>The array 'table' should not be empty and all its elements should not be less than
+	 * '0' else this method will throw an IllegalArgument Exception.
+	 * <p>A deep copy of the array 'table' is made.
+	 *
+	 * @param int[] table
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public IntensityLUT(int[] table) throws IllegalArgumentException {
+		if (table.length < 1)
+			throw new IllegalArgumentException();
+
+		for (int i = 0; i < table.length; i++) {
+			if (table[i] < 0)
+				throw new IllegalArgumentException();
+		}
+
+		this.i0 = new int[table.length];
+		System.arraycopy(table, 0, this.i0, 0, table.length);
+	}
+
+	/**
+	 * This method will return the length of the given Lookup table. This is the number of input
+	 * pixel intensities which are mapped by this table.
+	 *
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int length() {
+		return this.i0.length;
+	}
+
+	/**
+	 * This method will return the mapped pixel intensity for the input pixel intensity as given
+	 * by the argument 'pixel'.
+	 * <p>The argument 'pixel' should be in the range of 0 to one less than the length of this
+	 * table else this method will throw an ArrayIndexOutOfBound Exception.
+	 *
+	 * @param int pixel
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int map(int pixel) {
+		return this.i0[pixel];
+	}
+
+	/**
+	 * This method will compose the given Lookup table with the Lookup table 'next' and return
+	 * the resultant Lookup table as an {@link IntensityLUT}.
+	 * <p>Applying the resultant table is equivalent to applying the given table followed by the
+	 * table 'next'.
+	 * <p>All the mapped intensities of the given table should be valid input intensities of the
+	 * table 'next', that is less than the length of the table 'next', else this method will throw
+	 * an IllegalArgument Exception.
+	 *
+	 * @param IntensityLUT next
+	 * @return IntensityLUT
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public IntensityLUT compose(IntensityLUT next) throws IllegalArgumentException {
+		int[] table = new int[i0.length];
+
+		for (int i = 0; i < table.length; i++) {
+			if (i0[i] >= next.i0.length)
+				throw new IllegalArgumentException();
+
+			table[i] = next.i0[i0[i]];
+		}
+
+		return new IntensityLUT(table);
+	}
+
+	/**
+	 * This method will apply the given Lookup table on the UInt PixelImage as represented by an
+	 * {@link AbstractUIntPixelImage} 'img' and return the resultant UInt PixelImage as an
+	 * {@link AbstractUIntPixelImage} of the same type.
+	 * <p>The length of this table should be one more than the maximum valid pixel intensity of
+	 * the image 'img' and the mapped intensities for all the valid pixel intensities of the image
+	 * 'img' should also be valid pixel intensities else this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>The rows of the image are mapped concurrently.
+	 *
+	 * @param AbstractUIntPixelImage img
+	 * @return AbstractUIntPixelImage
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public AbstractUIntPixelImage apply(final AbstractUIntPixelImage img)
+			throws IllegalArgumentException {
+		if (i0.length != img.getMaxValidPixel() + 1)
+			throw new IllegalArgumentException();
+
+		// Entries below the minimum valid pixel intensity are never looked up.
+		for (int i = img.getMinValidPixel(); i < i0.length; i++) {
+			if (!img.validatePixel(i0[i]))
+				throw new IllegalArgumentException();
+		}
+
+		final AbstractUIntPixelImage result = (AbstractUIntPixelImage) img
+				.getEquivalentBlankImage();
+		final int width = img.getWidth();
+		final int[] table = this.i0;
+
+		ParallelExecutor.execute(img.getHeight(), 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				try {
+					for (int i = start; i < end; i++) {
+						for (int j = 0; j < width; j++)
+							result.setPixel(table[img.getPixel(i, j)], i, j);
+					}
+				} catch (IllegalArgumentException e) {
+					throw new BugEncounterException();
+				}
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * This method will return the integer array representing the given Lookup table.
+	 * <p>The array is returned by reference and any modification to it will modify the
+	 * given Lookup table.
+	 *
+	 * @return int[]
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int[] accessTable() {
+		return this.i0;
+	}
+}
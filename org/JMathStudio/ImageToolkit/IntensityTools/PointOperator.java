@@ -29,6 +29,12 @@ import org.JMathStudio.PixelImageToolkit.UIntPixelImage.AbstractUIntPixelImage;
  * 
  * AbstractUIntPixelImage result4 = po.powerLaw(img2, gamma);//Apply gamma correction on input
  * image for specific 'gamma' value.
+ * 
+ * IntensityLUT lut = po.powerLawLUT(img2, gamma).compose(po.negativeLUT(img2));//Compose
+ * gamma correction and negative in to a single Lookup table.
+ * 
+ * AbstractUIntPixelImage result5 = lut.apply(img2);//Apply the composed operators on input
+ * image in a single pass.
  * </pre>	
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  * 
@@ -455,27 +461,41 @@ public final class PointOperator {
 	public AbstractUIntPixelImage powerLaw(AbstractUIntPixelImage img,
 			float gamma) {
 		try {
-			AbstractUIntPixelImage result = (AbstractUIntPixelImage) img
-					.getEquivalentBlankImage();
-
-			int pixel;
-			float MAX = img.getMaxValidPixel();
-
-			for (int i = 0; i < result.getHeight(); i++) {
-				for (int j = 0; j < result.getWidth(); j++) {
-					pixel = (int) (MAX * Math.pow((img.getPixel(i, j) / MAX),
-							gamma));
-					result.setPixel(pixel, i, j);
-				}
-			}
-
-			return result;
-		} catch (ArrayIndexOutOfBoundsException e) {
-			throw new BugEncounterException();
+			return powerLawLUT(img, gamma).apply(img);
 		} catch (IllegalArgumentException e) {
 			throw new BugEncounterException();
 		}
+	}
+
+	/**
+	 * This method will return the intensity Lookup table for the Power law operator (Gamma
+	 * correction) with the variable 'gamma', for the UInt PixelImages of the type as that of
+	 * the {@link AbstractUIntPixelImage} 'img', as an {@link IntensityLUT}.
+	 * <p>The mapping is as described in {@link #powerLaw(AbstractUIntPixelImage, float)}. The
+	 * pixel intensities of the image 'img' are not accessed.
+	 * <p>The argument 'gamma' should not be less than 0 else this method will throw an
+	 * IllegalArgument Exception.
+	 * 
+	 * @param AbstractUIntPixelImage
+	 *            img
+	 * @param float gamma
+	 * @return IntensityLUT
+	 * @throws IllegalArgumentException
+	 * @see IntensityLUT
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public IntensityLUT powerLawLUT(AbstractUIntPixelImage img, float gamma)
+			throws IllegalArgumentException {
+		if (gamma < 0)
+			throw new IllegalArgumentException();
 
+		float MAX = img.getMaxValidPixel();
+		int[] table = new int[img.getMaxValidPixel() + 1];
+
+		for (int v = 0; v < table.length; v++)
+			table[v] = (int) (MAX * Math.pow((v / MAX), gamma));
+
+		return new IntensityLUT(table);
 	}
 
 	/**
@@ -501,25 +521,36 @@ public final class PointOperator {
 	 */
 	public AbstractUIntPixelImage logTransform(AbstractUIntPixelImage img) {
 		try {
-			AbstractUIntPixelImage result = (AbstractUIntPixelImage) img
-					.getEquivalentBlankImage();
+			return logTransformLUT(img).apply(img);
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
 
-			int pixel;
+	/**
+	 * This method will return the intensity Lookup table for the Natural log operator, for the
+	 * UInt PixelImages of the type as that of the {@link AbstractUIntPixelImage} 'img', as an
+	 * {@link IntensityLUT}.
+	 * <p>The mapping is as described in {@link #logTransform(AbstractUIntPixelImage)}. The
+	 * pixel intensities of the image 'img' are not accessed.
+	 * 
+	 * @param AbstractUIntPixelImage
+	 *            img
+	 * @return IntensityLUT
+	 * @see IntensityLUT
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public IntensityLUT logTransformLUT(AbstractUIntPixelImage img) {
+		int[] table = new int[img.getMaxValidPixel() + 1];
 
-			for (int i = 0; i < result.getHeight(); i++) {
-				for (int j = 0; j < result.getWidth(); j++) {
-					pixel = (int) Math.log(1 + img.getPixel(i, j));
-					result.setPixel(pixel, i, j);
-				}
-			}
+		for (int v = 0; v < table.length; v++)
+			table[v] = (int) Math.log(1 + v);
 
-			return result;
-		} catch (ArrayIndexOutOfBoundsException e) {
-			throw new BugEncounterException();
+		try {
+			return new IntensityLUT(table);
 		} catch (IllegalArgumentException e) {
 			throw new BugEncounterException();
 		}
-
 	}
 
 	/**
@@ -545,26 +576,38 @@ public final class PointOperator {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public AbstractUIntPixelImage negative(AbstractUIntPixelImage img) {
-
 		try {
-			AbstractUIntPixelImage result = (AbstractUIntPixelImage) img
-					.getEquivalentBlankImage();
+			return negativeLUT(img).apply(img);
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
 
-			int MAX = img.getMaxValidPixel();
+	/**
+	 * This method will return the intensity Lookup table for the Negative operator, for the
+	 * UInt PixelImages of the type as that of the {@link AbstractUIntPixelImage} 'img', as an
+	 * {@link IntensityLUT}.
+	 * <p>The mapping is as described in {@link #negative(AbstractUIntPixelImage)}. The
+	 * pixel intensities of the image 'img' are not accessed.
+	 * 
+	 * @param AbstractUIntPixelImage
+	 *            img
+	 * @return IntensityLUT
+	 * @see IntensityLUT
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public IntensityLUT negativeLUT(AbstractUIntPixelImage img) {
+		int MAX = img.getMaxValidPixel();
+		int[] table = new int[MAX + 1];
 
-			for (int i = 0; i < result.getHeight(); i++) {
-				for (int j = 0; j < result.getWidth(); j++) {
-					result.setPixel(MAX - img.getPixel(i, j), i, j);
-				}
-			}
+		for (int v = 0; v < table.length; v++)
+			table[v] = MAX - v;
 
-			return result;
-		} catch (ArrayIndexOutOfBoundsException e) {
-			throw new BugEncounterException();
+		try {
+			return new IntensityLUT(table);
 		} catch (IllegalArgumentException e) {
 			throw new BugEncounterException();
 		}
-
 	}
 
 	/**
@@ -612,32 +655,47 @@ public final class PointOperator {
 	public AbstractUIntPixelImage sigmoidMap(AbstractUIntPixelImage img,
 			float alpha, int beta)
 			throws IllegalArgumentException {
-		if (alpha == 0)
-			throw new IllegalArgumentException();
+		IntensityLUT lut = sigmoidMapLUT(img, alpha, beta);
 
-		else {
-			try {
-				int MAX = img.getMaxValidPixel();
-
-				AbstractUIntPixelImage result = (AbstractUIntPixelImage) img
-						.getEquivalentBlankImage();
+		try {
+			return lut.apply(img);
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
 
-				for (int i = 0; i < result.getHeight(); i++) {
-					for (int j = 0; j < result.getWidth(); j++) {
-						int Iip = img.getPixel(i, j);
-						double map = 1.0 / (1.0 + Math.exp(-(Iip - beta)
-								/ alpha));
-						int Iop = (int) (map * MAX);
+	/**
+	 * This method will return the intensity Lookup table for the Sigmoidal operator with the
+	 * parameters 'alpha' and 'beta', for the UInt PixelImages of the type as that of the
+	 * {@link AbstractUIntPixelImage} 'img', as an {@link IntensityLUT}.
+	 * <p>The mapping is as described in {@link #sigmoidMap(AbstractUIntPixelImage, float, int)}.
+	 * The pixel intensities of the image 'img' are not accessed.
+	 * <p>The argument 'alpha' should not be '0' else this method will throw an IllegalArgument
+	 * Exception.
+	 * 
+	 * @param AbstractUIntPixelImage
+	 *            img
+	 * @param float alpha
+	 * @param int beta
+	 * @return IntensityLUT
+	 * @throws IllegalArgumentException
+	 * @see IntensityLUT
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public IntensityLUT sigmoidMapLUT(AbstractUIntPixelImage img, float alpha,
+			int beta) throws IllegalArgumentException {
+		if (alpha == 0)
+			throw new IllegalArgumentException();
 
-						result.setPixel(Iop, i, j);
-					}
-				}
+		int MAX = img.getMaxValidPixel();
+		int[] table = new int[MAX + 1];
 
-				return result;
-			} catch (IllegalArgumentException e) {
-				throw new BugEncounterException();
-			}
+		for (int v = 0; v < table.length; v++) {
+			double map = 1.0 / (1.0 + Math.exp(-(v - beta) / alpha));
+			table[v] = (int) (map * MAX);
 		}
+
+		return new IntensityLUT(table);
 	}
 	
 	private float[] f0(Cell cell) {
@@ -1,6 +1,6 @@
 package org.JMathStudio.ImageToolkit.SpatialTools;
 
-import java.util.Vector;
+import java.util.Arrays;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.DataStructure.Structure.Neighbor;
@@ -363,30 +363,39 @@ public final class BinaryConnectedComponent {
 	}
 	
 	//Act on the input Cell.
+	//Labels are renumbered in the order of first appearance with a lookup table indexed
+	//by the label, as the labels do not exceed the number of pixels.
 	private void f4(Cell res)
 	{
-		Vector<Long> map = new Vector<Long>();
-		
 		int h = res.getRowCount();
 		int w = res.getColCount();
 		
 		float[][] labels = res.accessCellBuffer();
-		//Add label 0 first, thus '0th' label will always has indexOf '0'.
-		//So 0 in input Cell will map 0 in output Cell.
-		map.add(new Long(0));
 		
+		long max = 0;
 		for(int i=0;i<h;i++)
 		{
 			for(int j=0;j<w;j++)
 			{
-				Long label = new Long((long)labels[i][j]);
-				if(map.contains(label)){
-					labels[i][j] = map.indexOf(label);
-				}
-				else{
-					map.add(label);	
-					labels[i][j] = map.indexOf(label);
-				}
+				if(labels[i][j] > max)
+					max = (long) labels[i][j];
+			}
+		}
+		
+		int[] map = new int[(int) max + 1];
+		Arrays.fill(map, -1);
+		map[0] = 0;
+		int next = 1;
+		
+		for(int i=0;i<h;i++)
+		{
+			for(int j=0;j<w;j++)
+			{
+				int label = (int) labels[i][j];
+				if(map[label] < 0)
+					map[label] = next++;
+				
+				labels[i][j] = map[label];
 			}
 		}
 		
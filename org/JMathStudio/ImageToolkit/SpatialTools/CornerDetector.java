@@ -1,8 +1,15 @@
 package org.JMathStudio.ImageToolkit.SpatialTools;
 
+import java.util.Arrays;
+
 import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.DataStructure.Generic.Index2D;
+import org.JMathStudio.DataStructure.Generic.Index2DList;
 import org.JMathStudio.ImageToolkit.Utilities.KernelFactory;
+import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define various Corner detection operations on a discrete real
@@ -16,6 +23,9 @@ import org.JMathStudio.Exceptions.IllegalArgumentException;
  * 
  * Cell result = cd.plesseyOperator(img, N, K);//Apply plessey operator to detect corner
  * points in input image with suitable parameters.
+ * 
+ * Index2DList corners = cd.detectCorners(img, sigma, K, false, radius, threshold, n);//Detect
+ * the 'n' strongest Harris corners in input image.
  * </pre>
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  * 
@@ -383,4 +393,310 @@ public final class CornerDetector {
 		return result;
 	}
 
+	/**
+	 * This method compute the structure tensor based cornerness for each pixel of a discrete
+	 * real image as represented by the Cell 'cell'.
+	 * <p>
+	 * The structure tensor is the gaussian weighted sum of the products Ix*Ix, Iy*Iy and Ix*Iy
+	 * of the image gradients over the neighbourhood of a pixel, where the gradients are
+	 * estimated by the central difference. If the argument 'shiTomasi' is false, the Harris
+	 * cornerness 'det - K*trace*trace' of the tensor is computed, else the Shi-Tomasi cornerness,
+	 * the minimum eigen value of the tensor, is computed and the argument 'K' is ignored.
+	 * <p>
+	 * The argument 'sigma' specify the standard deviation of the gaussian window in sample
+	 * points and should be more than '0' else this method will throw an IllegalArgument
+	 * Exception. The window extend up to three times 'sigma' on either side of the pixel. The
+	 * argument 'K' specify a constant for the Harris cornerness, ideally in the range of [0.04
+	 * 0.15].
+	 * <p>
+	 * The gradient products are computed only once and smoothed with a separable gaussian
+	 * window, thus the cost per pixel is linear in the window width. The rows of the image are
+	 * processed concurrently.
+	 * <p>
+	 * The returned Cell contents the corresponding cornerness values for each pixel position
+	 * in the original image.
+	 * 
+	 * @param Cell
+	 *            cell
+	 * @param float sigma
+	 * @param float K
+	 * @param boolean shiTomasi
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @see #detectCorners(Cell, float, float, boolean, int, float, int)
+	 * @see #plesseyOperator(Cell, int, float)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell structureTensorOperator(Cell cell, float sigma, float K,
+			boolean shiTomasi) throws IllegalArgumentException {
+		if (sigma <= 0)
+			throw new IllegalArgumentException();
+
+		int height = cell.getRowCount();
+		int width = cell.getColCount();
+
+		float[] response = f0(cell, sigma, K, shiTomasi);
+
+		Cell result = new Cell(height, width);
+		float[][] res = result.accessCellBuffer();
+
+		for (int i = 0; i < height; i++)
+			System.arraycopy(response, i * width, res[i], 0, width);
+
+		return result;
+	}
+
+	/**
+	 * This method detect the corner points in a discrete real image as represented by the
+	 * Cell 'cell' and return the location of the detected corners as an {@link Index2DList}.
+	 * <p>
+	 * The cornerness of each pixel is computed from the structure tensor as described in
+	 * {@link #structureTensorOperator(Cell, float, float, boolean)} for the arguments
+	 * 'sigma', 'K' and 'shiTomasi'.
+	 * <p>
+	 * A pixel is a corner if its cornerness is more than the argument 'threshold' and is the
+	 * maximum within the square neighbourhood of half width as given by the argument 'radius'.
+	 * Among the equal maxima of a neighbourhood only the first in the raster order is retained.
+	 * The argument 'threshold' should not be less than '0' and the argument 'radius' should be
+	 * more than '0' else this method will throw an IllegalArgument Exception.
+	 * <p>
+	 * The corners are ordered in the decreasing order of their cornerness and only the strongest
+	 * corners, up to the number as given by the argument 'maxCorners', are returned. If the
+	 * argument 'maxCorners' is not more than '0' all the corners are returned.
+	 * <p>
+	 * The non maximum suppression is carried out concurrently over the rows of the image,
+	 * producing the candidate corners directly without any intermediate response image.
+	 * <p>
+	 * The {@link Index2D} of a corner gives its row index as 'Y' and its column index as 'X'.
+	 * If no corner is detected an empty Index2DList is returned.
+	 * 
+	 * @param Cell
+	 *            cell
+	 * @param float sigma
+	 * @param float K
+	 * @param boolean shiTomasi
+	 * @param int radius
+	 * @param float threshold
+	 * @param int maxCorners
+	 * @return Index2DList
+	 * @throws IllegalArgumentException
+	 * @see #structureTensorOperator(Cell, float, float, boolean)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Index2DList detectCorners(Cell cell, float sigma, float K,
+			boolean shiTomasi, final int radius, final float threshold,
+			int maxCorners) throws IllegalArgumentException {
+		if (sigma <= 0 || radius < 1 || threshold < 0)
+			throw new IllegalArgumentException();
+
+		final int height = cell.getRowCount();
+		final int width = cell.getColCount();
+		final float[] response = f0(cell, sigma, K, shiTomasi);
+
+		// Candidate corners of each chunk packed as cornerness bits and
+		// reversed raster index, so that ascending order of the keys is the
+		// ascending order of the cornerness.
+		final long[][] partial = new long[ParallelExecutor.getChunkCount(height,
+				16)][];
+		final int[] counts = new int[partial.length];
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				long[] keys = new long[64];
+				int count = 0;
+
+				for (int i = start; i < end; i++) {
+					int y0 = Math.max(0, i - radius);
+					int y1 = Math.min(height - 1, i + radius);
+
+					for (int j = 0; j < width; j++) {
+						int index = i * width + j;
+						float v = response[index];
+
+						if (v <= threshold)
+							continue;
+
+						int x0 = Math.max(0, j - radius);
+						int x1 = Math.min(width - 1, j + radius);
+						boolean max = true;
+
+						for (int y = y0; y <= y1 && max; y++) {
+							int base = y * width;
+
+							for (int x = x0; x <= x1; x++) {
+								int n = base + x;
+								float u = response[n];
+
+								if (u > v || (u == v && n < index)) {
+									max = false;
+									break;
+								}
+							}
+						}
+
+						if (max) {
+							if (count == keys.length) {
+								long[] tmp = new long[count * 2];
+								System.arraycopy(keys, 0, tmp, 0, count);
+								keys = tmp;
+							}
+
+							// Cornerness is positive, thus its bits order as
+							// the value.
+							keys[count++] = ((long) Float.floatToIntBits(v) << 32)
+									| (Integer.MAX_VALUE - index);
+						}
+					}
+				}
+
+				partial[chunk] = keys;
+				counts[chunk] = count;
+			}
+		});
+
+		int total = 0;
+		for (int c = 0; c < partial.length; c++)
+			total += counts[c];
+
+		long[] keys = new long[total];
+		int offset = 0;
+		for (int c = 0; c < partial.length; c++) {
+			System.arraycopy(partial[c], 0, keys, offset, counts[c]);
+			offset += counts[c];
+		}
+
+		Arrays.sort(keys);
+
+		int n = maxCorners > 0 ? Math.min(maxCorners, total) : total;
+
+		try {
+			Index2DList corners = new Index2DList(n);
+
+			for (int k = 0; k < n; k++) {
+				int index = Integer.MAX_VALUE
+						- (int) (keys[total - 1 - k] & 0xFFFFFFFFL);
+				corners.add(new Index2D(index / width, index % width));
+			}
+
+			return corners;
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	private float[] f0(Cell cell, float sigma, final float K,
+			final boolean shiTomasi) {
+		final float[][] src = cell.accessCellBuffer();
+		final int height = cell.getRowCount();
+		final int width = cell.getColCount();
+
+		// Normalised 1D gaussian window extending to 3 sigma.
+		final int r = Math.max(1, (int) Math.ceil(3 * sigma));
+		final float[] g = new float[2 * r + 1];
+		float sum = 0;
+		for (int k = -r; k <= r; k++) {
+			g[k + r] = (float) Math.exp(-k * k / (2.0 * sigma * sigma));
+			sum += g[k + r];
+		}
+		for (int k = 0; k < g.length; k++)
+			g[k] /= sum;
+
+		final int size = height * width;
+		final float[] xx = new float[size];
+		final float[] yy = new float[size];
+		final float[] xy = new float[size];
+
+		// Gradient products, smoothed along the rows.
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				float[] pxx = new float[width];
+				float[] pyy = new float[width];
+				float[] pxy = new float[width];
+
+				for (int i = start; i < end; i++) {
+					float[] row = src[i];
+
+					for (int j = 0; j < width; j++) {
+						float dx = 0, dy = 0;
+
+						if (j > 0 && j < width - 1)
+							dx = row[j + 1] - row[j - 1];
+						if (i > 0 && i < height - 1)
+							dy = src[i + 1][j] - src[i - 1][j];
+
+						pxx[j] = dx * dx;
+						pyy[j] = dy * dy;
+						pxy[j] = dx * dy;
+					}
+
+					int base = i * width;
+
+					for (int j = 0; j < width; j++) {
+						float a = 0, b = 0, c = 0;
+						int k0 = Math.max(-r, -j);
+						int k1 = Math.min(r, width - 1 - j);
+
+						for (int k = k0; k <= k1; k++) {
+							float w = g[k + r];
+							a += w * pxx[j + k];
+							b += w * pyy[j + k];
+							c += w * pxy[j + k];
+						}
+
+						xx[base + j] = a;
+						yy[base + j] = b;
+						xy[base + j] = c;
+					}
+				}
+			}
+		});
+
+		final float[] response = new float[size];
+
+		// Smoothing along the columns and cornerness.
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				float[] a = new float[width];
+				float[] b = new float[width];
+				float[] c = new float[width];
+
+				for (int i = start; i < end; i++) {
+					Arrays.fill(a, 0);
+					Arrays.fill(b, 0);
+					Arrays.fill(c, 0);
+
+					int k0 = Math.max(-r, -i);
+					int k1 = Math.min(r, height - 1 - i);
+
+					for (int k = k0; k <= k1; k++) {
+						float w = g[k + r];
+						int from = (i + k) * width;
+
+						for (int j = 0; j < width; j++) {
+							a[j] += w * xx[from + j];
+							b[j] += w * yy[from + j];
+							c[j] += w * xy[from + j];
+						}
+					}
+
+					int base = i * width;
+
+					for (int j = 0; j < width; j++) {
+						float trace = a[j] + b[j];
+						float det = a[j] * b[j] - c[j] * c[j];
+
+						if (shiTomasi) {
+							float d = a[j] - b[j];
+							response[base + j] = 0.5f * (trace - (float) Math
+									.sqrt(d * d + 4 * c[j] * c[j]));
+						} else
+							response[base + j] = det - K * trace * trace;
+					}
+				}
+			}
+		});
+
+		return response;
+	}
+
 }
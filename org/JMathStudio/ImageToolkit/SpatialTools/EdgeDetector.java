@@ -10,6 +10,8 @@ import org.JMathStudio.ImageToolkit.FilterTools.SpatialFilterMaker;
 import org.JMathStudio.ImageToolkit.GeneralTools.Conv2DTools;
 import org.JMathStudio.MathToolkit.MatrixTools.MatrixTools;
 import org.JMathStudio.MathToolkit.StatisticalTools.CellStatistics.CellStatistics;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class provide various Edge detection operations on a discrete real image.
@@ -26,6 +28,9 @@ import org.JMathStudio.MathToolkit.StatisticalTools.CellStatistics.CellStatistic
  * 
  * Cell edge2 = ed.homogeneityOperator(img);//Apply homogeneity operator on input image to
  * estimate edge points.
+ * 
+ * Cell edge3 = ed.canny(img, low, high, true);//Apply canny operator with hysteresis
+ * thresholding on input image to estimate edge points.
  * </pre>
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  * 
@@ -175,42 +180,15 @@ public final class EdgeDetector {
 			SpatialFilter filt = SpatialFilterMaker.gaussianFilter(5, 1);
 			Cell tmp = filt.filter(cell);
 
-			Conv2DTools conv = new Conv2DTools();
 			//Get magnitude and angles of edge at each pixel using the sobel operation.
 			//Any operator would do, sobel is the most used.
 			ImageGradient sobel = ImageGradient.sobel();
 			
-			//Compute both magnitude and direction simultaneously to improve performance.
-			//donot use the sobel operator to get the magnitude and direction directly as
-			//it will recompute convolution twice for both.
-			Cell gx = conv.linearConvSame(tmp, sobel.accessHorizontalGradientMask());
-			Cell gy = conv.linearConvSame(tmp, sobel.accessVerticalGradientMask());
-
+			//Compute both magnitude and direction simultaneously in a single pass.
 			Cell mag = new Cell(tmp.getRowCount(),tmp.getColCount());
 			Cell dir = new Cell(tmp.getRowCount(),tmp.getColCount());
 			
-			float constant = (float) (Math.PI/2);
-			float x,y;
-			float abs;
-			
-			for (int i = 0; i < mag.getRowCount(); i++) 
-			{
-				for (int j = 0; j < dir.getColCount(); j++)
-				{
-					x = gx.getElement(i, j);
-					y = gy.getElement(i, j);
-					
-					if (x == 0) {
-							dir.setElement(constant, i, j);
-					} 
-					else {
-						dir.setElement((float) Math.atan(y/x), i, j);
-					}
-					
-					abs = (float) Math.sqrt((x * x + y * y));
-					mag.setElement(abs, i, j);
-				}
-			}
+			sobel.computeGradient(tmp, null, null, mag, dir);
 			
 			//Round of the angles to the 4 different angles, 0,45,90 & 135.
 			dir = f3(dir);
@@ -280,8 +258,141 @@ public final class EdgeDetector {
 
 		} catch (IllegalArgumentException e) {
 			throw new BugEncounterException();
+		} catch (DimensionMismatchException e) {
+			throw new BugEncounterException();
+		}
+
+	}
+
+	/**
+	 * This method define the Canny Operator with hysteresis thresholding, for the
+	 * detection of Edge points, on a discrete real image as represented by the {@link Cell}
+	 * 'cell'.
+	 * <p>
+	 * The image is smoothed with a 5x5 gaussian filter of standard deviation 1, the
+	 * gradient is computed with the Sobel operator and the gradient magnitude is thinned
+	 * by suppressing the non maximum along the quantised gradient direction. Thinned pixels
+	 * with gradient magnitude not less than 'highThreshold' are strong edge points and those
+	 * with gradient magnitude not less than 'lowThreshold' are weak edge points. The weak edge
+	 * points which are 8 connected to a strong edge point, directly or through other weak edge
+	 * points, are retained as edge points.
+	 * <p>
+	 * Unlike {@link #canny(Cell, float)}, the arguments 'lowThreshold' and 'highThreshold'
+	 * specify the cut-off directly in the units of the gradient magnitude of the smoothed
+	 * image. The argument 'lowThreshold' should be more than or equal to 0 and 'highThreshold'
+	 * should not be less than 'lowThreshold' else this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>
+	 * The smoothing, gradient and non maximum suppression are fused in to a single pass over
+	 * the strips of rows of the image, each strip reading the few bordering rows it requires,
+	 * and the edge states are recorded in a byte map. Hysteresis then trace the edges from the
+	 * strong edge points using an explicit stack. If the argument 'parallel' is true, the strips
+	 * are processed concurrently.
+	 * <p>
+	 * The result of the Canny Edge Operation is returned as a Cell containing
+	 * 1's and 0's, with 1's indicating the presence of an Edge at the
+	 * corresponding pixel position in the original Image.
+	 * 
+	 * @param Cell
+	 *            cell
+	 * @param float lowThreshold
+	 * @param float highThreshold
+	 * @param boolean parallel
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @see #canny(Cell, float)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell canny(Cell cell, final float lowThreshold,
+			final float highThreshold, boolean parallel)
+			throws IllegalArgumentException {
+		if (lowThreshold < 0 || highThreshold < lowThreshold) {
+			throw new IllegalArgumentException();
+		}
+
+		final float[][] src = cell.accessCellBuffer();
+		final int h = cell.getRowCount();
+		final int w = cell.getColCount();
+
+		// Edge states, 0 : none, 1 : weak, 2 : strong, 3 : traced edge.
+		final byte[] state = new byte[h * w];
+
+		// Normalised 1D gaussian with standard deviation 1 over 5 taps, 5x5
+		// gaussian filter being separable.
+		final float[] g = new float[5];
+		float sum = 0;
+		for (int k = 0; k < 5; k++) {
+			g[k] = (float) Math.exp(-(k - 2) * (k - 2) / 2.0);
+			sum += g[k];
+		}
+		for (int k = 0; k < 5; k++)
+			g[k] /= sum;
+
+		ParallelTask task = new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				f4(src, h, w, start, end, g, lowThreshold, highThreshold, state);
+			}
+		};
+
+		if (parallel)
+			ParallelExecutor.execute(h, 16, task);
+		else
+			task.run(0, 0, h);
+
+		// Hysteresis, trace weak edge points 8 connected to strong edge points.
+		int[] stack = new int[256];
+		int top = 0;
+
+		for (int p = 0; p < state.length; p++) {
+			if (state[p] != 2)
+				continue;
+
+			state[p] = 3;
+			stack[top++] = p;
+
+			while (top > 0) {
+				int q = stack[--top];
+				int y = q / w;
+				int x = q % w;
+
+				for (int dy = -1; dy <= 1; dy++) {
+					int Y = y + dy;
+					if (Y < 0 || Y >= h)
+						continue;
+
+					for (int dx = -1; dx <= 1; dx++) {
+						int X = x + dx;
+						if (X < 0 || X >= w)
+							continue;
+
+						int n = Y * w + X;
+
+						if (state[n] == 1 || state[n] == 2) {
+							state[n] = 3;
+
+							if (top == stack.length) {
+								int[] tmp = new int[top * 2];
+								System.arraycopy(stack, 0, tmp, 0, top);
+								stack = tmp;
+							}
+							stack[top++] = n;
+						}
+					}
+				}
+			}
 		}
 
+		Cell result = new Cell(h, w);
+		float[][] res = result.accessCellBuffer();
+
+		for (int i = 0; i < h; i++) {
+			for (int j = 0; j < w; j++) {
+				if (state[i * w + j] == 3)
+					res[i][j] = 1;
+			}
+		}
+
+		return result;
 	}
 
 	/**
@@ -384,6 +495,140 @@ public final class EdgeDetector {
 		}
 		
 	}
+	private void f4(float[][] src, int h, int w, int start, int end,
+			float[] g, float low, float high, byte[] state) {
+		// Rows of magnitude required for suppression, of smoothed image for
+		// gradient and of horizontally smoothed image for vertical smoothing.
+		// Rows outside the image are taken as zero.
+		int m0 = Math.max(0, start - 1), m1 = Math.min(h, end + 1);
+		int s0 = Math.max(0, start - 2), s1 = Math.min(h, end + 2);
+		int b0 = Math.max(0, start - 4), b1 = Math.min(h, end + 4);
+
+		float[] hb = new float[(b1 - b0) * w];
+
+		for (int i = b0; i < b1; i++) {
+			float[] row = src[i];
+			int base = (i - b0) * w;
+
+			for (int j = 0; j < w; j++) {
+				float tmp = 0;
+				for (int k = -2; k <= 2; k++) {
+					int X = j + k;
+					if (X >= 0 && X < w)
+						tmp += g[k + 2] * row[X];
+				}
+				hb[base + j] = tmp;
+			}
+		}
+
+		float[] sm = new float[(s1 - s0) * w];
+
+		for (int i = s0; i < s1; i++) {
+			int base = (i - s0) * w;
+
+			for (int k = -2; k <= 2; k++) {
+				int Y = i + k;
+				if (Y < b0 || Y >= b1)
+					continue;
+
+				int from = (Y - b0) * w;
+				float gk = g[k + 2];
+
+				for (int j = 0; j < w; j++)
+					sm[base + j] += gk * hb[from + j];
+			}
+		}
+
+		float[] gx = new float[(m1 - m0) * w];
+		float[] gy = new float[(m1 - m0) * w];
+		float[] mag = new float[(m1 - m0) * w];
+
+		for (int i = m0; i < m1; i++) {
+			int base = (i - m0) * w;
+			int up = i - 1 >= s0 ? (i - 1 - s0) * w : -1;
+			int mid = (i - s0) * w;
+			int down = i + 1 < s1 ? (i + 1 - s0) * w : -1;
+
+			for (int j = 0; j < w; j++) {
+				float a = 0, b = 0, c = 0, d = 0, f = 0, k = 0, l = 0, m = 0;
+
+				if (up >= 0) {
+					if (j > 0)
+						a = sm[up + j - 1];
+					b = sm[up + j];
+					if (j < w - 1)
+						c = sm[up + j + 1];
+				}
+				if (j > 0)
+					d = sm[mid + j - 1];
+				if (j < w - 1)
+					f = sm[mid + j + 1];
+				if (down >= 0) {
+					if (j > 0)
+						k = sm[down + j - 1];
+					l = sm[down + j];
+					if (j < w - 1)
+						m = sm[down + j + 1];
+				}
+
+				// Sobel, gradient along increasing column and row index.
+				float x = (c + 2 * f + m) - (a + 2 * d + k);
+				float y = (k + 2 * l + m) - (a + 2 * b + c);
+
+				gx[base + j] = x;
+				gy[base + j] = y;
+				mag[base + j] = (float) Math.sqrt(x * x + y * y);
+			}
+		}
+
+		// tan(22.5 degree) for quantising the gradient direction.
+		float t = 0.41421356f;
+
+		for (int i = start; i < end; i++) {
+			int base = (i - m0) * w;
+			boolean hasUp = i > 0;
+			boolean hasDown = i < h - 1;
+
+			for (int j = 0; j < w; j++) {
+				float v = mag[base + j];
+
+				if (v < low || v == 0)
+					continue;
+
+				float x = gx[base + j];
+				float y = gy[base + j];
+				float ax = Math.abs(x);
+				float ay = Math.abs(y);
+				float n1 = 0, n2 = 0;
+
+				if (ay <= ax * t) {
+					if (j > 0)
+						n1 = mag[base + j - 1];
+					if (j < w - 1)
+						n2 = mag[base + j + 1];
+				} else if (ax <= ay * t) {
+					if (hasUp)
+						n1 = mag[base - w + j];
+					if (hasDown)
+						n2 = mag[base + w + j];
+				} else if (x * y > 0) {
+					if (hasUp && j > 0)
+						n1 = mag[base - w + j - 1];
+					if (hasDown && j < w - 1)
+						n2 = mag[base + w + j + 1];
+				} else {
+					if (hasUp && j < w - 1)
+						n1 = mag[base - w + j + 1];
+					if (hasDown && j > 0)
+						n2 = mag[base + w + j - 1];
+				}
+
+				if (v > n1 && v >= n2)
+					state[i * w + j] = (byte) (v >= high ? 2 : 1);
+			}
+		}
+	}
+
 	private Cell f3(Cell cell) {
 		Cell result = new Cell(cell.getRowCount(), cell.getColCount());
 
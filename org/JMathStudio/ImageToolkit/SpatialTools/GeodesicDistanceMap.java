@@ -2,6 +2,7 @@ package org.JMathStudio.ImageToolkit.SpatialTools;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.DataStructure.Generic.Index2D;
+import org.JMathStudio.DataStructure.Generic.PackedIndex2DList;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
 import org.JMathStudio.PixelImageToolkit.BinaryPixelImage.BinaryPixelImage;
@@ -76,8 +77,11 @@ public final class GeodesicDistanceMap {
 				}
 
 				obuff[start.getY()][start.getX()]=0;
-				java.util.Vector<Index2D> front = new java.util.Vector<Index2D>();
-				front.add(new Index2D(start.getY(), start.getX()));
+				//Fronts are held as packed index lists, the two lists are swapped and reused
+				//for each iteration.
+				PackedIndex2DList front = new PackedIndex2DList();
+				PackedIndex2DList live = new PackedIndex2DList();
+				front.add(start.getY(), start.getX());
 
 				int y = 0;
 				int x = 0;
@@ -89,12 +93,12 @@ public final class GeodesicDistanceMap {
 				final float sqrtOfTwo = (float) Math.sqrt(2);
 
 				while(front.size() > 0){
-					java.util.Vector<Index2D> live = new java.util.Vector<Index2D>();
+					int[] fbuff = front.accessIndexBuffer();
 
 					for(int i=0;i<front.size();i++)
 					{
-						y = front.get(i).getY();
-						x = front.get(i).getX();
+						y = fbuff[2*i];
+						x = fbuff[2*i+1];
 
 						final float D = obuff[y][x];
 
@@ -106,7 +110,7 @@ public final class GeodesicDistanceMap {
 						if(xl >=0 && yl>=0 && img.getPixel(yl,xl))
 						{
 							if(obuff[yl][xl] == max)
-								live.add(new Index2D(yl, xl));
+								live.add(yl, xl);
 
 							float d = (float) (D + sqrtOfTwo);
 							if(obuff[yl][xl] > d)
@@ -115,7 +119,7 @@ public final class GeodesicDistanceMap {
 						if(yl>=0 && img.getPixel(yl,x))
 						{
 							if(obuff[yl][x] == max)
-								live.add(new Index2D(yl, x));
+								live.add(yl, x);
 
 							float d = (float) (D + 1);
 							if(obuff[yl][x] > d)
@@ -124,7 +128,7 @@ public final class GeodesicDistanceMap {
 						if(xu < W && yl>=0 && img.getPixel(yl,xu))
 						{
 							if(obuff[yl][xu] == max)
-								live.add(new Index2D(yl, xu));
+								live.add(yl, xu);
 
 							float d = (float) (D + sqrtOfTwo);
 							if(obuff[yl][xu] > d)
@@ -133,7 +137,7 @@ public final class GeodesicDistanceMap {
 						if(xl >=0 && img.getPixel(y,xl))
 						{
 							if(obuff[y][xl] == max)
-								live.add(new Index2D(y, xl));
+								live.add(y, xl);
 
 							float d = (float) (D + 1);
 							if(obuff[y][xl] > d)
@@ -142,7 +146,7 @@ public final class GeodesicDistanceMap {
 						if(xu < W && img.getPixel(y,xu))
 						{
 							if(obuff[y][xu] == max)
-								live.add(new Index2D(y, xu));
+								live.add(y, xu);
 
 							float d = (float) (D + 1);
 							if(obuff[y][xu] > d)
@@ -151,7 +155,7 @@ public final class GeodesicDistanceMap {
 						if(xl >=0 && yu < H && img.getPixel(yu, xl))
 						{
 							if(obuff[yu][xl] == max)
-								live.add(new Index2D(yu, xl));
+								live.add(yu, xl);
 
 							float d = (float) (D + sqrtOfTwo);
 							if(obuff[yu][xl] > d)
@@ -160,7 +164,7 @@ public final class GeodesicDistanceMap {
 						if(yu < H && img.getPixel(yu,x))
 						{
 							if(obuff[yu][x] == max)
-								live.add(new Index2D(yu, x));
+								live.add(yu, x);
 
 							float d = (float) (D + 1);
 							if(obuff[yu][x] > d)
@@ -169,7 +173,7 @@ public final class GeodesicDistanceMap {
 						if(xu < W && yu < H && img.getPixel(yu,xu))
 						{
 							if(obuff[yu][xu] == max)
-								live.add(new Index2D(yu, xu));
+								live.add(yu, xu);
 
 							float d = (float) (D + sqrtOfTwo);
 							if(obuff[yu][xu] > d)
@@ -177,8 +181,10 @@ public final class GeodesicDistanceMap {
 						}						
 					}
 
-					front.clear();
+					PackedIndex2DList tmp = front;
 					front = live;
+					live = tmp;
+					live.clear();
 
 				}
 
@@ -249,8 +255,9 @@ public final class GeodesicDistanceMap {
 				}
 
 				obuff[start.getY()][start.getX()]=0;
-				java.util.Vector<Index2D> front = new java.util.Vector<Index2D>();
-				front.add(new Index2D(start.getY(), start.getX()));
+				PackedIndex2DList front = new PackedIndex2DList();
+				PackedIndex2DList live = new PackedIndex2DList();
+				front.add(start.getY(), start.getX());
 
 				int y = 0;
 				int x = 0;
@@ -260,12 +267,12 @@ public final class GeodesicDistanceMap {
 				int xl = 0;
 
 				while(front.size() > 0){
-					java.util.Vector<Index2D> live = new java.util.Vector<Index2D>();
+					int[] fbuff = front.accessIndexBuffer();
 
 					for(int i=0;i<front.size();i++)
 					{
-						y = front.get(i).getY();
-						x = front.get(i).getX();
+						y = fbuff[2*i];
+						x = fbuff[2*i+1];
 
 						final float D = obuff[y][x];
 
@@ -277,7 +284,7 @@ public final class GeodesicDistanceMap {
 						if(yl>=0 && img.getPixel(yl,x))
 						{
 							if(obuff[yl][x] == max)
-								live.add(new Index2D(yl, x));
+								live.add(yl, x);
 
 							float d = (float) (D + 1);
 							if(obuff[yl][x] > d)
@@ -286,7 +293,7 @@ public final class GeodesicDistanceMap {
 						if(xl >=0 && img.getPixel(y,xl))
 						{
 							if(obuff[y][xl] == max)
-								live.add(new Index2D(y, xl));
+								live.add(y, xl);
 
 							float d = (float) (D + 1);
 							if(obuff[y][xl] > d)
@@ -295,7 +302,7 @@ public final class GeodesicDistanceMap {
 						if(xu < W && img.getPixel(y,xu))
 						{
 							if(obuff[y][xu] == max)
-								live.add(new Index2D(y, xu));
+								live.add(y, xu);
 
 							float d = (float) (D + 1);
 							if(obuff[y][xu] > d)
@@ -304,7 +311,7 @@ public final class GeodesicDistanceMap {
 						if(yu < H && img.getPixel(yu,x))
 						{
 							if(obuff[yu][x] == max)
-								live.add(new Index2D(yu, x));
+								live.add(yu, x);
 
 							float d = (float) (D + 1);
 							if(obuff[yu][x] > d)
@@ -312,8 +319,10 @@ public final class GeodesicDistanceMap {
 						}											
 					}
 
-					front.clear();
+					PackedIndex2DList tmp = front;
 					front = live;
+					live = tmp;
+					live.clear();
 
 				}
 
@@ -383,8 +392,9 @@ public final class GeodesicDistanceMap {
 				}
 
 				obuff[start.getY()][start.getX()] = 0;
-				java.util.Vector<Index2D> front = new java.util.Vector<Index2D>();
-				front.add(new Index2D(start.getY(), start.getX()));
+				PackedIndex2DList front = new PackedIndex2DList();
+				PackedIndex2DList live = new PackedIndex2DList();
+				front.add(start.getY(), start.getX());
 
 				int y = 0;
 				int x = 0;
@@ -397,12 +407,12 @@ public final class GeodesicDistanceMap {
 				final int X = start.getX();
 
 				while(front.size() > 0){
-					java.util.Vector<Index2D> live = new java.util.Vector<Index2D>();
+					int[] fbuff = front.accessIndexBuffer();
 
 					for(int i=0;i<front.size();i++)
 					{
-						y = front.get(i).getY();
-						x = front.get(i).getX();
+						y = fbuff[2*i];
+						x = fbuff[2*i+1];
 
 						yu = y+1;
 						yl = y-1;
@@ -412,7 +422,7 @@ public final class GeodesicDistanceMap {
 						if(xl >=0 && yl>=0 && img.getPixel(yl,xl))
 						{
 							if(obuff[yl][xl] == -1){
-								live.add(new Index2D(yl, xl));
+								live.add(yl, xl);
 								float d = f2(Y, X, yl, xl);
 								obuff[yl][xl] = d;
 							}
@@ -420,7 +430,7 @@ public final class GeodesicDistanceMap {
 						if(yl>=0 && img.getPixel(yl,x))
 						{
 							if(obuff[yl][x] == -1){
-								live.add(new Index2D(yl, x));
+								live.add(yl, x);
 								float d = f2(Y, X, yl, x);
 								obuff[yl][x] = d;
 							}
@@ -428,7 +438,7 @@ public final class GeodesicDistanceMap {
 						if(xu < W && yl>=0 && img.getPixel(yl,xu))
 						{
 							if(obuff[yl][xu] == -1){
-								live.add(new Index2D(yl, xu));
+								live.add(yl, xu);
 								float d = f2(Y, X, yl, xu);
 								obuff[yl][xu] = d;
 							}
@@ -436,7 +446,7 @@ public final class GeodesicDistanceMap {
 						if(xl >=0 && img.getPixel(y,xl))
 						{
 							if(obuff[y][xl] == -1){
-								live.add(new Index2D(y, xl));
+								live.add(y, xl);
 								float d = f2(Y, X, y, xl);
 								obuff[y][xl] = d;
 							}
@@ -444,7 +454,7 @@ public final class GeodesicDistanceMap {
 						if(xu < W && img.getPixel(y,xu))
 						{
 							if(obuff[y][xu] == -1){
-								live.add(new Index2D(y, xu));
+								live.add(y, xu);
 								float d = f2(Y, X, y, xu);
 								obuff[y][xu] = d;
 							}
@@ -452,7 +462,7 @@ public final class GeodesicDistanceMap {
 						if(xl >=0 && yu < H && img.getPixel(yu, xl))
 						{
 							if(obuff[yu][xl] == -1){
-								live.add(new Index2D(yu, xl));
+								live.add(yu, xl);
 								float d = f2(Y, X, yu, xl);
 								obuff[yu][xl] = d;
 							}
@@ -460,7 +470,7 @@ public final class GeodesicDistanceMap {
 						if(yu < H && img.getPixel(yu,x))
 						{
 							if(obuff[yu][x] == -1){
-								live.add(new Index2D(yu, x));
+								live.add(yu, x);
 								float d = f2(Y, X, yu, x);
 								obuff[yu][x] = d;
 							}
@@ -468,15 +478,17 @@ public final class GeodesicDistanceMap {
 						if(xu < W && yu < H && img.getPixel(yu,xu))
 						{
 							if(obuff[yu][xu] == -1){
-								live.add(new Index2D(yu, xu));
+								live.add(yu, xu);
 								float d = f2(Y, X, yu, xu);
 								obuff[yu][xu] = d;
 							}
 						}						
 					}
 
-					front.clear();
+					PackedIndex2DList tmp = front;
 					front = live;
+					live = tmp;
+					live.clear();
 
 				}
 
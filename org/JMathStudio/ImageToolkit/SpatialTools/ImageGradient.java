@@ -1,10 +1,14 @@
 package org.JMathStudio.ImageToolkit.SpatialTools;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.DataStructure.Cell.CellStack;
 import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.DimensionMismatchException;
 import org.JMathStudio.Exceptions.IllegalCellFormatException;
 import org.JMathStudio.ImageToolkit.GeneralTools.Conv2DTools;
 import org.JMathStudio.MathToolkit.Utilities.MathUtils;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define an Image Gradient operator for deriving a 2D gradient of a discrete
@@ -33,6 +37,9 @@ import org.JMathStudio.MathToolkit.Utilities.MathUtils;
  * 
  * Cell direction = sobel.getGradientDirection(img);//Apply image gradient on input image and get
  * gradient direction at all pixels.
+ * 
+ * CellStack gradient = sobel.getGradient(img);//Get horizontal & vertical gradient, gradient
+ * magnitude and gradient direction at all pixels in a single pass.
  * </pre>
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  */
@@ -125,6 +132,105 @@ public final class ImageGradient {
 
 	}
 	
+	/**
+	 * This method will compute the horizontal gradient, vertical gradient, gradient magnitude and
+	 * gradient direction of the discrete real image as represented by the {@link Cell} 'image' for
+	 * the given Image Gradient operator and return them as a {@link CellStack} in the same order.
+	 * <p>This is equivalent to the methods {@link #getHorizontalGradient(Cell)},
+	 * {@link #getVerticalGradient(Cell)}, {@link #getGradientMagnitude(Cell)} and
+	 * {@link #getGradientDirection(Cell)} but compute the gradient only once. See
+	 * {@link #computeGradient(Cell, Cell, Cell, Cell, Cell)}.
+	 * <p>Each Cell in the return CellStack will have dimension similar to that of the original
+	 * image.
+	 * @param Cell image
+	 * @return CellStack
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public CellStack getGradient(Cell image)
+	{
+		int height = image.getRowCount();
+		int width = image.getColCount();
+
+		Cell[] result = new Cell[4];
+		for (int k = 0; k < result.length; k++)
+			result[k] = new Cell(height, width);
+
+		try {
+			computeGradient(image, result[0], result[1], result[2], result[3]);
+		} catch (DimensionMismatchException e) {
+			throw new BugEncounterException();
+		}
+
+		return new CellStack(result);
+	}
+
+	/**
+	 * This method will compute the gradient of the discrete real image as represented by the
+	 * {@link Cell} 'image' for the given Image Gradient operator and write the horizontal gradient,
+	 * vertical gradient, gradient magnitude and gradient direction in to the Cells 'gx', 'gy',
+	 * 'magnitude' and 'direction' respectively.
+	 * <p>Any of the Cells 'gx', 'gy', 'magnitude' and 'direction' can be null, in which case
+	 * the corresponding result is not computed. Each non null Cell should have dimension
+	 * similar to that of the image else this method will throw a DimensionMismatch Exception.
+	 * The elements of the non null Cells are overwritten with the results.
+	 * <p>The results are identical to that of the methods {@link #getHorizontalGradient(Cell)},
+	 * {@link #getVerticalGradient(Cell)}, {@link #getGradientMagnitude(Cell)} and
+	 * {@link #getGradientDirection(Cell)}, with the gradient direction in radians.
+	 * <p>If both the gradient masks are of dimension 3x3, as with all the built in operators,
+	 * the horizontal and vertical gradients are computed together in a single pass over the
+	 * strips of rows of the image, the strips being processed concurrently. A separable
+	 * gradient mask, as with Sobel, Scharr, Prewitt and Frei-Chen, is applied as a column mask
+	 * followed by a row mask. For other gradient masks the gradients are computed by the
+	 * convolution.
+	 * @param Cell image
+	 * @param Cell gx
+	 * @param Cell gy
+	 * @param Cell magnitude
+	 * @param Cell direction
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void computeGradient(Cell image, Cell gx, Cell gy, Cell magnitude,
+			Cell direction) throws DimensionMismatchException
+	{
+		final int height = image.getRowCount();
+		final int width = image.getColCount();
+
+		Cell[] outputs = new Cell[] { gx, gy, magnitude, direction };
+		for (int k = 0; k < outputs.length; k++) {
+			if (outputs[k] != null
+					&& (outputs[k].getRowCount() != height || outputs[k]
+							.getColCount() != width))
+				throw new DimensionMismatchException();
+		}
+
+		final float[][] X = gx == null ? null : gx.accessCellBuffer();
+		final float[][] Y = gy == null ? null : gy.accessCellBuffer();
+		final float[][] M = magnitude == null ? null : magnitude.accessCellBuffer();
+		final float[][] D = direction == null ? null : direction.accessCellBuffer();
+
+		if (X == null && Y == null && M == null && D == null)
+			return;
+
+		if (i9.getRowCount() == 3 && i9.getColCount() == 3
+				&& i2.getRowCount() == 3 && i2.getColCount() == 3) {
+			f0(image.accessCellBuffer(), i9.accessCellBuffer(), i2
+					.accessCellBuffer(), X, Y, M, D);
+		} else {
+			final float[][] hor = conv.linearConvSame(image, i9).accessCellBuffer();
+			final float[][] ver = conv.linearConvSame(image, i2).accessCellBuffer();
+
+			ParallelExecutor.execute(height, 16, new ParallelTask() {
+				public void run(int chunk, int start, int end) {
+					for (int i = start; i < end; i++) {
+						for (int j = 0; j < width; j++)
+							f2(hor[i][j], ver[i][j], X, Y, M, D, i, j);
+					}
+				}
+			});
+		}
+	}
+	
 	/**
 	 * This method will compute the gradient of the discrete real image as represented by the 
 	 * {@link Cell} 'image' along horizontal direction for given Image Gradient operator.
@@ -278,5 +384,133 @@ public final class ImageGradient {
 		}
 	}
 
+	private void f0(final float[][] src, final float[][] hor,
+			final float[][] ver, final float[][] X, final float[][] Y,
+			final float[][] M, final float[][] D)
+	{
+		final int height = src.length;
+		final int width = src[0].length;
+
+		// Column and row factors of the separable masks, else null.
+		final float[] hs = f1(hor);
+		final float[] vs = f1(ver);
+
+		ParallelExecutor.execute(height, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				// Column mask responses of current row, padded by a zero on
+				// either side.
+				float[] ch = new float[width + 2];
+				float[] cv = new float[width + 2];
+
+				// Rows of the image under the mask rows 0, 1 & 2 for the true
+				// convolution, null being the zero padding.
+				float[][] rows = new float[3][];
+
+				for (int i = start; i < end; i++) {
+					rows[0] = i + 1 < height ? src[i + 1] : null;
+					rows[1] = src[i];
+					rows[2] = i > 0 ? src[i - 1] : null;
+
+					if (hs != null)
+						f3(rows, hs, ch, width);
+					if (vs != null)
+						f3(rows, vs, cv, width);
+
+					for (int j = 0; j < width; j++) {
+						float x, y;
+
+						if (hs != null)
+							x = hs[3] * ch[j + 2] + hs[4] * ch[j + 1] + hs[5] * ch[j];
+						else
+							x = f4(rows, hor, j, width);
+
+						if (vs != null)
+							y = vs[3] * cv[j + 2] + vs[4] * cv[j + 1] + vs[5] * cv[j];
+						else
+							y = f4(rows, ver, j, width);
+
+						f2(x, y, X, Y, M, D, i, j);
+					}
+				}
+			}
+		});
+	}
+
+	private float[] f1(float[][] mask)
+	{
+		// Factorise a 3x3 mask as the outer product of a column and a row
+		// vector, pivoting on its largest element.
+		int p = 0, q = 0;
+		for (int a = 0; a < 3; a++) {
+			for (int b = 0; b < 3; b++) {
+				if (Math.abs(mask[a][b]) > Math.abs(mask[p][q])) {
+					p = a;
+					q = b;
+				}
+			}
+		}
+
+		float pivot = mask[p][q];
+		if (pivot == 0)
+			return null;
+
+		float[] factor = new float[6];
+		for (int a = 0; a < 3; a++)
+			factor[a] = mask[a][q];
+		for (int b = 0; b < 3; b++)
+			factor[3 + b] = mask[p][b] / pivot;
+
+		float tolerance = Math.abs(pivot) * 1e-6f;
+		for (int a = 0; a < 3; a++) {
+			for (int b = 0; b < 3; b++) {
+				if (Math.abs(factor[a] * factor[3 + b] - mask[a][b]) > tolerance)
+					return null;
+			}
+		}
+
+		return factor;
+	}
+
+	private void f2(float x, float y, float[][] X, float[][] Y, float[][] M,
+			float[][] D, int i, int j)
+	{
+		if (X != null)
+			X[i][j] = x;
+		if (Y != null)
+			Y[i][j] = y;
+		if (M != null)
+			M[i][j] = (float) Math.sqrt((x * x + y * y));
+		if (D != null)
+			D[i][j] = x == 0 ? (float) (Math.PI / 2) : (float) Math.atan(y / x);
+	}
+
+	private void f3(float[][] rows, float[] factor, float[] column, int width)
+	{
+		for (int j = 0; j < width; j++) {
+			float v = factor[1] * rows[1][j];
+			if (rows[0] != null)
+				v += factor[0] * rows[0][j];
+			if (rows[2] != null)
+				v += factor[2] * rows[2][j];
+			column[j + 1] = v;
+		}
+	}
+
+	private float f4(float[][] rows, float[][] mask, int j, int width)
+	{
+		// Direct 3x3 true convolution with zero padding.
+		float v = 0;
+		for (int a = 0; a < 3; a++) {
+			if (rows[a] == null)
+				continue;
+
+			for (int b = 0; b < 3; b++) {
+				int x = j + 1 - b;
+				if (x >= 0 && x < width)
+					v += mask[a][b] * rows[a][x];
+			}
+		}
+		return v;
+	}
 
 }
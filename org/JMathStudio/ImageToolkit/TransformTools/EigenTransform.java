@@ -1,14 +1,18 @@
 package org.JMathStudio.ImageToolkit.TransformTools;
 
+import java.io.IOException;
+
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.DataStructure.Cell.CellMath;
 import org.JMathStudio.DataStructure.Cell.CellStack;
 import org.JMathStudio.DataStructure.Cell.CellTools;
+import org.JMathStudio.DataStructure.Cell.LazyCellStack;
 import org.JMathStudio.DataStructure.Vector.VectorStack;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.DimensionMismatchException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
 import org.JMathStudio.Exceptions.IllegalCellFormatException;
+import org.JMathStudio.Exceptions.UnSupportedImageFormatException;
 import org.JMathStudio.MathToolkit.MatrixTools.MatrixTools;
 import org.JMathStudio.MathToolkit.StatisticalTools.CellStatistics.CellStatistics;
 
@@ -123,4 +127,148 @@ public final class EigenTransform {
 		return new CellStack(result);
 	}
 
+	/**
+	 * This method computes the leading Eigen faces or images from the set of discrete real
+	 * images as represented by the {@link LazyCellStack} 'stack' and return the resultant Eigen
+	 * faces/images as a CellStack.
+	 * <p>
+	 * This method is similar to {@link #decompose(CellStack)}, except that the images are not
+	 * required to be in memory at once. The covariance matrix is accumulated over bands of rows
+	 * of all the images, read with the method {@link LazyCellStack#accessBand(int, int)}, and each
+	 * Eigen face/image is then accumulated one image at a time, thus a set with more images than
+	 * fit in memory can be decomposed. The images of a stack backed by a directory are decoded
+	 * once.
+	 * <p>
+	 * The argument 'count' specify the number of Eigen faces/images to be computed, which are
+	 * the Eigen vectors with the largest Eigen values, in the descending order of the Eigen
+	 * values. The argument 'count' should be in the range of 1 to the number of images else
+	 * this method will throw an IllegalArgument Exception.
+	 * <p>
+	 * The exceptions thrown while loading the images are as for the method
+	 * {@link LazyCellStack#accessCell(int)}.
+	 * 
+	 * @param LazyCellStack
+	 *            stack
+	 * @param int count
+	 * @return CellStack
+	 * @throws DimensionMismatchException
+	 * @throws IllegalArgumentException
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public CellStack decompose(LazyCellStack stack, int count)
+			throws DimensionMismatchException, IllegalArgumentException,
+			IOException, UnSupportedImageFormatException {
+		int N = stack.size();
+		int rows = stack.getRowCount();
+		int cols = stack.getColCount();
+		double P = (double) rows * cols;
+
+		if (count < 1 || count > N)
+			throw new IllegalArgumentException();
+
+		// Rows per band such that a band of all the images hold about
+		// 2^24 elements.
+		int band = (int) Math.max(1, Math.min(rows, (1 << 24) / ((long) N * cols)));
+
+		double[][] dot = new double[N][N];
+		double[] sum = new double[N];
+		float[][][] planes = new float[N][][];
+
+		for (int row = 0; row < rows; row += band) {
+			int r = Math.min(band, rows - row);
+
+			CellStack cells = stack.accessBand(row, r);
+
+			for (int k = 0; k < N; k++)
+				planes[k] = cells.accessCell(k).accessCellBuffer();
+
+			for (int a = 0; a < N; a++) {
+				for (int b = 0; b <= a; b++) {
+					double acc = 0;
+
+					for (int i = 0; i < r; i++) {
+						float[] x = planes[a][i];
+						float[] y = planes[b][i];
+
+						for (int j = 0; j < cols; j++)
+							acc += x[j] * y[j];
+					}
+
+					dot[a][b] += acc;
+				}
+
+				for (int i = 0; i < r; i++) {
+					for (int j = 0; j < cols; j++)
+						sum[a] += planes[a][i][j];
+				}
+			}
+		}
+
+		planes = null;
+
+		// Covariance of the mean subtracted images, sum of (Xa - Ma)*(Xb - Mb).
+		Cell covariance = new Cell(N, N);
+		float[][] cov = covariance.accessCellBuffer();
+
+		for (int a = 0; a < N; a++) {
+			for (int b = 0; b <= a; b++) {
+				cov[a][b] = (float) (dot[a][b] - sum[a] * sum[b] / P);
+				cov[b][a] = cov[a][b];
+			}
+		}
+
+		dot = null;
+
+		MatrixTools matrix = new MatrixTools();
+		CellStack eig = matrix.eigenDecomposition(covariance);
+		float[][] V = eig.accessCell(0).accessCellBuffer();
+		float[][] D = eig.accessCell(1).accessCellBuffer();
+
+		// Index of the Eigen vectors in the descending order of the Eigen
+		// values.
+		int[] order = new int[count];
+		boolean[] used = new boolean[N];
+
+		for (int i = 0; i < count; i++) {
+			int max = -1;
+
+			for (int k = 0; k < N; k++) {
+				if (!used[k] && (max == -1 || D[k][k] > D[max][max]))
+					max = k;
+			}
+
+			used[max] = true;
+			order[i] = max;
+		}
+
+		Cell[] result = new Cell[count];
+
+		for (int i = 0; i < count; i++)
+			result[i] = new Cell(rows, cols);
+
+		for (int k = 0; k < N; k++) {
+			float[][] image = stack.accessCell(k).accessCellBuffer();
+			float mean = (float) (sum[k] / P);
+
+			for (int i = 0; i < count; i++) {
+				float v = V[k][order[i]];
+				float[][] face = result[i].accessCellBuffer();
+
+				for (int x = 0; x < rows; x++) {
+					for (int y = 0; y < cols; y++)
+						face[x][y] += v * (image[x][y] - mean);
+				}
+			}
+		}
+
+		for (int i = 0; i < count; i++) {
+			float norm = matrix.norm(result[i]);
+			result[i] = CellMath.linear(1.0f / norm, 0, result[i]);
+		}
+
+		return new CellStack(result);
+	}
+
 }
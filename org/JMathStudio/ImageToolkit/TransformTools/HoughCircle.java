@@ -0,0 +1,72 @@
+package org.JMathStudio.ImageToolkit.TransformTools;
+
+/**
+ * This class define a circle detected by the Circle Hough transform.
+ * <p>A circle is described by the spatial coordinates (y,x) of its centre within the
+ * image, its radius and the number of edge pixels which voted for the given circle.
+ *
+ * @see HoughTransform#houghCircles(org.JMathStudio.DataStructure.Cell.Cell, org.JMathStudio.ImageToolkit.SpatialTools.ImageGradient, float, int, int, int)
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class HoughCircle {
+
+	private int y;
+	private int x;
+	private int radius;
+	private int votes;
+
+	/**
+	 * This will initialise a circle centred at the spatial coordinates (y,x), as specified
+	 * by the arguments 'y' and 'x', with radius as given by the argument 'radius' and
+	 * supported by the number of edge pixels as given by the argument 'votes'.
+	 *
+	 * @param int y
+	 * @param int x
+	 * @param int radius
+	 * @param int votes
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public HoughCircle(int y, int x, int radius, int votes) {
+		this.y = y;
+		this.x = x;
+		this.radius = radius;
+		this.votes = votes;
+	}
+
+	/**
+	 * This will return the 'y' coordinate (row index) of the centre of the circle.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getCentreY() {
+		return this.y;
+	}
+
+	/**
+	 * This will return the 'x' coordinate (column index) of the centre of the circle.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getCentreX() {
+		return this.x;
+	}
+
+	/**
+	 * This will return the radius of the circle.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getRadius() {
+		return this.radius;
+	}
+
+	/**
+	 * This will return the number of edge pixels which fall on the circumference of
+	 * the circle.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getVotes() {
+		return this.votes;
+	}
+}
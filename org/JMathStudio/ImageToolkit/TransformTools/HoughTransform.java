@@ -1,7 +1,12 @@
 package org.JMathStudio.ImageToolkit.TransformTools;
 
+import java.util.Arrays;
+
 import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.ImageToolkit.SpatialTools.ImageGradient;
 import org.JMathStudio.PixelImageToolkit.BinaryPixelImage.BinaryPixelImage;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define Hough transform operations on a discrete binary real image.
@@ -16,6 +21,11 @@ import org.JMathStudio.PixelImageToolkit.BinaryPixelImage.BinaryPixelImage;
  * 
  * Cell hough = ht.houghCircle(img, radius);//Search for circle of given radius within input
  * binary image.
+ * 
+ * Cell image = Cell.importImageAsCell("path");//Import input image as Cell.
+ * 
+ * HoughCircle[] circles = ht.houghCircles(image, ImageGradient.sobel(), t, rmin, rmax, n);//Search
+ * for at most 'n' circles with radius in the range [rmin rmax] within input image.
  * </pre>
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  * 
@@ -246,4 +256,347 @@ public final class HoughTransform {
 		return result;
 	}
 
+	/**
+	 * This method apply the gradient guided Circle Hough transform on the discrete real image
+	 * as represented by the Cell 'image' for the detection of circles with radius in the
+	 * range [minRadius maxRadius] and return at most 'maxCircles' detected circles as an array
+	 * of {@link HoughCircle}.
+	 * <p>
+	 * The {@link ImageGradient} 'gradient' specify the gradient operator used to compute the
+	 * horizontal and vertical gradient of the given image. Only those pixels with gradient
+	 * magnitude more than the argument 'edgeThreshold' are considered as edge pixels and take
+	 * part in the voting.
+	 * 
+	 * <p>
+	 * Unlike {@link #houghCircle(BinaryPixelImage, int)}, which search for a single radius
+	 * by visiting every pixel position, this operator let each edge pixel vote only along
+	 * its gradient direction, on both the sides, for all the radii in the given range. The
+	 * centre of a circle lies on the gradient line of each of its edge pixels and thus
+	 * accumulates the votes from all its edge pixels. The algorithm is as follows,
+	 * <p>
+	 * <i>Each edge pixel vote for the centre positions at distance [minRadius maxRadius]
+	 * along its gradient direction in a 2D centre accumulator.
+	 * <p>
+	 * The local maximums of the centre accumulator are selected as the candidate centres in
+	 * decreasing order of their votes.
+	 * <p>
+	 * For each candidate centre, a radius histogram weighted by the gradient magnitude is
+	 * build from the distances of the edge pixels whose gradient point towards or away from
+	 * the centre. The radius with the largest weight gives the radius of the circle and the
+	 * number of edge pixels within one pixel of that radius gives the votes for the circle.
+	 * <p>
+	 * Circles are accepted in decreasing order of their votes, rejecting any circle whose
+	 * centre lies within 'minRadius' distance of an already accepted circle.</i>
+	 * <p>
+	 * The voting and the radius estimation are computed concurrently on all the available
+	 * processors. Thus the cost of the operation depends upon the number of edge pixels and
+	 * the radius range rather than the number of pixels times the number of radii.
+	 * <p>
+	 * As the votes are cast along the gradient direction, the given image should be
+	 * smoothed (say with a small Gaussian kernel) before this operation so that the
+	 * gradient direction of the edge pixels is reliable.
+	 * <p>
+	 * The argument 'minRadius' should be more than 0 and the argument 'maxRadius' should
+	 * not be less than 'minRadius' and not more than the maximum dimension of the given image
+	 * else this method will throw an IllegalArgument Exception.
+	 * <p>
+	 * The argument 'maxCircles' should be more than 0 else this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>
+	 * The detected circles are return in decreasing order of their votes. The votes of a
+	 * circle can be used to further reject weak detections. If no edge pixels are found, an
+	 * empty array will be returned.
+	 * 
+	 * @param Cell
+	 *            image
+	 * @param ImageGradient
+	 *            gradient
+	 * @param float edgeThreshold
+	 * @param int minRadius
+	 * @param int maxRadius
+	 * @param int maxCircles
+	 * @return HoughCircle[]
+	 * @throws IllegalArgumentException
+	 * @see HoughCircle
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public HoughCircle[] houghCircles(Cell image, ImageGradient gradient,
+			float edgeThreshold, int minRadius, int maxRadius, int maxCircles)
+			throws IllegalArgumentException {
+		final int height = image.getRowCount();
+		final int width = image.getColCount();
+
+		if (minRadius <= 0 || maxRadius < minRadius || maxCircles <= 0) {
+			throw new IllegalArgumentException();
+		}
+
+		if (maxRadius > height && maxRadius > width) {
+			throw new IllegalArgumentException();
+		}
+
+		float[][] gx = gradient.getHorizontalGradient(image).accessCellBuffer();
+		float[][] gy = gradient.getVerticalGradient(image).accessCellBuffer();
+
+		// Collect the edge pixels along with the unit gradient vector.
+		int n = 0;
+		float t2 = edgeThreshold < 0 ? 0 : edgeThreshold * edgeThreshold;
+
+		for (int i = 0; i < height; i++) {
+			for (int j = 0; j < width; j++) {
+				float m2 = gx[i][j] * gx[i][j] + gy[i][j] * gy[i][j];
+				if (m2 > t2 && m2 > 0)
+					n++;
+			}
+		}
+
+		if (n == 0)
+			return new HoughCircle[0];
+
+		final int[] ey = new int[n];
+		final int[] ex = new int[n];
+		final float[] uy = new float[n];
+		final float[] ux = new float[n];
+		final float[] em = new float[n];
+
+		n = 0;
+		for (int i = 0; i < height; i++) {
+			for (int j = 0; j < width; j++) {
+				float m2 = gx[i][j] * gx[i][j] + gy[i][j] * gy[i][j];
+				if (m2 > t2 && m2 > 0) {
+					float m = (float) Math.sqrt(m2);
+					ey[n] = i;
+					ex[n] = j;
+					uy[n] = gy[i][j] / m;
+					ux[n] = gx[i][j] / m;
+					em[n] = m;
+					n++;
+				}
+			}
+		}
+
+		final int edges = n;
+		final int rmin = minRadius;
+		final int rmax = maxRadius;
+		final int size = height * width;
+
+		// Vote in a private centre accumulator for each chunk of edge pixels.
+		final int[][] partial = new int[ParallelExecutor.getChunkCount(edges, 256)][];
+
+		ParallelExecutor.execute(edges, 256, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				int[] acc = new int[size];
+				partial[chunk] = acc;
+
+				for (int e = start; e < end; e++) {
+					for (int s = -1; s <= 1; s += 2) {
+						float dy = s * uy[e];
+						float dx = s * ux[e];
+						float y = ey[e] + rmin * dy + 0.5f;
+						float x = ex[e] + rmin * dx + 0.5f;
+
+						for (int r = rmin; r <= rmax; r++) {
+							if (y >= 0 && y < height && x >= 0 && x < width)
+								acc[((int) y) * width + (int) x]++;
+							y += dy;
+							x += dx;
+						}
+					}
+				}
+			}
+		});
+
+		final int[] acc = partial[0];
+
+		if (partial.length > 1) {
+			ParallelExecutor.execute(size, 4096, new ParallelTask() {
+				public void run(int chunk, int start, int end) {
+					for (int p = 1; p < partial.length; p++) {
+						int[] tmp = partial[p];
+						for (int i = start; i < end; i++)
+							acc[i] += tmp[i];
+					}
+				}
+			});
+		}
+
+		// Local maximums of the centre accumulator as the candidate centres.
+		int candidates = 0;
+		long[] peaks = new long[64];
+
+		for (int i = 0; i < height; i++) {
+			for (int j = 0; j < width; j++) {
+				int v = acc[i * width + j];
+				if (v > 0 && f0(acc, height, width, i, j, v)) {
+					if (candidates == peaks.length) {
+						long[] tmp = new long[candidates * 2];
+						System.arraycopy(peaks, 0, tmp, 0, candidates);
+						peaks = tmp;
+					}
+					peaks[candidates++] = (((long) v) << 32) | (i * width + j);
+				}
+			}
+		}
+
+		Arrays.sort(peaks, 0, candidates);
+
+		// Select strongest candidates suppressing those lying within 'minRadius'
+		// distance of an already selected stronger candidate.
+		int limit = Math.min(candidates, Math.max(4 * maxCircles, 64));
+		int minDist2 = minRadius * minRadius;
+		int[] sy = new int[limit];
+		int[] sx = new int[limit];
+		int selected = 0;
+
+		for (int c = candidates - 1; c >= 0 && selected < limit; c--) {
+			int index = (int) (peaks[c] & 0xffffffffL);
+			int y = index / width;
+			int x = index % width;
+			boolean isSuppressed = false;
+
+			for (int k = 0; k < selected; k++) {
+				int dy = sy[k] - y;
+				int dx = sx[k] - x;
+
+				if (dy * dy + dx * dx < minDist2) {
+					isSuppressed = true;
+					break;
+				}
+			}
+
+			if (!isSuppressed) {
+				sy[selected] = y;
+				sx[selected] = x;
+				selected++;
+			}
+		}
+
+		final int count = selected;
+		final int[] cy = sy;
+		final int[] cx = sx;
+
+		// Radius histogram for each of the candidate centres.
+		final int[] radius = new int[count];
+		final int[] votes = new int[count];
+		final float rlow = (rmin - 0.5f) * (rmin - 0.5f);
+		final float rhigh = (rmax + 0.5f) * (rmax + 0.5f);
+
+		ParallelExecutor.execute(count, 1, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				int[] hist = new int[rmax - rmin + 1];
+				float[] weight = new float[hist.length];
+
+				for (int c = start; c < end; c++) {
+					Arrays.fill(hist, 0);
+					Arrays.fill(weight, 0);
+
+					for (int e = 0; e < edges; e++) {
+						float dy = ey[e] - cy[c];
+						float dx = ex[e] - cx[c];
+
+						if (dy > rmax || dy < -rmax || dx > rmax || dx < -rmax)
+							continue;
+
+						float d2 = dy * dy + dx * dx;
+
+						if (d2 >= rlow && d2 < rhigh) {
+							float d = (float) Math.sqrt(d2);
+							float cos = (dy * uy[e] + dx * ux[e]) / d;
+
+							// Gradient should be along the radial direction.
+							if (cos > 0.9f || cos < -0.9f) {
+								int r = (int) (d + 0.5f) - rmin;
+								if (r >= 0 && r < hist.length) {
+									hist[r]++;
+									weight[r] += em[e];
+								}
+							}
+						}
+					}
+
+					// Gradient magnitude weighted support locate the radius at
+					// the strongest edge for edges spread over few pixels.
+					float best = -1;
+					int bestRadius = 0;
+
+					for (int r = 0; r < hist.length; r++) {
+						if (weight[r] > best) {
+							best = weight[r];
+							bestRadius = r;
+						}
+					}
+
+					int support = hist[bestRadius];
+					if (bestRadius > 0)
+						support += hist[bestRadius - 1];
+					if (bestRadius < hist.length - 1)
+						support += hist[bestRadius + 1];
+
+					radius[c] = bestRadius + rmin;
+					votes[c] = support;
+				}
+			}
+		});
+
+		// Accept circles in decreasing order of votes with centre suppression.
+		long[] order = new long[count];
+		for (int c = 0; c < count; c++)
+			order[c] = (((long) votes[c]) << 32) | c;
+
+		Arrays.sort(order);
+
+		HoughCircle[] accepted = new HoughCircle[Math.min(count, maxCircles)];
+		int found = 0;
+
+		for (int k = count - 1; k >= 0 && found < accepted.length; k--) {
+			int c = (int) (order[k] & 0xffffffffL);
+
+			if (votes[c] <= 0)
+				break;
+
+			boolean isDuplicate = false;
+
+			for (int a = 0; a < found; a++) {
+				int dy = accepted[a].getCentreY() - cy[c];
+				int dx = accepted[a].getCentreX() - cx[c];
+
+				if (dy * dy + dx * dx < minDist2) {
+					isDuplicate = true;
+					break;
+				}
+			}
+
+			if (!isDuplicate)
+				accepted[found++] = new HoughCircle(cy[c], cx[c], radius[c], votes[c]);
+		}
+
+		HoughCircle[] result = new HoughCircle[found];
+		System.arraycopy(accepted, 0, result, 0, found);
+
+		return result;
+	}
+
+	private boolean f0(int[] acc, int height, int width, int y, int x, int v) {
+		// Strict comparison for preceding neighbours to break ties on plateau.
+		for (int i = -1; i <= 1; i++) {
+			for (int j = -1; j <= 1; j++) {
+				if (i == 0 && j == 0)
+					continue;
+
+				int Y = y + i;
+				int X = x + j;
+
+				if (Y >= 0 && Y < height && X >= 0 && X < width) {
+					int n = acc[Y * width + X];
+					if (i < 0 || (i == 0 && j < 0)) {
+						if (n >= v)
+							return false;
+					} else if (n > v)
+						return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
 }
@@ -0,0 +1,711 @@
+package org.JMathStudio.Interface.FileInterface;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+
+import org.JMathStudio.DataStructure.Cell.CCell;
+import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.DataStructure.Cell.CellStack;
+import org.JMathStudio.DataStructure.Cell.LazyCellStack;
+import org.JMathStudio.DataStructure.Vector.CVector;
+import org.JMathStudio.DataStructure.Vector.Vector;
+import org.JMathStudio.DataStructure.Vector.VectorStack;
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Exceptions.IllegalCellFormatException;
+import org.JMathStudio.Exceptions.UnSupportedImageFormatException;
+
+/**
+ * This class provide interface to Write and Read the data structures {@link Vector},
+ * {@link CVector}, {@link Cell}, {@link CCell}, {@link CellStack} and {@link VectorStack}
+ * to/from an external file in a raw binary format.
+ * <p>The file consist of a header of 32 bytes followed by the raw elements. The header hold,
+ * as 4 byte integers, a magic number, the format version, the type of the data structure, the
+ * type of the elements, the byte order and the shape of the data as the number of planes, rows
+ * and columns. The elements follow as 4 byte floats in the little endian byte order, plane after
+ * plane with each plane in the row major order.
+ * <p>A Vector is stored as a single plane with a single row, a stack as one plane per
+ * Cell/Vector and a complex data structure as a plane for the real part followed by a plane for
+ * the imaginary part.
+ * <p>The file is written with bulk transfers over a file channel and read through memory mapping.
+ * A range of rows of a Cell, or a single Cell/Vector of a stack, can thus be read without
+ * reading the rest of the file.
+ * <pre>Usage:
+ * Cell img = Cell.importImageAsCell("image_path");//Import external image as Cell.
+ *
+ * BinaryFileInterface.writeCell("write_path", img);//Write Cell to an external binary file.
+ *
+ * Cell in = BinaryFileInterface.readCell("read_path");//Read Cell from external binary file.
+ * Cell strip = BinaryFileInterface.readCellRows("read_path", 0, 100, 64);//Read 64 rows
+ * starting from row 100 without reading the whole file.
+ * Cell frame = BinaryFileInterface.readCellStackPlane("stack_path", 7);//Read a single Cell of
+ * a stored CellStack.
+ * </pre>
+ * @see DataFileInterface
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class BinaryFileInterface {
+
+	// Header fields, 'JMSD' as little endian integer.
+	private final static int i0 = 0x44534D4A;
+	private final static int i1 = 1;
+	private final static int i2 = 32;
+
+	// Type of the data structure.
+	private final static int i3 = 0;
+	private final static int i4 = 1;
+	private final static int i5 = 2;
+	private final static int i6 = 3;
+	private final static int i7 = 4;
+	private final static int i8 = 5;
+
+	// Element type, 4 byte float, and little endian byte order.
+	private final static int i9 = 0;
+	private final static int i10 = 0;
+
+	// Number of elements per mapped region and per staging buffer.
+	private final static int i11 = 1 << 26;
+	private final static int i12 = 1 << 18;
+
+	//Ensure no instances are made for utility classes.
+	private BinaryFileInterface(){}
+
+	/**
+	 * This method will write the {@link Vector} 'vector' to the external file as given by the
+	 * argument 'path'. An existing file is overwritten.
+	 * <p>This method will throw an IO Exception if the file can not be written.
+	 * @param String path
+	 * @param Vector vector
+	 * @throws IOException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static void writeVector(String path, Vector vector) throws IOException {
+		f0(path, i3, 1, vector.length(), new float[][][] { { vector.accessVectorBuffer() } });
+	}
+
+	/**
+	 * This method will write the {@link CVector} 'vector' to the external file as given by the
+	 * argument 'path'. An existing file is overwritten.
+	 * <p>This method will throw an IO Exception if the file can not be written.
+	 * @param String path
+	 * @param CVector vector
+	 * @throws IOException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static void writeCVector(String path, CVector vector) throws IOException {
+		f0(path, i4, 1, vector.length(), new float[][][] {
+				{ vector.accessRealPart().accessVectorBuffer() },
+				{ vector.accessImaginaryPart().accessVectorBuffer() } });
+	}
+
+	/**
+	 * This method will write the {@link Cell} 'cell' to the external file as given by the
+	 * argument 'path'. An existing file is overwritten.
+	 * <p>This method will throw an IO Exception if the file can not be written.
+	 * @param String path
+	 * @param Cell cell
+	 * @throws IOException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static void writeCell(String path, Cell cell) throws IOException {
+		f0(path, i5, cell.getRowCount(), cell.getColCount(),
+				new float[][][] { cell.accessCellBuffer() });
+	}
+
+	/**
+	 * This method will write the {@link CCell} 'cell' to the external file as given by the
+	 * argument 'path'. An existing file is overwritten.
+	 * <p>This method will throw an IO Exception if the file can not be written.
+	 * @param String path
+	 * @param CCell cell
+	 * @throws IOException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static void writeCCell(String path, CCell cell) throws IOException {
+		f0(path, i6, cell.getRowCount(), cell.getColCount(), new float[][][] {
+				cell.accessRealPart().accessCellBuffer(),
+				cell.accessImaginaryPart().accessCellBuffer() });
+	}
+
+	/**
+	 * This method will write the {@link CellStack} 'stack' to the external file as given by the
+	 * argument 'path'. An existing file is overwritten.
+	 * <p>All the Cells within the CellStack 'stack' should have similar dimensions else this
+	 * method will throw a DimensionMismatch Exception.
+	 * <p>This method will throw an IO Exception if the file can not be written.
+	 * @param String path
+	 * @param CellStack stack
+	 * @throws IOException
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static void writeCellStack(String path, CellStack stack)
+			throws IOException, DimensionMismatchException {
+		Cell[] cells = stack.accessCellArray();
+
+		if (cells == null) {
+			f0(path, i7, 0, 0, new float[0][][]);
+			return;
+		}
+
+		float[][][] planes = new float[cells.length][][];
+
+		for (int k = 0; k < cells.length; k++) {
+			if (!cells[k].hasSameDimensions(cells[0]))
+				throw new DimensionMismatchException();
+
+			planes[k] = cells[k].accessCellBuffer();
+		}
+
+		f0(path, i7, cells[0].getRowCount(), cells[0].getColCount(), planes);
+	}
+
+	/**
+	 * This method will write the {@link Cell}'s of the {@link LazyCellStack} 'stack' as a
+	 * {@link CellStack} to the external file as given by the argument 'path'. An existing file is
+	 * overwritten.
+	 * <p>The Cell's are loaded and written one at a time, thus a stack with more Cell's than fit
+	 * in memory can be written. The file can be read as a CellStack with the method
+	 * {@link #readCellStack(String)}.
+	 * <p>The exceptions thrown while loading the Cell's are as for the method
+	 * {@link LazyCellStack#accessCell(int)}. This method will throw an IO Exception if the file
+	 * can not be written.
+	 * @param String path
+	 * @param LazyCellStack stack
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static void writeCellStack(String path, LazyCellStack stack)
+			throws IOException, UnSupportedImageFormatException, DimensionMismatchException {
+		FileChannel channel = new FileOutputStream(path).getChannel();
+
+		try {
+			f6(channel, i7, stack.size(), stack.getRowCount(), stack.getColCount());
+
+			ByteBuffer stage = ByteBuffer.allocateDirect(i12 * 4).order(ByteOrder.LITTLE_ENDIAN);
+
+			for (int k = 0; k < stack.size(); k++)
+				f7(channel, stage, stack.accessCell(k).accessCellBuffer());
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * This method will write the {@link VectorStack} 'stack' to the external file as given by the
+	 * argument 'path'. An existing file is overwritten.
+	 * <p>All the Vectors within the VectorStack 'stack' should have same length else this method
+	 * will throw a DimensionMismatch Exception.
+	 * <p>This method will throw an IO Exception if the file can not be written.
+	 * @param String path
+	 * @param VectorStack stack
+	 * @throws IOException
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static void writeVectorStack(String path, VectorStack stack)
+			throws IOException, DimensionMismatchException {
+		Vector[] vectors = stack.accessVectorArray();
+
+		if (vectors == null) {
+			f0(path, i8, 0, 0, new float[0][][]);
+			return;
+		}
+
+		float[][][] planes = new float[vectors.length][][];
+
+		for (int k = 0; k < vectors.length; k++) {
+			if (!vectors[k].hasSameLength(vectors[0]))
+				throw new DimensionMismatchException();
+
+			planes[k] = new float[][] { vectors[k].accessVectorBuffer() };
+		}
+
+		f0(path, i8, 1, vectors[0].length(), planes);
+	}
+
+	/**
+	 * This method will read the {@link Vector} stored in the external file as given by the
+	 * argument 'path' and return the same.
+	 * <p>If the file is not a binary file storing a Vector as written by the method
+	 * {@link #writeVector(String, Vector)} this method will throw an IllegalArgument Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @return Vector
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static Vector readVector(String path)
+			throws IOException, IllegalArgumentException {
+		return new Vector(f1(path, i3, 0, 1, 0, 1)[0][0]);
+	}
+
+	/**
+	 * This method will read the {@link CVector} stored in the external file as given by the
+	 * argument 'path' and return the same.
+	 * <p>If the file is not a binary file storing a CVector as written by the method
+	 * {@link #writeCVector(String, CVector)} this method will throw an IllegalArgument Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @return CVector
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static CVector readCVector(String path)
+			throws IOException, IllegalArgumentException {
+		float[][][] data = f1(path, i4, 0, 2, 0, 1);
+
+		try {
+			return new CVector(new Vector(data[0][0]), new Vector(data[1][0]));
+		} catch (DimensionMismatchException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will read the {@link Cell} stored in the external file as given by the
+	 * argument 'path' and return the same.
+	 * <p>If the file is not a binary file storing a Cell as written by the method
+	 * {@link #writeCell(String, Cell)} this method will throw an IllegalArgument Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @return Cell
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static Cell readCell(String path)
+			throws IOException, IllegalArgumentException {
+		return f5(f1(path, i5, 0, 1, 0, -1)[0]);
+	}
+
+	/**
+	 * This method will read the {@link CCell} stored in the external file as given by the
+	 * argument 'path' and return the same.
+	 * <p>If the file is not a binary file storing a CCell as written by the method
+	 * {@link #writeCCell(String, CCell)} this method will throw an IllegalArgument Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @return CCell
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static CCell readCCell(String path)
+			throws IOException, IllegalArgumentException {
+		float[][][] data = f1(path, i6, 0, 2, 0, -1);
+
+		try {
+			return new CCell(f5(data[0]), f5(data[1]));
+		} catch (DimensionMismatchException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will read the {@link CellStack} stored in the external file as given by the
+	 * argument 'path' and return the same.
+	 * <p>If the file is not a binary file storing a CellStack as written by the method
+	 * {@link #writeCellStack(String, CellStack)} this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @return CellStack
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static CellStack readCellStack(String path)
+			throws IOException, IllegalArgumentException {
+		float[][][] data = f1(path, i7, 0, -1, 0, -1);
+		CellStack stack = new CellStack();
+
+		for (int k = 0; k < data.length; k++)
+			stack.addCell(f5(data[k]));
+
+		return stack;
+	}
+
+	/**
+	 * This method will read the {@link VectorStack} stored in the external file as given by the
+	 * argument 'path' and return the same.
+	 * <p>If the file is not a binary file storing a VectorStack as written by the method
+	 * {@link #writeVectorStack(String, VectorStack)} this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @return VectorStack
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static VectorStack readVectorStack(String path)
+			throws IOException, IllegalArgumentException {
+		float[][][] data = f1(path, i8, 0, -1, 0, 1);
+		VectorStack stack = new VectorStack();
+
+		for (int k = 0; k < data.length; k++)
+			stack.addVector(new Vector(data[k][0]));
+
+		return stack;
+	}
+
+	/**
+	 * This method will read the Cell at the index position as given by the argument 'plane' of
+	 * the {@link CellStack} stored in the external file as given by the argument 'path' and
+	 * return the same. Only the elements of the required Cell are read from the file.
+	 * <p>If the file is not a binary file storing a CellStack or if the argument 'plane' is out of
+	 * the valid range of the index of the Cells of the stored stack, this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @param int plane
+	 * @return Cell
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static Cell readCellStackPlane(String path, int plane)
+			throws IOException, IllegalArgumentException {
+		return f5(f1(path, i7, plane, 1, 0, -1)[0]);
+	}
+
+	/**
+	 * This method will read the Vector at the index position as given by the argument 'plane' of
+	 * the {@link VectorStack} stored in the external file as given by the argument 'path' and
+	 * return the same. Only the elements of the required Vector are read from the file.
+	 * <p>If the file is not a binary file storing a VectorStack or if the argument 'plane' is out
+	 * of the valid range of the index of the Vectors of the stored stack, this method will throw
+	 * an IllegalArgument Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @param int plane
+	 * @return Vector
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static Vector readVectorStackPlane(String path, int plane)
+			throws IOException, IllegalArgumentException {
+		return new Vector(f1(path, i8, plane, 1, 0, 1)[0][0]);
+	}
+
+	/**
+	 * This method will read 'rowCount' number of rows, starting from the row index as given by
+	 * the argument 'row', of a Cell stored in the external file as given by the argument 'path'
+	 * and return the same as a {@link Cell}. Only the elements of the required rows are read
+	 * from the file.
+	 * <p>The file should store a {@link Cell} or a {@link CellStack}, in which case the argument
+	 * 'plane' specify the index of the Cell of the stack. For a file storing a Cell the argument
+	 * 'plane' should be '0'.
+	 * <p>If the file is not a binary file storing a Cell or a CellStack, or if the required rows
+	 * are not within the stored Cell, this method will throw an IllegalArgument Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @param int plane
+	 * @param int row
+	 * @param int rowCount
+	 * @return Cell
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static Cell readCellRows(String path, int plane, int row, int rowCount)
+			throws IOException, IllegalArgumentException {
+		if (rowCount < 1)
+			throw new IllegalArgumentException();
+
+		int type = f2(path)[0];
+
+		if (type != i5 && type != i7)
+			throw new IllegalArgumentException();
+
+		return f5(f1(path, type, plane, 1, row, rowCount)[0]);
+	}
+
+	/**
+	 * This method will read 'rowCount' number of rows, starting from the row index as given by
+	 * the argument 'row', of all the Cells of the {@link CellStack} stored in the external file as
+	 * given by the argument 'path' and return the same as a CellStack, with a Cell of the
+	 * required rows for each Cell of the stored stack. A file storing a {@link Cell} is read as a
+	 * stack of a single Cell.
+	 * <p>Only the elements of the required rows are read from the file, and the file is opened
+	 * and mapped once for all the Cells. This enable a pass over a stored stack in bands of rows,
+	 * with the rows of a band of all the Cells in memory together.
+	 * <p>If the file is not a binary file storing a Cell or a CellStack, or if the required rows
+	 * are not within the stored Cells, this method will throw an IllegalArgument Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @param int row
+	 * @param int rowCount
+	 * @return CellStack
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @see #readCellRows(String, int, int, int)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static CellStack readCellStackRows(String path, int row, int rowCount)
+			throws IOException, IllegalArgumentException {
+		if (rowCount < 1)
+			throw new IllegalArgumentException();
+
+		int type = f2(path)[0];
+
+		if (type != i5 && type != i7)
+			throw new IllegalArgumentException();
+
+		float[][][] data = f1(path, type, 0, -1, row, rowCount);
+		CellStack stack = new CellStack();
+
+		for (int k = 0; k < data.length; k++)
+			stack.addCell(f5(data[k]));
+
+		return stack;
+	}
+
+	/**
+	 * This method will return the shape of the data stored in the external file as given by the
+	 * argument 'path' as an integer array of length 3, containing the number of planes, the number
+	 * of rows and the number of columns in that order. Only the header of the file is read.
+	 * <p>For a stack the number of planes is the number of Cells/Vectors of the stack, for a
+	 * complex data structure it is '2' and '1' otherwise. For a Vector the number of rows is '1'.
+	 * <p>If the file is not a binary file as written by this class this method will throw an
+	 * IllegalArgument Exception.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @return int[]
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static int[] readShape(String path) throws IOException, IllegalArgumentException {
+		int[] header = f2(path);
+
+		return new int[] { header[1], header[2], header[3] };
+	}
+
+	/**
+	 * This method will return 'true' if the external file as given by the argument 'path' is a
+	 * binary file as written by this class, else will return 'false'. Only the first bytes of the
+	 * file are read.
+	 * <p>This method will throw an IO Exception if the file can not be read.
+	 * @param String path
+	 * @return boolean
+	 * @throws IOException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static boolean isBinaryFile(String path) throws IOException {
+		RandomAccessFile file = new RandomAccessFile(path, "r");
+
+		try {
+			if (file.length() < i2)
+				return false;
+
+			return Integer.reverseBytes(file.readInt()) == i0;
+		} finally {
+			file.close();
+		}
+	}
+
+	private final static void f0(String path, int type, int rows, int cols,
+			float[][][] planes) throws IOException {
+		// Write the header and the planes with bulk transfers through a
+		// little endian staging buffer.
+		FileChannel channel = new FileOutputStream(path).getChannel();
+
+		try {
+			f6(channel, type, planes.length, rows, cols);
+
+			ByteBuffer stage = ByteBuffer.allocateDirect(i12 * 4).order(ByteOrder.LITTLE_ENDIAN);
+
+			for (int k = 0; k < planes.length; k++)
+				f7(channel, stage, planes[k]);
+		} finally {
+			channel.close();
+		}
+	}
+
+	private final static float[][][] f1(String path, int type, int plane, int planeCount,
+			int row, int rowCount) throws IOException, IllegalArgumentException {
+		// Read 'planeCount' planes from 'plane' and 'rowCount' rows from 'row'
+		// of each plane through memory mapping, a negative count read all.
+		RandomAccessFile file = new RandomAccessFile(path, "r");
+
+		try {
+			FileChannel channel = file.getChannel();
+			int[] header = f3(channel);
+
+			int planes = header[1];
+			int rows = header[2];
+			int cols = header[3];
+
+			if (header[0] != type)
+				throw new IllegalArgumentException();
+
+			if (planeCount < 0)
+				planeCount = planes;
+			if (rowCount < 0)
+				rowCount = rows;
+
+			if (plane < 0 || plane + planeCount > planes || row < 0 || row + rowCount > rows)
+				throw new IllegalArgumentException();
+
+			long planeSize = (long) rows * cols;
+
+			if (channel.size() < i2 + planes * planeSize * 4)
+				throw new IllegalArgumentException();
+
+			float[][][] data = new float[planeCount][rowCount][cols];
+
+			long first = i2 + (plane * planeSize + (long) row * cols) * 4;
+			long span = ((planeCount - 1) * planeSize + (long) rowCount * cols) * 4;
+
+			if (planeCount > 1 && span <= Integer.MAX_VALUE) {
+				// A single mapping spanning the rows of all the planes.
+				FloatBuffer view = channel.map(FileChannel.MapMode.READ_ONLY, first, span)
+						.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+
+				for (int k = 0; k < planeCount; k++) {
+					for (int i = 0; i < rowCount; i++) {
+						view.position((int) (k * planeSize + (long) i * cols));
+						view.get(data[k][i]);
+					}
+				}
+			} else {
+				for (int k = 0; k < planeCount; k++) {
+					long position = first + k * planeSize * 4;
+					f4(channel, position, data[k]);
+				}
+			}
+
+			return data;
+		} finally {
+			file.close();
+		}
+	}
+
+	private final static int[] f2(String path) throws IOException, IllegalArgumentException {
+		RandomAccessFile file = new RandomAccessFile(path, "r");
+
+		try {
+			return f3(file.getChannel());
+		} finally {
+			file.close();
+		}
+	}
+
+	private final static int[] f3(FileChannel channel) throws IOException, IllegalArgumentException {
+		// Validate the header and return the type and the shape of the data.
+		if (channel.size() < i2)
+			throw new IllegalArgumentException();
+
+		ByteBuffer header = ByteBuffer.allocate(i2).order(ByteOrder.LITTLE_ENDIAN);
+
+		while (header.hasRemaining()) {
+			if (channel.read(header, header.position()) < 0)
+				throw new IllegalArgumentException();
+		}
+
+		header.flip();
+
+		if (header.getInt() != i0 || header.getInt() != i1)
+			throw new IllegalArgumentException();
+
+		int type = header.getInt();
+
+		if (type < i3 || type > i8 || header.getInt() != i9 || header.getInt() != i10)
+			throw new IllegalArgumentException();
+
+		int[] shape = new int[] { type, header.getInt(), header.getInt(), header.getInt() };
+
+		if (shape[1] < 0 || shape[2] < 0 || shape[3] < 0)
+			throw new IllegalArgumentException();
+
+		return shape;
+	}
+
+	private final static void f4(FileChannel channel, long position, float[][] rows)
+			throws IOException {
+		// Fill the rows from the consecutive elements starting at 'position',
+		// mapping the file in regions of bounded size.
+		long remaining = 0;
+
+		for (int i = 0; i < rows.length; i++)
+			remaining += rows[i].length;
+
+		FloatBuffer view = null;
+
+		for (int i = 0; i < rows.length; i++) {
+			float[] data = rows[i];
+
+			for (int offset = 0; offset < data.length;) {
+				if (view == null || !view.hasRemaining()) {
+					long count = Math.min(remaining, i11);
+					view = channel.map(FileChannel.MapMode.READ_ONLY, position, count * 4)
+							.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+					position += count * 4;
+					remaining -= count;
+				}
+
+				int count = Math.min(data.length - offset, view.remaining());
+				view.get(data, offset, count);
+				offset += count;
+			}
+		}
+	}
+
+	private final static Cell f5(float[][] data) {
+		try {
+			return new Cell(data);
+		} catch (IllegalCellFormatException e) {
+			throw new BugEncounterException();
+		}
+	}
+
+	private final static void f6(FileChannel channel, int type, int planes, int rows, int cols)
+			throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(i2).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(i0).putInt(i1).putInt(type).putInt(i9).putInt(i10);
+		header.putInt(planes).putInt(rows).putInt(cols);
+		header.flip();
+
+		while (header.hasRemaining())
+			channel.write(header);
+	}
+
+	private final static void f7(FileChannel channel, ByteBuffer stage, float[][] plane)
+			throws IOException {
+		// Write the rows of a plane with bulk transfers through the little
+		// endian staging buffer 'stage'.
+		stage.clear();
+		FloatBuffer view = stage.asFloatBuffer();
+
+		for (int i = 0; i < plane.length; i++) {
+			float[] data = plane[i];
+
+			for (int offset = 0; offset < data.length;) {
+				int count = Math.min(i12, data.length - offset);
+
+				view.clear();
+				view.put(data, offset, count);
+				stage.clear();
+				stage.limit(count * 4);
+
+				while (stage.hasRemaining())
+					channel.write(stage);
+
+				offset += count;
+			}
+		}
+	}
+}
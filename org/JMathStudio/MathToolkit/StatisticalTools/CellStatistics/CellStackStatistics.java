@@ -0,0 +1,376 @@
+package org.JMathStudio.MathToolkit.StatisticalTools.CellStatistics;
+
+import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.DataStructure.Cell.CellStack;
+import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
+
+/**
+ * This class define pixel wise statistical operations over a stack of {@link Cell}s as
+ * represented by a {@link CellStack}, such as a temporal sequence of images.
+ * <p>Each statistic is computed independently for each element position (i,j) over the
+ * corresponding elements of all the Cells of the stack, and the result is returned as a
+ * Cell of the same dimensions as that of the Cells of the stack.
+ * <p>The Cells of the stack are streamed one after the other in to a set of per element
+ * accumulators, thus no array is created per element. The rows of the Cells are processed
+ * concurrently in bands of rows, so that the accumulators of a band stay in the processor
+ * cache while the stack is streamed.
+ * <pre>Usage:
+ * Let 'stack' be a valid CellStack object with Cells of similar dimensions.
+ *
+ * CellStackStatistics css = new CellStackStatistics();//Create an instance of
+ * CellStackStatistics.
+ *
+ * Cell background = css.median(stack);//Estimate pixel wise median of the stack.
+ * Cell mean = css.mean(stack);//Estimate pixel wise mean of the stack.
+ * Cell var = css.variance(stack);//Estimate pixel wise variance of the stack.
+ * Cell p90 = css.percentile(stack, 90);//Estimate pixel wise 90th percentile of the stack.
+ * </pre>
+ * @see CellStatistics
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class CellStackStatistics {
+
+	// Number of rows per band.
+	private final static int i0 = 16;
+
+	private final static int i1 = 0;
+	private final static int i2 = 1;
+	private final static int i3 = 2;
+	private final static int i4 = 3;
+	private final static int i5 = 4;
+	private final static int i6 = 5;
+
+	/**
+	 * Constructor of the class.
+	 */
+	public CellStackStatistics() {
+	}
+
+	/**
+	 * This method will return the pixel wise Mean of the {@link Cell}s of the {@link CellStack}
+	 * 'stack' as a {@link Cell}.
+	 * <p>All the Cells within the CellStack 'stack' should have similar dimensions else this
+	 * method will throw a DimensionMismatch Exception. If the CellStack 'stack' is empty this
+	 * method will throw a NullPointer Exception.
+	 *
+	 * @param CellStack stack
+	 * @return Cell
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell mean(CellStack stack) throws DimensionMismatchException {
+		return f1(f0(stack), i1, 0);
+	}
+
+	/**
+	 * This method will return the pixel wise Variance of the {@link Cell}s of the {@link CellStack}
+	 * 'stack' as a {@link Cell}.
+	 * <p>The variance is normalised by the number of Cells in the stack and is accumulated with
+	 * the Welford update, which is stable for a long stack.
+	 * <p>All the Cells within the CellStack 'stack' should have similar dimensions else this
+	 * method will throw a DimensionMismatch Exception. If the CellStack 'stack' is empty this
+	 * method will throw a NullPointer Exception.
+	 *
+	 * @param CellStack stack
+	 * @return Cell
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell variance(CellStack stack) throws DimensionMismatchException {
+		return f1(f0(stack), i2, 0);
+	}
+
+	/**
+	 * This method will return the pixel wise Minimum of the {@link Cell}s of the {@link CellStack}
+	 * 'stack' as a {@link Cell}.
+	 * <p>All the Cells within the CellStack 'stack' should have similar dimensions else this
+	 * method will throw a DimensionMismatch Exception. If the CellStack 'stack' is empty this
+	 * method will throw a NullPointer Exception.
+	 *
+	 * @param CellStack stack
+	 * @return Cell
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell minimum(CellStack stack) throws DimensionMismatchException {
+		return f1(f0(stack), i3, 0);
+	}
+
+	/**
+	 * This method will return the pixel wise Maximum of the {@link Cell}s of the {@link CellStack}
+	 * 'stack' as a {@link Cell}.
+	 * <p>All the Cells within the CellStack 'stack' should have similar dimensions else this
+	 * method will throw a DimensionMismatch Exception. If the CellStack 'stack' is empty this
+	 * method will throw a NullPointer Exception.
+	 *
+	 * @param CellStack stack
+	 * @return Cell
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell maximum(CellStack stack) throws DimensionMismatchException {
+		return f1(f0(stack), i4, 0);
+	}
+
+	/**
+	 * This method will return the pixel wise Median of the {@link Cell}s of the {@link CellStack}
+	 * 'stack' as a {@link Cell}.
+	 * <p>For an even number of Cells the median is the average of the two middle elements, as
+	 * with {@link CellStatistics#median(Cell)}.
+	 * <p>All the Cells within the CellStack 'stack' should have similar dimensions else this
+	 * method will throw a DimensionMismatch Exception. If the CellStack 'stack' is empty this
+	 * method will throw a NullPointer Exception.
+	 *
+	 * @param CellStack stack
+	 * @return Cell
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell median(CellStack stack) throws DimensionMismatchException {
+		return f1(f0(stack), i5, 0);
+	}
+
+	/**
+	 * This method will return the pixel wise pth percentile of the {@link Cell}s of the
+	 * {@link CellStack} 'stack' as a {@link Cell}.
+	 * <p>The argument 'p' which specify the percentile should be in the range of [0 100] else
+	 * this method will throw an IllegalArgument Exception.
+	 * <p>Method make use of the linear interpolation of the two nearest ranks to estimate the
+	 * percentile value.
+	 * <p>All the Cells within the CellStack 'stack' should have similar dimensions else this
+	 * method will throw a DimensionMismatch Exception. If the CellStack 'stack' is empty this
+	 * method will throw a NullPointer Exception.
+	 *
+	 * @param CellStack stack
+	 * @param float p
+	 * @return Cell
+	 * @throws DimensionMismatchException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell percentile(CellStack stack, float p)
+			throws DimensionMismatchException, IllegalArgumentException {
+		if (p < 0 || p > 100)
+			throw new IllegalArgumentException();
+
+		return f1(f0(stack), i6, p);
+	}
+
+	private float[][][] f0(CellStack stack) throws DimensionMismatchException {
+		Cell[] cells = stack.accessCellArray();
+
+		if (cells == null)
+			throw new NullPointerException();
+
+		float[][][] planes = new float[cells.length][][];
+
+		for (int k = 0; k < cells.length; k++) {
+			if (!cells[k].hasSameDimensions(cells[0]))
+				throw new DimensionMismatchException();
+
+			planes[k] = cells[k].accessCellBuffer();
+		}
+
+		return planes;
+	}
+
+	private Cell f1(final float[][][] planes, final int type, final float p) {
+		final int N = planes.length;
+		final int h = planes[0].length;
+		final int w = planes[0][0].length;
+
+		final Cell result = new Cell(h, w);
+		final float[][] out = result.accessCellBuffer();
+
+		ParallelExecutor.execute(h, i0, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				if (type == i5 || type == i6) {
+					// Order statistics need all the elements of a pixel, the
+					// Cells are streamed one row at a time in to a transposed
+					// buffer holding the elements of each pixel contiguously.
+					float[] buffer = new float[w * N];
+
+					for (int i = start; i < end; i++) {
+						for (int k = 0; k < N; k++) {
+							float[] row = planes[k][i];
+							for (int j = 0, o = k; j < w; j++, o += N)
+								buffer[o] = row[j];
+						}
+
+						for (int j = 0; j < w; j++)
+							out[i][j] = f3(buffer, j * N, N, type == i5, p);
+					}
+				} else {
+					double[] a = new double[i0 * w];
+					double[] b = new double[i0 * w];
+
+					for (int band = start; band < end; band += i0) {
+						int bandEnd = Math.min(end, band + i0);
+						f2(planes, out, a, b, band, bandEnd, type);
+					}
+				}
+			}
+		});
+
+		return result;
+	}
+
+	private void f2(float[][][] planes, float[][] out, double[] a, double[] b,
+			int start, int end, int type) {
+		// Stream all the Cells through the accumulators of a band of rows.
+		int N = planes.length;
+		int w = out[0].length;
+
+		for (int i = start; i < end; i++)
+			System.arraycopy(planes[0][i], 0, out[i], 0, w);
+
+		if (type == i3 || type == i4) {
+			for (int k = 1; k < N; k++) {
+				for (int i = start; i < end; i++) {
+					float[] row = planes[k][i];
+					float[] o = out[i];
+
+					if (type == i3) {
+						for (int j = 0; j < w; j++) {
+							if (row[j] < o[j])
+								o[j] = row[j];
+						}
+					} else {
+						for (int j = 0; j < w; j++) {
+							if (row[j] > o[j])
+								o[j] = row[j];
+						}
+					}
+				}
+			}
+			return;
+		}
+
+		// Running mean in 'a' and running sum of squared deviations in 'b'.
+		for (int i = start, o = 0; i < end; i++, o += w) {
+			float[] row = planes[0][i];
+			for (int j = 0; j < w; j++) {
+				a[o + j] = row[j];
+				b[o + j] = 0;
+			}
+		}
+
+		for (int k = 1; k < N; k++) {
+			double n = k + 1;
+
+			for (int i = start, o = 0; i < end; i++, o += w) {
+				float[] row = planes[k][i];
+
+				if (type == i1) {
+					for (int j = 0; j < w; j++)
+						a[o + j] += row[j];
+				} else {
+					for (int j = 0; j < w; j++) {
+						double delta = row[j] - a[o + j];
+						a[o + j] += delta / n;
+						b[o + j] += delta * (row[j] - a[o + j]);
+					}
+				}
+			}
+		}
+
+		for (int i = start, o = 0; i < end; i++, o += w) {
+			for (int j = 0; j < w; j++) {
+				if (type == i1)
+					out[i][j] = (float) (a[o + j] / N);
+				else
+					out[i][j] = (float) (b[o + j] / N);
+			}
+		}
+	}
+
+	private float f3(float[] buffer, int from, int N, boolean median, float p) {
+		// Order statistic of the elements [from, from+N) of the buffer by
+		// partial selection, the buffer is reordered.
+		if (median) {
+			int k = (N - 1) / 2;
+			float lower = f4(buffer, from, from + N, from + k);
+
+			if (N % 2 == 0)
+				return (lower + f5(buffer, from + k + 1, from + N)) / 2;
+			else
+				return lower;
+		}
+
+		float n = (p * (N - 1) / 100.0f) + 1;
+		int k = (int) Math.floor(n);
+		float d = n - k;
+
+		float lower = f4(buffer, from, from + N, from + k - 1);
+
+		if (k >= N || d == 0)
+			return lower;
+		else
+			return lower + d * (f5(buffer, from + k, from + N) - lower);
+	}
+
+	private float f4(float[] a, int from, int to, int k) {
+		// Quick select, on return the element at index 'k' is the one which
+		// would be there if [from, to) were sorted and all the elements after
+		// 'k' are not smaller than it.
+		int lo = from;
+		int hi = to - 1;
+
+		while (hi > lo) {
+			int mid = (lo + hi) >>> 1;
+
+			if (a[mid] < a[lo])
+				f6(a, mid, lo);
+			if (a[hi] < a[lo])
+				f6(a, hi, lo);
+			if (a[hi] < a[mid])
+				f6(a, hi, mid);
+
+			float pivot = a[mid];
+			int i = lo;
+			int j = hi;
+
+			while (i <= j) {
+				while (a[i] < pivot)
+					i++;
+				while (a[j] > pivot)
+					j--;
+
+				if (i <= j) {
+					f6(a, i, j);
+					i++;
+					j--;
+				}
+			}
+
+			if (k <= j)
+				hi = j;
+			else if (k >= i)
+				lo = i;
+			else
+				break;
+		}
+
+		return a[k];
+	}
+
+	private float f5(float[] a, int from, int to) {
+		float min = a[from];
+
+		for (int i = from + 1; i < to; i++) {
+			if (a[i] < min)
+				min = a[i];
+		}
+
+		return min;
+	}
+
+	private void f6(float[] a, int i, int j) {
+		float tmp = a[i];
+		a[i] = a[j];
+		a[j] = tmp;
+	}
+}
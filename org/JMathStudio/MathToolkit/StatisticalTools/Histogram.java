@@ -31,6 +31,9 @@ public final class Histogram {
 	 * the return {@link Vector} will be of length 2^d with each index element
 	 * of the vector representing the count for that pixel intensity value
 	 * respectively.
+	 * <p>
+	 * The pixels are counted concurrently and the histogram cached by the
+	 * image, if any, is reused. See {@link AbstractUIntPixelImage#getHistogram()}.
 	 * 
 	 * @param AbstractUIntPixelImage
 	 *            img
@@ -39,14 +42,11 @@ public final class Histogram {
 	 */
 	public Vector histogram(AbstractUIntPixelImage img) {
 
-		float[] hist = new float[img.getMaxValidPixel() + 1];
-		int h = img.getHeight();
-		int w = img.getWidth();
+		int[] counts = img.getHistogram();
+		float[] hist = new float[counts.length];
 		
-		for (int i = 0; i < h; i++) {
-			for (int j = 0; j < w; j++) {
-				hist[(int) img.getPixel(i, j)]++;
-			}
+		for (int i = 0; i < hist.length; i++) {
+			hist[i] = counts[i];
 		}
 
 		return new Vector(hist);
@@ -1,8 +1,7 @@
 package org.JMathStudio.PixelImageToolkit;
 
 import java.awt.image.BufferedImage;
-import java.awt.image.DataBuffer;
-import java.awt.image.DataBufferUShort;
+import java.awt.image.Raster;
 import java.io.IOException;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
@@ -221,6 +220,10 @@ public abstract class AbstractPixelImage {
 	}
 	
 	// Engines to parse various BufferedImage Pixels:
+	// The pixels are read a row at a time with Raster.getDataElements, which copy
+	// the row from the DataBuffer in bulk. Unlike BufferedImage.getData, this does not
+	// copy the whole Raster, and unlike DataBuffer.getData, it does not stop the
+	// BufferedImage from being accelerated for display.
 
 	protected final static short[][] f2(BufferedImage img) {
 		int height = img.getHeight();
@@ -228,11 +231,15 @@ public abstract class AbstractPixelImage {
 
 		short[][] pixelData = new short[height][width];
 
-		DataBuffer buff = img.getData().getDataBuffer();
+		Raster raster = img.getRaster();
+		byte[] row = new byte[width];
 
 		for (int y = 0; y < height; y++) {
+			raster.getDataElements(0, y, width, 1, row);
+			short[] dst = pixelData[y];
+
 			for (int x = 0; x < width; x++) {
-				pixelData[y][x] = ((short) buff.getElem(y * width + x));
+				dst[x] = (short) (row[x] & 0xff);
 			}
 		}
 
@@ -245,20 +252,17 @@ public abstract class AbstractPixelImage {
 
 		int[][] pixelData = new int[height][width];
 
-		DataBufferUShort buff = (DataBufferUShort) img.getData()
-				.getDataBuffer();
+		Raster raster = img.getRaster();
+		short[] row = new short[width];
 
-		int correction = UInt16PixelImage.MAX + 1;
 		for (int y = 0; y < height; y++) {
+			raster.getDataElements(0, y, width, 1, row);
+			int[] dst = pixelData[y];
+
 			for (int x = 0; x < width; x++) {
-				int tmp = buff.getElem(y * width + x);
-				// Add correction to wrap up data in range of [-32768 32767] to
+				// Mask to wrap up data in range of [-32768 32767] to
 				// UInt16 range of [0 65535]
-
-				if (tmp < 0)
-					tmp += correction;
-				pixelData[y][x] = tmp;
-
+				dst[x] = row[x] & 0xffff;
 			}
 		}
 
@@ -270,21 +274,18 @@ public abstract class AbstractPixelImage {
 		int width = img.getWidth();
 
 		short[][][] pixelData = new short[4][height][width];
-		short alpha,red,green,blue;
+		int[] row = new int[width];
 		
 		for (int y = 0; y < height; y++) {
-			for (int x = 0; x < width; x++) {
-				int argb = img.getRGB(x, y);
+			f4(img, y, row);
 
-				alpha = (short) ((argb >> 24) & 0xff);
-				red = (short) ((argb >> 16) & 0xff);
-				green = (short) ((argb >> 8) & 0xff);
-				blue = (short) (argb & 0xff);
+			for (int x = 0; x < width; x++) {
+				int argb = row[x];
 
-				pixelData[0][y][x] = alpha;
-				pixelData[1][y][x] = red;
-				pixelData[2][y][x] = green;
-				pixelData[3][y][x] = blue;
+				pixelData[0][y][x] = (short) ((argb >> 24) & 0xff);
+				pixelData[1][y][x] = (short) ((argb >> 16) & 0xff);
+				pixelData[2][y][x] = (short) ((argb >> 8) & 0xff);
+				pixelData[3][y][x] = (short) (argb & 0xff);
 			}
 		}
 
@@ -297,24 +298,62 @@ public abstract class AbstractPixelImage {
 		int width = img.getWidth();
 
 		short[][][] pixelData = new short[4][height][width];
-		short alpha,red,green,blue;
+		int[] row = new int[width];
 		
 		for (int y = 0; y < height; y++) {
-			for (int x = 0; x < width; x++) {
-				int argb = img.getRGB(x, y);
+			f4(img, y, row);
 
-				alpha = 255;
-				red = (short) ((argb >> 16) & 0xff);
-				green = (short) ((argb >> 8) & 0xff);
-				blue = (short) (argb & 0xff);
+			for (int x = 0; x < width; x++) {
+				int argb = row[x];
 
-				pixelData[0][y][x] = alpha;
-				pixelData[1][y][x] = red;
-				pixelData[2][y][x] = green;
-				pixelData[3][y][x] = blue;
+				pixelData[0][y][x] = 255;
+				pixelData[1][y][x] = (short) ((argb >> 16) & 0xff);
+				pixelData[2][y][x] = (short) ((argb >> 8) & 0xff);
+				pixelData[3][y][x] = (short) (argb & 0xff);
 			}
 		}
 
 		return pixelData;
 	}
+
+	// Read the row 'y' as packed ARGB pixels as by BufferedImage.getRGB. The INT_RGB and
+	// INT_ARGB pixels are copied in bulk, with the alpha of an INT_RGB pixel set to 255.
+	protected final static void f4(BufferedImage img, int y, int[] row) {
+		int type = img.getType();
+		int width = img.getWidth();
+
+		if (type == BufferedImage.TYPE_INT_ARGB) {
+			img.getRaster().getDataElements(0, y, width, 1, row);
+		} else if (type == BufferedImage.TYPE_INT_RGB) {
+			img.getRaster().getDataElements(0, y, width, 1, row);
+
+			for (int x = 0; x < width; x++)
+				row[x] |= 0xff000000;
+		} else {
+			img.getRGB(0, y, width, 1, row, 0, width);
+		}
+	}
+
+	// Split the packed ARGB pixels, as read by f4, in to the row major byte planes of the
+	// bands. The alpha plane 'a' may be null in which case the alpha is skipped.
+	protected final static void f5(BufferedImage img, byte[] a, byte[] r, byte[] g, byte[] b) {
+		int height = img.getHeight();
+		int width = img.getWidth();
+
+		int[] row = new int[width];
+
+		for (int y = 0, k = 0; y < height; y++) {
+			f4(img, y, row);
+
+			for (int x = 0; x < width; x++, k++) {
+				int argb = row[x];
+
+				if (a != null)
+					a[k] = (byte) (argb >>> 24);
+				r[k] = (byte) (argb >> 16);
+				g[k] = (byte) (argb >> 8);
+				b[k] = (byte) argb;
+			}
+		}
+	}
 }
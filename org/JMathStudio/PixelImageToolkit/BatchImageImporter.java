@@ -0,0 +1,284 @@
+package org.JMathStudio.PixelImageToolkit;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Exceptions.UnSupportedImageFormatException;
+
+/**
+ * This class define an importer which import a batch of external images, decoding a number of
+ * images concurrently on a pool of worker threads while the images are consumed in order.
+ * <p>Importing a large set of images one at a time is bound by the latency of reading and
+ * decoding each image. A BatchImageImporter keep a given number of images, the window, being
+ * decoded ahead of the image being consumed, such that the reading of the images overlap with
+ * each other and with the processing of the imported images.
+ * <p>The images are returned in the order of the given paths, either as a {@link BufferedImage}
+ * as by the method {@link PixelImage#importAsBufferedImage(String)} or as a {@link Cell} as by
+ * the method {@link Cell#importImageAsCell(String)}. No more than the window number of decoded
+ * images are held by the importer at any time, thus a batch of any size can be imported with a
+ * bounded memory.
+ * <p>The worker threads are stopped with the method {@link #close()} or once all the images
+ * have been returned.
+ * <pre>Usage:
+ * BatchImageImporter importer = new BatchImageImporter("path", 8, 16);//Import the images of
+ * a directory with 8 workers and 16 images decoded ahead.
+ *
+ * while(importer.hasNext())
+ * {
+ * 	Cell image = importer.nextCell();//Images are returned in order.
+ * 	...
+ * }
+ * </pre>
+ * @see PixelImage#importAsBufferedImage(String)
+ * @see Cell#importImageAsCell(String)
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class BatchImageImporter {
+
+	private String[] i0;
+	private int i1;
+	private int i2;
+	private int i3;
+	private LinkedList<Future<BufferedImage>> i4 = new LinkedList<Future<BufferedImage>>();
+	private ExecutorService i5;
+
+	/**
+	 * This will create a BatchImageImporter for the images as given by the paths in the String
+	 * array 'paths', to be returned in the same order.
+	 * <p>The argument 'workers' specify the number of images decoded concurrently and the
+	 * argument 'window' specify the maximum number of images decoded ahead of the image being
+	 * consumed. The argument 'workers' should be more than '0' and the argument 'window' should
+	 * not be less than the argument 'workers' else this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>If the array 'paths' is empty the batch has no image and the method {@link #hasNext()}
+	 * return 'false'.
+	 * <p>The argument 'paths' is copied.
+	 * @param String[] paths
+	 * @param int workers
+	 * @param int window
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public BatchImageImporter(String[] paths, int workers, int window)
+			throws IllegalArgumentException {
+		if (workers < 1 || window < workers)
+			throw new IllegalArgumentException();
+
+		this.i0 = new String[paths.length];
+		System.arraycopy(paths, 0, i0, 0, paths.length);
+		this.i2 = workers;
+		this.i3 = window;
+	}
+
+	/**
+	 * This will create a BatchImageImporter for the images of the directory as given by the
+	 * argument 'directory'. Each non hidden file of the directory, in the ascending order of the
+	 * file names, is imported.
+	 * <p>If the argument 'directory' is not a directory this method will throw an
+	 * IllegalArgument Exception. If the directory has no files the batch has no image, as the
+	 * method {@link Cell#importMultipleImagesAsCell(String)} return an empty CellStack for such
+	 * a directory. The arguments 'workers' and 'window' are as for the constructor
+	 * {@link #BatchImageImporter(String[], int, int)}.
+	 * @param String directory
+	 * @param int workers
+	 * @param int window
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public BatchImageImporter(String directory, int workers, int window)
+			throws IllegalArgumentException {
+		this(f0(directory), workers, window);
+	}
+
+	/**
+	 * This method will return the number of images of the given batch.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int size() {
+		return i0.length;
+	}
+
+	/**
+	 * This method will return the path of the image at the index position as given by the
+	 * argument 'index' of the given batch.
+	 * <p>If the argument 'index' is out of the valid range of indexing an ArrayIndexOutOfBound
+	 * Exception will be thrown.
+	 * @param int index
+	 * @return String
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public String getPath(int index) {
+		return i0[index];
+	}
+
+	/**
+	 * This method will return the index of the image which will be returned by the next call of
+	 * the method {@link #nextBufferedImage()} or {@link #nextCell()}.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getIndex() {
+		return i1;
+	}
+
+	/**
+	 * This method will return 'true' if the given batch has images yet to be returned, else
+	 * will return 'false'.
+	 * @return boolean
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public boolean hasNext() {
+		return i1 < i0.length;
+	}
+
+	/**
+	 * This method will return the next image of the given batch as a {@link BufferedImage}.
+	 * <p>The method wait for the image to be decoded if required, and schedule the decoding of
+	 * the following images up to the window.
+	 * <p>If the image file is not of a supported format this method will throw an
+	 * UnSupportedImageFormat Exception and will throw an IO Exception if the image file can not
+	 * be read. The image is skipped in either case and the next call return the following
+	 * image.
+	 * <p>If all the images have been returned this method will throw an IllegalArgument
+	 * Exception.
+	 * @return BufferedImage
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws IllegalArgumentException
+	 * @see PixelImage#importAsBufferedImage(String)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public BufferedImage nextBufferedImage() throws IOException,
+			UnSupportedImageFormatException, IllegalArgumentException {
+		if (!hasNext())
+			throw new IllegalArgumentException();
+
+		f1();
+
+		Future<BufferedImage> future = i4.removeFirst();
+		i1++;
+
+		if (hasNext())
+			f1();
+		else {
+			// Let the last image finish decoding.
+			i5.shutdown();
+			i5 = null;
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			else if (cause instanceof UnSupportedImageFormatException)
+				throw (UnSupportedImageFormatException) cause;
+			else if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			else if (cause instanceof Error)
+				throw (Error) cause;
+			else
+				throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will return the next image of the given batch as a {@link Cell} of the gray
+	 * scale pixel intensities of the image, as by the method {@link Cell#toCell(BufferedImage)}.
+	 * <p>The exceptions are as for the method {@link #nextBufferedImage()}.
+	 * @return Cell
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws IllegalArgumentException
+	 * @see Cell#importImageAsCell(String)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell nextCell() throws IOException, UnSupportedImageFormatException,
+			IllegalArgumentException {
+		return Cell.toCell(nextBufferedImage());
+	}
+
+	/**
+	 * This method will stop the worker threads and discard the images being decoded.
+	 * <p>No more images can be returned by the given BatchImageImporter after this call.
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void close() {
+		while (!i4.isEmpty())
+			i4.removeFirst().cancel(true);
+
+		i1 = i0.length;
+
+		if (i5 != null) {
+			i5.shutdownNow();
+			i5 = null;
+		}
+	}
+
+	// Schedule the decoding of the images up to the window.
+	private void f1() {
+		if (i5 == null) {
+			i5 = Executors.newFixedThreadPool(i2, new ThreadFactory() {
+				private int count = 0;
+
+				public synchronized Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "JMathStudio-Import-" + (count++));
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+
+		int next = i1 + i4.size();
+		int end = Math.min(i0.length, i1 + i3);
+
+		for (int k = next; k < end; k++) {
+			final String path = i0[k];
+
+			i4.addLast(i5.submit(new Callable<BufferedImage>() {
+				public BufferedImage call() throws Exception {
+					return PixelImage.importAsBufferedImage(path);
+				}
+			}));
+		}
+	}
+
+	private static String[] f0(String directory) throws IllegalArgumentException {
+		File dir = new File(directory);
+		String[] files = dir.list();
+
+		if (!dir.isDirectory() || files == null)
+			throw new IllegalArgumentException();
+
+		Arrays.sort(files);
+		ArrayList<String> list = new ArrayList<String>();
+
+		for (int i = 0; i < files.length; i++) {
+			File file = new File(dir, files[i]);
+
+			if (file.isFile() && !file.isHidden())
+				list.add(file.getAbsolutePath());
+		}
+
+		return list.toArray(new String[list.size()]);
+	}
+}
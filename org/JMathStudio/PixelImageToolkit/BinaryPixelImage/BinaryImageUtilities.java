@@ -2,6 +2,7 @@ package org.JMathStudio.PixelImageToolkit.BinaryPixelImage;
 
 import org.JMathStudio.DataStructure.Generic.Index2D;
 import org.JMathStudio.DataStructure.Generic.Index2DList;
+import org.JMathStudio.DataStructure.Generic.PackedIndex2DList;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
 
@@ -63,6 +64,42 @@ public final class BinaryImageUtilities {
 		}
 	}
 	
+	/**
+	 * This method will prepare a list of the indexes of all the foreground pixels (true's) within
+	 * the {@link BinaryPixelImage} 'image' and return the list as {@link PackedIndex2DList}.
+	 * <p>The list is as that of the method {@link #buildIndexList(BinaryPixelImage)}, with the indexes
+	 * packed in an int array instead of an {@link Index2D} object for each foreground pixel.
+	 * @param BinaryPixelImage image
+	 * @return {@link PackedIndex2DList}
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final static PackedIndex2DList buildPackedIndexList(BinaryPixelImage image){
+		
+		try{
+			int count = countForeGroundPixels(image);
+
+			PackedIndex2DList list = new PackedIndex2DList(count);
+
+			final int h = image.getHeight();
+			final int w = image.getWidth();
+			boolean[][] buffer = image.accessPixelDataBuffer();
+
+			for(int i=0;i<h;i++)
+			{
+				for(int j=0;j<w;j++)
+				{
+					if(buffer[i][j]){
+						list.add(i,j);
+					}
+				}
+			}
+
+			return list;
+		}catch(IllegalArgumentException e){
+			throw new BugEncounterException();
+		}
+	}
+	
 	/**
 	 * This method will count the number of foreground pixels (true's) within the {@link BinaryPixelImage}
 	 * 'image' and return the count.
@@ -1,6 +1,7 @@
 package org.JMathStudio.PixelImageToolkit.ColorPixelImage;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
 import java.io.IOException;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
@@ -123,10 +124,19 @@ public final class ARGBPixelImage extends  AbstractColourPixelImage{
 		
 		BufferedImage image = new BufferedImage(w, h,BufferedImage.TYPE_INT_ARGB);
 
-		for (int y = 0; y < h; y++) {
-			for (int x = 0; x < w; x++) {
-				image.setRGB(x, y, f5(f4(y,x),f2(y,x),f3(y,x),f1(y,x)));
+		//Packed pixels are copied to the Raster a row at a time in bulk.
+		WritableRaster raster = image.getRaster();
+		byte[] alpha = io.accessPixelBuffer();
+		byte[] red = i6.accessPixelBuffer();
+		byte[] green = i2.accessPixelBuffer();
+		byte[] blue = i3.accessPixelBuffer();
+		int[] row = new int[w];
+
+		for (int y = 0, k = 0; y < h; y++) {
+			for (int x = 0; x < w; x++, k++) {
+				row[x] = f5((alpha[k] & 0xff),(red[k] & 0xff),(green[k] & 0xff),(blue[k] & 0xff));
 			}
+			raster.setDataElements(0, y, w, 1, row);
 		}
 
 		return image;
@@ -164,6 +174,9 @@ public final class ARGBPixelImage extends  AbstractColourPixelImage{
 		
 		int h = getHeight();
 		int w = getWidth();
+		byte[] red = i6.accessPixelBuffer();
+		byte[] green = i2.accessPixelBuffer();
+		byte[] blue = i3.accessPixelBuffer();
 		
 		Cell cell = new Cell(h,w);
 		
@@ -171,7 +184,7 @@ public final class ARGBPixelImage extends  AbstractColourPixelImage{
 		
 		for (int i = 0; i < h; i++) {
 			for (int j = 0; j < w; j++) {
-				value = Math.round(0.3f*f2(i,j) + 0.59f*f3(i,j) + 0.11f*f1(i,j));
+				value = Math.round(0.3f*(red[i*w+j] & 0xff) + 0.59f*(green[i*w+j] & 0xff) + 0.11f*(blue[i*w+j] & 0xff));
 				cell.setElement(value, i, j);
 			}
 		}
@@ -195,6 +208,9 @@ public final class ARGBPixelImage extends  AbstractColourPixelImage{
 		
 		int h = getHeight();
 		int w = getWidth();
+		byte[] red = i6.accessPixelBuffer();
+		byte[] green = i2.accessPixelBuffer();
+		byte[] blue = i3.accessPixelBuffer();
 		
 		UInt8PixelImage img;
 
@@ -209,7 +225,7 @@ public final class ARGBPixelImage extends  AbstractColourPixelImage{
 		try {
 			for (int i = 0; i < h; i++) {
 				for (int j = 0; j < w; j++) {
-					value = Math.round(0.3f * f2(i,j) + 0.59f * f3(i,j) + 0.11f * f1(i,j));
+					value = Math.round(0.3f * (red[i*w+j] & 0xff) + 0.59f * (green[i*w+j] & 0xff) + 0.11f * (blue[i*w+j] & 0xff));
 					img.setPixel(value, i, j);
 				}
 			}
@@ -237,6 +253,9 @@ public final class ARGBPixelImage extends  AbstractColourPixelImage{
 		UInt16PixelImage img;
 		int h = getHeight();
 		int w = getWidth();
+		byte[] red = i6.accessPixelBuffer();
+		byte[] green = i2.accessPixelBuffer();
+		byte[] blue = i3.accessPixelBuffer();
 		
 		try {
 			img = new UInt16PixelImage(h, w);
@@ -251,7 +270,7 @@ public final class ARGBPixelImage extends  AbstractColourPixelImage{
 		try {
 			for (int i = 0; i < h; i++) {
 				for (int j = 0; j < w; j++) {
-					value = Math.round(slope*(0.3f*f2(i,j) + 0.59f*f3(i,j) + 0.11f*f1(i,j)));
+					value = Math.round(slope*(0.3f*(red[i*w+j] & 0xff) + 0.59f*(green[i*w+j] & 0xff) + 0.11f*(blue[i*w+j] & 0xff)));
 					img.setPixel(value, i, j);
 				}
 			}
@@ -373,31 +392,27 @@ public final class ARGBPixelImage extends  AbstractColourPixelImage{
 				int data[][] = f1(image);
 				return new UInt16PixelImage(data).toARGBPixelImage();
 
-			}else if (imageType == BufferedImage.TYPE_INT_RGB)
-			{
-				short data[][][] = f3(image);
-				UInt8PixelImage a = new UInt8PixelImage(data[0]);
-				UInt8PixelImage r = new UInt8PixelImage(data[1]);
-				UInt8PixelImage g = new UInt8PixelImage(data[2]);
-				UInt8PixelImage b = new UInt8PixelImage(data[3]);
-				
-				return new ARGBPixelImage(a,r,g,b);
-			} 
+			}
 			else
 			{
-				short data[][][] = f0(image);
-				UInt8PixelImage a = new UInt8PixelImage(data[0]);
-				UInt8PixelImage r = new UInt8PixelImage(data[1]);
-				UInt8PixelImage g = new UInt8PixelImage(data[2]);
-				UInt8PixelImage b = new UInt8PixelImage(data[3]);
-				
+				//Packed pixels are split directly in to the byte planes of the bands, with
+				//an alpha of 255 for a BufferedImage of type TYPE_INT_RGB.
+				UInt8PixelImage a = new UInt8PixelImage(image.getHeight(), image.getWidth());
+				UInt8PixelImage r = new UInt8PixelImage(image.getHeight(), image.getWidth());
+				UInt8PixelImage g = new UInt8PixelImage(image.getHeight(), image.getWidth());
+				UInt8PixelImage b = new UInt8PixelImage(image.getHeight(), image.getWidth());
+
+				f5(image, a.accessPixelBuffer(), r.accessPixelBuffer(), g.accessPixelBuffer(), b.accessPixelBuffer());
+
 				return new ARGBPixelImage(a,r,g,b);
-			} 
+			}
 		}
 		catch(PixelImageFormatException e)
 		{	throw new BugEncounterException();
 		} catch (DimensionMismatchException e) {
 			throw new BugEncounterException();
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
 		}
 
 	}
@@ -524,22 +539,6 @@ public final class ARGBPixelImage extends  AbstractColourPixelImage{
 			this.i3 = blue;
 	}
 	
-	private short f4(int i,int j){
-		return (short) this.io.getPixel(i, j);
-	}
-	
-	private short f2(int i,int j){
-		return (short) this.i6.getPixel(i, j);
-	}
-	
-	private short f3(int i,int j){
-		return (short) this.i2.getPixel(i, j);
-	}
-	
-	private short f1(int i,int j){
-		return (short) this.i3.getPixel(i, j);
-	}
-	
 	private int f5(int a, int r, int g, int b) {
 		return ((a << 24) | (r << 16) | (g << 8) | b);
 	}
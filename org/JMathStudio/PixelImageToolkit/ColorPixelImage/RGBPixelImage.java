@@ -1,6 +1,7 @@
 package org.JMathStudio.PixelImageToolkit.ColorPixelImage;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
 import java.io.IOException;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
@@ -124,11 +125,19 @@ public final class RGBPixelImage extends AbstractColourPixelImage {
 		int w = getWidth();
 		
 		BufferedImage image = new BufferedImage(w, h,BufferedImage.TYPE_INT_RGB);
-			
-		for (int y = 0; y < h; y++) {
-			for (int x = 0; x < w; x++) {
-				image.setRGB(x, y, f7(255, f3(y,x),f5(y,x), f0(y,x)));
+
+		//Packed pixels are copied to the Raster a row at a time in bulk.
+		WritableRaster raster = image.getRaster();
+		byte[] red = i2.accessPixelBuffer();
+		byte[] green = i4.accessPixelBuffer();
+		byte[] blue = i0.accessPixelBuffer();
+		int[] row = new int[w];
+
+		for (int y = 0, k = 0; y < h; y++) {
+			for (int x = 0; x < w; x++, k++) {
+				row[x] = f7(0, (red[k] & 0xff),(green[k] & 0xff), (blue[k] & 0xff));
 			}
+			raster.setDataElements(0, y, w, 1, row);
 		}
 
 		return image;
@@ -167,6 +176,9 @@ public final class RGBPixelImage extends AbstractColourPixelImage {
 	public Cell toCell() {
 		int h = getHeight();
 		int w = getWidth();
+		byte[] red = i2.accessPixelBuffer();
+		byte[] green = i4.accessPixelBuffer();
+		byte[] blue = i0.accessPixelBuffer();
 		
 		Cell cell = new Cell(h,w);
 		
@@ -174,7 +186,7 @@ public final class RGBPixelImage extends AbstractColourPixelImage {
 		
 		for (int i = 0; i < h; i++) {
 			for (int j = 0; j < w; j++) {
-				value = Math.round(0.3f*f3(i,j) + 0.59f*f5(i,j) + 0.11f*f0(i,j));
+				value = Math.round(0.3f*(red[i*w+j] & 0xff) + 0.59f*(green[i*w+j] & 0xff) + 0.11f*(blue[i*w+j] & 0xff));
 				cell.setElement(value, i, j);
 			}
 		}
@@ -197,6 +209,9 @@ public final class RGBPixelImage extends AbstractColourPixelImage {
 
 		int h = getHeight();
 		int w = getWidth();
+		byte[] red = i2.accessPixelBuffer();
+		byte[] green = i4.accessPixelBuffer();
+		byte[] blue = i0.accessPixelBuffer();
 		
 		UInt8PixelImage img;
 
@@ -211,7 +226,7 @@ public final class RGBPixelImage extends AbstractColourPixelImage {
 		try {
 			for (int i = 0; i < h; i++) {
 				for (int j = 0; j < w; j++) {
-					value = Math.round(0.3f * f3(i,j) + 0.59f * f5(i,j) + 0.11f * f0(i,j));
+					value = Math.round(0.3f * (red[i*w+j] & 0xff) + 0.59f * (green[i*w+j] & 0xff) + 0.11f * (blue[i*w+j] & 0xff));
 					img.setPixel(value, i, j);
 				}
 			}
@@ -239,6 +254,9 @@ public final class RGBPixelImage extends AbstractColourPixelImage {
 		UInt16PixelImage img;
 		int h = getHeight();
 		int w = getWidth();
+		byte[] red = i2.accessPixelBuffer();
+		byte[] green = i4.accessPixelBuffer();
+		byte[] blue = i0.accessPixelBuffer();
 		
 		try {
 			img = new UInt16PixelImage(h, w);
@@ -253,7 +271,7 @@ public final class RGBPixelImage extends AbstractColourPixelImage {
 		try {
 			for (int i = 0; i < h; i++) {
 				for (int j = 0; j < w; j++) {
-					value = Math.round(slope*(0.3f*f3(i,j) + 0.59f*f5(i,j) + 0.11f*f0(i,j)));
+					value = Math.round(slope*(0.3f*(red[i*w+j] & 0xff) + 0.59f*(green[i*w+j] & 0xff) + 0.11f*(blue[i*w+j] & 0xff)));
 					img.setPixel(value, i, j);
 				}
 			}
@@ -388,11 +406,12 @@ public final class RGBPixelImage extends AbstractColourPixelImage {
 				return new UInt16PixelImage(data).toRGBPixelImage();
 
 			} else {
-				short data[][][] = f3(image);
+				UInt8PixelImage r = new UInt8PixelImage(image.getHeight(), image.getWidth());
+				UInt8PixelImage g = new UInt8PixelImage(image.getHeight(), image.getWidth());
+				UInt8PixelImage b = new UInt8PixelImage(image.getHeight(), image.getWidth());
 				
-				UInt8PixelImage r = new UInt8PixelImage(data[1]);
-				UInt8PixelImage g = new UInt8PixelImage(data[2]);
-				UInt8PixelImage b = new UInt8PixelImage(data[3]);
+				//Packed pixels are split directly in to the byte planes of the bands.
+				f5(image, null, r.accessPixelBuffer(), g.accessPixelBuffer(), b.accessPixelBuffer());
 				
 				return new RGBPixelImage(r,g,b);
 			}
@@ -400,6 +419,8 @@ public final class RGBPixelImage extends AbstractColourPixelImage {
 			throw new BugEncounterException();
 		} catch (DimensionMismatchException e) {
 			throw new BugEncounterException();
+		} catch (IllegalArgumentException e) {
+			throw new BugEncounterException();
 		}
 
 	}
@@ -498,18 +519,6 @@ public final class RGBPixelImage extends AbstractColourPixelImage {
 			this.i0 = blue;
 	}
 	
-	private short f3(int i,int j){
-		return (short) this.i2.getPixel(i, j);
-	}
-	
-	private short f5(int i,int j){
-		return (short) this.i4.getPixel(i, j);
-	}
-	
-	private short f0(int i,int j){
-		return (short) this.i0.getPixel(i, j);
-	}
-	
 	private int f7(int a, int r, int g, int b) {
 		return ((a << 24) | (r << 16) | (g << 8) | b);
 	}
@@ -0,0 +1,319 @@
+package org.JMathStudio.PixelImageToolkit;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Exceptions.UnSupportedImageFormatException;
+import org.JMathStudio.PixelImageToolkit.PixelImage.PixelImageType;
+import org.JMathStudio.PixelImageToolkit.BinaryPixelImage.BinaryPixelImage;
+import org.JMathStudio.PixelImageToolkit.ColorPixelImage.ARGBPixelImage;
+import org.JMathStudio.PixelImageToolkit.ColorPixelImage.RGBPixelImage;
+import org.JMathStudio.PixelImageToolkit.UIntPixelImage.UInt16PixelImage;
+import org.JMathStudio.PixelImageToolkit.UIntPixelImage.UInt8PixelImage;
+import org.JMathStudio.Utilities.LazyLoader;
+import org.JMathStudio.VisualToolkit.Viewer.SeriesViewer;
+
+/**
+ * This class define a read only stack of {@link AbstractPixelImage}'s stored on the disk as a
+ * directory of images, whose PixelImages are imported on demand.
+ * <p>Unlike a {@link PixelImageStack}, which holds all its PixelImages in memory, a
+ * LazyPixelImageStack holds only a bounded working set of the recently accessed PixelImages,
+ * thus a stack with more images than fit in memory, such as a long time-lapse series, can be
+ * processed.
+ * <p>Each image file of the directory, in the order of the file names, is a PixelImage of the
+ * stack. All the images are imported as the same {@link PixelImageType}, as by the method
+ * importImage of the corresponding PixelImage class, when required.
+ * <p>The PixelImages are held in a least recently used cache of the given capacity. On each
+ * access the next few PixelImages of the stack are imported in the background, such that a
+ * sequential pass over the stack does not wait for the disk. The number of PixelImages so
+ * pre-fetched can be set with the method {@link #setPrefetchCount(int)}. The PixelImages are
+ * loaded by a {@link LazyLoader}, as the Cell's of a
+ * {@link org.JMathStudio.DataStructure.Cell.LazyCellStack}.
+ * <p>All the PixelImages of the stack should have similar dimensions. The PixelImages returned
+ * are shared with the cache and should not be modified.
+ * <p>A part of the stack can be loaded as a PixelImageStack with the method
+ * {@link #toPixelImageStack(int, int)}.
+ * <pre>Usage:
+ * LazyPixelImageStack frames = new LazyPixelImageStack("path", PixelImageType.UInt8, 64);//Open
+ * a directory of images as UInt8 PixelImages with a working set of 64 images.
+ *
+ * AbstractPixelImage frame = frames.accessPixelImage(10);//Import an image; the next images are
+ * pre-fetched.
+ *
+ * frames.displayImageSeries("Title");//Display the stack, importing images as navigated.
+ * </pre>
+ * @see PixelImageStack
+ * @see org.JMathStudio.DataStructure.Cell.LazyCellStack
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class LazyPixelImageStack {
+
+	private String[] i0;
+	private PixelImageType i1;
+	private int i2;
+	private int i3;
+	private int i4;
+	private LazyLoader<AbstractPixelImage> i5;
+
+	/**
+	 * This will open a LazyPixelImageStack backed by the directory of images as given by the
+	 * argument 'directory', with each image imported as the {@link PixelImageType} 'type'.
+	 * <p>Each non hidden file of the directory, in the ascending order of the file names, is a
+	 * PixelImage of the stack.
+	 * <p>The argument 'type' should be one of the types which can be imported, that is UInt8,
+	 * UInt16, Binary, RGB or ARGB. The argument 'capacity' specify the maximum number of
+	 * PixelImages held in memory and should be more than '0'.
+	 * <p>If the argument 'type' or 'capacity' is not valid, or if the argument 'directory' is not
+	 * a directory or has no files, this method will throw an IllegalArgument Exception.
+	 * <p>The first image of the stack is imported to obtain the dimensions of the images. If the
+	 * first image is not of a supported format this method will throw an UnSupportedImageFormat
+	 * Exception. This method will throw an IO Exception if the directory can not be read.
+	 * @param String directory
+	 * @param PixelImageType type
+	 * @param int capacity
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 * @throws UnSupportedImageFormatException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public LazyPixelImageStack(String directory, PixelImageType type, int capacity)
+			throws IOException, IllegalArgumentException, UnSupportedImageFormatException {
+		if (capacity < 1 || type == null || type == PixelImageType.CustomUInt)
+			throw new IllegalArgumentException();
+
+		File dir = new File(directory);
+
+		if (!dir.isDirectory())
+			throw new IllegalArgumentException();
+
+		String[] files = dir.list();
+
+		if (files == null)
+			throw new IOException();
+
+		Arrays.sort(files);
+		ArrayList<String> list = new ArrayList<String>();
+
+		for (int i = 0; i < files.length; i++) {
+			File file = new File(dir, files[i]);
+
+			if (file.isFile() && !file.isHidden())
+				list.add(file.getAbsolutePath());
+		}
+
+		if (list.size() == 0)
+			throw new IllegalArgumentException();
+
+		this.i0 = list.toArray(new String[list.size()]);
+		this.i1 = type;
+		this.i2 = i0.length;
+		this.i5 = new LazyLoader<AbstractPixelImage>(i2, capacity) {
+			protected AbstractPixelImage load(int index) throws IOException,
+					UnSupportedImageFormatException, DimensionMismatchException {
+				return f0(index);
+			}
+		};
+
+		AbstractPixelImage first = f1(i0[0]);
+		this.i3 = first.getHeight();
+		this.i4 = first.getWidth();
+		i5.put(0, first);
+	}
+
+	/**
+	 * This method will return the number of {@link AbstractPixelImage}'s in the given
+	 * LazyPixelImageStack.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int size() {
+		return this.i2;
+	}
+
+	/**
+	 * This method will return the {@link PixelImageType} of the PixelImages of the given
+	 * LazyPixelImageStack.
+	 * @return PixelImageType
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PixelImageType getImageType() {
+		return this.i1;
+	}
+
+	/**
+	 * This method will return the height of the PixelImages of the given LazyPixelImageStack.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getHeight() {
+		return this.i3;
+	}
+
+	/**
+	 * This method will return the width of the PixelImages of the given LazyPixelImageStack.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getWidth() {
+		return this.i4;
+	}
+
+	/**
+	 * This method will return the maximum number of PixelImages held in memory by the given
+	 * LazyPixelImageStack.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getCapacity() {
+		return i5.getCapacity();
+	}
+
+	/**
+	 * This method will return the number of PixelImages following an accessed PixelImage which
+	 * are imported in the background.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getPrefetchCount() {
+		return i5.getPrefetchCount();
+	}
+
+	/**
+	 * This method will set the number of PixelImages following an accessed PixelImage which are
+	 * imported in the background to the value as given by the argument 'count'. The default
+	 * value is '4', or one less than the capacity for a smaller capacity.
+	 * <p>A value of '0' disable the background import. The argument 'count' should be less than
+	 * the capacity of the given LazyPixelImageStack, else the pre-fetched PixelImages would evict
+	 * each other. If the argument 'count' is negative or not less than the capacity this method
+	 * will throw an IllegalArgument Exception.
+	 * @param int count
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void setPrefetchCount(int count) throws IllegalArgumentException {
+		i5.setPrefetchCount(count);
+	}
+
+	/**
+	 * This method will return the {@link AbstractPixelImage} at the index position as specified
+	 * by the argument 'index' of the given LazyPixelImageStack.
+	 * <p>The PixelImage is returned from the memory if present, else is imported from the disk
+	 * and retained in memory in place of the least recently used PixelImage. The next
+	 * PixelImages of the stack are imported in the background. The return PixelImage is shared
+	 * and should not be modified.
+	 * <p>If the argument 'index' is out of the valid range of indexing this method will throw an
+	 * ArrayIndexOutOfBound Exception.
+	 * <p>If the image file is not of a supported format this method will throw an
+	 * UnSupportedImageFormat Exception, and if its dimensions are not similar to that of the
+	 * first image of the stack this method will throw a DimensionMismatch Exception. This method
+	 * will throw an IO Exception if the image can not be read.
+	 * @param int index
+	 * @return AbstractPixelImage
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public AbstractPixelImage accessPixelImage(int index) throws IOException,
+			UnSupportedImageFormatException, DimensionMismatchException {
+		return i5.access(index);
+	}
+
+	/**
+	 * This method will load 'count' number of {@link AbstractPixelImage}'s of the given
+	 * LazyPixelImageStack, starting from the index position as specified by the argument
+	 * 'index', in to a new {@link PixelImageStack} and return the same.
+	 * <p>The PixelImages of the return PixelImageStack are shared with the given
+	 * LazyPixelImageStack and should not be modified.
+	 * <p>If the argument 'count' is less than '1' or the PixelImages to be loaded are not within
+	 * the given LazyPixelImageStack this method will throw an IllegalArgument Exception. The
+	 * other exceptions are as for the method {@link #accessPixelImage(int)}.
+	 * @param int index
+	 * @param int count
+	 * @return PixelImageStack
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public PixelImageStack toPixelImageStack(int index, int count) throws IOException,
+			UnSupportedImageFormatException, DimensionMismatchException,
+			IllegalArgumentException {
+		if (index < 0 || count < 1 || index + count > i2)
+			throw new IllegalArgumentException();
+
+		PixelImageStack stack = new PixelImageStack();
+
+		for (int i = 0; i < count; i++)
+			stack.addPixelImage(accessPixelImage(index + i));
+
+		return stack;
+	}
+
+	/**
+	 * This method will display the {@link AbstractPixelImage}'s of the given LazyPixelImageStack
+	 * as a series on a {@link SeriesViewer}, importing each PixelImage as navigated to.
+	 * <p>Each PixelImage shall be rendered/displayed according to its type.
+	 * <p>The argument 'title' specify the Title for the SeriesViewer.
+	 * <p>The exceptions are as for the method {@link #accessPixelImage(int)}, for the first
+	 * PixelImage.
+	 * @param String title
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @see SeriesViewer#displaySeries(LazyPixelImageStack)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void displayImageSeries(String title) throws IOException,
+			UnSupportedImageFormatException, DimensionMismatchException {
+		SeriesViewer viewer = new SeriesViewer();
+		viewer.setTitle(title);
+
+		viewer.displaySeries(this);
+	}
+
+	/**
+	 * This method will remove all the {@link AbstractPixelImage}'s held in memory by the given
+	 * LazyPixelImageStack and stop the background import thread.
+	 * <p>The given LazyPixelImageStack can still be accessed after this call, the PixelImages
+	 * being imported again as required.
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void release() {
+		i5.release();
+	}
+
+	private AbstractPixelImage f0(int index) throws IOException,
+			UnSupportedImageFormatException, DimensionMismatchException {
+		AbstractPixelImage image = f1(i0[index]);
+
+		if (image.getHeight() != i3 || image.getWidth() != i4)
+			throw new DimensionMismatchException();
+
+		return image;
+	}
+
+	private AbstractPixelImage f1(String path) throws IOException,
+			UnSupportedImageFormatException {
+		switch (i1) {
+		case UInt8:
+			return UInt8PixelImage.importImage(path);
+		case UInt16:
+			return UInt16PixelImage.importImage(path);
+		case Binary:
+			return BinaryPixelImage.importImage(path);
+		case RGB:
+			return RGBPixelImage.importImage(path);
+		case ARGB:
+			return ARGBPixelImage.importImage(path);
+		default:
+			throw new BugEncounterException();
+		}
+	}
+}
@@ -5,6 +5,8 @@ import org.JMathStudio.DataStructure.Iterator.Iterator2D.UIntPixelImageIterator;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
 import org.JMathStudio.PixelImageToolkit.AbstractPixelImage;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This is an abstract class which define the template for an UInt PixelImages.
@@ -19,6 +21,10 @@ import org.JMathStudio.PixelImageToolkit.AbstractPixelImage;
  * related transforms and operations defined on UInt PixelImages.
  * <p>Note: For all UInt PixelImages, the pixel intensities should be represented by an
  * unsigned integer i.e pixel intensities should not be negative.
+ * <p>An UInt PixelImage can optionally cache the histogram of its pixel intensities, see
+ * {@link #setHistogramCaching(boolean)}. The cached histogram is discarded whenever a pixel
+ * is modified with the method {@link #setPixel(int, int, int)} or by calling the method
+ * {@link #invalidateHistogram()}.
  * 
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  */
@@ -28,6 +34,10 @@ public abstract class AbstractUIntPixelImage extends AbstractPixelImage {
 	//PixelImage classes are not Serializable right now but may be in future.
 	protected transient UIntPixelImageIterator iterator = null;
 	
+	//Histogram cache, valid till a pixel is modified.
+	private transient boolean i0 = false;
+	private transient int[] i1 = null;
+	
 	/**
 	 * This abstract method will return the Depth of the given UInt PixelImage.
 	 * <p>
@@ -155,4 +165,123 @@ public abstract class AbstractUIntPixelImage extends AbstractPixelImage {
 			throw new BugEncounterException();
 		}
 	}
+	
+	/**
+	 * This method will enable or disable the caching of the histogram of the pixel intensities
+	 * for the given UInt PixelImage as specified by the argument 'caching'.
+	 * <p>When enabled, the histogram computed by the method {@link #getHistogram()} is retained
+	 * and returned by the successive calls till a pixel of the image is modified with the method
+	 * {@link #setPixel(int, int, int)}. This avoid recomputing the same histogram when several
+	 * histogram based operations are applied on an unmodified image.
+	 * <p>Modifications made directly to a pixel data array passed by reference to the
+	 * constructor of the image are not tracked and the caching should not be enabled for such
+	 * images.
+	 * <p>Disabling the caching discard any cached histogram. By default the caching is disabled.
+	 * @param boolean caching
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void setHistogramCaching(boolean caching)
+	{
+		this.i0 = caching;
+		if(!caching)
+			this.i1 = null;
+	}
+	
+	/**
+	 * This method will return 'true' if the caching of the histogram is enabled for the given
+	 * UInt PixelImage else will return 'false'.
+	 * @return boolean
+	 * @see #setHistogramCaching(boolean)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public boolean isHistogramCaching()
+	{
+		return this.i0;
+	}
+	
+	/**
+	 * This method will compute the histogram of the pixel intensities of the given UInt PixelImage
+	 * and return the same as an integer array.
+	 * <p>The return array will be of length one more than the maximum valid pixel intensity with
+	 * each index element of the array giving the count of the pixels with that pixel intensity.
+	 * <p>The rows of the image are counted concurrently in to the partial histograms which are
+	 * then merged. If the caching of the histogram is enabled and the image has not been modified
+	 * since the last call, the cached histogram is returned without counting the pixels.
+	 * <p>A new array is returned by each call and modifying it does not modify the cached
+	 * histogram.
+	 * @return int[]
+	 * @see #setHistogramCaching(boolean)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int[] getHistogram()
+	{
+		int[] cache = this.i1;
+		
+		if(cache == null)
+		{
+			cache = f0();
+			if(this.i0)
+				this.i1 = cache;
+		}
+		
+		int[] hist = new int[cache.length];
+		System.arraycopy(cache, 0, hist, 0, cache.length);
+		
+		return hist;
+	}
+	
+	/**
+	 * This method will discard the cached histogram of the given UInt PixelImage, if any.
+	 * <p>All the UInt PixelImages call this method whenever a pixel is modified with the method
+	 * {@link #setPixel(int, int, int)}. This method should be called after the pixels are modified
+	 * directly through a pixel buffer accessed by reference, such as
+	 * {@link UInt8PixelImage#accessPixelBuffer()}, so that the next call to the method
+	 * {@link #getHistogram()} recompute the histogram.
+	 * @see #setHistogramCaching(boolean)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final void invalidateHistogram()
+	{
+		if(this.i1 != null)
+			this.i1 = null;
+	}
+	
+	private int[] f0()
+	{
+		final int levels = getMaxValidPixel() + 1;
+		final int height = getHeight();
+		final int width = getWidth();
+		
+		//Each chunk should count at least as many pixels as the levels, so that
+		//the partial histograms do not dominate for small images.
+		int grain = Math.max(16, (levels + width - 1)/width);
+		
+		final int[][] partial = new int[ParallelExecutor.getChunkCount(height, grain)][];
+		
+		ParallelExecutor.execute(height, grain, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				int[] hist = new int[levels];
+				
+				for(int i=start;i<end;i++)
+				{
+					for(int j=0;j<width;j++)
+					{
+						hist[getPixel(i, j)]++;
+					}
+				}
+				
+				partial[chunk] = hist;
+			}
+		});
+		
+		int[] hist = partial[0];
+		
+		for(int c=1;c<partial.length;c++)
+		{
+			for(int i=0;i<levels;i++)
+				hist[i]+=partial[c][i];
+		}
+		
+		return hist;
+	}
 }
@@ -408,8 +408,10 @@ public final class CustomUIntPixelImage extends AbstractUIntPixelImage {
 			throws IllegalArgumentException {
 		if (!f0(value))
 			throw new IllegalArgumentException();
-		else
+		else {
 			this.pixelData[row][column] = value;
+			invalidateHistogram();
+		}
 
 	}
 
@@ -1,11 +1,6 @@
 package org.JMathStudio.PixelImageToolkit.UIntPixelImage;
 
-import java.awt.Point;
 import java.awt.image.BufferedImage;
-import java.awt.image.DataBuffer;
-import java.awt.image.DataBufferUShort;
-import java.awt.image.Raster;
-import java.awt.image.SampleModel;
 import java.awt.image.WritableRaster;
 import java.io.IOException;
 
@@ -138,7 +133,9 @@ public final class UInt16PixelImage extends AbstractUIntPixelImage {
 		BufferedImage image = new BufferedImage(width, height,
 				BufferedImage.TYPE_USHORT_GRAY);
 
-		short[][] img = new short[1][width * height];
+		//Pixels are copied to the Raster a row at a time in bulk.
+		WritableRaster raster = image.getRaster();
+		short[] row = new short[width];
 
 		for (int i = 0; i < height; i++) {
 			for (int j = 0; j < width; j++) {
@@ -147,14 +144,10 @@ public final class UInt16PixelImage extends AbstractUIntPixelImage {
 				// BufferedImage type USHORT_GRAY take this range of short data
 				// for 16 bits.
 				// Donot round off this. Cast to short is must.
-				img[0][i * width + j] = (short) (i0[i][j]);
+				row[j] = (short) (i0[i][j]);
 			}
+			raster.setDataElements(0, i, width, 1, row);
 		}
-		DataBuffer buff = new DataBufferUShort(img, 1);
-		SampleModel model = image.getSampleModel();
-		WritableRaster raster = Raster.createWritableRaster(model, buff,
-				new Point(0, 0));
-		image.setData(raster);
 
 		return image;
 	}
@@ -299,8 +292,10 @@ public final class UInt16PixelImage extends AbstractUIntPixelImage {
 	throws IllegalArgumentException {
 		if (!f4(value))
 			throw new IllegalArgumentException();
-		else
+		else {
 			this.i0[row][column] = value;
+			invalidateHistogram();
+		}
 	}
 
 	//	/**
@@ -511,16 +506,15 @@ public final class UInt16PixelImage extends AbstractUIntPixelImage {
 		float slope = (1.0f / MAX);
 		float _8Max = UInt8PixelImage.MAX;
 
-		try {
-			for (int i = 0; i < img.getHeight(); i++) {
-				for (int j = 0; j < img.getWidth(); j++) {
-					short pix = (short) Math.round(_8Max
-							* (this.getPixel(i, j) * slope));
-					img.setPixel(pix, i, j);
-				}
+		//Mapped pixels are written directly in to the byte plane of the image.
+		byte[] buffer = img.accessPixelBuffer();
+		int w = img.getWidth();
+
+		for (int i = 0; i < img.getHeight(); i++) {
+			for (int j = 0; j < w; j++) {
+				buffer[i*w+j] = (byte) Math.round(_8Max
+						* (this.getPixel(i, j) * slope));
 			}
-		} catch (IllegalArgumentException e) {
-			throw new BugEncounterException();
 		}
 
 		return img;
@@ -548,29 +542,18 @@ public final class UInt16PixelImage extends AbstractUIntPixelImage {
 		int h = getHeight();
 		int w = getWidth();
 
-		short[][] red = new short[h][w];
-		short[][] green = new short[h][w];
-		short[][] blue = new short[h][w];
-
-		for(int i=0;i< h;i++)
-		{
-			for(int j=0;j< w;j++)
-			{
-				red[i][j] = map.getRedComponent(i0[i][j]);
-				green[i][j] = map.getGreenComponent(i0[i][j]);
-				blue[i][j] = map.getBlueComponent(i0[i][j]);
-			}
-		}
-
 		try{
-			UInt8PixelImage ru = new UInt8PixelImage(red);
-			UInt8PixelImage gu = new UInt8PixelImage(green);
-			UInt8PixelImage bu = new UInt8PixelImage(blue);
+			UInt8PixelImage ru = new UInt8PixelImage(h, w);
+			UInt8PixelImage gu = new UInt8PixelImage(h, w);
+			UInt8PixelImage bu = new UInt8PixelImage(h, w);
+
+			//Mapped colours are written directly in to the byte planes of the bands.
+			f5(map, null, ru.accessPixelBuffer(), gu.accessPixelBuffer(), bu.accessPixelBuffer());
 
 			return new RGBPixelImage(ru,gu,bu);
 		}catch(DimensionMismatchException e){
 			throw new BugEncounterException();
-		}catch(PixelImageFormatException e){
+		}catch(IllegalArgumentException e){
 			throw new BugEncounterException();
 		}
 
@@ -600,36 +583,48 @@ public final class UInt16PixelImage extends AbstractUIntPixelImage {
 		int h = getHeight();
 		int w = getWidth();
 
-		short[][] alpha = new short[h][w];
-		short[][] red = new short[h][w];
-		short[][] green = new short[h][w];
-		short[][] blue = new short[h][w];
-
-		for(int i=0;i< h;i++)
-		{
-			for(int j=0;j< w;j++)
-			{
-				alpha[i][j] = 255;
-				red[i][j] = map.getRedComponent(i0[i][j]);
-				green[i][j] = map.getGreenComponent(i0[i][j]);
-				blue[i][j] = map.getBlueComponent(i0[i][j]);
-			}
-		}
-
 		try{
-			UInt8PixelImage au = new UInt8PixelImage(alpha);
-			UInt8PixelImage ru = new UInt8PixelImage(red);
-			UInt8PixelImage gu = new UInt8PixelImage(green);
-			UInt8PixelImage bu = new UInt8PixelImage(blue);
+			UInt8PixelImage au = new UInt8PixelImage(h, w);
+			UInt8PixelImage ru = new UInt8PixelImage(h, w);
+			UInt8PixelImage gu = new UInt8PixelImage(h, w);
+			UInt8PixelImage bu = new UInt8PixelImage(h, w);
+
+			//Mapped colours are written directly in to the byte planes of the bands.
+			f5(map, au.accessPixelBuffer(), ru.accessPixelBuffer(), gu.accessPixelBuffer(), bu.accessPixelBuffer());
 
 			return new ARGBPixelImage(au,ru,gu,bu);
 		}catch(DimensionMismatchException e){
 			throw new BugEncounterException();
-		}catch(PixelImageFormatException e){
+		}catch(IllegalArgumentException e){
 			throw new BugEncounterException();
 		}
 	}
 
+	private void f5(RGBMapper map, byte[] alpha, byte[] red, byte[] green, byte[] blue)
+	{
+		//Map each pixel to the compact byte planes, with the alpha plane
+		//filled with 255 when present.
+		int h = getHeight();
+		int w = getWidth();
+
+		for(int i=0;i< h;i++)
+		{
+			int[] row = i0[i];
+			int offset = i*w;
+
+			for(int j=0;j< w;j++)
+			{
+				int value = row[j];
+
+				if(alpha != null)
+					alpha[offset+j] = (byte) 255;
+				red[offset+j] = (byte) map.getRedComponent(value);
+				green[offset+j] = (byte) map.getGreenComponent(value);
+				blue[offset+j] = (byte) map.getBlueComponent(value);
+			}
+		}
+	}
+
 	/**
 	 * This method will return the Maximum valid Pixel Intensity for this UInt16
 	 * PixelImage.
@@ -1,7 +1,16 @@
 package org.JMathStudio.PixelImageToolkit.UIntPixelImage;
 
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
 import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.Exceptions.BugEncounterException;
@@ -20,8 +29,8 @@ import org.JMathStudio.PixelImageToolkit.PixelImage.PixelImageType;
  * This class represents an UInt8 PixelImage and extends {@link AbstractUIntPixelImage}.
  * See {@link PixelImage} for further information on UInt8 PixelImage type.
  * <p>An UInt8PixelImage belong to an UInt PixelImage family. Pixel intensities of an UInt8 PixelImage is represented by a
- * 2D short pixel array representing different shades of gray with 8 bits depth for each 
- * pixel position.
+ * compact byte array, one unsigned byte per pixel in the row major order, representing different shades of gray with
+ * 8 bits depth for each pixel position.
  * <p>Thus pixel values of this UInt8 PixelImage takes value in the range of [0 255] corresponding to 256 different
  * shades of gray. 
  * <p>This UInt PixelImage will be represented as an {@link AbstractUIntPixelImage} which define generic characteristics 
@@ -38,7 +47,9 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 	private final int i3 = 8;
 	private final int i7 = 256;
 
-	private short[][] i1;
+	private byte[] i1;
+	private int i0;
+	private int i2;
 
 	/**
 	 * This will create an UInt8PixelImage of Height and Width as given by the argument
@@ -59,7 +70,9 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 			throw new IllegalArgumentException();
 		else
 		{
-			i1 = new short[height][width];
+			i1 = new byte[height*width];
+			i0 = height;
+			i2 = width;
 		}
 
 	}
@@ -70,7 +83,8 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 	 * <p>The short 2D array 'pixelData' should have a valid UInt8 short array format else this method will throw
 	 * a PixelImageFormat Exception. See {@link #isUInt8Data(short[][])} method for further clarification
 	 * on UInt8 short array requirements.
-	 * <p>The argument 'pixelData' is passed by reference and no deep copy of the same is made.
+	 * <p>The pixel values are copied in to the compact storage of this image, thus the array 'pixelData'
+	 * is not referred to by this image.
 	 * 
 	 * @param short[][] pixelData
 	 * @throws PixelImageFormatException
@@ -83,7 +97,18 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 			throw new PixelImageFormatException();
 		else
 		{
-			this.i1 = pixelData;
+			i0 = pixelData.length;
+			i2 = pixelData[0].length;
+			i1 = new byte[i0*i2];
+
+			for(int i=0;i<i0;i++)
+			{
+				short[] row = pixelData[i];
+				int offset = i*i2;
+
+				for(int j=0;j<i2;j++)
+					i1[offset+j] = (byte) row[j];
+			}
 		}
 	}
 
@@ -91,6 +116,12 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 	 * This method will convert the given UInt8PixelImage object to an appropriate BufferedImage
 	 * object and return the same. 
 	 * <p>The UInt8PixelImage will be converted to a BufferedImage of type "TYPE_BYTE_GRAY".
+	 * <p>The return BufferedImage is build over the compact pixel buffer of the given image, see
+	 * {@link #accessPixelBuffer()}, without copying the pixels. Thus the return BufferedImage share
+	 * the pixels with the given image and the modifications made to the pixels of either of them
+	 * are reflected in the other. If the pixels are modified through the return BufferedImage while
+	 * histogram caching is enabled, the method {@link #invalidateHistogram()} should be called after
+	 * the modification.
 	 * <p>BufferedImage is a standard Image type for Java.
 	 * @return BufferedImage
 	 * @see BufferedImage
@@ -98,13 +129,19 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 	 */
 	public BufferedImage toBufferedImage() {
 
-		BufferedImage image = new BufferedImage(getWidth(), getHeight(),
-				BufferedImage.TYPE_BYTE_GRAY);
+		int width = getWidth();
+		int height = getHeight();
+
+		//The compact pixel buffer has the layout of a TYPE_BYTE_GRAY Raster and is wrapped as such.
+		DataBufferByte buffer = new DataBufferByte(i1, i1.length);
+		WritableRaster raster = Raster.createInterleavedRaster(buffer, width,
+				height, width, 1, new int[] { 0 }, null);
 
-		byte[] byteArray = f4(i1);
-		image.getRaster().setDataElements(0, 0, getWidth(), getHeight(), byteArray);
+		ColorModel model = new ComponentColorModel(ColorSpace
+				.getInstance(ColorSpace.CS_GRAY), new int[] { 8 }, false,
+				true, Transparency.OPAQUE, DataBuffer.TYPE_BYTE);
 
-		return image;
+		return new BufferedImage(model, raster, false, null);
 	}
 
 	/**
@@ -113,7 +150,7 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public int getHeight() {
-		return this.i1.length;
+		return this.i0;
 	}
 
 	/**
@@ -122,7 +159,7 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public int getWidth() {
-		return this.i1[0].length;
+		return this.i2;
 	}
 
 	/**
@@ -136,12 +173,15 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 	public Cell toCell() {
 
 		Cell cell = new Cell(getHeight(),getWidth());
+		float[][] buffer = cell.accessCellBuffer();
 
-		for(int i=0;i<cell.getRowCount();i++)
+		for(int i=0;i<i0;i++)
 		{
-			for(int j=0;j<cell.getColCount();j++)
+			int offset = i*i2;
+
+			for(int j=0;j<i2;j++)
 			{
-				cell.setElement(i1[i][j], i, j);
+				buffer[i][j] = i1[offset+j] & 0xff;
 			}
 		}
 
@@ -190,7 +230,8 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 	 */
 	public int getPixel(int row,int column) 
 	{
-		return this.i1[row][column];
+		f4(row, column);
+		return this.i1[row*i2+column] & 0xff;
 	}
 
 	/**
@@ -215,7 +256,11 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 		if(!f3(value))
 			throw new IllegalArgumentException();
 		else
-			this.i1[row][column] = (short) value;
+		{
+			f4(row, column);
+			this.i1[row*i2+column] = (byte) value;
+			invalidateHistogram();
+		}
 	}
 
 	//	/**
@@ -232,6 +277,25 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 	//		return this.pixelData;
 	//	}
 
+	/**
+	 * This method will return the compact pixel buffer of the given UInt8PixelImage by reference.
+	 * <p>The pixel at row index 'i' and column index 'j' is stored as an unsigned byte at the index
+	 * i*width + j of the return byte array, thus the pixel value is given by (buffer[i*width + j] &amp; 0xff).
+	 * <p>This enable bulk operations over the pixels, such as channel extraction of a colour image,
+	 * without a method call per pixel.
+	 * <p>Modifications made through the return array are not tracked by the histogram cache, thus
+	 * if the pixels are modified through the return array while histogram caching is enabled, the
+	 * method {@link #invalidateHistogram()} should be called after the modification.
+	 * @return byte[]
+	 * @see #setHistogramCaching(boolean)
+	 * @see #invalidateHistogram()
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public byte[] accessPixelBuffer()
+	{
+		return this.i1;
+	}
+
 	/**
 	 * This method will check whether the 2D short array 'uint8' follows a valid
 	 * UInt8 short array format.
@@ -347,31 +411,15 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 	public UInt8PixelImage clone()
 	{
 		try {
-			short[][] clone = new short[getHeight()][getWidth()];
+			UInt8PixelImage clone = new UInt8PixelImage(i0, i2);
+			System.arraycopy(i1, 0, clone.i1, 0, i1.length);
 
-			for (int i = 0; i < clone.length; i++) {
-				System.arraycopy(i1[i], 0, clone[i], 0, clone[i].length);
-			}
-			return new UInt8PixelImage(clone);
-		} catch (PixelImageFormatException e) {
+			return clone;
+		} catch (IllegalArgumentException e) {
 			throw new BugEncounterException();
 		}			
 	}
 
-	private byte[] f4(short[][] data) {
-		int width = data[0].length;
-		int height = data.length;
-		byte result[] = new byte[width * height];
-
-		for (int x = 0; x < width; x++) {
-			for (int y = 0; y < height; y++) {
-				result[y * width + x] = (byte) (data[y][x] & 0xFF);
-			}
-		}
-		return result;
-
-	}
-
 	/**
 	 * This method return the Image Type for this UInt8PixelImage.
 	 * <p>
@@ -412,9 +460,9 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 		{
 			for(int j=0;j< w;j++)
 			{
-				red[i][j] = map.getRedComponent(i1[i][j]);
-				green[i][j] = map.getGreenComponent(i1[i][j]);
-				blue[i][j] = map.getBlueComponent(i1[i][j]);
+				red[i][j] = map.getRedComponent(i1[i*w+j] & 0xff);
+				green[i][j] = map.getGreenComponent(i1[i*w+j] & 0xff);
+				blue[i][j] = map.getBlueComponent(i1[i*w+j] & 0xff);
 			}
 		}
 
@@ -462,9 +510,9 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 			for(int j=0;j< w;j++)
 			{
 				alpha[i][j] = 255;
-				red[i][j] = map.getRedComponent(i1[i][j]);
-				green[i][j] = map.getGreenComponent(i1[i][j]);
-				blue[i][j] = map.getBlueComponent(i1[i][j]);
+				red[i][j] = map.getRedComponent(i1[i*w+j] & 0xff);
+				green[i][j] = map.getGreenComponent(i1[i*w+j] & 0xff);
+				blue[i][j] = map.getBlueComponent(i1[i*w+j] & 0xff);
 			}
 		}
 
@@ -577,6 +625,12 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 		return i3;
 	}
 
+	private void f4(int row, int column)
+	{
+		if(row < 0 || row >= i0 || column < 0 || column >= i2)
+			throw new ArrayIndexOutOfBoundsException();
+	}
+
 	private boolean f3(int pixel)
 	{
 		if(pixel<MIN || pixel >MAX)
@@ -635,18 +689,10 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 		int h = getHeight();
 		int w = getWidth();
 
-		short[][] alpha = new short[h][w];
-
-		for(int i=0;i<h;i++)
-		{
-			for(int j=0;j<w;j++)
-			{
-				alpha[i][j] = 255;
-			}
-		}
-
 		try{
-			UInt8PixelImage a = new UInt8PixelImage(alpha);
+			UInt8PixelImage a = new UInt8PixelImage(h, w);
+			Arrays.fill(a.i1, (byte) 255);
+
 			UInt8PixelImage r = this.clone();
 			UInt8PixelImage g = this.clone();
 			UInt8PixelImage b = this.clone();
@@ -654,7 +700,7 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 			return new ARGBPixelImage(a,r,g,b);
 		} catch (DimensionMismatchException e) {
 			throw new BugEncounterException();
-		} catch (PixelImageFormatException e) {
+		} catch (IllegalArgumentException e) {
 			throw new BugEncounterException();
 		}
 	}
@@ -714,8 +760,10 @@ public final class UInt8PixelImage extends AbstractUIntPixelImage{
 		{
 			if (imageType == BufferedImage.TYPE_BYTE_GRAY) 
 			{
-				short data[][] = f2(image);
-				return new UInt8PixelImage(data);
+				//The Raster has the layout of the compact pixel buffer.
+				UInt8PixelImage img = new UInt8PixelImage(image.getHeight(), image.getWidth());
+				image.getRaster().getDataElements(0, 0, img.i2, img.i0, img.i1);
+				return img;
 
 			} else if (imageType == BufferedImage.TYPE_USHORT_GRAY)
 			{
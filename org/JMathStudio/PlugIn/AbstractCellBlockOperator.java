@@ -1,10 +1,13 @@
 package org.JMathStudio.PlugIn;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.JMathStudio.DataStructure.Cell.Cell;
-import org.JMathStudio.DataStructure.Cell.CellTools;
-import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.DimensionMismatchException;
 import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define an abstract block operator which operate over an individual blocks/segments of a {@link Cell}.
@@ -16,6 +19,23 @@ import org.JMathStudio.Exceptions.IllegalArgumentException;
  * <p>3. Recombine operated blocks in correct order to get final resultant Cell.
  * </i>
  * <p>The dimensions of the resultant Cell may or may not be similar to that of the input Cell.
+ * <p>The blocks may also overlap, with a configurable stride between the consecutive blocks, in which case the
+ * operated blocks are blended by a weighted average over the overlapping elements. The blocks can be processed
+ * concurrently and are passed to the operator as a {@link CellBlockView}, which read the elements directly
+ * from the input Cell.
+ * <pre>Usage:
+ * AbstractCellBlockOperator dct = new AbstractCellBlockOperator(){//Define a custom block operator.
+ *	public Cell operator(Cell block){
+ *		...
+ *	}
+ * };
+ *
+ * Cell result = dct.evaluateOverCell(img, 8, 8, true);//Evaluate over non overlapping blocks of
+ * [8 8] concurrently.
+ * Cell smooth = dct.evaluateOverCell(img, 8, 8, 4, 4, weights, true);//Evaluate over blocks of
+ * [8 8] overlapping by half and blend them with the given weights.
+ * </pre>
+ * @see CellBlockView
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  */
 public abstract class AbstractCellBlockOperator {
@@ -51,6 +71,83 @@ public abstract class AbstractCellBlockOperator {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
 	 */
 	public Cell evaluateOverCell(Cell cell,int m,int n)throws IllegalArgumentException, DimensionMismatchException
+	{
+		return evaluateOverCell(cell, m, n, m, n, null, false);
+	}
+
+	/**
+	 * This method will apply the given block operator on the input {@link Cell} 'cell' and return the
+	 * resultant Cell.
+	 * <p>This method is similar to {@link #evaluateOverCell(Cell, int, int)}, except that the blocks are
+	 * processed concurrently if the argument 'parallel' is 'true'. For an operator which is not safe to be
+	 * called concurrently the argument 'parallel' should be 'false'.
+	 * @param Cell cell
+	 * @param int m
+	 * @param int n
+	 * @param boolean parallel
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @throws DimensionMismatchException
+	 * @see #evaluateOverCell(Cell, int, int, int, int, Cell, boolean)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
+	 */
+	public final Cell evaluateOverCell(Cell cell,int m,int n,boolean parallel)throws IllegalArgumentException, DimensionMismatchException
+	{
+		return evaluateOverCell(cell, m, n, m, n, null, parallel);
+	}
+
+	/**
+	 * This method will apply the given block operator on the overlapping blocks of the input {@link Cell}
+	 * 'cell' and return the resultant Cell.
+	 * <p>This method will segment the input 'cell' into blocks of [m n] dimensions where 'm' is the row
+	 * count and 'n' is the column count for each block. The consecutive blocks are placed 'rowStride'
+	 * rows apart along the rows and 'colStride' columns apart along the columns, thus the blocks overlap
+	 * if the strides are less than the block dimensions. For 'rowStride' = 'm' and 'colStride' = 'n' the
+	 * blocks do not overlap, as with the method {@link #evaluateOverCell(Cell, int, int)}.
+	 * <p>The value of argument 'm' and 'n' should be more than '0' and should not be more than the row
+	 * count and column count of 'cell' respectively else this method will throw an IllegalArgument
+	 * Exception. The argument 'rowStride' should be in the range of 1 to 'm' and the argument
+	 * 'colStride' should be in the range of 1 to 'n' else this method will throw an IllegalArgument
+	 * Exception.
+	 * <p>The block operator as defined by the method {@link #operator(CellBlockView, float[][])} is
+	 * applied on each block. The blocks are passed to the operator as views in to the buffer of the input
+	 * 'cell', with the elements beyond the input 'cell' read as zero, thus no block is copied unless the
+	 * operator require so.
+	 * <p>The operated blocks are blended together to produce the final resultant Cell. Each element of the
+	 * resultant Cell is the weighted average of the corresponding elements of all the operated blocks
+	 * which overlap at that element, where the weight of an element of a block is given by the element at
+	 * the same position in the argument Cell 'weights'. A tapered window, such as one built from the
+	 * windows of the {@link org.JMathStudio.SignalToolkit.Utilities.WindowFactory}, avoid the blocking
+	 * artifacts at the borders of the blocks. An element for which the sum of the weights is zero is set
+	 * to '0'.
+	 * <p>If the argument 'weights' is null, all the weights are taken as '1' and each element is the
+	 * average of the overlapping blocks. Otherwise the dimensions of 'weights' should be [m n] else this
+	 * method will throw a DimensionMismatch Exception and all its elements should not be negative else
+	 * this method will throw an IllegalArgument Exception.
+	 * <p>If the argument 'parallel' is 'true' the blocks are processed concurrently, with the blocks which
+	 * overlap never processed at the same time. For an operator which is not safe to be called
+	 * concurrently the argument 'parallel' should be 'false'.
+	 * <p>If the dimensions of operated block are not similar to dimensions of input block i.e [m n], this
+	 * method will throw an DimensionMismatch Exception.
+	 * <p>If 'rc' and 'cc' is the row count and column count of the input 'cell' than dimensions of the
+	 * return Cell will be such that the blocks cover the input 'cell';
+	 * <i>
+	 * <p>if ((rc-m)%rowStride !=0) [rc + rowStride -((rc-m)%rowStride)] else rc
+	 * <p>if ((cc-n)%colStride !=0) [cc + colStride -((cc-n)%colStride)] else cc
+	 * </i>
+	 * @param Cell cell
+	 * @param int m
+	 * @param int n
+	 * @param int rowStride
+	 * @param int colStride
+	 * @param Cell weights
+	 * @param boolean parallel
+	 * @return Cell
+	 * @throws IllegalArgumentException
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
+	 */
+	public final Cell evaluateOverCell(Cell cell,int m,int n,int rowStride,int colStride,Cell weights,boolean parallel)throws IllegalArgumentException, DimensionMismatchException
 	{
 		if(m <=0 || n<=0)
 			throw new IllegalArgumentException();
@@ -61,50 +158,58 @@ public abstract class AbstractCellBlockOperator {
 		if(m > rc || n > cc)
 			throw new IllegalArgumentException();
 
-		int yPadd = rc;
-		int xPadd = cc;
-
-		if( rc%m !=0)
-		{
-			yPadd = yPadd + m - (rc%m);
-		}
-		if( cc%n !=0)
-		{
-			xPadd = xPadd + n - (cc%n);
-		}
-
-		CellTools ct = new CellTools();
+		if(rowStride < 1 || rowStride > m || colStride < 1 || colStride > n)
+			throw new IllegalArgumentException();
 
-		try{
-			//This also create a buffer on which blocks as segmented shall be replaced by 
-			//corresponding resultant blocks. Thus input Cell is not touched.
-			Cell resize = ct.resize(cell, yPadd, xPadd);
+		float[][] w = null;
 
-			int row_blocks = yPadd/m;
-			int col_blocks = xPadd/n;
+		if(weights != null)
+		{
+			if(weights.getRowCount() != m || weights.getColCount() != n)
+				throw new DimensionMismatchException();
 
-			Cell block;
+			w = weights.accessCellBuffer();
 
-			for(int i=0;i<row_blocks;i++)
+			for(int i=0;i<m;i++)
 			{
-				for(int j=0;j<col_blocks;j++)
+				for(int j=0;j<n;j++)
 				{
-					block = ct.subCell(resize, i*m, m, j*n, n);
-					block = operator(block);
-					if(block.getRowCount() != m || block.getColCount() != n)
-						throw new DimensionMismatchException();
-					
-					insert(resize, block, i*m, j*n);
+					if(w[i][j] < 0)
+						throw new IllegalArgumentException();
 				}
-
 			}
+		}
+
+		int rowBlocks = (rc - m + rowStride - 1)/rowStride + 1;
+		int colBlocks = (cc - n + colStride - 1)/colStride + 1;
+
+		Cell result = new Cell((rowBlocks-1)*rowStride + m, (colBlocks-1)*colStride + n);
 
-			return resize;
-		}catch (IllegalArgumentException e) {
-			throw new BugEncounterException();
-		}catch(ArrayIndexOutOfBoundsException e){
-			throw new BugEncounterException();
+		boolean overlap = rowStride < m || colStride < n;
+
+		if(!overlap && w == null)
+		{
+			//Each element is covered by a single block, thus the operated blocks are written 
+			//directly to the resultant Cell.
+			f0(cell.accessCellBuffer(), result.accessCellBuffer(), null, null, m, n, rowStride, colStride, rowBlocks, colBlocks, parallel);
+			return result;
 		}
+
+		float[][] sum = null;
+
+		if(w == null)
+		{
+			w = new float[m][n];
+			for(int i=0;i<m;i++)
+				Arrays.fill(w[i], 1);
+		}
+		else
+			sum = new float[result.getRowCount()][result.getColCount()];
+
+		f0(cell.accessCellBuffer(), result.accessCellBuffer(), w, sum, m, n, rowStride, colStride, rowBlocks, colBlocks, parallel);
+		f1(result.accessCellBuffer(), sum, m, n, rowStride, colStride, rowBlocks, colBlocks);
+
+		return result;
 	}
 
 	/**
@@ -118,6 +223,39 @@ public abstract class AbstractCellBlockOperator {
 	 */
 	public abstract Cell operator(Cell block);
 
+	/**
+	 * This method state the definition for the given block operator on a view of the block.
+	 * <p>The block operator defined here shall operate on an input block as represented by the
+	 * {@link CellBlockView} 'block' and write the resultant operated block in to the 2D float array
+	 * 'result', which has the same dimensions as that of the block. All the elements of the array 'result'
+	 * should be written, as the array is reused for the next block.
+	 * <p>The view 'block' read the elements of the block directly from the buffer of the input Cell and
+	 * is reused for the next block, thus it should not be retained after this method return.
+	 * <p>By default this method copy the block in to a {@link Cell} and apply the block operator as defined
+	 * by the method {@link #operator(Cell)}. If the dimensions of the operated block are not similar to
+	 * that of the input block, this method will throw a DimensionMismatch Exception. Override this method
+	 * to operate on the block without any copy.
+	 * @param CellBlockView block
+	 * @param float[][] result
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void operator(CellBlockView block, float[][] result) throws DimensionMismatchException
+	{
+		Cell operated = operator(block.toCell());
+		
+		int m = block.getRowCount();
+		int n = block.getColCount();
+		
+		if(operated.getRowCount() != m || operated.getColCount() != n)
+			throw new DimensionMismatchException();
+		
+		float[][] buffer = operated.accessCellBuffer();
+		
+		for(int i=0;i<m;i++)
+			System.arraycopy(buffer[i], 0, result[i], 0, n);
+	}
+
 	protected final void insert(Cell cell,Cell insert,int r,int c) throws IllegalArgumentException
 	{
 		int Rc = cell.getRowCount();
@@ -143,4 +281,113 @@ public abstract class AbstractCellBlockOperator {
 		}
 	}
 
+	private void f0(final float[][] src, final float[][] dst, final float[][] w, final float[][] sum, final int m, final int n,
+			final int rowStride, final int colStride, int rowBlocks, final int colBlocks, boolean parallel) throws DimensionMismatchException
+	{
+		//Block rows which are 'phases' rows of blocks apart never overlap, thus all the block
+		//rows of a phase are processed concurrently without any conflict over the resultant Cell.
+		final int phases = (m + rowStride - 1)/rowStride;
+		final AtomicBoolean mismatch = new AtomicBoolean(false);
+
+		for(int p=0;p<phases;p++)
+		{
+			final int phase = p;
+			int count = (rowBlocks - phase + phases - 1)/phases;
+
+			ParallelTask task = new ParallelTask() {
+				public void run(int chunk, int start, int end) {
+					CellBlockView view = new CellBlockView(src, m, n);
+					float[][] block = new float[m][n];
+
+					try{
+						for(int t=start;t<end && !mismatch.get();t++)
+						{
+							int r = (phase + t*phases)*rowStride;
+
+							for(int c=0;c<colBlocks;c++)
+							{
+								int x = c*colStride;
+
+								view.f0(r, x);
+								operator(view, block);
+
+								if(w == null)
+								{
+									for(int i=0;i<m;i++)
+										System.arraycopy(block[i], 0, dst[r+i], x, n);
+								}
+								else
+								{
+									for(int i=0;i<m;i++)
+									{
+										float[] d = dst[r+i];
+										float[] b = block[i];
+										float[] k = w[i];
+
+										for(int j=0;j<n;j++)
+											d[x+j] += k[j]*b[j];
+
+										if(sum != null)
+										{
+											float[] s = sum[r+i];
+											for(int j=0;j<n;j++)
+												s[x+j] += k[j];
+										}
+									}
+								}
+							}
+						}
+					}catch(DimensionMismatchException e){
+						mismatch.set(true);
+					}
+				}
+			};
+
+			if(parallel)
+				ParallelExecutor.execute(count, 1, task);
+			else
+				task.run(0, 0, count);
+
+			if(mismatch.get())
+				throw new DimensionMismatchException();
+		}
+	}
+
+	private void f1(final float[][] dst, final float[][] sum, int m, int n, int rowStride, int colStride, int rowBlocks, int colBlocks)
+	{
+		//Normalise the blended blocks by the sum of the weights. For unit weights the sum is
+		//the product of the number of blocks covering the row and the column.
+		final int[] rows = new int[dst.length];
+		final int[] cols = new int[dst[0].length];
+
+		for(int r=0;r<rowBlocks;r++)
+		{
+			for(int i=0;i<m;i++)
+				rows[r*rowStride + i]++;
+		}
+		for(int c=0;c<colBlocks;c++)
+		{
+			for(int j=0;j<n;j++)
+				cols[c*colStride + j]++;
+		}
+
+		ParallelExecutor.execute(dst.length, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for(int i=start;i<end;i++)
+				{
+					float[] d = dst[i];
+
+					for(int j=0;j<d.length;j++)
+					{
+						if(sum == null)
+							d[j] = d[j]/(rows[i]*cols[j]);
+						else if(sum[i][j] > 0)
+							d[j] = d[j]/sum[i][j];
+						else
+							d[j] = 0;
+					}
+				}
+			}
+		});
+	}
 }
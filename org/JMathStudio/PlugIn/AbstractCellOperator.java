@@ -1,6 +1,8 @@
 package org.JMathStudio.PlugIn;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 
 /**
@@ -9,16 +11,27 @@ import org.JMathStudio.DataStructure.Cell.Cell;
  * point operator. 
  * <p>The point operator define here shall be a real function which takes in a real scalar and gives out a
  * real scalar.
+ * <p>An operator which depend only upon its argument, and is thus safe to be evaluated in any order,
+ * any number of times and for values which do not occur in the Cell, may declare so by overriding the
+ * method {@link #isPure()} to return 'true'. For such an operator, if all the elements of the {@link Cell}
+ * are integers spanning a range of not more than 65536 values and not more than the number of elements,
+ * the operator is evaluated only once for each integer in that range and the elements are mapped through
+ * the resultant lookup table concurrently.
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  */
 public abstract class AbstractCellOperator {
 	
+	//Maximum length of the lookup table.
+	private final static int i0 = 65536;
+	
 	/**
 	 * This method will evaluate the given Point operator over the elements of the {@link Cell}
 	 * 'cell' and return the result as a {@link Cell}.
 	 * <p>The definition of the point operator is as stated by the method {@link #operator(float)}.
 	 * <p>The returned Cell contain the output for the given operator evaluated independently over the
 	 * corresponding elements of the Cell 'cell'.
+	 * <p>Unless the method {@link #isPure()} return 'true', the operator is evaluated once for each
+	 * element of the Cell 'cell' in the row major order.
 	 * @param Cell cell
 	 * @return Cell
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
@@ -30,6 +43,25 @@ public abstract class AbstractCellOperator {
 		
 		Cell result = new Cell(rc,cc);
 		
+		float[] range = isPure() ? f0(cell) : null;
+		
+		//Integer valued elements over a small range are evaluated through a
+		//lookup table, for a pure operator only.
+		if(range != null)
+		{
+			long levels = (long) range[1] - (long) range[0] + 1;
+			
+			if(levels <= i0 && levels <= (long) rc*cc)
+			{
+				float[] lut = new float[(int) levels];
+				for(int k=0;k<lut.length;k++)
+					lut[k] = operator(range[0] + k);
+				
+				f1(cell, result, lut, (int) range[0]);
+				return result;
+			}
+		}
+		
 		float op=0;
 		
 		for(int i=0;i<rc;i++)
@@ -53,6 +85,65 @@ public abstract class AbstractCellOperator {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public abstract float operator(float x);
+	
+	/**
+	 * This method state whether the given Point operator is pure, that is, whether its output
+	 * depend only upon its argument without any side effect.
+	 * <p>A pure operator may be evaluated by the method {@link #evaluateOverCell(Cell)} through a
+	 * lookup table, once for each integer in the range of the elements, including the integers which
+	 * do not occur in the Cell, in any order. An operator with a state, a random output or which count
+	 * its calls should not be declared pure.
+	 * <p>By default this method return 'false'. Override this method to return 'true' to enable the
+	 * lookup table evaluation.
+	 * @return boolean
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	protected boolean isPure() {
+		return false;
+	}
 
-}
+	private float[] f0(Cell cell)
+	{
+		//Minimum and maximum of the elements if all the elements are integers,
+		//else null.
+		float[][] buffer = cell.accessCellBuffer();
+		float min = Float.MAX_VALUE;
+		float max = -Float.MAX_VALUE;
+		
+		for(int i=0;i<buffer.length;i++)
+		{
+			for(int j=0;j<buffer[i].length;j++)
+			{
+				float v = buffer[i][j];
+				
+				if(v != (int) v)
+					return null;
+				if(v < min)
+					min = v;
+				if(v > max)
+					max = v;
+			}
+		}
+		
+		return new float[]{min, max};
+	}
+	
+	private void f1(Cell cell, Cell result, final float[] lut, final int offset)
+	{
+		final float[][] src = cell.accessCellBuffer();
+		final float[][] dst = result.accessCellBuffer();
+		
+		ParallelExecutor.execute(src.length, 16, new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int i = start; i < end; i++) {
+					float[] s = src[i];
+					float[] d = dst[i];
+					
+					for (int j = 0; j < s.length; j++)
+						d[j] = lut[(int) s[j] - offset];
+				}
+			}
+		});
+	}
 
+}
@@ -0,0 +1,149 @@
+package org.JMathStudio.PlugIn;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.DataStructure.Cell.DirectCell;
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
+
+/**
+ * This class define an abstract tile operator which apply an operation defined over a {@link Cell}
+ * on a {@link DirectCell}, one tile at a time.
+ * <p>The class define an abstract method 'operator' which should state the required operation on
+ * a tile, such as a filter of the {@link org.JMathStudio.ImageToolkit.FilterTools.StatisticalFilter}
+ * or a convolution of the {@link org.JMathStudio.ImageToolkit.GeneralTools.Conv2DTools}.
+ * <p>The tile operator works as follows:
+ * <i>
+ * <p>1. Divide the DirectCell into tiles of specified dimensions.
+ * <p>2. Copy each tile, extended by a halo of the neighbouring elements on all the sides, to a Cell.
+ * <p>3. Apply the operation over the extended tile and copy the part of the result which correspond
+ * to the tile to the resultant DirectCell.
+ * </i>
+ * <p>The halo is clipped at the borders of the DirectCell, thus the operation see the true borders
+ * of the DirectCell. For an operation whose output at an element depend only upon the input
+ * elements within a distance of the halo, the result is thus the same as the result of the
+ * operation applied on the whole of the DirectCell at once.
+ * <pre>Usage:
+ * final StatisticalFilter sf = new StatisticalFilter();
+ * final Neighborhood nbr = Neighborhood.squareNeighborhood(5);
+ *
+ * AbstractCellTileOperator median = new AbstractCellTileOperator(){//Define a tile operator.
+ *	public Cell operator(Cell tile){
+ *		return sf.medianFilter(tile, nbr);
+ *	}
+ * };
+ *
+ * DirectCell result = median.evaluateOverDirectCell(mosaic, 1024, 1024, 2, true);//Evaluate
+ * over tiles of [1024 1024] with a halo of 2 elements.
+ * </pre>
+ * @see DirectCell
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public abstract class AbstractCellTileOperator {
+
+	/**
+	 * This method will apply the given tile operator on the {@link DirectCell} 'cell' and return the
+	 * result as a new DirectCell of the same dimensions.
+	 * <p>The DirectCell 'cell' is divided in to tiles of [m n] dimensions, where 'm' is the row count
+	 * and 'n' is the column count of each tile; the tiles at the last row and column of tiles may be
+	 * smaller. Each tile is extended by 'halo' number of elements on all the sides, within the
+	 * DirectCell, and copied to a {@link Cell} on which the operator as defined by the method
+	 * {@link #operator(Cell)} is applied.
+	 * <p>The argument 'm' and 'n' should be more than '0' and the argument 'halo' should not be
+	 * negative else this method will throw an IllegalArgument Exception.
+	 * <p>If the dimensions of the Cell returned by the operator are not similar to the dimensions
+	 * of the extended tile, this method will throw a DimensionMismatch Exception.
+	 * <p>If the argument 'parallel' is 'true' the rows of tiles are processed concurrently. For an
+	 * operator which is not safe to be called concurrently the argument 'parallel' should be
+	 * 'false'.
+	 * @param DirectCell cell
+	 * @param int m
+	 * @param int n
+	 * @param int halo
+	 * @param boolean parallel
+	 * @return DirectCell
+	 * @throws IllegalArgumentException
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final DirectCell evaluateOverDirectCell(final DirectCell cell, final int m, final int n,
+			final int halo, boolean parallel) throws IllegalArgumentException, DimensionMismatchException {
+		if (m < 1 || n < 1 || halo < 0)
+			throw new IllegalArgumentException();
+
+		final int h = cell.getRowCount();
+		final int w = cell.getColCount();
+
+		final DirectCell result = new DirectCell(h, w);
+
+		int rowTiles = (h + m - 1) / m;
+		final int colTiles = (w + n - 1) / n;
+		final AtomicBoolean mismatch = new AtomicBoolean(false);
+
+		ParallelTask task = new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				try {
+					for (int t = start; t < end && !mismatch.get(); t++) {
+						int row = t * m;
+						int rows = Math.min(m, h - row);
+						int top = Math.max(0, row - halo);
+						int bottom = Math.min(h, row + rows + halo);
+
+						for (int c = 0; c < colTiles; c++) {
+							int col = c * n;
+							int cols = Math.min(n, w - col);
+							int left = Math.max(0, col - halo);
+							int right = Math.min(w, col + cols + halo);
+
+							Cell tile = cell.subCell(top, bottom - top, left, right - left);
+							Cell operated = operator(tile);
+
+							if (!operated.hasSameDimensions(tile)) {
+								mismatch.set(true);
+								return;
+							}
+
+							float[][] buffer = operated.accessCellBuffer();
+							Cell inner = new Cell(rows, cols);
+							float[][] dst = inner.accessCellBuffer();
+
+							for (int i = 0; i < rows; i++)
+								System.arraycopy(buffer[row - top + i], col - left, dst[i], 0, cols);
+
+							result.insert(inner, row, col);
+						}
+					}
+				} catch (IllegalArgumentException e) {
+					throw new BugEncounterException();
+				}
+			}
+		};
+
+		if (parallel)
+			ParallelExecutor.execute(rowTiles, 1, task);
+		else
+			task.run(0, 0, rowTiles);
+
+		if (mismatch.get()) {
+			result.release();
+			throw new DimensionMismatchException();
+		}
+
+		return result;
+	}
+
+	/**
+	 * This abstract method state the definition for the given tile operator.
+	 * <p>The operator defined here shall operate on an extended tile as represented by Cell 'tile'
+	 * and return the result as a Cell.
+	 * <p>Ensure that the dimensions of the return Cell are similar to that of the input tile.
+	 * @param Cell tile
+	 * @return Cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public abstract Cell operator(Cell tile);
+}
@@ -1,8 +1,16 @@
 package org.JMathStudio.PlugIn;
 
+import java.io.IOException;
+
 import org.JMathStudio.DataStructure.Cell.Cell;
 import org.JMathStudio.DataStructure.Cell.CellStack;
+import org.JMathStudio.DataStructure.Cell.LazyCellStack;
+import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Exceptions.UnSupportedImageFormatException;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define an abstract multivariate point operator which operate over a list of {@link Cell}s as
@@ -22,6 +30,8 @@ import org.JMathStudio.Exceptions.DimensionMismatchException;
  */
 public abstract class AbstractMultiCellOperator {
 
+	private final static long i0 = 1 << 24;
+
 	/**
 	 * This method will evaluate the given multivariate point operator over the corresponding elements of the 
 	 * input {@link Cell}s as represented by {@link CellStack} 'stack' and return the result as a {@link Cell}.
@@ -44,6 +54,23 @@ public abstract class AbstractMultiCellOperator {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public final Cell evaluateOverMultiCells(CellStack stack) throws DimensionMismatchException{
+		return evaluateOverMultiCells(stack, false);
+	}
+	
+	/**
+	 * This method will evaluate the given multivariate point operator over the corresponding elements of the 
+	 * input {@link Cell}s as represented by {@link CellStack} 'stack' and return the result as a {@link Cell}.
+	 * <p>This method is similar to {@link #evaluateOverMultiCells(CellStack)}, except that the rows of the
+	 * Cells are evaluated concurrently if the argument 'parallel' is 'true', with a separate input array for
+	 * each thread. For an operator which is not safe to be called concurrently the argument 'parallel'
+	 * should be 'false'.
+	 * @param CellStack stack
+	 * @param boolean parallel
+	 * @return Cell
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final Cell evaluateOverMultiCells(CellStack stack, boolean parallel) throws DimensionMismatchException{
 		
 		Cell[] buffer = stack.accessCellArray();
 		
@@ -55,26 +82,97 @@ public abstract class AbstractMultiCellOperator {
 		int h = buffer[0].getRowCount();
 		int w = buffer[0].getColCount();
 		
-		for(int i=1;i<N;i++){
+		float[][][] planes = new float[N][][];
+		
+		for(int i=0;i<N;i++){
 			if(!buffer[i].hasSameDimensions(buffer[0]))
 				throw new DimensionMismatchException();
+			planes[i] = buffer[i].accessCellBuffer();
 		}
 		
 		Cell res = new Cell(h,w);
+		f0(planes, res.accessCellBuffer(), 0, h, w, parallel);
+		
+		return res;
+	}
+	
+	/**
+	 * This method will evaluate the given multivariate point operator over the corresponding elements of the 
+	 * {@link Cell}s of the {@link LazyCellStack} 'stack' and return the result as a {@link Cell}.
+	 * <p>This method is similar to {@link #evaluateOverMultiCells(CellStack, boolean)}, except that the Cells
+	 * are not required to be in memory at once. The Cells are evaluated in bands of rows, where the rows of
+	 * a band of all the Cells are held in memory together, thus a stack with more Cells than fit in memory
+	 * can be evaluated. Each band is read with the method {@link LazyCellStack#accessBand(int, int)}, thus only
+	 * the rows of a band are read from the binary file backing the stack, and the images of a stack backed
+	 * by a directory are decoded once.
+	 * <p>The exceptions thrown while loading the Cells are as for the method {@link LazyCellStack#accessCell(int)}.
+	 * @param LazyCellStack stack
+	 * @param boolean parallel
+	 * @return Cell
+	 * @throws DimensionMismatchException
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final Cell evaluateOverMultiCells(LazyCellStack stack, boolean parallel) throws DimensionMismatchException,
+	IOException, UnSupportedImageFormatException{
+		
+		int N = stack.size();
+		int h = stack.getRowCount();
+		int w = stack.getColCount();
+		
+		//Rows per band such that a band of all the Cells hold about i0 elements.
+		int band = (int) Math.max(1, Math.min(h, i0/((long) N*w)));
+		
+		Cell res = new Cell(h,w);
+		float[][] out = res.accessCellBuffer();
+		float[][][] planes = new float[N][][];
+		
+		try{
+			for(int row=0;row<h;row+=band){
+				int rows = Math.min(band, h-row);
 				
-		for(int i=0;i<h;i++){
-			for(int j=0;j<w;j++){
-				float[] list = new float[N];
-				for(int k=0;k<N;k++){
-					list[k] = buffer[k].getElement(i, j);
-				}
-				res.setElement(operator(list), i, j);
+				CellStack cells = stack.accessBand(row, rows);
+				
+				for(int k=0;k<N;k++)
+					planes[k] = cells.accessCell(k).accessCellBuffer();
+				
+				f0(planes, out, row, rows, w, parallel);
 			}
+		}catch(IllegalArgumentException e){
+			throw new BugEncounterException();
 		}
 		
 		return res;
 	}
 	
+	//Evaluate the 'rows' rows of the planes in to the rows of 'out' starting from the row 'offset'.
+	private void f0(final float[][][] planes, final float[][] out, final int offset, int rows, final int w,
+			boolean parallel){
+		final int N = planes.length;
+		
+		ParallelTask task = new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				//A single input array is reused for all the elements of a chunk.
+				float[] list = new float[N];
+				
+				for(int i=start;i<end;i++){
+					for(int j=0;j<w;j++){
+						for(int k=0;k<N;k++){
+							list[k] = planes[k][i][j];
+						}
+						out[offset+i][j] = operator(list);
+					}
+				}
+			}
+		};
+		
+		if(parallel)
+			ParallelExecutor.execute(rows, 16, task);
+		else
+			task.run(0, 0, rows);
+	}
+	
 	/**
 	 * This abstract method state the definition for the given multivariate point operator.
 	 * <p>The operator defined here shall be a real function defined over multiple real scalars
@@ -83,6 +181,7 @@ public abstract class AbstractMultiCellOperator {
 	 * all the input Cells as represented by the CellStack (see {@link #evaluateOverMultiCells(CellStack)}).
 	 * The order of input variables within the array 'list' is similar to the order of Cells in the input
 	 * CellStack. 
+	 * <p>The array 'list' is reused for the next element and should not be retained after this method return.
 	 * @param float[] list
 	 * @return float
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
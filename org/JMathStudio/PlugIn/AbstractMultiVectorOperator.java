@@ -3,6 +3,8 @@ package org.JMathStudio.PlugIn;
 import org.JMathStudio.DataStructure.Vector.Vector;
 import org.JMathStudio.DataStructure.Vector.VectorStack;
 import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
 
 /**
  * This class define an abstract multivariate point operator which operate over a list of {@link Vector}s as
@@ -44,30 +46,62 @@ public abstract class AbstractMultiVectorOperator {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public final Vector evaluateOverMultiVectors(VectorStack stack) throws DimensionMismatchException{
+		return evaluateOverMultiVectors(stack, false);
+	}
+
+	/**
+	 * This method will evaluate the given multivariate point operator over the corresponding elements of the 
+	 * input {@link Vector}s as represented by {@link VectorStack} 'stack' and return the result as a {@link Vector}.
+	 * <p>This method is similar to {@link #evaluateOverMultiVectors(VectorStack)}, except that the elements
+	 * are evaluated concurrently in chunks if the argument 'parallel' is 'true', with a separate input array
+	 * for each thread. For an operator which is not safe to be called concurrently the argument 'parallel'
+	 * should be 'false'.
+	 * @param VectorStack stack
+	 * @param boolean parallel
+	 * @return Vector
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final Vector evaluateOverMultiVectors(VectorStack stack, boolean parallel) throws DimensionMismatchException{
 
 		Vector[] buffer = stack.accessVectorArray();
 
 		if(buffer == null)
 			throw new NullPointerException();
 
-		int N = buffer.length;
+		final int N = buffer.length;
 
 		int l = buffer[0].length();
 
-		for(int i=1;i<N;i++){
+		final float[][] vectors = new float[N][];
+
+		for(int i=0;i<N;i++){
 			if(!buffer[i].hasSameLength(buffer[0]))
 				throw new DimensionMismatchException();
+			vectors[i] = buffer[i].accessVectorBuffer();
 		}
 
 		Vector res = new Vector(l);
+		final float[] out = res.accessVectorBuffer();
 
-		for(int i=0;i<l;i++){
-			float[] list = new float[N];
-			for(int k=0;k<N;k++){
-				list[k] = buffer[k].getElement(i);
+		ParallelTask task = new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				//A single input array is reused for all the elements of a chunk.
+				float[] list = new float[N];
+
+				for(int i=start;i<end;i++){
+					for(int k=0;k<N;k++){
+						list[k] = vectors[k][i];
+					}
+					out[i] = operator(list);
+				}
 			}
-			res.setElement(operator(list), i);
-		}
+		};
+
+		if(parallel)
+			ParallelExecutor.execute(l, 4096, task);
+		else
+			task.run(0, 0, l);
 
 		return res;
 	}
@@ -80,6 +114,7 @@ public abstract class AbstractMultiVectorOperator {
 	 * all the input Vectors as represented by the VectorStack (see {@link #evaluateOverMultiVectors(VectorStack)}).
 	 * The order of input variables within the array 'list' is similar to the order of Vectors in the input
 	 * VectorStack. 
+	 * <p>The array 'list' is reused for the next element and should not be retained after this method return.
 	 * @param float[] list
 	 * @return float
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
@@ -16,7 +16,11 @@ import org.JMathStudio.Exceptions.IllegalArgumentException;
  * spatial operator. 
  * <p>The spatial operator define here shall be a function which takes a set of neighbourhood pixels and return
  * a real scalar. The specified operator shall be applied for each pixel of the image.
+ * <p>A new {@link Pixel} is created for each neighbour of each pixel. For the operators which need
+ * only the values and offsets of the neighbours, {@link AbstractWindowOperator} pass the neighbourhood
+ * as primitive arrays without creating any object per pixel.
  * 
+ * @see AbstractWindowOperator
  * @author Ajani Bhavya - (jmathstudio@gmail.com)
  */
 public abstract class AbstractSpatialOperator {
@@ -40,52 +44,64 @@ public abstract class AbstractSpatialOperator {
 	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
 	 */
 	public final Cell evaluateOverCell(Cell image, Neighborhood nbr) throws EmptyNeighborhoodException{
+		return evaluateOverCell(image, nbr, false);
+	}
+	
+	/**
+	 * This method will evaluate the given Spatial operator over the pixels of the image as represented
+	 * by {@link Cell} 'image' and return the result as a {@link Cell}.
+	 * <p>This method is similar to {@link #evaluateOverCell(Cell, Neighborhood)}, except that if the
+	 * argument 'parallel' is 'true' the rows of the image are evaluated concurrently. The operator
+	 * {@link #operator(PixelList, float)} should then be safe to be called concurrently.
+	 * <p>The neighbourhood pixels are gathered through a reused {@link NeighborhoodWindow} and converted
+	 * in to the {@link PixelList} expected by the operator. Operators which do not need the {@link Pixel}
+	 * objects should extend the {@link AbstractWindowOperator} which avoid this conversion.
+	 * @param Cell image
+	 * @param Neighborhood nbr
+	 * @param boolean parallel
+	 * @return Cell
+	 * @throws EmptyNeighborhoodException
+	 * @see AbstractWindowOperator
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final Cell evaluateOverCell(Cell image, Neighborhood nbr, boolean parallel) throws EmptyNeighborhoodException{
 		
 		final Neighbor[] nbrList = nbr.accessAllNeighbors();
 		
 		if(nbrList == null)
 			throw new EmptyNeighborhoodException();
 		
-		int h = image.getRowCount();
-		int w = image.getColCount();
+		//Adapter presenting the window of each pixel as a PixelList, with one
+		//list per thread.
+		final ThreadLocal<PixelList> lists = new ThreadLocal<PixelList>();
 		
-		Cell result = new Cell(h,w);
-		
-		int l = nbrList.length;
-		
-		PixelList list;
-		try {
-			list = new PixelList(l);
-		} catch (IllegalArgumentException e) {
-			throw new BugEncounterException();
-		}
-		
-		int Y,X;
-		int y,x;
-		
-		for(int i=0;i<h;i++)
-		{
-			for(int j=0;j<w;j++)
-			{
-				for(int k=0;k<l;k++)
+		AbstractWindowOperator adapter = new AbstractWindowOperator() {
+			public float operator(NeighborhoodWindow window) {
+				PixelList list = lists.get();
+				
+				if(list == null)
 				{
-					y = nbrList[k].getY();
-					x = nbrList[k].getX();
-					
-					Y = i + y;
-					X = j + x;
-
-					if(Y >= 0 && Y < h && X >= 0 && X < w) {
-						list.add(new Pixel(image.getElement(Y, X),y,x));
+					try {
+						list = new PixelList(nbrList.length);
+					} catch (IllegalArgumentException e) {
+						throw new BugEncounterException();
 					}
+					lists.set(list);
 				}
 				
-				result.setElement(operator(list,image.getElement(i, j)), i, j);
+				for(int k=0;k<window.size();k++)
+				{
+					list.add(new Pixel(window.getValue(k),window.getYOffset(k),window.getXOffset(k)));
+				}
+				
+				float result = AbstractSpatialOperator.this.operator(list, window.getCurrentPixel());
 				list.clear();
+				
+				return result;
 			}
-		}
+		};
 		
-		return result;
+		return adapter.evaluateOverCell(image, nbr, parallel);
 	}
 	
 	/**
@@ -0,0 +1,102 @@
+package org.JMathStudio.PlugIn;
+
+import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.DataStructure.Structure.Neighbor;
+import org.JMathStudio.DataStructure.Structure.Neighborhood;
+import org.JMathStudio.Exceptions.EmptyNeighborhoodException;
+
+/**
+ * This class define an abstract Spatial operator which operate on the neighbourhood window of each
+ * individual pixel of the image as represented by {@link Cell}.
+ * <p>The class define an abstract method 'operator' which state the definition for the required
+ * spatial operator.
+ * <p>The spatial operator define here shall be a function which takes the neighbourhood window of
+ * a pixel, as a {@link NeighborhoodWindow}, and return a real scalar. The specified operator shall
+ * be applied for each pixel of the image.
+ * <p>Unlike the {@link AbstractSpatialOperator}, the neighbourhood pixels are passed as primitive
+ * arrays in a window which is reused for all the pixels, so no object is created per pixel. The
+ * rows of the image are evaluated concurrently, with a separate window for each thread. The
+ * operator thus should not modify any state shared between the pixels.
+ * <pre>Usage:
+ * AbstractWindowOperator max = new AbstractWindowOperator(){//Define a custom spatial
+ * operator.
+ *	public float operator(NeighborhoodWindow window){
+ *		float[] values = window.accessValues();
+ *		float max = window.getCurrentPixel();
+ *		for(int k=0;k&lt;window.size();k++)
+ *			max = Math.max(max, values[k]);
+ *		return max;
+ *	}
+ * };
+ *
+ * Cell result = max.evaluateOverCell(img, Neighborhood.squareNeighborhood(5));//Evaluate the
+ * operator over the image.
+ * </pre>
+ * @see AbstractSpatialOperator
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public abstract class AbstractWindowOperator {
+
+	/**
+	 * This method will evaluate the given Spatial operator over the pixels of the image as represented
+	 * by {@link Cell} 'image' and return the result as a {@link Cell}.
+	 * <p>The argument {@link Neighborhood} 'nbr' define the neighbourhood to be employed for the spatial
+	 * operation. If the neighbourhood as define by argument 'nbr' is empty this method will throw an
+	 * EmptyNeighborhood Exception.
+	 * <p>The definition of the spatial operator is as stated by the method
+	 * {@link #operator(NeighborhoodWindow)}. For each pixel in the image, the operator shall take in the
+	 * window of the neighbourhood pixels based upon the neighbourhood define by the argument 'nbr' and
+	 * compute the output value for the current image pixel.
+	 * <p>If the neighbourhood pixel identified for an image pixel falls outside the image; it is discarded.
+	 * <p>The rows of the image are evaluated concurrently.
+	 * <p>The return Cell will contain the output of the spatial operator for the corresponding pixels in the
+	 * image.
+	 * @param Cell image
+	 * @param Neighborhood nbr
+	 * @return Cell
+	 * @throws EmptyNeighborhoodException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final Cell evaluateOverCell(Cell image, Neighborhood nbr) throws EmptyNeighborhoodException{
+		return evaluateOverCell(image, nbr, true);
+	}
+
+	/**
+	 * This method will evaluate the given Spatial operator over the pixels of the image as represented
+	 * by {@link Cell} 'image' and return the result as a {@link Cell}.
+	 * <p>This method is similar to {@link #evaluateOverCell(Cell, Neighborhood)}, except that the rows of
+	 * the image are evaluated concurrently only if the argument 'parallel' is 'true'. For an operator which
+	 * is not safe to be called concurrently the argument 'parallel' should be 'false', the pixels are then
+	 * evaluated one by one in the raster order.
+	 * @param Cell image
+	 * @param Neighborhood nbr
+	 * @param boolean parallel
+	 * @return Cell
+	 * @throws EmptyNeighborhoodException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final Cell evaluateOverCell(Cell image, Neighborhood nbr, boolean parallel) throws EmptyNeighborhoodException{
+		Neighbor[] nbrList = nbr.accessAllNeighbors();
+		
+		if(nbrList == null)
+			throw new EmptyNeighborhoodException();
+		
+		return NeighborhoodWindow.f1(image, nbrList, this, parallel);
+	}
+
+	/**
+	 * This abstract method gives definition for the spatial operator. For each pixel image, spatial operator
+	 * takes in the window of the neighbourhood image pixels as given by the {@link NeighborhoodWindow} 'window'
+	 * and compute the output value.
+	 * <p>The window also gives the value and the position of the current image pixel for which operation is
+	 * carried out. The current pixel is the central pixel within the neighbourhood and the offsets of each of
+	 * the neighbour in the window are relative to this central pixel.
+	 * <p>The window may be empty if no valid neighbour pixels exist for an image pixel or if they fall outside
+	 * the image. Ensure to account for the empty window.
+	 * <p>The window is reused for the next pixel and should not be retained after this method return.
+	 * @param NeighborhoodWindow window
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public abstract float operator(NeighborhoodWindow window);
+}
@@ -0,0 +1,142 @@
+package org.JMathStudio.PlugIn;
+
+import org.JMathStudio.DataStructure.Cell.Cell;
+
+/**
+ * This class define a view of a block of a {@link Cell} which give access to the elements of the
+ * block directly from the buffer of the source Cell, without copying them.
+ * <p>A view is passed to the method {@link AbstractCellBlockOperator#operator(CellBlockView, float[][])}
+ * for each block of the source Cell. The block is located at the row and column offsets as given by the
+ * methods {@link #getRowOffset()} and {@link #getColOffset()} in the source Cell.
+ * <p>A block at the border of the source Cell may extend beyond the source Cell. The elements of the
+ * block which fall outside the source Cell are read as zero, which is equivalent to padding the source
+ * Cell with zeros.
+ * <p>A single view is reused for all the blocks processed by a thread, thus no object is created per
+ * block. The view is valid only for the duration of the call to the operator and should not be retained.
+ *
+ * @see AbstractCellBlockOperator
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class CellBlockView {
+
+	private float[][] i0;
+	private int i1;
+	private int i2;
+	private int i3;
+	private int i4;
+
+	CellBlockView(float[][] source, int m, int n) {
+		this.i0 = source;
+		this.i1 = m;
+		this.i2 = n;
+	}
+
+	/**
+	 * This method will return the row count of the given block.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getRowCount() {
+		return this.i1;
+	}
+
+	/**
+	 * This method will return the column count of the given block.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getColCount() {
+		return this.i2;
+	}
+
+	/**
+	 * This method will return the row index of the source Cell at which the first row of the given
+	 * block is located.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getRowOffset() {
+		return this.i3;
+	}
+
+	/**
+	 * This method will return the column index of the source Cell at which the first column of the
+	 * given block is located.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getColOffset() {
+		return this.i4;
+	}
+
+	/**
+	 * This method will return 'true' if the given block lies completely inside the source Cell, else
+	 * will return 'false'.
+	 * <p>For such a block the elements of the block can be read directly from the buffer of the source
+	 * Cell as given by the method {@link #accessSourceBuffer()}.
+	 * @return boolean
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public boolean isInside() {
+		return i3 + i1 <= i0.length && i4 + i2 <= i0[0].length;
+	}
+
+	/**
+	 * This method will return the element of the given block located at the row and column index as
+	 * given by the arguments 'row' and 'column' respectively, relative to the block.
+	 * <p>If the element fall outside the source Cell this method will return '0'.
+	 * <p>The arguments 'row' and 'column' should be in the range of 0 to one less than the row count and
+	 * column count of the block respectively, else the return value is not defined.
+	 * @param int row
+	 * @param int column
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float getElement(int row, int column) {
+		int Y = i3 + row;
+		int X = i4 + column;
+
+		if (Y < i0.length && X < i0[0].length)
+			return i0[Y][X];
+		else
+			return 0;
+	}
+
+	/**
+	 * This method will copy the elements of the given block in to a new {@link Cell} of the dimensions
+	 * of the block and return the same.
+	 * <p>The elements of the block which fall outside the source Cell are set to '0'.
+	 * @return Cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell toCell() {
+		Cell block = new Cell(i1, i2);
+		float[][] buffer = block.accessCellBuffer();
+
+		int rows = Math.min(i1, i0.length - i3);
+		int cols = Math.min(i2, i0[0].length - i4);
+
+		for (int i = 0; i < rows; i++)
+			System.arraycopy(i0[i3 + i], i4, buffer[i], 0, cols);
+
+		return block;
+	}
+
+	/**
+	 * This method will return the 2D float array buffer of the source Cell by reference.
+	 * <p>The element of the block at index [i j] is located at the index
+	 * [{@link #getRowOffset()} + i, {@link #getColOffset()} + j] of this buffer, if it fall inside
+	 * the source Cell. The buffer should not be modified.
+	 * @return float[][]
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float[][] accessSourceBuffer() {
+		return this.i0;
+	}
+
+	void f0(int row, int column) {
+		// Move the view to the block located at the given offsets.
+		this.i3 = row;
+		this.i4 = column;
+	}
+}
@@ -0,0 +1,269 @@
+package org.JMathStudio.PlugIn;
+
+import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.DataStructure.Structure.Neighbor;
+import org.JMathStudio.DataStructure.Structure.Neighborhood;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
+
+/**
+ * This class define a neighbourhood window which hold the values of the neighbourhood pixels of
+ * the current image pixel as primitive arrays.
+ * <p>A window is passed to the method {@link AbstractWindowOperator#operator(NeighborhoodWindow)}
+ * for each pixel of the image. The window hold the values of all the neighbours of the current
+ * pixel which fall inside the image, along with the offsets of these neighbours relative to the
+ * current pixel, in the order of the neighbours of the {@link Neighborhood}.
+ * <p>A single window is reused for all the pixels processed by a thread, thus no object is
+ * created per pixel. The content of the window is valid only for the duration of the call to
+ * the operator and the window or its arrays should not be retained.
+ * <p>The arrays returned by {@link #accessValues()}, {@link #accessYOffsets()} and
+ * {@link #accessXOffsets()} may be longer than the number of valid neighbours as given by the
+ * method {@link #size()}, only the first {@link #size()} elements of these arrays are valid.
+ *
+ * @see AbstractWindowOperator
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class NeighborhoodWindow {
+
+	// Offsets of all the neighbours of the neighbourhood.
+	private int[] i0;
+	private int[] i1;
+
+	// Offsets of the valid neighbours for a pixel near the border.
+	private int[] i2;
+	private int[] i3;
+
+	// Offsets of the valid neighbours for the current pixel.
+	private int[] i4;
+	private int[] i5;
+
+	private float[] i6;
+	private int i7;
+	private float i8;
+	private int i9;
+	private int i10;
+
+	// Extent of the neighbourhood.
+	private int i11;
+	private int i12;
+	private int i13;
+	private int i14;
+
+	NeighborhoodWindow(Neighbor[] neighbors) {
+		int l = neighbors.length;
+
+		this.i0 = new int[l];
+		this.i1 = new int[l];
+		this.i2 = new int[l];
+		this.i3 = new int[l];
+		this.i6 = new float[l];
+
+		for (int k = 0; k < l; k++) {
+			i0[k] = neighbors[k].getY();
+			i1[k] = neighbors[k].getX();
+
+			if (k == 0 || i0[k] < i11)
+				i11 = i0[k];
+			if (k == 0 || i0[k] > i12)
+				i12 = i0[k];
+			if (k == 0 || i1[k] < i13)
+				i13 = i1[k];
+			if (k == 0 || i1[k] > i14)
+				i14 = i1[k];
+		}
+	}
+
+	/**
+	 * This method will return the number of neighbours of the current pixel which fall inside
+	 * the image.
+	 * <p>This may be '0' if no neighbour of the current pixel fall inside the image.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int size() {
+		return this.i7;
+	}
+
+	/**
+	 * This method will return the value of the neighbour located at the index position as given by
+	 * the argument 'index'.
+	 * <p>The argument 'index' should be in the range of 0 to one less than {@link #size()}, else
+	 * the return value is not defined.
+	 * @param int index
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float getValue(int index) {
+		return this.i6[index];
+	}
+
+	/**
+	 * This method will return the 'Y' (row) offset, relative to the current pixel, of the
+	 * neighbour located at the index position as given by the argument 'index'.
+	 * <p>The argument 'index' should be in the range of 0 to one less than {@link #size()}, else
+	 * the return value is not defined.
+	 * @param int index
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getYOffset(int index) {
+		return this.i4[index];
+	}
+
+	/**
+	 * This method will return the 'X' (column) offset, relative to the current pixel, of the
+	 * neighbour located at the index position as given by the argument 'index'.
+	 * <p>The argument 'index' should be in the range of 0 to one less than {@link #size()}, else
+	 * the return value is not defined.
+	 * @param int index
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getXOffset(int index) {
+		return this.i5[index];
+	}
+
+	/**
+	 * This method will return the value of the current image pixel, which is the central pixel of
+	 * the neighbourhood.
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float getCurrentPixel() {
+		return this.i8;
+	}
+
+	/**
+	 * This method will return the row index of the current image pixel.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getRow() {
+		return this.i9;
+	}
+
+	/**
+	 * This method will return the column index of the current image pixel.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getColumn() {
+		return this.i10;
+	}
+
+	/**
+	 * This method will return 'true' if all the neighbours of the neighbourhood fall inside the
+	 * image for the current pixel, else will return 'false'.
+	 * <p>For such a pixel {@link #size()} is equal to the number of neighbours of the
+	 * neighbourhood and the neighbour located at an index position is always the same neighbour
+	 * of the neighbourhood.
+	 * @return boolean
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public boolean isComplete() {
+		return this.i4 == this.i0;
+	}
+
+	/**
+	 * This method will return the float array holding the values of the valid neighbours by
+	 * reference. Only the first {@link #size()} elements are valid.
+	 * @return float[]
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float[] accessValues() {
+		return this.i6;
+	}
+
+	/**
+	 * This method will return the integer array holding the 'Y' (row) offsets of the valid
+	 * neighbours by reference. Only the first {@link #size()} elements are valid and the array
+	 * should not be modified.
+	 * @return int[]
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int[] accessYOffsets() {
+		return this.i4;
+	}
+
+	/**
+	 * This method will return the integer array holding the 'X' (column) offsets of the valid
+	 * neighbours by reference. Only the first {@link #size()} elements are valid and the array
+	 * should not be modified.
+	 * @return int[]
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int[] accessXOffsets() {
+		return this.i5;
+	}
+
+	void f0(float[][] data, int row, int column) {
+		// Load the window for the given pixel of the image.
+		int h = data.length;
+		int w = data[0].length;
+		int l = i0.length;
+
+		this.i8 = data[row][column];
+		this.i9 = row;
+		this.i10 = column;
+
+		if (row + i11 >= 0 && row + i12 < h && column + i13 >= 0
+				&& column + i14 < w) {
+			for (int k = 0; k < l; k++)
+				i6[k] = data[row + i0[k]][column + i1[k]];
+
+			this.i4 = i0;
+			this.i5 = i1;
+			this.i7 = l;
+		} else {
+			int n = 0;
+
+			for (int k = 0; k < l; k++) {
+				int Y = row + i0[k];
+				int X = column + i1[k];
+
+				if (Y >= 0 && Y < h && X >= 0 && X < w) {
+					i6[n] = data[Y][X];
+					i2[n] = i0[k];
+					i3[n] = i1[k];
+					n++;
+				}
+			}
+
+			this.i4 = i2;
+			this.i5 = i3;
+			this.i7 = n;
+		}
+	}
+
+	static Cell f1(final Cell image, final Neighbor[] neighbors,
+			final AbstractWindowOperator op, boolean parallel) {
+		// Evaluate the window operator for each pixel, with one window per
+		// chunk of rows.
+		final int h = image.getRowCount();
+		final int w = image.getColCount();
+		final float[][] data = image.accessCellBuffer();
+
+		final Cell result = new Cell(h, w);
+		final float[][] out = result.accessCellBuffer();
+
+		ParallelTask task = new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				NeighborhoodWindow window = new NeighborhoodWindow(neighbors);
+
+				for (int i = start; i < end; i++) {
+					for (int j = 0; j < w; j++) {
+						window.f0(data, i, j);
+						out[i][j] = op.operator(window);
+					}
+				}
+			}
+		};
+
+		if (parallel)
+			ParallelExecutor.execute(h, 16, task);
+		else
+			task.run(0, 0, h);
+
+		return result;
+	}
+}
@@ -0,0 +1,280 @@
+package org.JMathStudio.PlugIn;
+
+import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.DataStructure.Vector.Vector;
+import org.JMathStudio.Utilities.ParallelExecutor;
+import org.JMathStudio.Utilities.ParallelTask;
+
+/**
+ * This class define a pipeline of Point operators which are evaluated one after the other on each
+ * element of a {@link Cell} or a {@link Vector}.
+ * <p>The operators of the pipeline are the plug-in Point operators {@link AbstractCellOperator} and
+ * {@link AbstractVectorOperator}, added in the order of their evaluation. The output of an operator is
+ * the input to the next operator of the pipeline.
+ * <p>The pipeline is evaluated as a single fused operator: each element is passed through all the
+ * operators before the next element is read, so the data is traversed only once and no intermediate
+ * {@link Cell} or {@link Vector} is created. By default the elements are evaluated concurrently in chunks,
+ * thus the operators should depend only upon their argument; each evaluation method has an overload which
+ * evaluate the elements serially for the operators which are not safe to be called concurrently. The result
+ * can also be written back in to the input buffer.
+ * <pre>Usage:
+ * Cell img = Cell.importImageAsCell("path");//Import input image as Cell.
+ *
+ * OperatorPipeline pipeline = new OperatorPipeline();//Create an empty pipeline.
+ * pipeline.addOperator(darkCorrection);//Add plug-in Point operators in the order of evaluation.
+ * pipeline.addOperator(gainCorrection);
+ * pipeline.addOperator(logarithm);
+ *
+ * Cell result = pipeline.evaluateOverCell(img);//Evaluate the pipeline over the image.
+ * pipeline.evaluateInPlace(img);//Evaluate the pipeline and replace the image elements.
+ * </pre>
+ * @see AbstractCellOperator
+ * @see AbstractVectorOperator
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class OperatorPipeline {
+
+	private AbstractCellOperator[] i0 = new AbstractCellOperator[0];
+	private AbstractVectorOperator[] i1 = new AbstractVectorOperator[0];
+
+	// Number of elements per chunk of a Vector.
+	private final static int i2 = 4096;
+
+	/**
+	 * This will create an empty pipeline of Point operators. An empty pipeline return the elements
+	 * unchanged.
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public OperatorPipeline() {
+	}
+
+	/**
+	 * This method will append the Point operator 'operator' at the end of the given pipeline.
+	 * <p>If the argument 'operator' is null this method will throw a NullPointer Exception.
+	 * @param AbstractCellOperator operator
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void addOperator(AbstractCellOperator operator) {
+		if (operator == null)
+			throw new NullPointerException();
+
+		f0(operator, null);
+	}
+
+	/**
+	 * This method will append the Vector operator 'operator' at the end of the given pipeline.
+	 * <p>If the argument 'operator' is null this method will throw a NullPointer Exception.
+	 * @param AbstractVectorOperator operator
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void addOperator(AbstractVectorOperator operator) {
+		if (operator == null)
+			throw new NullPointerException();
+
+		f0(null, operator);
+	}
+
+	/**
+	 * This method will return the number of operators in the given pipeline.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public int getOperatorCount() {
+		return this.i0.length;
+	}
+
+	/**
+	 * This method will evaluate the given pipeline for the scalar 'x' and return the output of the last
+	 * operator of the pipeline.
+	 * @param float x
+	 * @return float
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public float operator(float x) {
+		return f3(x, i0, i1);
+	}
+
+	/**
+	 * This method will evaluate the given pipeline over the elements of the {@link Cell} 'cell' and return
+	 * the result as a {@link Cell}.
+	 * <p>The rows of the Cell are evaluated concurrently.
+	 * @param Cell cell
+	 * @return Cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell evaluateOverCell(Cell cell) {
+		return evaluateOverCell(cell, true);
+	}
+
+	/**
+	 * This method will evaluate the given pipeline over the elements of the {@link Cell} 'cell' and return
+	 * the result as a {@link Cell}.
+	 * <p>This method is similar to {@link #evaluateOverCell(Cell)}, except that the rows of the Cell are
+	 * evaluated concurrently only if the argument 'parallel' is 'true'. For a pipeline with an operator which
+	 * is not safe to be called concurrently the argument 'parallel' should be 'false', the elements are then
+	 * evaluated one by one in the row major order.
+	 * @param Cell cell
+	 * @param boolean parallel
+	 * @return Cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Cell evaluateOverCell(Cell cell, boolean parallel) {
+		Cell result = new Cell(cell.getRowCount(), cell.getColCount());
+		f1(cell.accessCellBuffer(), result.accessCellBuffer(), parallel);
+
+		return result;
+	}
+
+	/**
+	 * This method will evaluate the given pipeline over the elements of the {@link Cell} 'cell' and replace
+	 * each element of the Cell with the result.
+	 * <p>The rows of the Cell are evaluated concurrently.
+	 * @param Cell cell
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void evaluateInPlace(Cell cell) {
+		evaluateInPlace(cell, true);
+	}
+
+	/**
+	 * This method will evaluate the given pipeline over the elements of the {@link Cell} 'cell' and replace
+	 * each element of the Cell with the result.
+	 * <p>This method is similar to {@link #evaluateInPlace(Cell)}, except that the rows of the Cell are
+	 * evaluated concurrently only if the argument 'parallel' is 'true', else the elements are evaluated one
+	 * by one in the row major order.
+	 * @param Cell cell
+	 * @param boolean parallel
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void evaluateInPlace(Cell cell, boolean parallel) {
+		float[][] buffer = cell.accessCellBuffer();
+		f1(buffer, buffer, parallel);
+	}
+
+	/**
+	 * This method will evaluate the given pipeline over the elements of the {@link Vector} 'vector' and
+	 * return the result as a {@link Vector}.
+	 * <p>The elements of the Vector are evaluated concurrently in chunks.
+	 * @param Vector vector
+	 * @return Vector
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Vector evaluateOverVector(Vector vector) {
+		return evaluateOverVector(vector, true);
+	}
+
+	/**
+	 * This method will evaluate the given pipeline over the elements of the {@link Vector} 'vector' and
+	 * return the result as a {@link Vector}.
+	 * <p>This method is similar to {@link #evaluateOverVector(Vector)}, except that the elements of the
+	 * Vector are evaluated concurrently in chunks only if the argument 'parallel' is 'true', else the
+	 * elements are evaluated one by one in order.
+	 * @param Vector vector
+	 * @param boolean parallel
+	 * @return Vector
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public Vector evaluateOverVector(Vector vector, boolean parallel) {
+		Vector result = new Vector(vector.length());
+		f2(vector.accessVectorBuffer(), result.accessVectorBuffer(), parallel);
+
+		return result;
+	}
+
+	/**
+	 * This method will evaluate the given pipeline over the elements of the {@link Vector} 'vector' and
+	 * replace each element of the Vector with the result.
+	 * <p>The elements of the Vector are evaluated concurrently in chunks.
+	 * @param Vector vector
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void evaluateInPlace(Vector vector) {
+		evaluateInPlace(vector, true);
+	}
+
+	/**
+	 * This method will evaluate the given pipeline over the elements of the {@link Vector} 'vector' and
+	 * replace each element of the Vector with the result.
+	 * <p>This method is similar to {@link #evaluateInPlace(Vector)}, except that the elements of the Vector
+	 * are evaluated concurrently in chunks only if the argument 'parallel' is 'true', else the elements are
+	 * evaluated one by one in order.
+	 * @param Vector vector
+	 * @param boolean parallel
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void evaluateInPlace(Vector vector, boolean parallel) {
+		float[] buffer = vector.accessVectorBuffer();
+		f2(buffer, buffer, parallel);
+	}
+
+	private void f0(AbstractCellOperator cellOp,
+			AbstractVectorOperator vectorOp) {
+		// Operators are held in two parallel arrays, with exactly one of the
+		// two non null at each position.
+		int n = i0.length;
+
+		AbstractCellOperator[] cellOps = new AbstractCellOperator[n + 1];
+		AbstractVectorOperator[] vectorOps = new AbstractVectorOperator[n + 1];
+
+		System.arraycopy(i0, 0, cellOps, 0, n);
+		System.arraycopy(i1, 0, vectorOps, 0, n);
+
+		cellOps[n] = cellOp;
+		vectorOps[n] = vectorOp;
+
+		this.i1 = vectorOps;
+		this.i0 = cellOps;
+	}
+
+	private void f1(final float[][] src, final float[][] dst, boolean parallel) {
+		final AbstractCellOperator[] cellOps = this.i0;
+		final AbstractVectorOperator[] vectorOps = this.i1;
+
+		ParallelTask task = new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int i = start; i < end; i++) {
+					float[] s = src[i];
+					float[] d = dst[i];
+
+					for (int j = 0; j < s.length; j++)
+						d[j] = f3(s[j], cellOps, vectorOps);
+				}
+			}
+		};
+
+		if (parallel)
+			ParallelExecutor.execute(src.length, 16, task);
+		else
+			task.run(0, 0, src.length);
+	}
+
+	private void f2(final float[] src, final float[] dst, boolean parallel) {
+		final AbstractCellOperator[] cellOps = this.i0;
+		final AbstractVectorOperator[] vectorOps = this.i1;
+
+		ParallelTask task = new ParallelTask() {
+			public void run(int chunk, int start, int end) {
+				for (int j = start; j < end; j++)
+					dst[j] = f3(src[j], cellOps, vectorOps);
+			}
+		};
+
+		if (parallel)
+			ParallelExecutor.execute(src.length, i2, task);
+		else
+			task.run(0, 0, src.length);
+	}
+
+	private static float f3(float x, AbstractCellOperator[] cellOps,
+			AbstractVectorOperator[] vectorOps) {
+		// Fused evaluation of all the operators for a single element.
+		for (int k = 0; k < cellOps.length; k++) {
+			if (cellOps[k] != null)
+				x = cellOps[k].operator(x);
+			else
+				x = vectorOps[k].operator(x);
+		}
+
+		return x;
+	}
+}
@@ -0,0 +1,324 @@
+package org.JMathStudio.Utilities;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+import org.JMathStudio.Exceptions.BugEncounterException;
+import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.IllegalArgumentException;
+import org.JMathStudio.Exceptions.UnSupportedImageFormatException;
+
+/**
+ * This class define a loader which load the items of an indexed sequence stored on the disk
+ * on demand, holding a bounded working set of the recently accessed items in memory.
+ * <p>The items are held in a least recently used cache of the given capacity. On each access
+ * the next few items of the sequence are loaded in the background on a single daemon thread,
+ * such that a sequential pass over the sequence does not wait for the disk. An item being
+ * loaded is loaded only once, even if accessed concurrently.
+ * <p>A subclass define how an item is loaded with the method {@link #load(int)}. This class
+ * is the common loader of the lazily loaded stacks of the toolkit, such as
+ * {@link org.JMathStudio.DataStructure.Cell.LazyCellStack} and
+ * {@link org.JMathStudio.PixelImageToolkit.LazyPixelImageStack}.
+ * <pre>Usage:
+ * LazyLoader&lt;Cell&gt; loader = new LazyLoader&lt;Cell&gt;(files.length, 64) {
+ *	protected Cell load(int index) throws IOException, UnSupportedImageFormatException,
+ *	DimensionMismatchException {
+ *		return Cell.importImageAsCell(files[index]);
+ *	}
+ * };
+ *
+ * Cell cell = loader.access(10);//Load an item; the next items are pre-fetched.
+ * </pre>
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public abstract class LazyLoader<T> {
+
+	private int i0;
+	private int i1;
+	private int i2;
+	private LinkedHashMap<Integer, T> i3;
+	private HashMap<Integer, FutureTask<T>> i4 = new HashMap<Integer, FutureTask<T>>();
+	private ExecutorService i5;
+
+	/**
+	 * This will create a LazyLoader for a sequence of 'size' number of items, holding at the
+	 * most 'capacity' number of items in memory.
+	 * <p>The argument 'size' should not be negative and the argument 'capacity' should be more
+	 * than '0' else this method will throw an IllegalArgument Exception.
+	 * <p>The number of items pre-fetched on each access is '4', or one less than the capacity
+	 * for a smaller capacity.
+	 * @param int size
+	 * @param int capacity
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public LazyLoader(int size, int capacity) throws IllegalArgumentException {
+		if (size < 0 || capacity < 1)
+			throw new IllegalArgumentException();
+
+		this.i0 = size;
+		this.i1 = capacity;
+		this.i2 = Math.min(4, capacity - 1);
+		this.i3 = new LinkedHashMap<Integer, T>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+				return size() > i1;
+			}
+		};
+	}
+
+	/**
+	 * This method will return the number of items of the sequence of the given LazyLoader.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final int size() {
+		return this.i0;
+	}
+
+	/**
+	 * This method will return the maximum number of items held in memory by the given
+	 * LazyLoader.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final int getCapacity() {
+		return this.i1;
+	}
+
+	/**
+	 * This method will return the number of items following an accessed item which are
+	 * loaded in the background.
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final int getPrefetchCount() {
+		return this.i2;
+	}
+
+	/**
+	 * This method will set the number of items following an accessed item which are loaded in
+	 * the background to the value as given by the argument 'count'.
+	 * <p>A value of '0' disable the background loading. The argument 'count' should be less than
+	 * the capacity of the given LazyLoader, else the pre-fetched items would evict each other.
+	 * If the argument 'count' is negative or not less than the capacity this method will throw
+	 * an IllegalArgument Exception.
+	 * @param int count
+	 * @throws IllegalArgumentException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final void setPrefetchCount(int count) throws IllegalArgumentException {
+		if (count < 0 || (count > 0 && count >= i1))
+			throw new IllegalArgumentException();
+
+		this.i2 = count;
+	}
+
+	/**
+	 * This method will return the item at the index position as specified by the argument
+	 * 'index' of the given LazyLoader.
+	 * <p>The item is returned from the memory if present, else is loaded with the method
+	 * {@link #load(int)} and retained in memory in place of the least recently used item. The
+	 * next items of the sequence are loaded in the background.
+	 * <p>If the argument 'index' is out of the valid range of indexing this method will throw an
+	 * ArrayIndexOutOfBound Exception. The other exceptions are as thrown by the method
+	 * {@link #load(int)} for the given item.
+	 * @param int index
+	 * @return T
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final T access(int index) throws IOException, UnSupportedImageFormatException,
+			DimensionMismatchException {
+		if (index < 0 || index >= i0)
+			throw new ArrayIndexOutOfBoundsException();
+
+		FutureTask<T> task;
+		boolean load = false;
+
+		synchronized (this) {
+			T item = i3.get(index);
+
+			if (item != null) {
+				f1(index);
+				return item;
+			}
+
+			task = i4.get(index);
+
+			if (task == null) {
+				task = f0(index);
+				load = true;
+			}
+
+			f1(index);
+		}
+
+		if (load)
+			task.run();
+
+		try {
+			return task.get();
+		} catch (CancellationException e) {
+			// A pre-fetch cancelled by the method release, load again.
+			return access(index);
+		} catch (InterruptedException e) {
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			else if (cause instanceof UnSupportedImageFormatException)
+				throw (UnSupportedImageFormatException) cause;
+			else if (cause instanceof DimensionMismatchException)
+				throw (DimensionMismatchException) cause;
+			else if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			else if (cause instanceof Error)
+				throw (Error) cause;
+			else
+				throw new BugEncounterException();
+		}
+	}
+
+	/**
+	 * This method will return the item at the index position as specified by the argument
+	 * 'index' if it is held in memory by the given LazyLoader, else will return null. The item
+	 * is not loaded and no item is pre-fetched.
+	 * @param int index
+	 * @return T
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final synchronized T peek(int index) {
+		return i3.get(index);
+	}
+
+	/**
+	 * This method will retain the item 'item' in memory as the item at the index position as
+	 * specified by the argument 'index', such as an item loaded while opening the sequence.
+	 * <p>If the argument 'index' is out of the valid range of indexing this method will throw an
+	 * ArrayIndexOutOfBound Exception. If the item 'item' is null this method will throw a
+	 * NullPointer Exception.
+	 * @param int index
+	 * @param T item
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final synchronized void put(int index, T item) {
+		if (index < 0 || index >= i0)
+			throw new ArrayIndexOutOfBoundsException();
+		if (item == null)
+			throw new NullPointerException();
+
+		i3.put(index, item);
+	}
+
+	/**
+	 * This method will remove all the items held in memory by the given LazyLoader, cancel the
+	 * pending background loads and stop the background loading thread.
+	 * <p>The given LazyLoader can still be accessed after this call, the items being loaded
+	 * again as required.
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public final synchronized void release() {
+		i3.clear();
+
+		Iterator<FutureTask<T>> pending = i4.values().iterator();
+
+		while (pending.hasNext())
+			pending.next().cancel(false);
+
+		i4.clear();
+
+		if (i5 != null) {
+			i5.shutdown();
+			i5 = null;
+		}
+	}
+
+	/**
+	 * This abstract method state how the item at the index position as given by the argument
+	 * 'index' is loaded.
+	 * <p>The method is called at the most once at a time for a given index, either on the
+	 * thread accessing the item or on the background loading thread, and should not access the
+	 * given LazyLoader.
+	 * @param int index
+	 * @return T
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	protected abstract T load(int index) throws IOException, UnSupportedImageFormatException,
+			DimensionMismatchException;
+
+	// Must be called with the lock held; the task is registered as
+	// pending until it complete. A task replaced by the method release
+	// neither unregister the newer task for the same index nor cache
+	// its item.
+	private FutureTask<T> f0(final int index) {
+		FutureTask<T> task = new FutureTask<T>(new Callable<T>() {
+			public T call() throws Exception {
+				return load(index);
+			}
+		}) {
+			protected void done() {
+				synchronized (LazyLoader.this) {
+					if (i4.get(index) != this)
+						return;
+
+					i4.remove(index);
+
+					try {
+						if (!isCancelled())
+							i3.put(index, get());
+					} catch (InterruptedException e) {
+						// Not thrown as the task is complete.
+					} catch (ExecutionException e) {
+						// The failure is reported by the method access.
+					}
+				}
+			}
+		};
+
+		i4.put(index, task);
+
+		return task;
+	}
+
+	// Must be called with the lock held.
+	private void f1(int index) {
+		int end = Math.min(i0, index + 1 + i2);
+
+		for (int k = index + 1; k < end; k++) {
+			if (i3.containsKey(k) || i4.containsKey(k))
+				continue;
+
+			if (i5 == null) {
+				i5 = Executors.newSingleThreadExecutor(new ThreadFactory() {
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r);
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+			}
+
+			i5.execute(f0(k));
+		}
+	}
+}
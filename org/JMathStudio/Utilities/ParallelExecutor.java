@@ -0,0 +1,193 @@
+package org.JMathStudio.Utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.JMathStudio.Exceptions.BugEncounterException;
+
+/**
+ * This class define a shared executor which distribute a {@link ParallelTask} over all
+ * the available processors.
+ * <p>An index range [0 size) is partitioned into a set of contiguous chunks of almost
+ * equal length and each chunk is processed by the task on one of the worker threads. The
+ * calling thread process the first chunk itself and return only when all the chunks have
+ * been processed.
+ * <p>The number of chunks never exceed the number of available processors and each chunk
+ * has at least 'grain' number of indexes, so that small ranges are processed on the calling
+ * thread without any threading overhead.
+ * <p>A task submitted from within a worker thread is always executed on that thread with a
+ * single chunk, so that nested parallel operations can not dead lock the executor.
+ * <pre>Usage:
+ * final float[] data = ...;
+ *
+ * ParallelExecutor.execute(data.length, 4096, new ParallelTask() {
+ *	public void run(int chunk, int start, int end) {
+ *		for (int i = start; i < end; i++)
+ *			data[i] = data[i] * 2;
+ *	}
+ * });
+ * </pre>
+ * @see ParallelTask
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public final class ParallelExecutor {
+
+	private final static int i0 = Math.max(1, Runtime.getRuntime()
+			.availableProcessors());
+	private final static ThreadLocal<Boolean> i1 = new ThreadLocal<Boolean>();
+	private static ExecutorService i2 = null;
+
+	// Ensure no instances are made for utility classes.
+	private ParallelExecutor() {
+	}
+
+	/**
+	 * This method will return the maximum number of chunks which will be processed
+	 * concurrently by this executor. This is equal to the number of processors available
+	 * to the virtual machine.
+	 *
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public static int getParallelism() {
+		return i0;
+	}
+
+	/**
+	 * This method will return the number of chunks in which an index range [0 size), as
+	 * specified by the argument 'size', will be partitioned by the method
+	 * {@link #execute(int, int, ParallelTask)} for the minimum chunk length as given by
+	 * the argument 'grain'.
+	 * <p>This is useful for allocating one partial result per chunk before executing a
+	 * task. The chunk numbers passed to the task will then be in the range of 0 to one less
+	 * than the returned count.
+	 * <p>If the argument 'size' is not more than '0' this method will return '0'.
+	 *
+	 * @param int size
+	 * @param int grain
+	 * @return int
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public static int getChunkCount(int size, int grain) {
+		if (size <= 0)
+			return 0;
+
+		if (i1.get() != null)
+			return 1;
+
+		if (grain < 1)
+			grain = 1;
+
+		int chunks = (int) (((long) size + grain - 1) / grain);
+
+		return Math.min(i0, chunks);
+	}
+
+	/**
+	 * This method will partition the index range [0 size), as specified by the argument
+	 * 'size', in to contiguous chunks, each of at least 'grain' number of indexes, and
+	 * execute the {@link ParallelTask} 'task' for each such chunk concurrently.
+	 * <p>This method return only when the task has been executed for all the chunks. The
+	 * number of chunks will be as given by the method {@link #getChunkCount(int, int)}.
+	 * <p>Any runtime exception or error thrown by the task will be re-thrown by this
+	 * method after all the chunks have finished.
+	 * <p>If the argument 'size' is not more than '0' this method will return without
+	 * executing the task.
+	 *
+	 * @param int size
+	 * @param int grain
+	 * @param ParallelTask task
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public static void execute(int size, int grain, final ParallelTask task) {
+		final int chunks = getChunkCount(size, grain);
+
+		if (chunks == 0)
+			return;
+		else if (chunks == 1) {
+			task.run(0, 0, size);
+			return;
+		}
+
+		ExecutorService service = f0();
+
+		List<Future<?>> futures = new ArrayList<Future<?>>(chunks - 1);
+
+		for (int c = 1; c < chunks; c++) {
+			final int chunk = c;
+			final int start = (int) ((long) size * c / chunks);
+			final int end = (int) ((long) size * (c + 1) / chunks);
+
+			futures.add(service.submit(new Callable<Object>() {
+				public Object call() {
+					task.run(chunk, start, end);
+					return null;
+				}
+			}));
+		}
+
+		Throwable failure = null;
+
+		try {
+			task.run(0, 0, (int) ((long) size / chunks));
+		} catch (Throwable e) {
+			failure = e;
+		}
+
+		boolean interrupted = false;
+
+		for (int c = 0; c < futures.size(); c++) {
+			while (true) {
+				try {
+					futures.get(c).get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+					if (failure == null)
+						failure = e.getCause();
+					break;
+				}
+			}
+		}
+
+		if (interrupted)
+			Thread.currentThread().interrupt();
+
+		if (failure != null) {
+			if (failure instanceof RuntimeException)
+				throw (RuntimeException) failure;
+			else if (failure instanceof Error)
+				throw (Error) failure;
+			else
+				throw new BugEncounterException();
+		}
+	}
+
+	private synchronized static ExecutorService f0() {
+		if (i2 == null) {
+			i2 = Executors.newFixedThreadPool(i0, new ThreadFactory() {
+				private int count = 0;
+
+				public synchronized Thread newThread(final Runnable r) {
+					Thread thread = new Thread(new Runnable() {
+						public void run() {
+							i1.set(Boolean.TRUE);
+							r.run();
+						}
+					}, "JMathStudio-Worker-" + (count++));
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+
+		return i2;
+	}
+}
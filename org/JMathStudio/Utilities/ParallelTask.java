@@ -0,0 +1,30 @@
+package org.JMathStudio.Utilities;
+
+/**
+ * This interface define a unit of work which can be executed over a contiguous range of
+ * indexes by the {@link ParallelExecutor}.
+ * <p>The index range [0 size) handed to the {@link ParallelExecutor} is partitioned into
+ * a set of non overlapping contiguous chunks, and this task will be invoked once for each
+ * such chunk, possibly concurrently from different threads.
+ * <p>An implementation should only write to the memory locations owned by the given
+ * chunk, or to a private partial result indexed by the chunk number, so that no
+ * further synchronisation is required.
+ *
+ * @see ParallelExecutor
+ * @author Ajani Bhavya - (jmathstudio@gmail.com)
+ */
+public interface ParallelTask {
+
+	/**
+	 * This method will process all the indexes in the range [start end) which form the
+	 * chunk with the chunk number as given by the argument 'chunk'.
+	 * <p>The chunk number will be in the range of 0 to one less than the number of chunks
+	 * as returned by the {@link ParallelExecutor#getChunkCount(int, int)} method.
+	 *
+	 * @param int chunk
+	 * @param int start
+	 * @param int end
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com)
+	 */
+	public void run(int chunk, int start, int end);
+}
@@ -12,14 +12,20 @@
 package org.JMathStudio.VisualToolkit.Viewer;
 
 import java.awt.image.BufferedImage;
+import java.io.IOException;
 
 import javax.swing.JFrame;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
 import org.JMathStudio.DataStructure.Cell.Cell;
+import org.JMathStudio.DataStructure.Cell.LazyCellStack;
 import org.JMathStudio.Exceptions.BugEncounterException;
 import org.JMathStudio.Exceptions.DimensionMismatchException;
+import org.JMathStudio.Exceptions.UnSupportedImageFormatException;
+import org.JMathStudio.PixelImageToolkit.AbstractPixelImage;
+import org.JMathStudio.PixelImageToolkit.LazyPixelImageStack;
+import org.JMathStudio.PixelImageToolkit.UIntPixelImage.UInt8PixelImage;
 
 /**
  * This class define a SeriesViewer which is a Window (Java Frame) to display a series of 
@@ -39,6 +45,8 @@ public final class SeriesViewer extends JFrame implements ChangeListener{
 	
 	private BufferedImage[] series;
 	private Cell[] data;
+	private LazyCellStack lazy;
+	private LazyPixelImageStack lazyImages;
 	private boolean hasSeries = false;
 	private boolean hasData = false;
 	
@@ -101,6 +109,8 @@ public final class SeriesViewer extends JFrame implements ChangeListener{
     {
     	hasData = false;
     	hasSeries = false;
+    	lazy = null;
+    	lazyImages = null;
     	setNavigatorConfiguration(0, 0, 0);
     	
     	if(imgs == null)
@@ -154,9 +164,115 @@ public final class SeriesViewer extends JFrame implements ChangeListener{
     	
     }
     
+    /**
+	 * This method will render the {@link Cell}s of the {@link LazyCellStack} 'stack' as a series on the given
+	 * SeriesViewer, loading each Cell only when it is navigated to.
+	 * <p>Each Cell is converted to an UInt8 pixel image by mapping linearly the elements of the Cell to an UInt8
+	 * pixel range of [0 255]. The <i>Pixel Data Annotation</i> interface is enabled with the elements of the Cell.
+	 * <p>By default, the first Cell of the stack is rendered. The exceptions thrown are as for the method
+	 * {@link LazyCellStack#accessCell(int)} while loading the first Cell. If a Cell can not be loaded while
+	 * navigating, the previously rendered image is retained.
+	 * <p>The argument 'stack' is passed by reference.
+	 * 
+	 * @param LazyCellStack stack
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @see UInt8PixelImage#toUInt8PixelImage(Cell)
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
+	 */
+    public void displaySeries(LazyCellStack stack) throws IOException, UnSupportedImageFormatException,
+    DimensionMismatchException
+    {
+    	hasData = false;
+    	hasSeries = false;
+    	lazy = null;
+    	lazyImages = null;
+    	setNavigatorConfiguration(0, 0, 0);
+    	
+    	if(stack == null)
+    		throw new NullPointerException();
+    	
+    	f0(stack, 0);
+    	
+    	lazy = stack;
+    	setNavigatorConfiguration(0, stack.size()-1, 0);
+    }
+    
+    /**
+	 * This method will render the {@link AbstractPixelImage}s of the {@link LazyPixelImageStack} 'stack' as a
+	 * series on the given SeriesViewer, importing each PixelImage only when it is navigated to.
+	 * <p>Each PixelImage shall be rendered/displayed according to its type.
+	 * <p>By default, the first PixelImage of the stack is rendered. The exceptions thrown are as for the method
+	 * {@link LazyPixelImageStack#accessPixelImage(int)} while importing the first PixelImage. If a PixelImage
+	 * can not be imported while navigating, the previously rendered image is retained.
+	 * <p>The argument 'stack' is passed by reference.
+	 * 
+	 * @param LazyPixelImageStack stack
+	 * @throws IOException
+	 * @throws UnSupportedImageFormatException
+	 * @throws DimensionMismatchException
+	 * @author Ajani Bhavya - (jmathstudio@gmail.com) 
+	 */
+    public void displaySeries(LazyPixelImageStack stack) throws IOException, UnSupportedImageFormatException,
+    DimensionMismatchException
+    {
+    	hasData = false;
+    	hasSeries = false;
+    	lazy = null;
+    	lazyImages = null;
+    	setNavigatorConfiguration(0, 0, 0);
+    	
+    	if(stack == null)
+    		throw new NullPointerException();
+    	
+    	f1(stack, 0);
+    	
+    	lazyImages = stack;
+    	setNavigatorConfiguration(0, stack.size()-1, 0);
+    }
+    
+    private void f0(LazyCellStack stack, int index) throws IOException, UnSupportedImageFormatException,
+    DimensionMismatchException
+    {
+    	Cell cell = stack.accessCell(index);
+    	viewport.display(UInt8PixelImage.toUInt8PixelImage(cell).toBufferedImage(), cell);
+    }
+    
+    private void f1(LazyPixelImageStack stack, int index) throws IOException, UnSupportedImageFormatException,
+    DimensionMismatchException
+    {
+    	AbstractPixelImage image = stack.accessPixelImage(index);
+    	viewport.display(image.toBufferedImage(), null);
+    }
+    
     private void showImage(int index) throws IllegalArgumentException, DimensionMismatchException
     {
-    	if(hasSeries)
+    	if(lazy != null)
+    	{
+    		try {
+    			f0(lazy, index);
+    		} catch (IOException e) {
+    			//Retain the previously rendered image.
+    		} catch (UnSupportedImageFormatException e) {
+    			//Retain the previously rendered image.
+    		} catch (DimensionMismatchException e) {
+    			//Retain the previously rendered image.
+    		}
+    	}
+    	else if(lazyImages != null)
+    	{
+    		try {
+    			f1(lazyImages, index);
+    		} catch (IOException e) {
+    			//Retain the previously rendered image.
+    		} catch (UnSupportedImageFormatException e) {
+    			//Retain the previously rendered image.
+    		} catch (DimensionMismatchException e) {
+    			//Retain the previously rendered image.
+    		}
+    	}
+    	else if(hasSeries)
     	{
     		if(index <0 || index >=series.length)
     			throw new IllegalArgumentException();